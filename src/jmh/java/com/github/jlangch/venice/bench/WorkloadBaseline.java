@@ -0,0 +1,226 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Compares the JMH CSV results of the {@link WorkloadBenchmark} against
+ * a baseline and fails if a workload's time or allocation per operation
+ * regressed by more than the passed percentage, or if a baseline workload
+ * is missing in the results.
+ *
+ * <p>A change counts as regression only if it is significant as well, that
+ * is the confidence intervals (score &plusmn; JMH score error) of the
+ * baseline and the result do not overlap. Noisy workloads with large score
+ * errors therefore do not fail at random.
+ *
+ * <p>Both files are JMH CSV result files (<code>-rf csv</code>), the
+ * allocation is taken from the GC profiler's 'gc.alloc.rate.norm'
+ * metric if present.
+ *
+ * <pre>
+ *   java WorkloadBaseline baseline.csv result.csv [max-regression-percent]
+ * </pre>
+ */
+public class WorkloadBaseline {
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println(
+                "Usage: WorkloadBaseline baseline.csv result.csv [max-regression-percent]");
+            System.exit(2);
+        }
+
+        final Map<String,Result> baseline = load(args[0]);
+        final Map<String,Result> results = load(args[1]);
+        final double maxRegression = args.length > 2 ? Double.parseDouble(args[2]) : 20.0;
+
+        final int regressions = compare(baseline, results, maxRegression);
+
+        if (regressions > 0) {
+            System.out.println(String.format(
+                    "%n%d workload(s) regressed by more than %.0f%% or are missing",
+                    regressions, maxRegression));
+            System.exit(1);
+        }
+    }
+
+    static int compare(
+            final Map<String,Result> baseline,
+            final Map<String,Result> results,
+            final double maxRegression
+    ) {
+        int regressions = 0;
+
+        System.out.println(String.format(
+                "%-20s %12s %12s %8s %14s %14s %8s",
+                "Workload", "Base us/op", "Now us/op", "Time",
+                "Base B/op", "Now B/op", "Alloc"));
+
+        for(Map.Entry<String,Result> e : results.entrySet()) {
+            final Result now = e.getValue();
+            final Result base = baseline.get(e.getKey());
+            if (base == null) {
+                System.out.println(String.format(
+                        "%-20s %12s %12.3f %8s %14s %14.0f %8s",
+                        e.getKey(), "-", now.score, "new", "-", now.allocNorm, ""));
+                continue;
+            }
+
+            final double timeDelta = percent(base.score, now.score);
+            final double allocDelta = percent(base.allocNorm, now.allocNorm);
+            final boolean regressed =
+                    (timeDelta > maxRegression
+                        && isSignificant(base.score, base.scoreError, now.score, now.scoreError))
+                    || (allocDelta > maxRegression
+                        && isSignificant(base.allocNorm, base.allocError, now.allocNorm, now.allocError));
+            if (regressed) {
+                regressions++;
+            }
+
+            System.out.println(String.format(
+                    "%-20s %12.3f %12.3f %+7.1f%% %14.0f %14.0f %+7.1f%%%s",
+                    e.getKey(),
+                    base.score, now.score, timeDelta,
+                    base.allocNorm, now.allocNorm, allocDelta,
+                    regressed ? "  REGRESSION" : ""));
+        }
+
+        // workloads of the baseline that did not run
+        for(Map.Entry<String,Result> e : baseline.entrySet()) {
+            if (!results.containsKey(e.getKey())) {
+                regressions++;
+                System.out.println(String.format(
+                        "%-20s %12.3f %12s %8s %14.0f %14s %8s  MISSING",
+                        e.getKey(), e.getValue().score, "-", "", e.getValue().allocNorm, "-", ""));
+            }
+        }
+
+        return regressions;
+    }
+
+    static Map<String,Result> load(final String file) throws IOException {
+        final List<String> lines = Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            throw new IOException("Empty JMH result file " + file);
+        }
+
+        final List<String> header = parseCsvLine(lines.get(0));
+        final int colBenchmark = header.indexOf("Benchmark");
+        final int colScore = header.indexOf("Score");
+        final int colError = indexOfPrefix(header, "Score Error");
+        final int colWorkload = header.indexOf("Param: workload");
+        if (colBenchmark < 0 || colScore < 0 || colWorkload < 0) {
+            throw new IOException("Not a WorkloadBenchmark JMH CSV result file " + file);
+        }
+
+        final Map<String,Result> results = new LinkedHashMap<>();
+        for(String line : lines.subList(1, lines.size())) {
+            if (line.trim().isEmpty()) continue;
+
+            final List<String> cols = parseCsvLine(line);
+            final String benchmark = cols.get(colBenchmark);
+            final String workload = cols.get(colWorkload);
+            final double score = Double.parseDouble(cols.get(colScore));
+            final double error = colError < 0 ? 0.0 : parseError(cols.get(colError));
+
+            final Result r = results.computeIfAbsent(workload, k -> new Result());
+            if (benchmark.endsWith("gc.alloc.rate.norm")) {
+                r.allocNorm = score;
+                r.allocError = error;
+            }
+            else if (!benchmark.contains("gc.")) {
+                r.score = score;
+                r.scoreError = error;
+            }
+        }
+
+        return results;
+    }
+
+    private static boolean isSignificant(
+            final double base,
+            final double baseError,
+            final double now,
+            final double nowError
+    ) {
+        // the confidence intervals do not overlap
+        return now - nowError > base + baseError;
+    }
+
+    private static double parseError(final String s) {
+        // JMH writes NaN if there are too few samples
+        final double error = Double.parseDouble(s);
+        return Double.isNaN(error) ? 0.0 : Math.abs(error);
+    }
+
+    private static int indexOfPrefix(final List<String> header, final String prefix) {
+        for(int ii=0; ii<header.size(); ii++) {
+            if (header.get(ii).startsWith(prefix)) {
+                return ii;
+            }
+        }
+        return -1;
+    }
+
+    private static double percent(final double base, final double now) {
+        return base == 0.0 ? 0.0 : (now - base) * 100.0 / base;
+    }
+
+    private static List<String> parseCsvLine(final String line) {
+        final List<String> cols = new ArrayList<>();
+        final StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+        for(int ii=0; ii<line.length(); ii++) {
+            final char c = line.charAt(ii);
+            if (c == '"') {
+                quoted = !quoted;
+            }
+            else if (c == ',' && !quoted) {
+                cols.add(sb.toString());
+                sb.setLength(0);
+            }
+            else {
+                sb.append(c);
+            }
+        }
+        cols.add(sb.toString());
+        return cols;
+    }
+
+
+    static class Result {
+        double score;
+        double scoreError;
+        double allocNorm;
+        double allocError;
+    }
+}
@@ -0,0 +1,132 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.jlangch.venice.IPreCompiled;
+import com.github.jlangch.venice.Venice;
+import com.github.jlangch.venice.impl.util.io.ClassPathResource;
+
+
+/**
+ * End-to-end Venice workloads. Unlike the other benchmarks that measure
+ * isolated mechanisms, each workload is a small realistic Venice program
+ * that is precompiled once and evaluated per operation.
+ *
+ * <p>The workload scripts live in the 'workloads' resource folder next to
+ * this class:
+ *
+ * <pre>
+ *   fib                recursive function calls
+ *   loop-recur         numeric kernels with tail recursion
+ *   map-filter-reduce  collection pipeline over maps
+ *   transducers        composed transducer over a range
+ *   string-building    str, str/join, str/format, with-out-str
+ *   json               JSON write and read round trip
+ *   deftype            custom type construction and field access
+ *   macros             macro heavy code
+ *   java-interop       Java constructor and method calls
+ * </pre>
+ *
+ * <p>Run the workloads with the GC profiler and compare the results against
+ * the baseline in 'src/jmh/baseline/WorkloadBenchmark.csv':
+ *
+ * <pre>
+ *   $> ./gradlew jmhWorkloads
+ *   $> ./gradlew jmhWorkloadsCheck -PmaxRegression=20
+ * </pre>
+ *
+ * <p>The baseline was run on a shared single vCPU (Linux, Java 17). The
+ * times vary a lot on such a machine, the allocation per operation is
+ * stable and the more reliable regression signal there.
+ *
+ * <pre>
+ * Benchmark                      (workload)  Mode  Cnt       Score   Units         alloc
+ * WorkloadBenchmark.run                 fib  avgt    5   30022.423   us/op    31.8 MB/op
+ * WorkloadBenchmark.run          loop-recur  avgt    5   37337.927   us/op    26.2 MB/op
+ * WorkloadBenchmark.run   map-filter-reduce  avgt    5   11200.752   us/op    11.4 MB/op
+ * WorkloadBenchmark.run         transducers  avgt    5   21490.762   us/op    38.3 MB/op
+ * WorkloadBenchmark.run     string-building  avgt    5   21121.182   us/op    11.9 MB/op
+ * WorkloadBenchmark.run                json  avgt    5    5308.992   us/op     6.2 MB/op
+ * WorkloadBenchmark.run             deftype  avgt    5   17317.677   us/op    27.0 MB/op
+ * WorkloadBenchmark.run              macros  avgt    5   11420.258   us/op    12.9 MB/op
+ * WorkloadBenchmark.run        java-interop  avgt    5    1983.625   us/op     1.7 MB/op
+ * </pre>
+ */
+@Warmup(iterations=3, time=3, timeUnit=TimeUnit.SECONDS)
+@Measurement(iterations=5, time=5, timeUnit=TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+@State (Scope.Benchmark)
+@Threads (1)
+public class WorkloadBenchmark {
+
+    @Param({
+        "fib",
+        "loop-recur",
+        "map-filter-reduce",
+        "transducers",
+        "string-building",
+        "json",
+        "deftype",
+        "macros",
+        "java-interop"})
+    public String workload;
+
+
+    @Setup
+    public void setup() {
+        final String script = new ClassPathResource(
+                                    "workloads/" + workload + ".venice",
+                                    WorkloadBenchmark.class).getResourceAsString();
+
+        venice = new Venice();
+        precompiled = venice.precompile(workload, script, true);
+
+        // fail fast on a broken workload instead of measuring an exception
+        venice.eval(precompiled);
+    }
+
+    @Benchmark
+    public Object run() {
+        return venice.eval(precompiled);
+    }
+
+
+    private Venice venice;
+    private IPreCompiled precompiled;
+}
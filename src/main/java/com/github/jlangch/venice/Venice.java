@@ -43,11 +43,13 @@ import com.github.jlangch.venice.impl.env.Env;
 import com.github.jlangch.venice.impl.env.SymbolTable;
 import com.github.jlangch.venice.impl.env.Var;
 import com.github.jlangch.venice.impl.functions.ConcurrencyFunctions;
+import com.github.jlangch.venice.impl.functions.DagFunctions;
 import com.github.jlangch.venice.impl.functions.ScheduleFunctions;
 import com.github.jlangch.venice.impl.javainterop.JavaInteropUtil;
 import com.github.jlangch.venice.impl.namespaces.NamespaceRegistry;
 import com.github.jlangch.venice.impl.thread.ThreadContext;
 import com.github.jlangch.venice.impl.threadpool.ManagedCachedThreadPoolExecutor;
+import com.github.jlangch.venice.impl.types.VncLineReducible;
 import com.github.jlangch.venice.impl.types.VncSymbol;
 import com.github.jlangch.venice.impl.types.VncVal;
 import com.github.jlangch.venice.impl.types.concurrent.Agent;
@@ -389,6 +391,8 @@ public class Venice {
         ScheduleFunctions.shutdown();
         Agent.shutdown();
         SmartShell.shutdown();
+        VncLineReducible.shutdown();
+        DagFunctions.shutdown();
     }
 
     private Env createEnv(
@@ -21,13 +21,29 @@
  */
 package com.github.jlangch.venice.impl;
 
-import java.util.stream.Collectors;
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.stream.Stream;
 
+import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncCollection;
+import com.github.jlangch.venice.impl.types.collections.VncMapEntry;
 import com.github.jlangch.venice.impl.types.collections.VncSequence;
 
 
+/**
+ * Prints Venice values.
+ *
+ * <p>Collections print their elements straight to an {@link Appendable}
+ * sink without building intermediate strings for the children. Printing
+ * to a stream or writer goes through a small chunk buffer, so the heap
+ * needed to print a large data structure does not depend on its printed
+ * size.
+ *
+ * <p>Printing can be limited to a maximum number of UTF-8 bytes. A
+ * truncated output is terminated with {@link #TRUNCATION_MARKER}.
+ */
 public class Printer {
 
     public static String join(
@@ -35,8 +51,9 @@ public class Printer {
             final String delim,
             final boolean print_readably
     ) {
-        return values.map(v -> v.toString(print_readably))
-                     .collect(Collectors.joining(delim));
+        final StringBuilder sb = new StringBuilder();
+        printAll(values.iterator(), delim, print_readably, sb);
+        return sb.toString();
     }
 
     public static String join(
@@ -44,11 +61,30 @@ public class Printer {
             final String delim,
             final boolean print_readably
     ) {
-        return join(values.stream(), delim, print_readably);
+        final StringBuilder sb = new StringBuilder();
+        printAll(values.iterator(), delim, print_readably, sb);
+        return sb.toString();
     }
 
     public static String pr_str(final VncVal val, final boolean print_readably) {
-        return val.toString(print_readably);
+        if (isStreamed(val)) {
+            final StringBuilder sb = new StringBuilder();
+            print(val, print_readably, sb);
+            return sb.toString();
+        }
+        else {
+            return val.toString(print_readably);
+        }
+    }
+
+    public static String pr_str(
+            final VncVal val,
+            final boolean print_readably,
+            final long maxBytes
+    ) {
+        final StringBuilder sb = new StringBuilder();
+        print(val, print_readably, sb, maxBytes);
+        return sb.toString();
     }
 
     public static String pr_str_args(
@@ -58,4 +94,301 @@ public class Printer {
     ) {
         return join(args, delim, print_readably);
     }
+
+    /**
+     * Prints a value to a sink.
+     *
+     * @param val the value to print
+     * @param print_readably if true print readably
+     * @param out the sink, e.g. a <code>StringBuilder</code>, a
+     *            <code>Writer</code>, or a <code>PrintStream</code>
+     */
+    public static void print(
+            final VncVal val,
+            final boolean print_readably,
+            final Appendable out
+    ) {
+        try {
+            if (out instanceof StringBuilder) {
+                val.print(out, print_readably);
+            }
+            else {
+                final ChunkedAppendable chunked = new ChunkedAppendable(out);
+                val.print(chunked, print_readably);
+                chunked.flush();
+            }
+        }
+        catch(IOException ex) {
+            throw new VncException("Failed to print a value", ex);
+        }
+    }
+
+    /**
+     * Prints a value to a sink writing at most <code>maxBytes</code> UTF-8
+     * bytes of the value's printed representation. If the value is
+     * truncated, the {@link #TRUNCATION_MARKER} is appended.
+     *
+     * @param val the value to print
+     * @param print_readably if true print readably
+     * @param out the sink
+     * @param maxBytes the max number of UTF-8 bytes to print
+     * @return true if the output has been truncated
+     */
+    public static boolean print(
+            final VncVal val,
+            final boolean print_readably,
+            final Appendable out,
+            final long maxBytes
+    ) {
+        if (maxBytes < 0) {
+            throw new VncException(String.format(
+                    "The print limit must not be negative. Got %d", maxBytes));
+        }
+
+        final LimitedAppendable limited = new LimitedAppendable(
+                                                out instanceof StringBuilder
+                                                    ? out
+                                                    : new ChunkedAppendable(out),
+                                                maxBytes);
+        try {
+            boolean truncated = false;
+            try {
+                val.print(limited, print_readably);
+            }
+            catch(LimitReachedException ex) {
+                truncated = true;
+            }
+
+            limited.flush();
+
+            if (truncated) {
+                out.append(TRUNCATION_MARKER);
+            }
+            return truncated;
+        }
+        catch(IOException ex) {
+            throw new VncException("Failed to print a value", ex);
+        }
+    }
+
+    /**
+     * Prints the values separated by a delimiter
+     *
+     * @param values the values
+     * @param delim the delimiter
+     * @param print_readably if true print readably
+     * @param out the sink
+     */
+    public static void printAll(
+            final Iterator<VncVal> values,
+            final String delim,
+            final boolean print_readably,
+            final Appendable out
+    ) {
+        try {
+            boolean first = true;
+            while(values.hasNext()) {
+                if (!first) out.append(delim);
+                values.next().print(out, print_readably);
+                first = false;
+            }
+        }
+        catch(IOException ex) {
+            throw new VncException("Failed to print a value", ex);
+        }
+    }
+
+    /**
+     * Prints the elements of a collection enclosed in the open and close
+     * delimiters. Used by the collection types to print themselves.
+     *
+     * @param open the opening delimiter
+     * @param values the elements
+     * @param close the closing delimiter
+     * @param print_readably if true print readably
+     * @param out the sink
+     * @throws IOException if the sink fails
+     */
+    public static void printSeq(
+            final String open,
+            final Iterable<VncVal> values,
+            final String close,
+            final boolean print_readably,
+            final Appendable out
+    ) throws IOException {
+        out.append(open);
+        boolean first = true;
+        for(VncVal v : values) {
+            if (!first) out.append(' ');
+            v.print(out, print_readably);
+            first = false;
+        }
+        out.append(close);
+    }
+
+    /**
+     * Prints a key/value pair of a map. Used by the map types to print
+     * themselves.
+     *
+     * @param key the key
+     * @param val the value
+     * @param first if true this is the first pair of the map
+     * @param print_readably if true print readably
+     * @param out the sink
+     * @throws IOException if the sink fails
+     */
+    public static void printKeyValue(
+            final VncVal key,
+            final VncVal val,
+            final boolean first,
+            final boolean print_readably,
+            final Appendable out
+    ) throws IOException {
+        if (!first) out.append(' ');
+        key.print(out, print_readably);
+        out.append(' ');
+        val.print(out, print_readably);
+    }
+
+    private static boolean isStreamed(final VncVal val) {
+        return val instanceof VncCollection || val instanceof VncMapEntry;
+    }
+
+
+    /**
+     * Collects small appends in a buffer and passes them in chunks to
+     * the target sink. Streams and writers are often synchronized, so
+     * appending every element separately would be slow.
+     */
+    private static class ChunkedAppendable implements Appendable {
+
+        public ChunkedAppendable(final Appendable target) {
+            this.target = target;
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq) throws IOException {
+            final CharSequence s = csq == null ? "null" : csq;
+            if (s.length() >= CHUNK_SIZE) {
+                flush();
+                target.append(s);
+            }
+            else {
+                buf.append(s);
+                if (buf.length() >= CHUNK_SIZE) flush();
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(
+                final CharSequence csq,
+                final int start,
+                final int end
+        ) throws IOException {
+            return append((csq == null ? "null" : csq).subSequence(start, end));
+        }
+
+        @Override
+        public Appendable append(final char c) throws IOException {
+            buf.append(c);
+            if (buf.length() >= CHUNK_SIZE) flush();
+            return this;
+        }
+
+        public void flush() throws IOException {
+            if (buf.length() > 0) {
+                target.append(buf);
+                buf.setLength(0);
+            }
+        }
+
+        private static final int CHUNK_SIZE = 8 * 1024;
+
+        private final Appendable target;
+        private final StringBuilder buf = new StringBuilder(CHUNK_SIZE);
+    }
+
+
+    /**
+     * Passes appends to the target sink until the max number of UTF-8
+     * bytes is reached. Then it stops the printing with a
+     * {@link LimitReachedException}.
+     */
+    private static class LimitedAppendable implements Appendable {
+
+        public LimitedAppendable(final Appendable target, final long maxBytes) {
+            this.target = target;
+            this.remaining = maxBytes;
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq) throws IOException {
+            final CharSequence s = csq == null ? "null" : csq;
+            return append(s, 0, s.length());
+        }
+
+        @Override
+        public Appendable append(
+                final CharSequence csq,
+                final int start,
+                final int end
+        ) throws IOException {
+            final CharSequence s = csq == null ? "null" : csq;
+
+            int ii = start;
+            while(ii < end) {
+                final char c = s.charAt(ii);
+                final int n = Character.isHighSurrogate(c) && ii+1 < end ? 2 : 1;
+                final int bytes = n == 2 ? 4 : utf8Length(c);
+                if (bytes > remaining) {
+                    target.append(s, start, ii);
+                    throw new LimitReachedException();
+                }
+                remaining -= bytes;
+                ii += n;
+            }
+
+            target.append(s, start, end);
+            return this;
+        }
+
+        @Override
+        public Appendable append(final char c) throws IOException {
+            final int bytes = utf8Length(c);
+            if (bytes > remaining) {
+                throw new LimitReachedException();
+            }
+            remaining -= bytes;
+            target.append(c);
+            return this;
+        }
+
+        public void flush() throws IOException {
+            if (target instanceof ChunkedAppendable) {
+                ((ChunkedAppendable)target).flush();
+            }
+        }
+
+        private static int utf8Length(final char c) {
+            if (c < 0x80) return 1;
+            else if (c < 0x800) return 2;
+            else return 3;
+        }
+
+        private final Appendable target;
+        private long remaining;
+    }
+
+
+    private static class LimitReachedException extends RuntimeException {
+        public LimitReachedException() {
+            super(null, null, false, false);
+        }
+
+        private static final long serialVersionUID = 8203917625531002133L;
+    }
+
+
+    public static final String TRUNCATION_MARKER = "...";
 }
@@ -33,8 +33,8 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -69,6 +69,7 @@ import com.github.jlangch.venice.impl.types.VncJavaObject;
 import com.github.jlangch.venice.impl.types.VncKeyword;
 import com.github.jlangch.venice.impl.types.VncLong;
 import com.github.jlangch.venice.impl.types.VncMultiArityFunction;
+import com.github.jlangch.venice.impl.types.VncNumericFunction;
 import com.github.jlangch.venice.impl.types.VncScalar;
 import com.github.jlangch.venice.impl.types.VncSpecialForm;
 import com.github.jlangch.venice.impl.types.VncString;
@@ -91,6 +92,7 @@ import com.github.jlangch.venice.impl.util.callstack.CallFrame;
 import com.github.jlangch.venice.impl.util.callstack.CallFrameFnData;
 import com.github.jlangch.venice.impl.util.callstack.CallStack;
 import com.github.jlangch.venice.impl.util.callstack.WithCallStack;
+import com.github.jlangch.venice.impl.util.jfr.JfrEvents;
 import com.github.jlangch.venice.javainterop.AcceptAllInterceptor;
 import com.github.jlangch.venice.javainterop.IInterceptor;
 import com.github.jlangch.venice.util.ImmutableServiceDiscovery;
@@ -737,9 +739,27 @@ public class VeniceInterpreter implements IVeniceInterpreter, Serializable  {
                                 }
 
                                 // evaluate function args
-                                final VncList fnArgs = (VncList)evaluate_sequence_values(args, env);
-
-                                final long nanos = meterRegistry.enabled ? System.nanoTime() : 0L;
+                                final VncList fnArgs;
+                                if (fn instanceof VncNumericFunction
+                                        && args.size() == 2
+                                        && debugAgent == null
+                                        && !checkSandbox
+                                        && !meterRegistry.enabled
+                                ) {
+                                    // primitive fast path for numeric functions with two
+                                    // long or double args, no argument list, no call frame
+                                    InterruptChecker.checkInterrupted(Thread.currentThread(), fn);
+                                    final VncVal x = evaluate(args.first(), env, false);
+                                    final VncVal y = evaluate(args.second(), env, false);
+                                    final VncVal result = ((VncNumericFunction)fn).applyPrimitive(x, y);
+                                    if (result != null) {
+                                        return result;
+                                    }
+                                    fnArgs = VncList.of(x, y);
+                                }
+                                else {
+                                    fnArgs = (VncList)evaluate_sequence_values(args, env);
+                                }
 
                                 // validate function call allowed by sandbox
                                 if (checkSandbox) {
@@ -775,6 +795,8 @@ public class VeniceInterpreter implements IVeniceInterpreter, Serializable  {
                                 }
                                 else {
                                     // invoke function with a new call frame
+                                    final int meterFrame = meterRegistry.enabled ? meterRegistry.enter() : 0;
+                                    final long nanos = meterFrame > 0 || JfrEvents.ENABLED ? System.nanoTime() : 0L;
                                     try {
                                         if (fn.isNative()) {
                                             callStack.push(new CallFrame(fnName, fnArgs, a0meta, env));
@@ -815,16 +837,19 @@ public class VeniceInterpreter implements IVeniceInterpreter, Serializable  {
                                         if (checkSandbox) {
                                             interceptor.validateMaxExecutionTime();
                                         }
-                                        if (meterRegistry.enabled) {
+                                        if (meterRegistry.enabled && meterFrame > 0) {
                                             final long elapsed = System.nanoTime() - nanos;
                                             if (fn instanceof VncMultiArityFunction) {
                                                 final VncFunction f = fn.getFunctionForArgs(fnArgs);
-                                                meterRegistry.record(fnName, f.getParams().size(), elapsed);
+                                                meterRegistry.record(fn, f, meterFrame, elapsed);
                                             }
                                             else {
-                                                meterRegistry.record(fnName, elapsed);
+                                                meterRegistry.record(fn, meterFrame, elapsed);
                                             }
                                         }
+                                        if (JfrEvents.ENABLED) {
+                                            JfrEvents.functionCall(fnName, nanos);
+                                        }
                                     }
                                 }
                             }
@@ -876,7 +901,7 @@ public class VeniceInterpreter implements IVeniceInterpreter, Serializable  {
         else if (ast instanceof VncMap) {
             final VncMap map = (VncMap)ast;
 
-            final Map<VncVal,VncVal> vals = new HashMap<>(map.size());
+            final Map<VncVal,VncVal> vals = new LinkedHashMap<>(map.size());
             for(Entry<VncVal,VncVal> e: map.getJavaMap().entrySet()) {
                 vals.put(
                     evaluate(e.getKey(), env, false),
@@ -1021,7 +1046,7 @@ public class VeniceInterpreter implements IVeniceInterpreter, Serializable  {
 
                     ast_ = macro.apply(macroArgs);
 
-                    meterRegistry.record(macro.getQualifiedName() + "[m]", System.nanoTime() - nanosRun);
+                    meterRegistry.recordMacro(macro, System.nanoTime() - nanosRun);
                 }
                 else {
                     ast_ = macro.apply(macroArgs);
@@ -59,6 +59,10 @@ public class ModuleExcelSection implements ISectionBuilder {
         op.addItem(diBuilder.getDocItem("excel/create", false));
         op.addItem(diBuilder.getDocItem("excel/open", false));
 
+        final DocSection st = new DocSection("Stream", id());
+        all.addSection(st);
+        st.addItem(diBuilder.getDocItem("excel/stream-rows", false));
+
         final DocSection sv = new DocSection("Save", id());
         all.addSection(sv);
         sv.addItem(diBuilder.getDocItem("excel/write->file", false));
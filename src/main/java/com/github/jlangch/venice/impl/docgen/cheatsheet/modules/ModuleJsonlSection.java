@@ -46,6 +46,7 @@ public class ModuleJsonlSection implements ISectionBuilder {
         read.addItem(diBuilder.getDocItem("jsonl/read-str", true));
         read.addItem(diBuilder.getDocItem("jsonl/slurp", true));
         read.addItem(diBuilder.getDocItem("jsonl/lazy-seq-slurper", true));
+        read.addItem(diBuilder.getDocItem("jsonl/reducible-slurper", true));
 
         final DocSection write = new DocSection("write", id());
         all.addSection(write);
@@ -46,6 +46,7 @@ public class ModuleKiraSection implements ISectionBuilder {
         all.addSection(kira);
         kira.addItem(diBuilder.getDocItem("kira/eval"));
         kira.addItem(diBuilder.getDocItem("kira/fn"));
+        kira.addItem(diBuilder.getDocItem("kira/compile"));
 
         final DocSection escape = new DocSection("Escape", id());
         all.addSection(escape);
@@ -36,9 +36,10 @@ public class ModuleMatrixSection implements ISectionBuilder {
     public DocSection section() {
         final DocSection section = new DocSection(
                                             "Matrix",
-                                            "Simple matrix functions. To process large "
-                                              + "matrices use the \"Efficient Java Matrix Library\" "
-                                              + "(EJML) http://ejml.org/wiki/) instead.",
+                                            "Simple matrix functions on vectors of vectors "
+                                              + "and native dense matrices. For linear algebra "
+                                              + "beyond multiplication use the \"Efficient Java "
+                                              + "Matrix Library\" (EJML) http://ejml.org/wiki/).",
                                             "modules.matrix");
 
         final DocSection all = new DocSection("(load-module :matrix)", id());
@@ -78,6 +79,24 @@ public class ModuleMatrixSection implements ISectionBuilder {
         final DocSection linalg = new DocSection("LinAlg", id());
         all.addSection(linalg);
         linalg.addItem(diBuilder.getDocItem("matrix/transpose"));
+        linalg.addItem(diBuilder.getDocItem("matrix/multiply"));
+        linalg.addItem(diBuilder.getDocItem("matrix/add"));
+        linalg.addItem(diBuilder.getDocItem("matrix/sub"));
+        linalg.addItem(diBuilder.getDocItem("matrix/mul"));
+        linalg.addItem(diBuilder.getDocItem("matrix/div"));
+
+        final DocSection dense = new DocSection("Dense", id());
+        all.addSection(dense);
+        dense.addItem(diBuilder.getDocItem("matrix/dense"));
+        dense.addItem(diBuilder.getDocItem("matrix/dense?"));
+        dense.addItem(diBuilder.getDocItem("matrix/dense-to-vector"));
+        dense.addItem(diBuilder.getDocItem("matrix/dense-shape"));
+        dense.addItem(diBuilder.getDocItem("matrix/dense-get"));
+        dense.addItem(diBuilder.getDocItem("matrix/dense-assoc"));
+        dense.addItem(diBuilder.getDocItem("matrix/dense-row"));
+        dense.addItem(diBuilder.getDocItem("matrix/dense-column"));
+        dense.addItem(diBuilder.getDocItem("matrix/dense-transpose"));
+        dense.addItem(diBuilder.getDocItem("matrix/slice"));
 
         return section;
     }
@@ -58,6 +58,21 @@ public class ArraySection implements ISectionBuilder {
         use.addItem(diBuilder.getDocItem("acopy"));
         use.addItem(diBuilder.getDocItem("amap"));
 
+        final DocSection bulk = new DocSection("Bulk", "arrays.bulk");
+        all.addSection(bulk);
+        bulk.addItem(diBuilder.getDocItem("asum"));
+        bulk.addItem(diBuilder.getDocItem("amin"));
+        bulk.addItem(diBuilder.getDocItem("amax"));
+        bulk.addItem(diBuilder.getDocItem("amean"));
+        bulk.addItem(diBuilder.getDocItem("avariance"));
+        bulk.addItem(diBuilder.getDocItem("asort"));
+        bulk.addItem(diBuilder.getDocItem("abinary-search"));
+        bulk.addItem(diBuilder.getDocItem("aprefix-sum"));
+        bulk.addItem(diBuilder.getDocItem("aadd"));
+        bulk.addItem(diBuilder.getDocItem("asubtract"));
+        bulk.addItem(diBuilder.getDocItem("amultiply"));
+        bulk.addItem(diBuilder.getDocItem("adivide"));
+
         return section;
     }
 
@@ -51,6 +51,8 @@ public class CollectionsSection implements ISectionBuilder {
         generic.addItem(diBuilder.getDocItem("cons"));
         generic.addItem(diBuilder.getDocItem("conj"));
         generic.addItem(diBuilder.getDocItem("conj!"));
+        generic.addItem(diBuilder.getDocItem("transient"));
+        generic.addItem(diBuilder.getDocItem("persistent!"));
         generic.addItem(diBuilder.getDocItem("remove"));
         generic.addItem(diBuilder.getDocItem("repeat"));
         generic.addItem(diBuilder.getDocItem("repeatedly"));
@@ -553,6 +555,10 @@ public class CollectionsSection implements ISectionBuilder {
         dag_sort.addItem(diBuilder.getDocItem("dag/topological-sort"));
         dag_sort.addItem(diBuilder.getDocItem("dag/compare-fn"));
 
+        final DocSection dag_execute = new DocSection("Execute", "collections.dag.execute");
+        dag.addSection(dag_execute);
+        dag_execute.addItem(diBuilder.getDocItem("dag/execute"));
+
         final DocSection dag_test = new DocSection("Test", "collections.dag.test");
         dag.addSection(dag_test);
         dag_test.addItem(diBuilder.getDocItem("dag/dag?"));
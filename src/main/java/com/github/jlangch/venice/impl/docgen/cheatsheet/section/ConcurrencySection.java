@@ -73,6 +73,7 @@ public class ConcurrencySection implements ISectionBuilder {
         futures.addItem(diBuilder.getDocItem("futures-fork"));
         futures.addItem(diBuilder.getDocItem("futures-wait"));
         futures.addItem(diBuilder.getDocItem("futures-thread-pool-info"));
+        futures.addItem(diBuilder.getDocItem("executor-metrics"));
         futures.addItem(diBuilder.getDocItem("done?"));
         futures.addItem(diBuilder.getDocItem("cancel"));
         futures.addItem(diBuilder.getDocItem("cancelled?"));
@@ -151,6 +152,20 @@ public class ConcurrencySection implements ISectionBuilder {
         thlocal.addItem(diBuilder.getDocItem("binding"));
         thlocal.addItem(diBuilder.getDocItem("def-dynamic"));
 
+        final DocSection channels = new DocSection("Channels", "concurrency.channels");
+        all.addSection(channels);
+        channels.addItem(diBuilder.getDocItem("chan"));
+        channels.addItem(diBuilder.getDocItem("chan?"));
+        channels.addItem(diBuilder.getDocItem("go"));
+        channels.addItem(diBuilder.getDocItem("put!"));
+        channels.addItem(diBuilder.getDocItem("take!"));
+        channels.addItem(diBuilder.getDocItem("offer!"));
+        channels.addItem(diBuilder.getDocItem("poll!"));
+        channels.addItem(diBuilder.getDocItem("alts!"));
+        channels.addItem(diBuilder.getDocItem("close!"));
+        channels.addItem(diBuilder.getDocItem("closed?"));
+        channels.addItem(diBuilder.getDocItem("timeout-chan"));
+
         final DocSection threads = new DocSection("Threads", "concurrency.threads");
         all.addSection(threads);
         threads.addItem(diBuilder.getDocItem("thread"));
@@ -65,6 +65,7 @@ public class IoFileSection implements ISectionBuilder {
         all.addSection(file_io);
         file_io.addItem(diBuilder.getDocItem("io/slurp"));
         file_io.addItem(diBuilder.getDocItem("io/slurp-lines"));
+        file_io.addItem(diBuilder.getDocItem("io/reducible-lines"));
         file_io.addItem(diBuilder.getDocItem("io/spit"));
 
         final DocSection file_list = new DocSection("list", "io.filelist");
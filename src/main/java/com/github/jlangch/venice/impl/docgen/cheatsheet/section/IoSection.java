@@ -68,6 +68,7 @@ public class IoSection implements ISectionBuilder {
         all.addSection(slurp);
         slurp.addItem(diBuilder.getDocItem("io/slurp"));
         slurp.addItem(diBuilder.getDocItem("io/slurp-lines"));
+        slurp.addItem(diBuilder.getDocItem("io/reducible-lines"));
         slurp.addItem(diBuilder.getDocItem("io/slurp-stream"));
         slurp.addItem(diBuilder.getDocItem("io/slurp-reader"));
         slurp.addItem(diBuilder.getDocItem("io/read-line"));
@@ -44,6 +44,9 @@ public class JsonSection implements ISectionBuilder {
         all.addSection(read);
         read.addItem(diBuilder.getDocItem("json/read-str"));
         read.addItem(diBuilder.getDocItem("json/slurp"));
+        read.addItem(diBuilder.getDocItem("json/reducible-lines"));
+        read.addItem(diBuilder.getDocItem("json/lazy-seq"));
+        read.addItem(diBuilder.getDocItem("json/event-seq"));
 
         final DocSection write = new DocSection("write", "json.write");
         all.addSection(write);
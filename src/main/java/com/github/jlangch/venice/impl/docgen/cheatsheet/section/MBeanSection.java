@@ -66,6 +66,8 @@ public class MBeanSection implements ISectionBuilder {
         mx.addItem(diBuilder.getDocItem("mbean/operating-system-mxbean", false));
         mx.addItem(diBuilder.getDocItem("mbean/runtime-mxbean", false));
         mx.addItem(diBuilder.getDocItem("mbean/memory-mxbean", false));
+        mx.addItem(diBuilder.getDocItem("mbean/profiler-mxbean", false));
+        mx.addItem(diBuilder.getDocItem("mbean/executor-mxbean", false));
 
         final DocSection remote = new DocSection("Remote access", "mbean.remote");
         all.addSection(remote);
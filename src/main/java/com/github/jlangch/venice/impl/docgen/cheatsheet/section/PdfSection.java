@@ -52,6 +52,7 @@ public class PdfSection implements ISectionBuilder {
         final DocSection pdf = new DocSection("PDF", "pdf.pdf");
         all.addSection(pdf);
         pdf.addItem(diBuilder.getDocItem("pdf/render", false));
+        pdf.addItem(diBuilder.getDocItem("pdf/render-batch", false));
         pdf.addItem(diBuilder.getDocItem("pdf/text-to-pdf", false));
         pdf.addItem(diBuilder.getDocItem("pdf/available?", false));
         pdf.addItem(diBuilder.getDocItem("pdf/check-required-libs", false));
@@ -65,6 +66,7 @@ public class PdfSection implements ISectionBuilder {
         tools.addItem(diBuilder.getDocItem("pdf/to-text", false));
         tools.addItem(diBuilder.getDocItem("pdf/extract-urls", false));
         tools.addItem(diBuilder.getDocItem("pdf/page-to-image", false));
+        tools.addItem(diBuilder.getDocItem("pdf/pages-to-images", false));
 //        tools.addItem(diBuilder.getDocItem("pdf/extract-images", false));
         tools.addItem(diBuilder.getDocItem("pdf/page-count", false));
 
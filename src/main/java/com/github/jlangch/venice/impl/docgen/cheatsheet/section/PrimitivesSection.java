@@ -234,6 +234,7 @@ public class PrimitivesSection implements ISectionBuilder {
         encode.addItem(diBuilder.getDocItem("str/decode-url"));
         encode.addItem(diBuilder.getDocItem("str/escape-html"));
         encode.addItem(diBuilder.getDocItem("str/escape-xml"));
+        encode.addItem(diBuilder.getDocItem("str/digest"));
 
         final DocSection str_test = new DocSection("Test", "primitives.strings.test");
         strings.addSection(str_test);
@@ -121,6 +121,17 @@ public class SystemSection implements ISectionBuilder {
         services.addItem(diBuilder.getDocItem("service", false));
         services.addItem(diBuilder.getDocItem("service?", false));
 
+        final DocSection sampler = new DocSection("Sampler", "system.sampler");
+        all.addSection(sampler);
+        sampler.addItem(diBuilder.getDocItem("sampler/start", false));
+        sampler.addItem(diBuilder.getDocItem("sampler/stop", false));
+        sampler.addItem(diBuilder.getDocItem("sampler/running?", false));
+        sampler.addItem(diBuilder.getDocItem("sampler/clear", false));
+        sampler.addItem(diBuilder.getDocItem("sampler/sample-count", false));
+        sampler.addItem(diBuilder.getDocItem("sampler/top", false));
+        sampler.addItem(diBuilder.getDocItem("sampler/collapsed-stacks", false));
+        sampler.addItem(diBuilder.getDocItem("sampler/flamegraph", false));
+
         return section;
     }
 
@@ -31,20 +31,25 @@ import java.util.stream.Collectors;
 
 import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.javainterop.JavaInteropUtil;
+import com.github.jlangch.venice.impl.types.VncBoolean;
 import com.github.jlangch.venice.impl.types.VncDouble;
 import com.github.jlangch.venice.impl.types.VncFunction;
 import com.github.jlangch.venice.impl.types.VncInteger;
 import com.github.jlangch.venice.impl.types.VncJavaObject;
+import com.github.jlangch.venice.impl.types.VncKeyword;
 import com.github.jlangch.venice.impl.types.VncLong;
 import com.github.jlangch.venice.impl.types.VncNumber;
 import com.github.jlangch.venice.impl.types.VncString;
 import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncHashMap;
 import com.github.jlangch.venice.impl.types.collections.VncList;
 import com.github.jlangch.venice.impl.types.collections.VncSequence;
 import com.github.jlangch.venice.impl.types.util.Coerce;
 import com.github.jlangch.venice.impl.types.util.Types;
 import com.github.jlangch.venice.impl.util.ArityExceptions;
 import com.github.jlangch.venice.impl.util.SymbolMapBuilder;
+import com.github.jlangch.venice.impl.util.array.PrimitiveArrays;
+import com.github.jlangch.venice.impl.util.array.PrimitiveArrays.ArithOp;
 import com.github.jlangch.venice.impl.util.reflect.ReflectionTypes;
 import com.github.jlangch.venice.impl.util.reflect.ReflectionUtil;
 
@@ -803,6 +808,375 @@ public class ArrayFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    ///////////////////////////////////////////////////////////////////////////
+    // Bulk operations on primitive numeric arrays
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static VncFunction asum =
+        new VncFunction(
+                "asum",
+                VncFunction
+                    .meta()
+                    .arglists("(asum arr & options)")
+                    .doc(
+                        "Returns the sum of the elements of an int, long, float, or " +
+                        "double array. Int and long arrays are summed as long, float " +
+                        "and double arrays as double. The elements are not boxed.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :parallel b | If true sum in parallel. Defaults to false. |")
+                    .examples(
+                        "(asum (long-array '(1 2 3 4 5)))",
+                        "(asum (double-array '(1.5 2.5 3.5)))",
+                        "(asum (long-array 1000000 1) :parallel true)")
+                    .seeAlso("amin", "amax", "amean", "avariance")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                final Object arr = numericArray(this, args.first());
+                final boolean parallel = parallelOption(args.rest());
+
+                return JavaInteropUtil.convertToVncVal(PrimitiveArrays.sum(arr, parallel));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction amin =
+        new VncFunction(
+                "amin",
+                VncFunction
+                    .meta()
+                    .arglists("(amin arr & options)")
+                    .doc(
+                        "Returns the smallest element of an int, long, float, or double " +
+                        "array or nil if the array is empty.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :parallel b | If true search in parallel. Defaults to false. |")
+                    .examples(
+                        "(amin (long-array '(3 1 2)))",
+                        "(amin (double-array '(3.5 1.5 2.5)))")
+                    .seeAlso("amax", "asum", "amean")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                final Object arr = numericArray(this, args.first());
+                final boolean parallel = parallelOption(args.rest());
+
+                return JavaInteropUtil.convertToVncVal(PrimitiveArrays.min(arr, parallel));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction amax =
+        new VncFunction(
+                "amax",
+                VncFunction
+                    .meta()
+                    .arglists("(amax arr & options)")
+                    .doc(
+                        "Returns the largest element of an int, long, float, or double " +
+                        "array or nil if the array is empty.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :parallel b | If true search in parallel. Defaults to false. |")
+                    .examples(
+                        "(amax (long-array '(3 1 2)))",
+                        "(amax (double-array '(3.5 1.5 2.5)))")
+                    .seeAlso("amin", "asum", "amean")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                final Object arr = numericArray(this, args.first());
+                final boolean parallel = parallelOption(args.rest());
+
+                return JavaInteropUtil.convertToVncVal(PrimitiveArrays.max(arr, parallel));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction amean =
+        new VncFunction(
+                "amean",
+                VncFunction
+                    .meta()
+                    .arglists("(amean arr & options)")
+                    .doc(
+                        "Returns the arithmetic mean of the elements of an int, long, " +
+                        "float, or double array as double or nil if the array is " +
+                        "empty.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :parallel b | If true compute in parallel. Defaults to false. |")
+                    .examples(
+                        "(amean (long-array '(1 2 3 4)))")
+                    .seeAlso("avariance", "asum")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                final Object arr = numericArray(this, args.first());
+                final boolean parallel = parallelOption(args.rest());
+
+                return JavaInteropUtil.convertToVncVal(PrimitiveArrays.mean(arr, parallel));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction avariance =
+        new VncFunction(
+                "avariance",
+                VncFunction
+                    .meta()
+                    .arglists("(avariance type arr & options)")
+                    .doc(
+                        "Returns the variance of the elements of an int, long, float, " +
+                        "or double array for data sample type `:population` or " +
+                        "`:sample`. Returns 0.0 for arrays with less than two " +
+                        "elements.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :parallel b | If true compute in parallel. Defaults to false. |")
+                    .examples(
+                        "(avariance :population (long-array '(10 8 30 22 15)))",
+                        "(avariance :sample (double-array '(1.4 3.6 7.8 9.0 2.2)))")
+                    .seeAlso("amean")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 2);
+
+                final String type = Coerce.toVncKeyword(args.first()).getSimpleName();
+                if (!"sample".equals(type) && !"population".equals(type)) {
+                    throw new VncException(String.format(
+                            "Invalid data sample type :%s. Use :population or :sample",
+                            type));
+                }
+
+                final Object arr = numericArray(this, args.second());
+                final boolean parallel = parallelOption(args.slice(2));
+
+                return new VncDouble(
+                            PrimitiveArrays.variance(arr, "sample".equals(type), parallel));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction asort =
+        new VncFunction(
+                "asort",
+                VncFunction
+                    .meta()
+                    .arglists("(asort arr & options)")
+                    .doc(
+                        "Sorts an int, long, float, or double array in place in " +
+                        "ascending order. Returns the array.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :parallel b | If true sort with `Arrays.parallelSort`. Defaults to false. |")
+                    .examples(
+                        "(str (asort (long-array '(3 1 2))))",
+                        "(str (asort (double-array '(3.0 1.0 2.0)) :parallel true))")
+                    .seeAlso("abinary-search")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                final Object arr = numericArray(this, args.first());
+                final boolean parallel = parallelOption(args.rest());
+
+                PrimitiveArrays.sort(arr, parallel);
+                return args.first();
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction abinary_search =
+        new VncFunction(
+                "abinary-search",
+                VncFunction
+                    .meta()
+                    .arglists("(abinary-search arr key)")
+                    .doc(
+                        "Searches a sorted int, long, float, or double array for the " +
+                        "key. Returns the index of the key if it is contained in the " +
+                        "array, otherwise `(-(insertion point) - 1)`. On int and long " +
+                        "arrays a key with a fraction or outside the element range is " +
+                        "never found.")
+                    .examples(
+                        "(abinary-search (long-array '(1 3 5 7)) 5)",
+                        "(abinary-search (long-array '(1 3 5 7)) 4)")
+                    .seeAlso("asort")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 2);
+
+                final Object arr = numericArray(this, args.first());
+                final VncNumber key = Coerce.toVncNumber(args.second());
+
+                return VncLong.of(
+                            PrimitiveArrays.binarySearch(
+                                arr,
+                                (Number)key.convertToJavaObject()));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction aprefix_sum =
+        new VncFunction(
+                "aprefix-sum",
+                VncFunction
+                    .meta()
+                    .arglists("(aprefix-sum arr & options)")
+                    .doc(
+                        "Replaces in place each element of an int, long, float, or " +
+                        "double array with the sum of itself and all preceding " +
+                        "elements. Returns the array.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :parallel b | If true compute with `Arrays.parallelPrefix`. Defaults to false. |")
+                    .examples(
+                        "(str (aprefix-sum (long-array '(1 2 3 4))))")
+                    .seeAlso("asum")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                final Object arr = numericArray(this, args.first());
+                final boolean parallel = parallelOption(args.rest());
+
+                PrimitiveArrays.prefixSum(arr, parallel);
+                return args.first();
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction aadd =
+        elementwise(
+            "aadd",
+            ArithOp.ADD,
+            "Adds",
+            "(str (aadd (long-array '(1 2 3)) (long-array '(10 20 30))))",
+            "(str (aadd (long-array '(1 2 3)) 0.5))");
+
+    public static VncFunction asubtract =
+        elementwise(
+            "asubtract",
+            ArithOp.SUB,
+            "Subtracts",
+            "(str (asubtract (long-array '(10 20 30)) (long-array '(1 2 3))))",
+            "(str (asubtract (double-array '(1.5 2.5)) 1))");
+
+    public static VncFunction amultiply =
+        elementwise(
+            "amultiply",
+            ArithOp.MUL,
+            "Multiplies",
+            "(str (amultiply (long-array '(1 2 3)) (long-array '(4 5 6))))",
+            "(str (amultiply (double-array '(1.5 2.5)) 2))");
+
+    public static VncFunction adivide =
+        elementwise(
+            "adivide",
+            ArithOp.DIV,
+            "Divides",
+            "(str (adivide (long-array '(10 20 30)) (long-array '(3 4 5))))",
+            "(str (adivide (long-array '(10 20 30)) 4.0))");
+
+
+    private static VncFunction elementwise(
+            final String name,
+            final ArithOp op,
+            final String verb,
+            final String... examples
+    ) {
+        return new VncFunction(
+                name,
+                VncFunction
+                    .meta()
+                    .arglists("(" + name + " x y & options)")
+                    .doc(
+                        verb + " the int, long, float, or double array x and the " +
+                        "array y element-wise or x and the number y. Returns a " +
+                        "new array.\n\n" +
+                        "Two arrays must have the same type and length. An int or " +
+                        "long array with an integer number gives an array of the " +
+                        "same type, with a floating point number a double array. " +
+                        "Integer arithmetic wraps on overflow.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :parallel b | If true compute in parallel. Defaults to false. |")
+                    .examples(examples)
+                    .seeAlso("aadd", "asubtract", "amultiply", "adivide")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 2);
+
+                final Object x = numericArray(this, args.first());
+                final VncVal y = args.second();
+                final boolean parallel = parallelOption(args.slice(2));
+
+                try {
+                    return new VncJavaObject(
+                                Types.isVncNumber(y)
+                                    ? PrimitiveArrays.elementwise(
+                                            op, x, (Number)y.convertToJavaObject(), parallel)
+                                    : PrimitiveArrays.elementwise(
+                                            op, x, numericArray(this, y), parallel));
+                }
+                catch(IllegalArgumentException | ArithmeticException ex) {
+                    throw new VncException(String.format(
+                            "Function '%s': %s", name, ex.getMessage()));
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+    }
+
+    private static Object numericArray(final VncFunction fn, final VncVal val) {
+        final Object arr = Types.isVncJavaObject(val)
+                            ? ((VncJavaObject)val).getDelegate()
+                            : null;
+
+        if (arr != null && PrimitiveArrays.isNumericArray(arr)) {
+            return arr;
+        }
+        else {
+            throw new VncException(String.format(
+                    "Function '%s' requires an int, long, float, or double array. Got %s",
+                    fn.getQualifiedName(),
+                    Types.getType(val)));
+        }
+    }
+
+    private static boolean parallelOption(final VncList options) {
+        return VncBoolean.isTrue(
+                    VncHashMap.ofAll(options).get(
+                        new VncKeyword("parallel"),
+                        VncBoolean.False));
+    }
+
     public static String arrayToString(final VncJavaObject val) {
         if (val.isArray()) {
             final StringBuilder sb = new StringBuilder("[");
@@ -865,5 +1239,17 @@ public class ArrayFunctions {
                     .add(long_array)
                     .add(float_array)
                     .add(double_array)
+                    .add(asum)
+                    .add(amin)
+                    .add(amax)
+                    .add(amean)
+                    .add(avariance)
+                    .add(asort)
+                    .add(abinary_search)
+                    .add(aprefix_sum)
+                    .add(aadd)
+                    .add(asubtract)
+                    .add(amultiply)
+                    .add(adivide)
                     .toMap();
 }
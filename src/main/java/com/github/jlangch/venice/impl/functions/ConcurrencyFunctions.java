@@ -25,6 +25,7 @@ import static com.github.jlangch.venice.impl.types.Constants.Nil;
 import static com.github.jlangch.venice.impl.types.VncBoolean.True;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -35,6 +36,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
@@ -47,8 +49,11 @@ import java.util.stream.Collectors;
 import com.github.jlangch.venice.ValueException;
 import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.thread.ThreadBridge;
+import com.github.jlangch.venice.impl.threadpool.ExecutorMetrics;
 import com.github.jlangch.venice.impl.threadpool.GlobalThreadFactory;
 import com.github.jlangch.venice.impl.threadpool.ManagedCachedThreadPoolExecutor;
+import com.github.jlangch.venice.impl.threadpool.ManagedScheduledThreadPoolExecutor;
+import com.github.jlangch.venice.impl.threadpool.ManagedVirtualThreadExecutor;
 import com.github.jlangch.venice.impl.types.IVncFunction;
 import com.github.jlangch.venice.impl.types.VncAtom;
 import com.github.jlangch.venice.impl.types.VncBoolean;
@@ -63,9 +68,12 @@ import com.github.jlangch.venice.impl.types.collections.VncHashMap;
 import com.github.jlangch.venice.impl.types.collections.VncLazySeq;
 import com.github.jlangch.venice.impl.types.collections.VncList;
 import com.github.jlangch.venice.impl.types.collections.VncMap;
+import com.github.jlangch.venice.impl.types.collections.VncOrderedMap;
 import com.github.jlangch.venice.impl.types.collections.VncSequence;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
 import com.github.jlangch.venice.impl.types.concurrent.Agent;
 import com.github.jlangch.venice.impl.types.concurrent.Delay;
+import com.github.jlangch.venice.impl.types.concurrent.VncChannel;
 import com.github.jlangch.venice.impl.types.concurrent.VncLock;
 import com.github.jlangch.venice.impl.types.util.Coerce;
 import com.github.jlangch.venice.impl.types.util.Types;
@@ -1904,6 +1912,377 @@ public class ConcurrencyFunctions {
         };
 
 
+    ///////////////////////////////////////////////////////////////////////////
+    // Channels
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static VncFunction chan =
+        new VncFunction(
+                "chan",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(chan)",
+                        "(chan n)",
+                        "(chan n buffer-type)")
+                    .doc(
+                        "Creates a CSP channel with a buffer of size n. Without a buffer " +
+                        "size the channel is unbuffered.\n\n" +
+                        "The buffer type is one of:¶\n" +
+                        "&ensp; `:fixed` (default) puts wait if the buffer is full¶\n" +
+                        "&ensp; `:dropping` puts to a full buffer drop the new value¶\n" +
+                        "&ensp; `:sliding` puts to a full buffer drop the oldest value\n\n" +
+                        "A put to an unbuffered channel waits until a taker received the " +
+                        "value. Channels do not permit nil values.\n\n" +
+                        "Values are put with `put!` and `offer!` and taken with `take!` and " +
+                        "`poll!`. `alts!` waits on multiple channel operations. A closed " +
+                        "channel does not accept new values, takers receive the buffered " +
+                        "values and nil when the channel is drained.")
+                    .examples(
+                        "(let [ch (chan 10)]        \n" +
+                        "  (put! ch 1)              \n" +
+                        "  (put! ch 2)              \n" +
+                        "  (close! ch)              \n" +
+                        "  [(take! ch) (take! ch) (take! ch)])",
+
+                        "(let [ch (chan 2 :sliding)] \n" +
+                        "  (put! ch 1)               \n" +
+                        "  (put! ch 2)               \n" +
+                        "  (put! ch 3)               \n" +
+                        "  [(poll! ch) (poll! ch)])",
+
+                        ";; producer / consumer                     \n" +
+                        "(let [ch (chan 4)]                         \n" +
+                        "  (go (doseq [x (range 5)] (put! ch x))    \n" +
+                        "      (close! ch))                         \n" +
+                        "  (take! (go (loop [sum 0]                 \n" +
+                        "               (if-let [x (take! ch)]      \n" +
+                        "                 (recur (+ sum x))         \n" +
+                        "                 sum)))))")
+                    .seeAlso(
+                        "go", "put!", "take!", "offer!", "poll!", "alts!",
+                        "close!", "closed?", "timeout-chan", "chan?")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 0, 1, 2);
+
+                final int size = args.isEmpty()
+                                    ? 0
+                                    : Coerce.toVncLong(args.first()).getIntValue();
+
+                final VncChannel.BufferType type;
+                if (args.size() < 2) {
+                    type = VncChannel.BufferType.FIXED;
+                }
+                else {
+                    final VncKeyword t = Coerce.toVncKeyword(args.second());
+                    switch(t.getSimpleName()) {
+                        case "fixed":    type = VncChannel.BufferType.FIXED; break;
+                        case "dropping": type = VncChannel.BufferType.DROPPING; break;
+                        case "sliding":  type = VncChannel.BufferType.SLIDING; break;
+                        default:
+                            throw new VncException(String.format(
+                                    "Function 'chan' requires the buffer type to be one of " +
+                                    "{:fixed, :dropping, :sliding}. %s is invalid",
+                                    t.toString()));
+                    }
+                }
+
+                return new VncChannel(size, type);
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction chan_Q =
+        new VncFunction(
+                "chan?",
+                VncFunction
+                    .meta()
+                    .arglists("(chan? x)")
+                    .doc("Returns true if x is a channel")
+                    .examples("(chan? (chan))")
+                    .seeAlso("chan")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                return VncBoolean.of(Types.isVncChannel(args.first()));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction close_BANG =
+        new VncFunction(
+                "close!",
+                VncFunction
+                    .meta()
+                    .arglists("(close! chan)")
+                    .doc(
+                        "Closes a channel. A closed channel does not accept new values. " +
+                        "Takers receive the buffered values and nil when the channel is " +
+                        "drained. Closing a closed channel is a no-op. Returns nil.")
+                    .examples(
+                        "(let [ch (chan 2)]  \n" +
+                        "  (put! ch 1)       \n" +
+                        "  (close! ch)       \n" +
+                        "  [(put! ch 2) (take! ch) (take! ch)])")
+                    .seeAlso("chan", "closed?")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                Coerce.toVncChannel(args.first()).close();
+                return Nil;
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction closed_Q =
+        new VncFunction(
+                "closed?",
+                VncFunction
+                    .meta()
+                    .arglists("(closed? chan)")
+                    .doc("Returns true if the channel is closed.")
+                    .examples("(let [ch (chan)] (close! ch) (closed? ch))")
+                    .seeAlso("chan", "close!")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                return VncBoolean.of(Coerce.toVncChannel(args.first()).isClosed());
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction alts_BANG =
+        new VncFunction(
+                "alts!",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(alts! ops)",
+                        "(alts! ops timeout)")
+                    .doc(
+                        "Completes at most one of several channel operations. 'ops' is " +
+                        "a vector of channel operations. A channel is a take and a " +
+                        "`[channel val]` tuple is a put.\n\n" +
+                        "Waits until one of the operations can complete and returns a " +
+                        "vector `[val channel]` where val is the value taken or the boolean " +
+                        "result of the put. If several operations are ready the first one in " +
+                        "order wins.\n\n" +
+                        "With a timeout in milliseconds returns `[nil :timeout]` if no " +
+                        "operation completed within the timeout.")
+                    .examples(
+                        "(let [a (chan 1) b (chan 1)]  \n" +
+                        "  (put! b 2)                  \n" +
+                        "  (first (alts! [a b])))",
+
+                        "(let [a (chan 1)]             \n" +
+                        "  (alts! [a (timeout-chan 100)]))",
+
+                        "(let [a (chan)]               \n" +
+                        "  (alts! [a] 100))",
+
+                        "(let [a (chan 1) b (chan 1)]  \n" +
+                        "  (put! a 1)                  \n" +
+                        "  (first (alts! [[a 10] [b 20]])))")
+                    .seeAlso("chan", "timeout-chan", "put!", "take!")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1, 2);
+
+                final List<VncVal> ops = Coerce.toVncSequence(args.first()).getJavaList();
+                if (ops.isEmpty()) {
+                    throw new VncException("Function 'alts!' requires at least one channel operation");
+                }
+
+                final VncChannel[] channels = new VncChannel[ops.size()];
+                final VncVal[] putValues = new VncVal[ops.size()];
+                for(int ii=0; ii<channels.length; ii++) {
+                    final VncVal op = ops.get(ii);
+                    if (Types.isVncSequence(op)) {
+                        channels[ii] = Coerce.toVncChannel(((VncSequence)op).first());
+                        putValues[ii] = ((VncSequence)op).second();
+                    }
+                    else {
+                        channels[ii] = Coerce.toVncChannel(op);
+                    }
+                }
+
+                final long timeout = args.size() == 2
+                                        ? Coerce.toVncLong(args.second()).getValue()
+                                        : -1L;
+                final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+
+                Semaphore waiter = null;
+                try {
+                    while(true) {
+                        for(int ii=0; ii<channels.length; ii++) {
+                            final VncVector result = tryAlt(channels[ii], putValues[ii]);
+                            if (result != null) {
+                                return result;
+                            }
+                        }
+
+                        if (waiter == null) {
+                            // register and retry to not miss a state change
+                            waiter = new Semaphore(0);
+                            for(VncChannel ch : channels) {
+                                ch.addWaiter(waiter);
+                            }
+                        }
+                        else if (timeout < 0) {
+                            waiter.acquire();
+                            waiter.drainPermits();
+                        }
+                        else {
+                            final long remaining = deadline - System.nanoTime();
+                            if (remaining <= 0 || !waiter.tryAcquire(remaining, TimeUnit.NANOSECONDS)) {
+                                return VncVector.of(Nil, new VncKeyword("timeout"));
+                            }
+                            waiter.drainPermits();
+                        }
+                    }
+                }
+                catch(InterruptedException ex) {
+                    throw new com.github.jlangch.venice.InterruptedException(
+                            "Interrupted while waiting on channel operations");
+                }
+                finally {
+                    if (waiter != null) {
+                        for(VncChannel ch : channels) {
+                            ch.removeWaiter(waiter);
+                        }
+                    }
+                }
+            }
+
+            private VncVector tryAlt(final VncChannel ch, final VncVal putVal) {
+                if (putVal == null) {
+                    final VncVal v = ch.tryTake();
+                    return v == null ? null : VncVector.of(v, ch);
+                }
+                else if (ch.isClosed()) {
+                    return VncVector.of(VncBoolean.False, ch);
+                }
+                else {
+                    return ch.offer(putVal) ? VncVector.of(VncBoolean.True, ch) : null;
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction timeout_chan =
+        new VncFunction(
+                "timeout-chan",
+                VncFunction
+                    .meta()
+                    .arglists("(timeout-chan msecs)")
+                    .doc(
+                        "Returns a channel that closes after msecs milliseconds. Taking " +
+                        "from it waits until the timeout elapsed and returns nil.")
+                    .examples(
+                        "(take! (timeout-chan 100))",
+                        "(let [ch (chan)]                          \n" +
+                        "  (second (alts! [ch (timeout-chan 100)])))")
+                    .seeAlso("chan", "alts!")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                final long msecs = Coerce.toVncLong(args.first()).getValue();
+
+                final VncChannel ch = new VncChannel(1, VncChannel.BufferType.FIXED);
+                if (msecs <= 0) {
+                    ch.close();
+                }
+                else {
+                    timeoutScheduler
+                        .getExecutor()
+                        .schedule(() -> ch.close(), msecs, TimeUnit.MILLISECONDS);
+                }
+                return ch;
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction go_STAR =
+        new VncFunction(
+                "go*",
+                VncFunction
+                    .meta()
+                    .arglists("(go* fn)")
+                    .doc(
+                        "Runs the function asynchronously and returns a channel that " +
+                        "receives the function's result. Use the macro `go` instead.")
+                    .seeAlso("go")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                sandboxFunctionCallValidation();
+
+                final VncFunction fn = Coerce.toVncFunction(args.first());
+
+                final CallFrame[] cf = new CallFrame[] {
+                                            new CallFrame(this, args),
+                                            new CallFrame(fn) };
+
+                final VncChannel ch = new VncChannel(1, VncChannel.BufferType.FIXED);
+
+                // Create a wrapper that inherits the Venice thread context
+                // from the parent thread to the executer thread!
+                final ThreadBridge threadBridge = ThreadBridge.create("go", cf);
+                final Callable<VncVal> taskWrapper = threadBridge.bridgeCallable(() -> {
+                    try {
+                        final VncVal result = fn.applyOf();
+                        if (result != Nil) {
+                            ch.put(result);
+                        }
+                        ch.close();
+                    }
+                    catch(Throwable ex) {
+                        // fail the channel on errors too, a taker would
+                        // wait forever otherwise
+                        ch.fail(ex instanceof RuntimeException
+                                    ? (RuntimeException)ex
+                                    : new VncException(
+                                            "The go block failed with " + ex.getClass().getName(),
+                                            ex));
+                    }
+                    return Nil;
+                });
+
+                goExecutor.getExecutor().submit(taskWrapper);
+
+                return ch;
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+
     ///////////////////////////////////////////////////////////////////////////
     // Futures
     ///////////////////////////////////////////////////////////////////////////
@@ -2328,6 +2707,87 @@ public class ConcurrencyFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    public static VncFunction executor_metrics =
+        new VncFunction(
+                "executor-metrics",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(executor-metrics)",
+                        "(executor-metrics pool-name)")
+                    .doc(
+                        "Returns the task metrics of Venice's thread pools.\n\n" +
+                        "Without argument returns a map of the metrics of all pools " +
+                        "that have been started, keyed by the pool name. With a pool " +
+                        "name returns the metrics of that pool or `nil` if the pool " +
+                        "has not been started yet.\n\n" +
+                        "Among the instrumented pools: ¶\n" +
+                        "&ensp; venice-future-pool (futures) ¶\n" +
+                        "&ensp; venice-agent-send-pool (agents, `send`) ¶\n" +
+                        "&ensp; venice-agent-send-off-pool (agents, `send-off`) ¶\n" +
+                        "&ensp; venice-scheduler-pool (scheduler) ¶\n" +
+                        "&ensp; venice-timeout-chan-pool (timeout channels) ¶\n" +
+                        "&ensp; venice-timeout-pool (Venice script timeouts) ¶\n" +
+                        "&ensp; venice-ipcserver-pool (IPC server) ¶\n" +
+                        "&ensp; venice-ipc-client-pool (IPC client)\n\n" +
+                        "The metrics of a pool:\n\n" +
+                        "| *submitted*   | the number of submitted tasks |\n" +
+                        "| *completed*   | the number of tasks completed successfully |\n" +
+                        "| *failed*      | the number of tasks that threw an exception |\n" +
+                        "| *rejected*    | the number of rejected tasks |\n" +
+                        "| *queued*      | the number of tasks waiting for a thread |\n" +
+                        "| *running*     | the number of running tasks |\n" +
+                        "| *max-queued*  | the max number of waiting tasks |\n" +
+                        "| *max-running* | the max number of running tasks |\n" +
+                        "| *queue-wait*  | the time the tasks waited for a thread in " +
+                        "                  microseconds, a map with the keys `:count`, " +
+                        "                  `:p50`, `:p90`, `:p99`, `:p999`, and `:max` |\n" +
+                        "| *execution*   | the execution time of the tasks in " +
+                        "                  microseconds, a map with the same keys " +
+                        "                  as *queue-wait* |\n" +
+                        "| *saturation*  | the max number of queued and running tasks " +
+                        "                  for each second of the last minute that " +
+                        "                  had activity, a vector of maps with the keys " +
+                        "                  `:time` (epoch millis), `:queued`, and " +
+                        "                  `:running` |\n\n" +
+                        "The queue wait of a scheduled task is its delay beyond the " +
+                        "scheduled start time. The percentiles are accurate to about " +
+                        "3%. The metrics are cumulative, `(mbean/executor-mxbean name)` " +
+                        "returns an MXBean that exposes the metrics of a pool to JMX " +
+                        "and can reset them.")
+                    .examples(
+                        "(do                                                  \n" +
+                        "  @(future #(sleep 10))                              \n" +
+                        "  (executor-metrics \"venice-future-pool\"))           ",
+                        "(keys (executor-metrics))")
+                    .seeAlso(
+                        "futures-thread-pool-info",
+                        "agent-send-thread-pool-info",
+                        "agent-send-off-thread-pool-info",
+                        "mbean/executor-mxbean")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 0, 1);
+
+                if (args.isEmpty()) {
+                    final Map<VncVal,VncVal> pools = new LinkedHashMap<>();
+                    for(ExecutorMetrics m : ExecutorMetrics.all()) {
+                        pools.put(new VncString(m.getPoolName()), m.toVncMap());
+                    }
+                    return new VncOrderedMap(pools);
+                }
+                else {
+                    final String name = Coerce.toVncString(args.first()).getValue();
+                    final ExecutorMetrics m = ExecutorMetrics.find(name);
+                    return m == null ? Nil : m.toVncMap();
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
     public static VncFunction futures_wait =
         new VncFunction(
                 "futures-wait",
@@ -2944,6 +3404,8 @@ public class ConcurrencyFunctions {
 
     public static void shutdown() {
         mngdExecutor.shutdown();
+        goExecutor.shutdown();
+        timeoutScheduler.shutdown();
     }
 
     public static void setMaximumFutureThreadPoolSize(final int maximumPoolSize) {
@@ -3125,12 +3587,21 @@ public class ConcurrencyFunctions {
                     .add(all_of)
                     .add(any_of)
 
+                    .add(chan)
+                    .add(chan_Q)
+                    .add(close_BANG)
+                    .add(closed_Q)
+                    .add(alts_BANG)
+                    .add(timeout_chan)
+                    .add(go_STAR)
+
                     .add(future)
                     .add(future_task)
                     .add(future_Q)
                     .add(futures_fork)
                     .add(futures_wait)
                     .add(futures_thread_pool_info)
+                    .add(executor_metrics)
 
                     .add(done_Q)
                     .add(cancel)
@@ -3158,4 +3629,10 @@ public class ConcurrencyFunctions {
 
     private static final ManagedCachedThreadPoolExecutor mngdExecutor =
             new ManagedCachedThreadPoolExecutor("venice-future-pool", 200);
+
+    private static final ManagedVirtualThreadExecutor goExecutor =
+            new ManagedVirtualThreadExecutor("venice-go-pool");
+
+    private static final ManagedScheduledThreadPoolExecutor timeoutScheduler =
+            new ManagedScheduledThreadPoolExecutor("venice-timeout-chan-pool", 1);
 }
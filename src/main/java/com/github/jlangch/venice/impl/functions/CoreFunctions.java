@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -58,6 +59,7 @@ import com.github.jlangch.venice.impl.reader.Reader;
 import com.github.jlangch.venice.impl.thread.ThreadContext;
 import com.github.jlangch.venice.impl.types.Constants;
 import com.github.jlangch.venice.impl.types.IVncFunction;
+import com.github.jlangch.venice.impl.types.IVncReducible;
 import com.github.jlangch.venice.impl.types.VncBigDecimal;
 import com.github.jlangch.venice.impl.types.VncBigInteger;
 import com.github.jlangch.venice.impl.types.VncBoolean;
@@ -73,10 +75,12 @@ import com.github.jlangch.venice.impl.types.VncKeyword;
 import com.github.jlangch.venice.impl.types.VncLong;
 import com.github.jlangch.venice.impl.types.VncMultiArityFunction;
 import com.github.jlangch.venice.impl.types.VncMultiFunction;
+import com.github.jlangch.venice.impl.types.VncNumericFunction;
 import com.github.jlangch.venice.impl.types.VncString;
 import com.github.jlangch.venice.impl.types.VncSymbol;
 import com.github.jlangch.venice.impl.types.VncThreadLocal;
 import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncChunkedSeq;
 import com.github.jlangch.venice.impl.types.collections.VncCircularBuffer;
 import com.github.jlangch.venice.impl.types.collections.VncCollection;
 import com.github.jlangch.venice.impl.types.collections.VncDelayQueue;
@@ -101,7 +105,11 @@ import com.github.jlangch.venice.impl.types.collections.VncSet;
 import com.github.jlangch.venice.impl.types.collections.VncSortedMap;
 import com.github.jlangch.venice.impl.types.collections.VncSortedSet;
 import com.github.jlangch.venice.impl.types.collections.VncStack;
+import com.github.jlangch.venice.impl.types.collections.VncTransientMap;
+import com.github.jlangch.venice.impl.types.collections.VncTransientSet;
+import com.github.jlangch.venice.impl.types.collections.VncTransientVector;
 import com.github.jlangch.venice.impl.types.collections.VncVector;
+import com.github.jlangch.venice.impl.types.concurrent.VncChannel;
 import com.github.jlangch.venice.impl.types.custom.VncCustomType;
 import com.github.jlangch.venice.impl.types.util.Coerce;
 import com.github.jlangch.venice.impl.types.util.Types;
@@ -1159,12 +1167,14 @@ public class CoreFunctions {
         ) {
             @Override
             public VncVal apply(final VncList args) {
-                return args.isEmpty()
-                        ? VncString.empty()
-                        : new VncString(
-                                args.stream()
-                                    .map(v -> Printer.pr_str(v, true))
-                                    .collect(Collectors.joining(" ")));
+                if (args.isEmpty()) {
+                    return VncString.empty();
+                }
+                else {
+                    final StringBuilder sb = new StringBuilder();
+                    Printer.printAll(args.iterator(), " ", true, sb);
+                    return new VncString(sb.toString());
+                }
             }
 
             private static final long serialVersionUID = -1848883965231344442L;
@@ -1197,7 +1207,7 @@ public class CoreFunctions {
                 final StringBuilder sb = new StringBuilder();
                 for(VncVal v : args) {
                     if (v != Nil) {
-                        sb.append(Printer.pr_str(v, false));
+                        Printer.print(v, false, sb);
                     }
                 }
                 return new VncString(sb.toString());
@@ -1597,7 +1607,7 @@ public class CoreFunctions {
     ///////////////////////////////////////////////////////////////////////////
 
     public static VncFunction lt =
-        new VncFunction(
+        new VncNumericFunction(
                 "<",
                 VncFunction
                     .meta()
@@ -1650,11 +1660,21 @@ public class CoreFunctions {
                 }
             }
 
+            @Override
+            protected VncVal applyLong(final long x, final long y) {
+                return VncBoolean.of(x < y);
+            }
+
+            @Override
+            protected VncVal applyDouble(final double x, final double y) {
+                return VncBoolean.of(x < y);
+            }
+
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
     public static VncFunction lte =
-        new VncFunction(
+        new VncNumericFunction(
                 "<=",
                 VncFunction
                     .meta()
@@ -1708,11 +1728,21 @@ public class CoreFunctions {
                 }
             }
 
+            @Override
+            protected VncVal applyLong(final long x, final long y) {
+                return VncBoolean.of(x <= y);
+            }
+
+            @Override
+            protected VncVal applyDouble(final double x, final double y) {
+                return VncBoolean.of(x < y || x == y);
+            }
+
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
     public static VncFunction gt =
-        new VncFunction(
+        new VncNumericFunction(
                 ">",
                 VncFunction
                     .meta()
@@ -1764,11 +1794,21 @@ public class CoreFunctions {
                 }
             }
 
+            @Override
+            protected VncVal applyLong(final long x, final long y) {
+                return VncBoolean.of(x > y);
+            }
+
+            @Override
+            protected VncVal applyDouble(final double x, final double y) {
+                return VncBoolean.of(!(x < y || x == y));
+            }
+
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
     public static VncFunction gte =
-        new VncFunction(
+        new VncNumericFunction(
                 ">=",
                 VncFunction
                     .meta()
@@ -1820,6 +1860,16 @@ public class CoreFunctions {
                 }
             }
 
+            @Override
+            protected VncVal applyLong(final long x, final long y) {
+                return VncBoolean.of(x >= y);
+            }
+
+            @Override
+            protected VncVal applyDouble(final double x, final double y) {
+                return VncBoolean.of(!(x < y));
+            }
+
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
@@ -2841,6 +2891,7 @@ public class CoreFunctions {
                     .arglists(
                         "(lazy-seq)",
                         "(lazy-seq f)",
+                        "(lazy-seq coll)",
                         "(lazy-seq seed f)",
                         "(lazy-seq head tail-lazy-seq)")
                     .doc(
@@ -2852,6 +2903,11 @@ public class CoreFunctions {
                         "invoked supplier function for each next value. The supplier " +
                         "function f is a no arg function. The sequence ends if the " +
                         "supplier function returns nil. \n\n" +
+                        "`(lazy-seq coll)`¶" +
+                        "finite lazy sequence from a list, vector, or array. The " +
+                        "items are realized in chunks of 32 items. `map`, `filter`, " +
+                        "`keep`, `take`, `take-while`, and `doall` process a chunk " +
+                        "at a time.\n\n" +
                         "`(lazy-seq seed f)`¶\n" +
                         "(theoretically) infinitely lazy sequence with a seed value " +
                         "and a supplier function to calculate the next value based on " +
@@ -2934,18 +2990,19 @@ public class CoreFunctions {
 
                         return VncLazySeq.iterate(fn, Nil);
                     }
-                    else if (Types.isVncList(args.first())) {
-                        // finite lazy sequence from list
-                        return VncLazySeq.ofAll(Coerce.toVncList(args.first()), Nil);
+                    else if (Types.isVncSequence(args.first()) && !Types.isVncLazySeq(args.first())) {
+                        // finite lazy sequence from a list or vector, realized in chunks
+                        return VncChunkedSeq.of((VncSequence)args.first(), Nil);
                     }
-                    else if (Types.isVncVector(args.first())) {
-                        // finite lazy sequence from vector
-                        return VncLazySeq.ofAll(Coerce.toVncVector(args.first()), Nil);
+                    else if (Types.isVncJavaObject(args.first())
+                                && ((VncJavaObject)args.first()).isArray()) {
+                        // finite lazy sequence from an array, realized in chunks
+                        return VncChunkedSeq.ofArray(((VncJavaObject)args.first()).getDelegate(), Nil);
                     }
                     else {
                         throw new VncException(
                                 "Function 'lazy-seq' requires for the first arg either "
-                                    + "nil, a function, or a sequence.");
+                                    + "nil, a function, a sequence, or an array.");
                     }
                 }
                 else if (args.second() == Nil) {
@@ -4267,7 +4324,7 @@ public class CoreFunctions {
             public VncVal apply(final VncList args) {
                 final VncVal coll = args.first();
                 if (coll == Nil) {
-                    return new VncHashMap().assoc(args.rest());
+                    return VncHashMap.EMPTY.assoc(args.rest());
                 }
                 else if (Types.isVncMutableMap(coll)) {
                     throw new VncException(
@@ -5004,7 +5061,7 @@ public class CoreFunctions {
                 ArityExceptions.assertArity(this, args, 2);
 
                 if (args.first() == Nil) {
-                    return new VncHashMap();
+                    return VncHashMap.EMPTY;
                 }
 
                 final VncMap map = Coerce.toVncMap(args.first());
@@ -5401,12 +5458,22 @@ public class CoreFunctions {
                     // add reversed as defined by Clojure
                     return ((VncList)to).addAllAtStart(from.toVncList(), true);
                 }
+                else if (Types.isVncHashSet(to) && to.size() <= from.size()) {
+                    // copying 'to' once is cheaper than creating an
+                    // intermediate persistent set for every added item
+                    final VncTransientSet set = new VncTransientSet((VncHashSet)to);
+                    set.addAll(from.toVncList());
+                    return set.persistent();
+                }
                 else if (Types.isVncSet(to)) {
                     return ((VncSet)to).addAll(from.toVncList());
                 }
                 else if (Types.isVncMap(to)) {
                     if (Types.isVncSequence(from)) {
-                        VncMap toMap = (VncMap)to;
+                        final boolean inPlace = (Types.isVncHashMap(to) || Types.isVncOrderedMap(to))
+                                                    && to.size() <= from.size();
+
+                        VncMap toMap = inPlace ? new VncTransientMap((VncMap)to) : (VncMap)to;
                         for(VncVal it : ((VncSequence)from)) {
                             if (Types.isVncSequence(it)) {
                                 toMap = toMap.assoc(((VncSequence)it).toVncList());
@@ -5420,7 +5487,7 @@ public class CoreFunctions {
                             }
                         }
 
-                        return toMap;
+                        return inPlace ? ((VncTransientMap)toMap).persistent() : toMap;
                     }
                     else if (Types.isVncMap(from)) {
                         return ((VncMap)to).putAll((VncMap)from);
@@ -6512,6 +6579,7 @@ public class CoreFunctions {
                         "(conj! (mutable-list 1 2 3) 4)",
                         "(conj! (mutable-list 1 2 3) 4 5)",
                         "(conj! (mutable-list 1 2 3) '(4 5))",
+                        "(conj! (mutable-vector 1 2 3) 4)",
                         "(conj! (mutable-set 1 2 3) 4)",
                         "(conj! (mutable-map :a 1 :b 2) [:c 3])",
                         "(conj! (mutable-map :a 1 :b 2) {:c 3})",
@@ -6545,6 +6613,9 @@ public class CoreFunctions {
                     if (Types.isVncMutableList(coll)) {
                         return ((VncMutableList)coll).addAllAtEnd(args.rest());
                     }
+                    else if (Types.isVncMutableVector(coll)) {
+                        return ((VncMutableVector)coll).addAllAtEnd(args.rest());
+                    }
                     else if (Types.isVncMutableSet(coll)) {
                         return ((VncMutableSet)coll).addAll(args.rest());
                     }
@@ -6604,6 +6675,98 @@ public class CoreFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    public static VncFunction transient_ =
+        new VncFunction(
+                "transient",
+                VncFunction
+                    .meta()
+                    .arglists("(transient coll)")
+                    .doc(
+                        "Returns a transient version of the persistent vector, hash map, " +
+                        "ordered map, or hash set coll.\n\n" +
+                        "A transient is modified in place with `conj!`, `assoc!`, and " +
+                        "`dissoc!`. `persistent!` turns it back into a persistent collection " +
+                        "of the same kind in a single bulk pass. This avoids creating an " +
+                        "intermediate persistent collection for every added item when " +
+                        "building large collections.\n\n" +
+                        "A transient must not be shared between threads and can not be " +
+                        "modified anymore after `persistent!` has been called.")
+                    .examples(
+                        "(persistent! (conj! (transient [1 2]) 3 4))",
+                        "(persistent! (assoc! (transient {:a 1}) :b 2 :c 3))",
+                        "(persistent! (conj! (transient #{1 2}) 3))",
+                        "(loop [v (transient []), i 0]        \n" +
+                        "  (if (< i 10)                        \n" +
+                        "    (recur (conj! v i) (inc i))       \n" +
+                        "    (persistent! v)))                 ")
+                    .seeAlso("persistent!", "conj!", "assoc!", "dissoc!")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                final VncVal coll = args.first();
+                if (Types.isVncVector(coll)) {
+                    return new VncTransientVector((VncVector)coll);
+                }
+                else if (Types.isVncHashMap(coll) || Types.isVncOrderedMap(coll)) {
+                    return new VncTransientMap((VncMap)coll);
+                }
+                else if (Types.isVncHashSet(coll)) {
+                    return new VncTransientSet((VncHashSet)coll);
+                }
+                else {
+                    throw new VncException(String.format(
+                            "Function 'transient' does not allow %s as coll. It works with " +
+                            "vectors, hash maps, ordered maps, and hash sets only.",
+                            Types.getType(coll)));
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction persistent_BANG =
+        new VncFunction(
+                "persistent!",
+                VncFunction
+                    .meta()
+                    .arglists("(persistent! coll)")
+                    .doc(
+                        "Returns a persistent version of the transient collection coll. " +
+                        "The transient can not be modified anymore.")
+                    .examples(
+                        "(persistent! (conj! (transient [1 2]) 3 4))",
+                        "(persistent! (assoc! (transient (ordered-map :a 1)) :b 2))")
+                    .seeAlso("transient")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                final VncVal coll = args.first();
+                if (coll instanceof VncTransientVector) {
+                    return ((VncTransientVector)coll).persistent();
+                }
+                else if (coll instanceof VncTransientMap) {
+                    return ((VncTransientMap)coll).persistent();
+                }
+                else if (coll instanceof VncTransientSet) {
+                    return ((VncTransientSet)coll).persistent();
+                }
+                else {
+                    throw new VncException(String.format(
+                            "Function 'persistent!' does not allow %s as coll. It works " +
+                            "with transient collections only.",
+                            Types.getType(coll)));
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
     public static VncFunction concat =
         new VncFunction(
                 "concat",
@@ -8078,6 +8241,29 @@ public class CoreFunctions {
                 else if (Types.isVncCircularBuffer(val)) {
                    return ((VncCircularBuffer)val).offer(args.second());
                 }
+                else if (Types.isVncChannel(val)) {
+                    final VncChannel ch = (VncChannel)val;
+                    if (args.size() == 2) {
+                        return VncBoolean.of(ch.offer(args.second()));
+                    }
+                    else {
+                        final VncVal option = args.second();
+                        if (Types.isVncKeyword(option)) {
+                            if (((VncKeyword)option).hasValue("indefinite")) {
+                                return VncBoolean.of(ch.put(args.third()));
+                            }
+                            else {
+                                throw new VncException(String.format(
+                                        "offer!: timeout value '%s' not supported",
+                                        option.toString()));
+                            }
+                        }
+                        else {
+                            final long timeout = Coerce.toVncLong(option).getValue();
+                            return VncBoolean.of(ch.put(args.third(), Math.max(0L, timeout)));
+                        }
+                    }
+                }
                 else {
                     throw new VncException(String.format(
                             "offer!: type %s not supported",
@@ -8175,7 +8361,10 @@ public class CoreFunctions {
                         "*queue:* `(put! queue val)`¶\n" +
                         "Puts the value 'val' to the tail of the queue.\n\n" +
                         "*delay-queue:* `(put! queue val delay)`¶\n" +
-                        "Puts the value 'val' with a delay of 'delay' milliseconds to a delay-queue")
+                        "Puts the value 'val' with a delay of 'delay' milliseconds to a delay-queue\n\n" +
+                        "*channel:* `(put! chan val)`¶\n" +
+                        "Puts the value 'val' to a channel. Returns true if the value has been " +
+                        "put or false if the channel is closed.")
                     .examples(
                         "(let [q (queue)]   \n" +
                         "  (put! q 1)       \n" +
@@ -8183,8 +8372,11 @@ public class CoreFunctions {
                         "  q)",
                         "(let [q (delay-queue)]   \n" +
                         "  (put! q 1 100)         \n" +
-                        "  (take! q))             ")
-                    .seeAlso("queue", "take!", "offer!", "poll!", "peek", "empty?", "count")
+                        "  (take! q))             ",
+                        "(let [ch (chan 1)]  \n" +
+                        "  (put! ch 1)       \n" +
+                        "  (take! ch))       ")
+                    .seeAlso("queue", "chan", "take!", "offer!", "poll!", "peek", "empty?", "count")
                     .build()
         ) {
             @Override
@@ -8237,6 +8429,14 @@ public class CoreFunctions {
                     ((VncCircularBuffer)coll).put(args.second());
                     return Nil;
                 }
+                else if (Types.isVncChannel(coll)) {
+                    if (args.size() == 2) {
+                        return VncBoolean.of(((VncChannel)coll).put(args.second()));
+                    }
+                    else {
+                        throw new VncException("put! for a channel requires two args (put! chan val)");
+                    }
+                }
                 else {
                     throw new VncException(String.format(
                             "put!: type %s not supported",
@@ -8400,6 +8600,28 @@ public class CoreFunctions {
                 else if (Types.isVncCircularBuffer(val)) {
                     return ((VncCircularBuffer)val).poll();
                 }
+                else if (Types.isVncChannel(val)) {
+                    if (args.size() == 1) {
+                        return ((VncChannel)val).poll();
+                    }
+                    else {
+                        final VncVal option = args.second();
+                        if (Types.isVncKeyword(option)) {
+                            if (((VncKeyword)option).hasValue("indefinite")) {
+                                return ((VncChannel)val).take();
+                            }
+                            else {
+                                throw new VncException(String.format(
+                                        "poll!: timeout value '%s' not supported",
+                                        option.toString()));
+                            }
+                        }
+                        else {
+                            final long timeout = Coerce.toVncLong(option).getValue();
+                            return ((VncChannel)val).take(Math.max(0L, timeout));
+                        }
+                    }
+                }
                 else {
                     throw new VncException(String.format(
                             "poll!: type %s not supported",
@@ -8488,13 +8710,15 @@ public class CoreFunctions {
                         "(take! queue)")
                     .doc(
                         "Retrieves and removes the head value of the queue or the deque, waiting " +
-                        "if necessary until a value becomes available.")
+                        "if necessary until a value becomes available.\n\n" +
+                        "Taking from a closed channel returns the buffered values and nil " +
+                        "when the channel is drained.")
                     .examples(
                         "(let [q (queue)]   \n" +
                         "  (put! q 1)       \n" +
                         "  (take! q)        \n" +
                         "  q)")
-                    .seeAlso("queue", "put!", "offer!", "poll!", "peek", "empty?", "count")
+                    .seeAlso("queue", "chan", "put!", "offer!", "poll!", "peek", "empty?", "count")
                     .build()
         ) {
             @Override
@@ -8518,6 +8742,9 @@ public class CoreFunctions {
                 else if (Types.isVncCircularBuffer(queue)) {
                     return ((VncCircularBuffer)queue).take();
                 }
+                else if (Types.isVncChannel(queue)) {
+                    return ((VncChannel)queue).take();
+                }
                 else {
                     throw new VncException(String.format(
                             "take!: type %s not supported",
@@ -8789,21 +9016,24 @@ public class CoreFunctions {
 
                 fn.sandboxFunctionCallValidation();
 
-                VncMap map = new VncOrderedMap();
+                final VncTransientMap groups = new VncTransientMap(new VncOrderedMap());
 
                 for(VncVal v : coll) {
                     final VncVal key = VncFunction.applyWithMeter(fn, VncList.of(v), meterRegistry);
-                    final Object val = map.getJavaMap().get(key);
-                    if (val == null) {
-                        map = map.assoc(key, VncVector.of(v));
+                    final VncVal group = groups.get(key);
+                    if (group == Nil) {
+                        groups.assoc(key, new VncTransientVector().addAtEnd(v));
                     }
                     else {
-                        final VncSequence seq = Coerce.toVncSequence((VncVal)val);
-                        map = map.assoc(key, seq.addAtEnd(v));
+                        ((VncTransientVector)group).addAtEnd(v);
                     }
                 }
 
-                return map;
+                for(VncMapEntry e : groups.entries()) {
+                    groups.assoc(e.getKey(), ((VncTransientVector)e.getValue()).persistent());
+                }
+
+                return groups.persistent();
             }
 
             private static final long serialVersionUID = -1848883965231344442L;
@@ -8830,19 +9060,16 @@ public class CoreFunctions {
 
                 final VncSequence coll = Coerce.toVncSequence(args.first());
 
-                final Map<VncVal,VncLong> map = new HashMap<>();
+                final VncTransientMap counts = new VncTransientMap();
 
                 for(VncVal v : coll) {
-                    VncLong count = map.get(v);
-                    if (count == null) {
-                        map.put(v, new VncLong(1L));
-                    }
-                    else {
-                        map.put(v, new VncLong(count.getValue()+1));
-                    }
+                    final VncVal count = counts.get(v);
+                    counts.assoc(
+                        v,
+                        count == Nil ? VncLong.of(1L) : VncLong.of(((VncLong)count).getValue()+1));
                 }
 
-                return new VncHashMap(map);
+                return counts.persistent();
             }
 
             private static final long serialVersionUID = -1848883965231344442L;
@@ -9282,6 +9509,14 @@ public class CoreFunctions {
                 if (coll == Nil) {
                     // ok do nothing
                 }
+                else if (Types.isIVncReducible(coll)) {
+                    final Function<VncList,VncVal> step = a -> {
+                        VncFunction.applyWithMeter(fn, VncList.of(a.second()), meterRegistry);
+                        return Nil;
+                    };
+
+                    ((IVncReducible)coll).reduce(VncFunction.of(step), Nil, meterRegistry);
+                }
                 else if (Types.isVncSequence(coll)) {
                     for (VncVal p : (VncSequence)coll) {
                         VncFunction.applyWithMeter(
@@ -9615,7 +9850,12 @@ public class CoreFunctions {
 
                 reduceFn.sandboxFunctionCallValidation();
 
-                if (Types.isVncSequence(coll)) {
+                if (Types.isIVncReducible(coll)) {
+                    // self-reducing values
+                    return ((IVncReducible)coll).reduce(
+                                reduceFn, init, ThreadContext.getMeterRegistry());
+                }
+                else if (Types.isVncSequence(coll)) {
                     return reduce_sequence((VncSequence)coll, reduceFn, init);
                 }
                 else if (Types.isVncMap(coll)) {
@@ -9858,7 +10098,7 @@ public class CoreFunctions {
                                               .collect(Collectors.toList());
 
                 if (rest.isEmpty()) {
-                    return new VncHashMap();
+                    return VncHashMap.EMPTY;
                 }
                 else if (rest.size() == 1) {
                     return rest.get(0);
@@ -10270,7 +10510,7 @@ public class CoreFunctions {
                 final VncVal obj = args.first();
                 final VncVal meta = obj.getMeta();
                 final IVncFunction fn = Coerce.toIVncFunction(args.second());
-                final VncList fnArgs = args.slice(2).addAtStart(meta == Nil ? new VncHashMap() : meta);
+                final VncList fnArgs = args.slice(2).addAtStart(meta == Nil ? VncHashMap.EMPTY : meta);
 
                 return obj.withMeta(fn.apply(fnArgs));
             }
@@ -11057,6 +11297,8 @@ public class CoreFunctions {
                 .add(cons_BANG)
                 .add(conj)
                 .add(conj_BANG)
+                .add(transient_)
+                .add(persistent_BANG)
                 .add(concat)
                 .add(concatv)
                 .add(interpose)
@@ -24,15 +24,23 @@ package com.github.jlangch.venice.impl.functions;
 import static com.github.jlangch.venice.impl.types.Constants.Nil;
 
 import java.util.Map;
+import java.util.function.Function;
 
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.thread.ThreadBridge;
+import com.github.jlangch.venice.impl.threadpool.ManagedCachedThreadPoolExecutor;
 import com.github.jlangch.venice.impl.types.VncBoolean;
 import com.github.jlangch.venice.impl.types.VncFunction;
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
 import com.github.jlangch.venice.impl.types.VncVal;
 import com.github.jlangch.venice.impl.types.collections.VncDAG;
+import com.github.jlangch.venice.impl.types.collections.VncHashMap;
 import com.github.jlangch.venice.impl.types.collections.VncList;
 import com.github.jlangch.venice.impl.types.util.Coerce;
 import com.github.jlangch.venice.impl.types.util.Types;
 import com.github.jlangch.venice.impl.util.ArityExceptions;
+import com.github.jlangch.venice.impl.util.callstack.CallFrame;
 import com.github.jlangch.venice.impl.util.SymbolMapBuilder;
 
 
@@ -71,6 +79,7 @@ public class DagFunctions {
                         "dag/roots",
                         "dag/children", "dag/direct-children", "dag/child-of?",
                         "dag/parents", "dag/direct-parents", "dag/parent-of?",
+                        "dag/execute",
                         "empty?",
                         "count")
                     .build()
@@ -592,6 +601,90 @@ public class DagFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    public static VncFunction execute =
+        new VncFunction(
+                "dag/execute",
+                VncFunction
+                    .meta()
+                    .arglists("(dag/execute dag f & options)")
+                    .doc(
+                        "Executes the single argument function f for every node of " +
+                        "the DAG on a thread pool. A node is executed as soon as " +
+                        "all its parents have completed, independent nodes run in " +
+                        "parallel. Blocks until all nodes have completed.\n\n" +
+                        "Returns an ordered map with the nodes in topological order " +
+                        "and a map with the node's result and timing as value:\n\n" +
+                        "  * `:result` the value returned by f\n" +
+                        "  * `:start-ms` the start time relative to the start of the " +
+                        "execution in milliseconds\n" +
+                        "  * `:elapsed-ms` the execution time in milliseconds\n\n" +
+                        "If f fails for a node no further nodes are started, and " +
+                        "the failure is rethrown after the running nodes have " +
+                        "completed.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :parallelism n | The maximum number of nodes executed at the " +
+                        "                   same time. Defaults to the number of available " +
+                        "                   processors. The parallelism is limited to the " +
+                        "                   200 threads of the DAG thread pool. |")
+                    .examples(
+                        "(let [dag (dag/dag [\"A\" \"B\"]  ;    A  E   \n" +
+                        "                   [\"B\" \"C\"]  ;    |  |   \n" +
+                        "                   [\"C\" \"D\"]  ;    B  F   \n" +
+                        "                   [\"E\" \"F\"]  ;    | / \\ \n" +
+                        "                   [\"F\" \"C\"]  ;    C    G \n" +
+                        "                   [\"F\" \"G\"]  ;     \\  / \n" +
+                        "                   [\"G\" \"D\"]) ;      D    \n" +
+                        "      result (dag/execute dag #(str/lower-case %) :parallelism 2)] \n" +
+                        "  (map (fn [[k v]] [k (:result v)]) result))                         ")
+                    .seeAlso(
+                        "dag/dag", "dag/topological-sort")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 2);
+
+                sandboxFunctionCallValidation();
+
+                final VncDAG dag = Coerce.toVncDAG(args.first());
+                final VncFunction fn = Coerce.toVncFunction(args.second());
+                fn.sandboxFunctionCallValidation();
+
+                final VncHashMap options = VncHashMap.ofAll(args.slice(2));
+                final int parallelism = Coerce.toVncLong(
+                                            options.get(
+                                                new VncKeyword("parallelism"),
+                                                new VncLong(Runtime.getRuntime().availableProcessors())))
+                                              .getIntValue();
+
+                if (parallelism < 1) {
+                    throw new VncException(
+                            "Function 'dag/execute' requires a parallelism greater than 0!");
+                }
+
+                final ThreadBridge threadBridge = ThreadBridge.create(
+                                                    "dag-execute",
+                                                    new CallFrame[] {
+                                                        new CallFrame(this, args),
+                                                        new CallFrame(fn)});
+                final Function<VncVal,VncVal> taskWrapper = threadBridge.bridgeFunction(
+                                                                (VncVal v) -> fn.applyOf(v));
+
+                // more nodes than pool threads cannot run at the same time
+                return dag.execute(
+                        taskWrapper,
+                        mngdExecutor.getExecutor(),
+                        Math.min(parallelism, mngdExecutor.getMaximumThreadPoolSize()));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+
+    public static void shutdown() {
+        mngdExecutor.shutdown();
+    }
+
 
     ///////////////////////////////////////////////////////////////////////////
     // types_ns is namespace of type functions
@@ -616,5 +709,10 @@ public class DagFunctions {
                     .add(child_of_Q)
                     .add(node_Q)
                     .add(edge_Q)
+                    .add(execute)
                     .toMap();
+
+
+    private static final ManagedCachedThreadPoolExecutor mngdExecutor =
+            new ManagedCachedThreadPoolExecutor("venice-dag-pool", 200);
 }
@@ -149,6 +149,7 @@ public class Functions {
         functions.putAll(ShellFunctions.ns);
         functions.putAll(SystemFunctions.ns);
         functions.putAll(MBeanFunctions.ns);
+        functions.putAll(SamplerFunctions.ns);
         functions.putAll(SandboxFunctions.ns);
         functions.putAll(ScheduleFunctions.ns);
         functions.putAll(CronSchedulerFunctions.ns);
@@ -160,6 +161,7 @@ public class Functions {
         functions.putAll(CidrFunctions.ns);
         functions.putAll(CsvFunctions.ns);
         functions.putAll(DagFunctions.ns);
+        functions.putAll(MatrixFunctions.ns);
     }
 
 }
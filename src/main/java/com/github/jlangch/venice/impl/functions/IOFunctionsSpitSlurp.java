@@ -38,6 +38,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.github.jlangch.venice.VncException;
@@ -46,6 +47,7 @@ import com.github.jlangch.venice.impl.types.VncBoolean;
 import com.github.jlangch.venice.impl.types.VncByteBuffer;
 import com.github.jlangch.venice.impl.types.VncFunction;
 import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLineReducible;
 import com.github.jlangch.venice.impl.types.VncString;
 import com.github.jlangch.venice.impl.types.VncVal;
 import com.github.jlangch.venice.impl.types.collections.VncHashMap;
@@ -94,7 +96,7 @@ public class IOFunctionsSpitSlurp {
                         "     io/string-in-stream  \n" +
                         "     io/slurp-lines)      ")
                     .seeAlso(
-                        "str/split-lines",
+                        "str/split-lines", "io/reducible-lines",
                         "io/slurp", "io/slurp-stream",
                         "io/spit", "io/string-in-stream",
                         "loadpath/paths")
@@ -225,6 +227,62 @@ public class IOFunctionsSpitSlurp {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    public static VncFunction io_reducible_lines =
+        new VncFunction(
+                "io/reducible-lines",
+                VncFunction
+                    .meta()
+                    .arglists("(io/reducible-lines f & options)")
+                    .doc(
+                        "Returns a reducible over the lines of f. The lines are read " +
+                        "lazily while reducing and are never collected, so `reduce`, " +
+                        "`transduce`, `run!` and `docoll` process arbitrary large " +
+                        "sources in constant memory. A `reduced` value stops reading " +
+                        "immediately and closes the source.                              \n\n" +
+                        "f may be a:                                                       \n\n" +
+                        " * string file path, e.g: \"/temp/foo.txt\"                       \n" +
+                        " * bytebuffer                                                     \n" +
+                        " * `java.io.File`, e.g: `(io/file \"/temp/foo.txt\")`             \n" +
+                        " * `java.io.InputStream`                                          \n" +
+                        " * `java.io.Reader`                                               \n" +
+                        " * `java.nio.file.Path`                                           \n" +
+                        " * `java.net.URL`                                                 \n" +
+                        " * `java.net.URI`                                                 \n\n" +
+                        "Files, bytebuffers, URLs and URIs are reopened for every " +
+                        "reduction. Streams and readers can be reduced only once and " +
+                        "are not closed, they are owned by the caller.                     \n\n" +
+                        "*Options:*                                                          \n\n" +
+                        "| :encoding enc | e.g.: `:encoding :utf-8`, defaults to :utf-8 |  \n\n" +
+                        "`io/reducible-lines` supports load paths. See the `loadpath/paths` " +
+                        "doc for a description of the *load path* feature.")
+                    .examples(
+                        "(->> (io/string-in-stream \"1\\n2\\n3\")  \n" +
+                        "     (io/reducible-lines)                 \n" +
+                        "     (transduce (map long) + 0))          ",
+                        ";; early termination                             \n" +
+                        "(->> (io/string-in-stream \"a\\nb\\nc\\nd\")      \n" +
+                        "     (io/reducible-lines)                         \n" +
+                        "     (transduce (take 2) conj []))                ")
+                    .seeAlso(
+                        "io/slurp-lines", "reduce", "transduce", "run!",
+                        "loadpath/paths")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                sandboxFunctionCallValidation();
+
+                final VncHashMap options = VncHashMap.ofAll(args.rest());
+                final Charset charset = CharsetUtil.charset(options.get(new VncKeyword("encoding")));
+
+                return reducibleLines("io/reducible-lines", args.first(), charset, null, 1);
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
     public static VncFunction io_slurp =
         new VncFunction(
                 "io/slurp",
@@ -844,6 +902,104 @@ public class IOFunctionsSpitSlurp {
         }
     }
 
+    /**
+     * Creates a reducible over the lines of a source.
+     *
+     * @param fnName the name of the calling function (for error messages)
+     * @param in the source
+     * @param charset the charset for byte sources
+     * @param decoder an optional line decoder, returns <code>null</code> to skip a line
+     * @param parallelism the number of decoder threads
+     * @return the line reducible
+     */
+    public static VncLineReducible reducibleLines(
+            final String fnName,
+            final VncVal in,
+            final Charset charset,
+            final Function<String,VncVal> decoder,
+            final int parallelism
+    ) {
+        final ILoadPaths loadpaths = ThreadContext.getInterceptor().getLoadPaths();
+
+        final File file = convertToFile(in);
+        if (file != null) {
+            return new VncLineReducible(
+                        file.getPath(),
+                        () -> {
+                            final InputStream is = loadpaths.getInputStream(file);
+                            if (is == null) {
+                                if (file.exists()) {
+                                    throw new VncException(
+                                            "Failed to read text lines from the file " + file.getPath() +
+                                            ". The file does not exists!");
+                                }
+                                else {
+                                    throw new com.github.jlangch.venice.SecurityException(
+                                            "Failed to read text lines from the file " + file.getPath() +
+                                            ". The load paths configuration prevented this action!");
+                                }
+                            }
+                            return new BufferedReader(new InputStreamReader(is, charset));
+                        },
+                        true,
+                        decoder,
+                        parallelism);
+        }
+        else if (Types.isVncByteBuffer(in)) {
+            final byte[] bytes = ((VncByteBuffer)in).getBytes();
+            return new VncLineReducible(
+                        "bytebuffer",
+                        () -> new BufferedReader(
+                                    new InputStreamReader(new ByteArrayInputStream(bytes), charset)),
+                        true,
+                        decoder,
+                        parallelism);
+        }
+        else if (Types.isVncJavaObject(in, InputStream.class)) {
+            final InputStream is = Coerce.toVncJavaObject(in, InputStream.class);
+            return new VncLineReducible(
+                        ":java.io.InputStream",
+                        () -> new BufferedReader(new InputStreamReader(is, charset)),
+                        false,
+                        decoder,
+                        parallelism);
+        }
+        else if (Types.isVncJavaObject(in, Reader.class)) {
+            final Reader rd = Coerce.toVncJavaObject(in, Reader.class);
+            return new VncLineReducible(
+                        ":java.io.Reader",
+                        () -> rd instanceof BufferedReader ? (BufferedReader)rd : new BufferedReader(rd),
+                        false,
+                        decoder,
+                        parallelism);
+        }
+        else if (Types.isVncJavaObject(in, URL.class) || Types.isVncJavaObject(in, URI.class)) {
+            if (!loadpaths.isUnlimitedAccess()) {
+                throw new com.github.jlangch.venice.SecurityException(String.format(
+                        "Rejected to read text lines from a %s. The load paths configuration " +
+                        "(unlimited access is disabled) prevented this action!",
+                        Types.getType(in)));
+            }
+
+            final Object delegate = Coerce.toVncJavaObject(in).getDelegate();
+            return new VncLineReducible(
+                        delegate.toString(),
+                        () -> {
+                            final URL url = delegate instanceof URI ? ((URI)delegate).toURL() : (URL)delegate;
+                            return new BufferedReader(new InputStreamReader(url.openStream(), charset));
+                        },
+                        true,
+                        decoder,
+                        parallelism);
+        }
+        else {
+            throw new VncException(String.format(
+                    "Function '%s' does not allow %s as source",
+                    fnName,
+                    Types.getType(in)));
+        }
+    }
+
     private static File convertToFile(final VncVal f) {
         if (Types.isVncString(f)) {
             return new File(((VncString)f).getValue());
@@ -868,6 +1024,7 @@ public class IOFunctionsSpitSlurp {
             new SymbolMapBuilder()
                     .add(io_slurp)
                     .add(io_slurp_lines)
+                    .add(io_reducible_lines)
                     .add(io_slurp_stream)
                     .add(io_slurp_reader)
                     .add(io_spit)
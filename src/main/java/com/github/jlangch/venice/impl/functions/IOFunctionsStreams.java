@@ -1255,29 +1255,41 @@ public class IOFunctionsStreams {
                 VncFunction
                     .meta()
                     .arglists(
-                        "(io/print os s)" )
+                        "(io/print os x & options)" )
                     .doc(
-                        "Prints a string s to an output stream. The output stream " +
-                        "may be a `:java.io.Writer` or a `:java.io.PrintStream`!")
+                        "Prints a value x to an output stream. The output stream " +
+                        "may be a `:java.io.Writer` or a `:java.io.PrintStream`!\n\n" +
+                        "Collections are printed element by element straight to the " +
+                        "stream without building the string representation of the " +
+                        "whole value first.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :readably b | If true print in a way that the value can be " +
+                        "                read by the reader (like `pr`). Defaults to false. |\n" +
+                        "| :limit n    | Prints at most n UTF-8 bytes of the value. A " +
+                        "                truncated value is terminated with \"...\". |")
+                    .examples(
+                        "(io/print *out* \"hello\")",
+                        "(io/print *out* {:a 1 :b \"x\"} :readably true)",
+                        "(io/print *out* (range 1000) :limit 20)")
+                    .seeAlso("print", "pr", "io/print-line")
                     .build()
         ) {
             @Override
             public VncVal apply(final VncList args) {
-                ArityExceptions.assertArity(this, args, 2);
+                ArityExceptions.assertMinArity(this, args, 2);
 
                 final VncVal v = args.first();
+                final VncHashMap options = VncHashMap.ofAll(args.slice(2));
+                final boolean readably = VncBoolean.isTrue(
+                                            options.get(new VncKeyword("readably"), VncBoolean.False));
+                final VncVal limit = options.get(new VncKeyword("limit"));
+
+                final Appendable out;
                 if (Types.isVncJavaObject(v, PrintStream.class)) {
-                    final PrintStream ps = Coerce.toVncJavaObject(v, PrintStream.class);
-                    ps.print(Printer.pr_str(args.second(), false));
+                    out = Coerce.toVncJavaObject(v, PrintStream.class);
                 }
                 else if (Types.isVncJavaObject(v, Writer.class)) {
-                    final Writer wr = Coerce.toVncJavaObject(v, Writer.class);
-                    try {
-                        wr.write(Printer.pr_str(args.second(), false));
-                    }
-                    catch(IOException ex) {
-                        throw new VncException("Failed print string to a :java.io.Writer", ex);
-                    }
+                    out = Coerce.toVncJavaObject(v, Writer.class);
                 }
                 else {
                     throw new VncException(String.format(
@@ -1286,6 +1298,13 @@ public class IOFunctionsStreams {
                             Types.getType(args.first())));
                 }
 
+                if (limit == Nil) {
+                    Printer.print(args.second(), readably, out);
+                }
+                else {
+                    Printer.print(args.second(), readably, out, Coerce.toVncLong(limit).getValue());
+                }
+
                 return Nil;
             }
 
@@ -1313,17 +1332,15 @@ public class IOFunctionsStreams {
                 if (Types.isVncJavaObject(v, PrintStream.class)) {
                     final PrintStream ps = Coerce.toVncJavaObject(v, PrintStream.class);
                     if (args.size() > 1) {
-                        ps.println(Printer.pr_str(args.second(), false));
-                    }
-                    else {
-                        ps.println();
+                        Printer.print(args.second(), false, ps);
                     }
+                    ps.println();
                 }
                 else if (Types.isVncJavaObject(v, BufferedWriter.class)) {
                     final BufferedWriter wr = Coerce.toVncJavaObject(v, BufferedWriter.class);
                     try {
                         if (args.size() > 1) {
-                            wr.write(Printer.pr_str(args.second(), false));
+                            Printer.print(args.second(), false, wr);
                         }
                         wr.newLine();
                     }
@@ -1335,7 +1352,7 @@ public class IOFunctionsStreams {
                     final Writer wr = Coerce.toVncJavaObject(v, Writer.class);
                     try {
                         if (args.size() > 1) {
-                            wr.write(Printer.pr_str(args.second(), false));
+                            Printer.print(args.second(), false, wr);
                         }
                         wr.write('\n');
                     }
@@ -32,8 +32,13 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -43,18 +48,24 @@ import com.github.jlangch.venice.impl.types.Constants;
 import com.github.jlangch.venice.impl.types.VncBoolean;
 import com.github.jlangch.venice.impl.types.VncFunction;
 import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
 import com.github.jlangch.venice.impl.types.VncString;
 import com.github.jlangch.venice.impl.types.VncVal;
 import com.github.jlangch.venice.impl.types.collections.VncHashMap;
+import com.github.jlangch.venice.impl.types.collections.VncLazySeq;
 import com.github.jlangch.venice.impl.types.collections.VncList;
 import com.github.jlangch.venice.impl.types.util.Coerce;
 import com.github.jlangch.venice.impl.types.util.Types;
 import com.github.jlangch.venice.impl.util.ArityExceptions;
+import com.github.jlangch.venice.impl.util.StringUtil;
 import com.github.jlangch.venice.impl.util.SymbolMapBuilder;
+import com.github.jlangch.venice.impl.util.io.CharsetUtil;
 import com.github.jlangch.venice.impl.util.json.VncJsonReader;
+import com.github.jlangch.venice.impl.util.json.VncJsonStreamReader;
 import com.github.jlangch.venice.impl.util.json.VncJsonWriter;
 import com.github.jlangch.venice.nanojson.JsonAppendableWriter;
 import com.github.jlangch.venice.nanojson.JsonParser;
+import com.github.jlangch.venice.nanojson.JsonParserException;
 import com.github.jlangch.venice.nanojson.JsonReader;
 import com.github.jlangch.venice.nanojson.JsonWriter;
 
@@ -384,6 +395,218 @@ public class JsonFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    public static VncFunction reducible_lines =
+        new VncFunction(
+                "json/reducible-lines",
+                VncFunction
+                    .meta()
+                    .arglists("(json/reducible-lines source & options)")
+                    .doc(
+                        "Returns a reducible over the JSON Lines of a source. Each " +
+                        "non blank line is parsed to a Venice value while reducing. " +
+                        "The lines are never collected, so `reduce`, `transduce`, " +
+                        "`run!` and `docoll` process arbitrary large sources in " +
+                        "constant memory.                                            \n\n" +
+                        "With a parallelism greater than 1 the lines are parsed in " +
+                        "batches on a thread pool. The reducing function still " +
+                        "receives the values in line order.                          \n\n" +
+                        "The source may be a:                                         \n\n" +
+                        " * bytebuffer                                                \n" +
+                        " * `java.io.File`, e.g: `(io/file \"/temp/foo.jsonl\")`      \n" +
+                        " * `java.nio.Path`                                           \n" +
+                        " * `java.io.InputStream`                                     \n" +
+                        " * `java.io.Reader`                                          \n\n" +
+                        "*Options:* \n\n" +
+                        "| :key-fn fn        | Single-argument function called on JSON property " +
+                        "                      names; return value will replace the property names " +
+                        "                      in the output. Default is 'identity', use 'keyword' " +
+                        "                      to get keyword properties. |\n" +
+                        "| :value-fn fn      | Function to transform values in JSON objects in " +
+                        "                      the output. For each JSON property, value-fn is " +
+                        "                      called with two arguments: the property name " +
+                        "                      (transformed by key-fn) and the value. |\n" +
+                        "| :decimal b        | If true use BigDecimal for decimal numbers instead " +
+                        "                      of Double. Default is false. |\n" +
+                        "| :filter-fn fn     | Single argument function called on every parsed " +
+                        "                      line value. Values are skipped if it returns false. |\n" +
+                        "| :parallelism n    | The number of lines batches parsed concurrently. " +
+                        "                      Defaults to 1 (parse in the reducing thread). |\n" +
+                        "| :encoding e       | e.g :encoding :utf-8, defaults to :utf-8 |")
+                    .examples(
+                        "(let [in (io/string-in-stream \"{\\\"a\\\":1}\\n{\\\"a\\\":2}\\n{\\\"a\\\":3}\")]  \n" +
+                        "  (transduce (map :a) + 0 (json/reducible-lines in :key-fn keyword)))  ",
+                        "(let [in (io/string-in-stream \"{\\\"a\\\":1}\\n{\\\"a\\\":2}\\n{\\\"a\\\":3}\")]  \n" +
+                        "  (->> (json/reducible-lines in :key-fn keyword :parallelism 4)        \n" +
+                        "       (reduce conj [])))                                               ")
+                    .seeAlso(
+                        "json/slurp", "json/read-str", "io/reducible-lines")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                sandboxFunctionCallValidation();
+
+                final VncHashMap options = VncHashMap.ofAll(args.rest());
+                final VncFunction key_fn = getFunctionOption(options, "key-fn");
+                final VncFunction value_fn = getFunctionOption(options, "value-fn");
+                final VncFunction filter_fn = getFunctionOption(options, "filter-fn");
+                final boolean toDecimal = isTrueOption(options, "decimal");
+                final int parallelism = Coerce.toVncLong(
+                                            options.get(
+                                                new VncKeyword("parallelism"),
+                                                new VncLong(1))).getIntValue();
+                final Charset charset = CharsetUtil.charset(options.get(new VncKeyword("encoding")));
+
+                final Function<VncVal,VncVal> keyFN =
+                        key_fn == null ? null : (key) -> key_fn.apply(VncList.of(key));
+
+                final BiFunction<VncVal,VncVal,VncVal> valueFN =
+                        value_fn == null ? null : (k, v) -> value_fn.apply(VncList.of(k, v));
+
+                final Function<String,VncVal> decoder = (line) -> {
+                    if (StringUtil.isBlank(line)) {
+                        return null;  // skip blank lines
+                    }
+
+                    final VncVal v;
+                    try {
+                        v = new VncJsonReader(
+                                    JsonReader.from(line), keyFN, valueFN, toDecimal).read();
+                    }
+                    catch(JsonParserException ex) {
+                        throw new VncException("Function 'json/reducible-lines'. Failed to parse JSON line", ex);
+                    }
+
+                    return filter_fn == null || VncBoolean.isTrue(filter_fn.apply(VncList.of(v)))
+                            ? v
+                            : null;
+                };
+
+                return IOFunctionsSpitSlurp.reducibleLines(
+                            "json/reducible-lines", args.first(), charset, decoder, parallelism);
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction lazy_seq =
+        new VncFunction(
+                "json/lazy-seq",
+                VncFunction
+                    .meta()
+                    .arglists("(json/lazy-seq source & options)")
+                    .doc(
+                        "Streams the elements of a JSON array as a lazy sequence. " +
+                        "The array is either the top level value of the document or " +
+                        "is selected by a path. Only the element being realized is " +
+                        "held in memory, so arbitrary large JSON documents can be " +
+                        "processed.                                                   \n\n" +
+                        "The source is closed when the sequence is fully realized.    \n\n" +
+                        "The source may be a:                                         \n\n" +
+                        " * `java.io.File`, e.g: `(io/file \"/temp/foo.json\")`       \n" +
+                        " * `java.nio.Path`                                           \n" +
+                        " * `java.io.InputStream`                                     \n" +
+                        " * `java.io.Reader`                                          \n\n" +
+                        "*Options:* \n\n" +
+                        "| :path p      | A vector of object keys (strings or keywords) and " +
+                        "                 array indices selecting the array to stream, " +
+                        "                 e.g. `[\"data\" \"items\"]`. Defaults to `[]`, " +
+                        "                 the top level array. |\n" +
+                        "| :key-fn fn   | Single-argument function called on JSON property " +
+                        "                 names; return value will replace the property names " +
+                        "                 in the output. Default is 'identity', use 'keyword' " +
+                        "                 to get keyword properties. |\n" +
+                        "| :value-fn fn | Function to transform values in JSON objects in " +
+                        "                 the output. For each JSON property, value-fn is " +
+                        "                 called with two arguments: the property name " +
+                        "                 (transformed by key-fn) and the value. |\n" +
+                        "| :decimal b   | If true use BigDecimal for decimal numbers instead " +
+                        "                 of Double. Default is false. |\n" +
+                        "| :encoding e  | e.g :encoding :utf-8, defaults to :utf-8 |")
+                    .examples(
+                        "(let [json (json/write-str [{:a 1} {:a 2} {:a 3}])]         \n" +
+                        "  (->> (json/lazy-seq (io/string-reader json) :key-fn keyword) \n" +
+                        "       (map :a)                                              \n" +
+                        "       (reduce +)))                                          ",
+                        "(let [json (json/write-str {:total 3 :data {:items [1 2 3]}})] \n" +
+                        "  (->> (json/lazy-seq (io/string-reader json) :path [:data :items]) \n" +
+                        "       (take 2)                                                \n" +
+                        "       (doall)))                                               ")
+                    .seeAlso(
+                        "json/event-seq", "json/slurp", "json/read-str")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                sandboxFunctionCallValidation();
+
+                final VncHashMap options = VncHashMap.ofAll(args.rest());
+                final List<Object> path = jsonPath(options.get(new VncKeyword("path")));
+
+                final VncJsonStreamReader reader = streamReader("json/lazy-seq", args.first(), options);
+                final Iterator<VncVal> iter = reader.arrayElements(path);
+
+                return VncLazySeq.ofAll(() -> iter, Nil);
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction event_seq =
+        new VncFunction(
+                "json/event-seq",
+                VncFunction
+                    .meta()
+                    .arglists("(json/event-seq source & options)")
+                    .doc(
+                        "Returns a lazy sequence of the parse events of a JSON " +
+                        "document. This is the low level streaming API to process " +
+                        "JSON documents of any size or structure in constant memory. \n\n" +
+                        "The events are vectors:                                      \n\n" +
+                        " * `[:start-object]`                                         \n" +
+                        " * `[:end-object]`                                           \n" +
+                        " * `[:start-array]`                                          \n" +
+                        " * `[:end-array]`                                            \n" +
+                        " * `[:key name]`                                             \n" +
+                        " * `[:value v]`   (string, number, boolean or nil)           \n\n" +
+                        "The source is closed when the sequence is fully realized.    \n\n" +
+                        "The source may be a:                                         \n\n" +
+                        " * `java.io.File`, e.g: `(io/file \"/temp/foo.json\")`       \n" +
+                        " * `java.nio.Path`                                           \n" +
+                        " * `java.io.InputStream`                                     \n" +
+                        " * `java.io.Reader`                                          \n\n" +
+                        "*Options:* \n\n" +
+                        "| :decimal b   | If true use BigDecimal for decimal numbers instead " +
+                        "                 of Double. Default is false. |\n" +
+                        "| :encoding e  | e.g :encoding :utf-8, defaults to :utf-8 |")
+                    .examples(
+                        "(let [json (json/write-str {:a [1 2]})]         \n" +
+                        "  (doall (json/event-seq (io/string-reader json))))  ")
+                    .seeAlso(
+                        "json/lazy-seq", "json/slurp", "json/read-str")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                sandboxFunctionCallValidation();
+
+                final VncHashMap options = VncHashMap.ofAll(args.rest());
+
+                final VncJsonStreamReader reader = streamReader("json/event-seq", args.first(), options);
+                final Iterator<VncVal> iter = reader.events();
+
+                return VncLazySeq.ofAll(() -> iter, Nil);
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
     public static VncFunction pretty_print =
         new VncFunction(
                 "json/pretty-print",
@@ -444,6 +667,85 @@ public class JsonFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    private static VncJsonStreamReader streamReader(
+            final String fnName,
+            final VncVal source,
+            final VncHashMap options
+    ) {
+        final VncFunction key_fn = getFunctionOption(options, "key-fn");
+        final VncFunction value_fn = getFunctionOption(options, "value-fn");
+        final boolean toDecimal = isTrueOption(options, "decimal");
+        final String encoding = encoding(options.get(new VncKeyword("encoding")));
+
+        final Function<VncVal,VncVal> keyFN =
+                key_fn == null ? null : (key) -> key_fn.apply(VncList.of(key));
+
+        final BiFunction<VncVal,VncVal,VncVal> valueFN =
+                value_fn == null ? null : (k, v) -> value_fn.apply(VncList.of(k, v));
+
+        final Object in = Coerce.toVncJavaObject(source).getDelegate();
+
+        final Reader rd;
+        try {
+            if (in instanceof File || in instanceof Path) {
+                // Delegate to 'io/file-in-stream' for sandbox validation
+                final InputStream fileIS = Coerce.toVncJavaObject(
+                                                IOFunctionsStreams.io_file_in_stream.applyOf(source),
+                                                InputStream.class);
+                rd = new BufferedReader(new InputStreamReader(fileIS, encoding));
+            }
+            else if (in instanceof InputStream) {
+                rd = new BufferedReader(new InputStreamReader((InputStream)in, encoding));
+            }
+            else if (in instanceof Reader) {
+                rd = (Reader)in;
+            }
+            else {
+                throw new VncException(String.format(
+                        "Function '%s' does not allow %s as source!",
+                        fnName,
+                        Types.getType(source)));
+            }
+        }
+        catch(UnsupportedEncodingException ex) {
+            throw new VncException(String.format(
+                    "Function '%s'. Unsupported encoding '%s'", fnName, encoding), ex);
+        }
+
+        try {
+            return new VncJsonStreamReader(JsonReader.from(rd), rd, keyFN, valueFN, toDecimal);
+        }
+        catch(JsonParserException ex) {
+            try { rd.close(); } catch(Exception ignore) { }
+            throw new VncException(String.format(
+                    "Function '%s'. Failed to parse JSON", fnName), ex);
+        }
+    }
+
+    private static List<Object> jsonPath(final VncVal path) {
+        final List<Object> steps = new ArrayList<>();
+        if (path != Nil) {
+            for(VncVal v : Coerce.toVncSequence(path)) {
+                if (Types.isVncKeyword(v)) {
+                    steps.add(((VncKeyword)v).getSimpleName());
+                }
+                else if (Types.isVncString(v)) {
+                    steps.add(((VncString)v).getValue());
+                }
+                else if (Types.isVncLong(v)) {
+                    steps.add(((VncLong)v).getIntValue());
+                }
+                else {
+                    throw new VncException(String.format(
+                            "Invalid JSON path element of type %s. Expected a " +
+                            "string, a keyword, or an index!",
+                            Types.getType(v)));
+                }
+            }
+        }
+        return steps;
+    }
+
     private static boolean isTrueOption(final VncHashMap options, final String optionName) {
         return VncBoolean.isTrue(options.get(new VncKeyword(optionName),VncBoolean.False));
     }
@@ -482,6 +784,9 @@ public class JsonFunctions {
                     .add(spit)
                     .add(read_str)
                     .add(slurp)
+                    .add(reducible_lines)
+                    .add(lazy_seq)
+                    .add(event_seq)
                     .add(pretty_print)
                     .toMap();
 }
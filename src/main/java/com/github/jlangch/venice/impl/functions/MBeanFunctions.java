@@ -62,6 +62,7 @@ import javax.management.remote.JMXServiceURL;
 import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.javainterop.JavaInteropUtil;
 import com.github.jlangch.venice.impl.thread.ThreadContext;
+import com.github.jlangch.venice.impl.threadpool.ExecutorMetrics;
 import com.github.jlangch.venice.impl.types.Constants;
 import com.github.jlangch.venice.impl.types.IDeref;
 import com.github.jlangch.venice.impl.types.VncBoolean;
@@ -80,6 +81,8 @@ import com.github.jlangch.venice.impl.util.ArityExceptions;
 import com.github.jlangch.venice.impl.util.StringUtil;
 import com.github.jlangch.venice.impl.util.SymbolMapBuilder;
 import com.github.jlangch.venice.impl.util.mbean.GenericMBean;
+import com.github.jlangch.venice.impl.util.mbean.Profiler;
+import com.github.jlangch.venice.impl.util.mbean.ThreadPoolMetrics;
 
 public class MBeanFunctions {
 
@@ -1160,6 +1163,91 @@ public class MBeanFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    public static VncFunction mbean_profiler_mxbean =
+        new VncFunction(
+                "mbean/profiler-mxbean",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(mbean/profiler-mxbean)")
+                    .doc(
+                        "Returns an MXBean publishing the Venice profiler data. The " +
+                        "MXBean has the attributes `Enabled`, `FunctionCount`, `Functions` " +
+                        "(count, total time, self time, max, p50, p99, and p999 latency " +
+                        "per function), and `Report`, and the operation `reset`.\n\n" +
+                        "Register the MXBean with the platform MBean server to make the " +
+                        "profiler data available to JMX clients. See `prof` to turn the " +
+                        "profiler on and off.")
+                    .examples(
+                        "(do                                                           \n" +
+                        "  (let [name (mbean/object-name \"venice:type=Profiler\")]   \n" +
+                        "    (mbean/register (mbean/profiler-mxbean) name)             \n" +
+                        "    (prof :on)                                                \n" +
+                        "    (dorun 100 (+ 1 2))                                       \n" +
+                        "    (prof :off)                                               \n" +
+                        "    (println (mbean/attribute name :Report))                  \n" +
+                        "    (mbean/unregister name)))                                 ")
+                    .seeAlso(
+                        "prof",
+                        "mbean/register",
+                        "mbean/platform-mbean-server")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 0);
+
+                return new VncJavaObject(new Profiler(ThreadContext.getMeterRegistry()));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction mbean_executor_mxbean =
+        new VncFunction(
+                "mbean/executor-mxbean",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(mbean/executor-mxbean pool-name)")
+                    .doc(
+                        "Returns an MXBean publishing the task metrics of a Venice " +
+                        "thread pool like \"venice-future-pool\". The MXBean has the " +
+                        "attributes `PoolName`, `SubmittedTaskCount`, `CompletedTaskCount`, " +
+                        "`FailedTaskCount`, `RejectedTaskCount`, `QueuedTaskCount`, " +
+                        "`RunningTaskCount`, `MaxQueuedTaskCount`, `MaxRunningTaskCount`, " +
+                        "the p50, p99, p999, and max queue wait (`QueueWaitP50Micros`, ...), " +
+                        "and the p50, p99, p999, and max execution time " +
+                        "(`ExecutionP50Micros`, ...), and the operation `reset`.\n\n" +
+                        "Register the MXBean with the platform MBean server to make the " +
+                        "metrics available to JMX clients. The MXBean can be registered " +
+                        "before the pool has been started. See `executor-metrics` for " +
+                        "the pool names.")
+                    .examples(
+                        "(do                                                                   \n" +
+                        "  (let [name (mbean/object-name \"venice:type=ThreadPool,name=futures\")] \n" +
+                        "    (mbean/register (mbean/executor-mxbean \"venice-future-pool\") name) \n" +
+                        "    @(future #(+ 1 2))                                                \n" +
+                        "    (println (mbean/attribute name :CompletedTaskCount))              \n" +
+                        "    (mbean/unregister name)))                                         ")
+                    .seeAlso(
+                        "executor-metrics",
+                        "mbean/register",
+                        "mbean/platform-mbean-server")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                final String poolName = Coerce.toVncString(args.first()).getValue();
+
+                return new VncJavaObject(new ThreadPoolMetrics(ExecutorMetrics.of(poolName)));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
 
 
     private static VncMap mapMBeanParameterInfo(final MBeanParameterInfo[] paramInfo) {
@@ -1213,6 +1301,8 @@ public class MBeanFunctions {
                     .add(mbean_operating_system_mxbean)
                     .add(mbean_runtime_mxbean)
                     .add(mbean_memory_mxbean)
+                    .add(mbean_profiler_mxbean)
+                    .add(mbean_executor_mxbean)
 
                     // JMX
                     .add(mbean_create_jmx_connection)
@@ -41,12 +41,15 @@ import com.github.jlangch.venice.impl.types.VncFunction;
 import com.github.jlangch.venice.impl.types.VncInteger;
 import com.github.jlangch.venice.impl.types.VncLong;
 import com.github.jlangch.venice.impl.types.VncNumber;
+import com.github.jlangch.venice.impl.types.VncNumericFunction;
 import com.github.jlangch.venice.impl.types.VncString;
 import com.github.jlangch.venice.impl.types.VncSymbol;
 import com.github.jlangch.venice.impl.types.VncVal;
 import com.github.jlangch.venice.impl.types.collections.VncLazySeq;
 import com.github.jlangch.venice.impl.types.collections.VncList;
+import com.github.jlangch.venice.impl.types.collections.VncRange;
 import com.github.jlangch.venice.impl.types.collections.VncSequence;
+import com.github.jlangch.venice.impl.types.collections.VncTinyList;
 import com.github.jlangch.venice.impl.types.collections.VncVector;
 import com.github.jlangch.venice.impl.types.util.Coerce;
 import com.github.jlangch.venice.impl.types.util.Types;
@@ -57,7 +60,7 @@ import com.github.jlangch.venice.impl.util.SymbolMapBuilder;
 public class MathFunctions {
 
     public static VncFunction add =
-        new VncFunction(
+        new VncNumericFunction(
                 "+",
                 VncFunction
                     .meta()
@@ -81,7 +84,7 @@ public class MathFunctions {
                 final int arity = args.size();
 
                 if (arity == 0) {
-                    return new VncLong(0L);
+                    return VncLong.of(0L);
                 }
 
                 VncNumber n = validateNumber("+", args.first());
@@ -98,11 +101,21 @@ public class MathFunctions {
                 }
             }
 
+            @Override
+            protected VncVal applyLong(final long x, final long y) {
+                return VncLong.of(x + y);
+            }
+
+            @Override
+            protected VncVal applyDouble(final double x, final double y) {
+                return new VncDouble(x + y);
+            }
+
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
     public static VncFunction subtract =
-        new VncFunction(
+        new VncNumericFunction(
                 "-",
                 VncFunction
                     .meta()
@@ -126,7 +139,7 @@ public class MathFunctions {
                 final int arity = args.size();
 
                 if (arity == 0) {
-                    return new VncLong(0L);
+                    return VncLong.of(0L);
                 }
 
                 VncNumber n = validateNumber("-", args.first());
@@ -143,11 +156,21 @@ public class MathFunctions {
                 }
             }
 
+            @Override
+            protected VncVal applyLong(final long x, final long y) {
+                return VncLong.of(x - y);
+            }
+
+            @Override
+            protected VncVal applyDouble(final double x, final double y) {
+                return new VncDouble(x - y);
+            }
+
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
     public static VncFunction multiply =
-        new VncFunction(
+        new VncNumericFunction(
                 "*",
                 VncFunction
                     .meta()
@@ -171,7 +194,7 @@ public class MathFunctions {
                 final int arity = args.size();
 
                 if (arity == 0) {
-                    return new VncLong(1L);
+                    return VncLong.of(1L);
                 }
 
                 VncNumber n = validateNumber("*", args.first());
@@ -188,6 +211,16 @@ public class MathFunctions {
                 }
             }
 
+            @Override
+            protected VncVal applyLong(final long x, final long y) {
+                return VncLong.of(x * y);
+            }
+
+            @Override
+            protected VncVal applyDouble(final double x, final double y) {
+                return new VncDouble(x * y);
+            }
+
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
@@ -2090,7 +2123,10 @@ public class MathFunctions {
                         "Returns a collection of numbers from start (inclusive) to end " +
                         "(exclusive), by step, where start defaults to 0 and step defaults to 1. " +
                         "When start is equal to end, returns empty list. Without args returns a " +
-                        "lazy sequence generating numbers starting with 0 and incrementing by 1.")
+                        "lazy sequence generating numbers starting with 0 and incrementing by 1.¶" +
+                        "Ranges of long or double numbers compute their items on demand. " +
+                        "`count`, `nth`, and `last` do not realize the items and " +
+                        "`(reduce + (range n))` sums up the numbers without creating a list.")
                     .examples(
                         "(range 10)",
                         "(range 10 20)",
@@ -2142,17 +2178,50 @@ public class MathFunctions {
                     throw new VncException("range: step value must be a number");
                 }
 
-                final List<VncVal> values = new ArrayList<>();
-
                 if (VncBoolean.isTrue(zero_Q.apply(VncList.of(step)))) {
                     throw new VncException("range: a step value must not be 0");
                 }
 
-                if (VncBoolean.isTrue(MathFunctions.pos_Q.apply(VncList.of(step)))) {
+                final boolean positiveStep = VncBoolean.isTrue(MathFunctions.pos_Q.apply(VncList.of(step)));
+
+                if (positiveStep) {
                     if (VncBoolean.isTrue(CoreFunctions.lt.apply(VncList.of(end, start)))) {
                         throw new VncException("range positive step: end must not be lower than start");
                     }
+                }
+                else {
+                    if (VncBoolean.isTrue(CoreFunctions.gt.apply(VncList.of(end, start)))) {
+                        throw new VncException("range negative step: end must not be greater than start");
+                    }
+                }
+
+                VncRange range = null;
+                if (Types.isVncLong(start) && Types.isVncLong(end) && Types.isVncLong(step)) {
+                    range = VncRange.of(
+                                ((VncLong)start).getValue(),
+                                ((VncLong)end).getValue(),
+                                ((VncLong)step).getValue());
+                }
+                else if (Types.isVncDouble(start)
+                            && (Types.isVncDouble(end) || Types.isVncLong(end))
+                            && (Types.isVncDouble(step) || Types.isVncLong(step))
+                ) {
+                    range = VncRange.of(
+                                ((VncDouble)start).getValue(),
+                                ((VncNumber)end).toJavaDouble(),
+                                ((VncNumber)step).toJavaDouble());
+                }
+
+                if (range != null) {
+                    // tiny ranges are cheaper as tiny lists
+                    return range.size() <= VncTinyList.MAX_ELEMENTS
+                            ? VncList.ofList(range.getJavaList())
+                            : range;
+                }
+
+                final List<VncVal> values = new ArrayList<>();
 
+                if (positiveStep) {
                     VncVal val = start;
                     while(VncBoolean.isTrue(CoreFunctions.lt.apply(VncList.of(val, end)))) {
                         values.add(val);
@@ -2160,10 +2229,6 @@ public class MathFunctions {
                     }
                 }
                 else {
-                    if (VncBoolean.isTrue(CoreFunctions.gt.apply(VncList.of(end, start)))) {
-                        throw new VncException("range negative step: end must not be greater than start");
-                    }
-
                     VncVal val = start;
                     while(VncBoolean.isTrue(CoreFunctions.gt.apply(VncList.of(val, end)))) {
                         values.add(val);
@@ -0,0 +1,594 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.functions;
+
+import java.util.Map;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.types.VncBoolean;
+import com.github.jlangch.venice.impl.types.VncFunction;
+import com.github.jlangch.venice.impl.types.VncInteger;
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncMatrix;
+import com.github.jlangch.venice.impl.types.VncNumber;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncHashMap;
+import com.github.jlangch.venice.impl.types.collections.VncList;
+import com.github.jlangch.venice.impl.types.collections.VncSequence;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
+import com.github.jlangch.venice.impl.types.util.Coerce;
+import com.github.jlangch.venice.impl.types.util.Types;
+import com.github.jlangch.venice.impl.util.ArityExceptions;
+import com.github.jlangch.venice.impl.util.SymbolMapBuilder;
+import com.github.jlangch.venice.impl.util.matrix.DenseMatrix;
+import com.github.jlangch.venice.impl.util.matrix.DenseMatrix.ElementOp;
+
+
+public class MatrixFunctions {
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Dense matrix
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static VncFunction dense =
+        new VncFunction(
+                "matrix/dense",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(matrix/dense m)",
+                        "(matrix/dense m type)",
+                        "(matrix/dense rows cols)",
+                        "(matrix/dense rows cols type)")
+                    .doc(
+                        "Creates a dense matrix from a matrix m given as a vector of " +
+                        "vectors or creates a dense matrix with the given number of " +
+                        "rows and columns initialized to zero.\n\n" +
+                        "A dense matrix stores its elements in a flat row-major " +
+                        "`long` or `double` array. The element type is either " +
+                        "`:long` or `:double`. If no type is given, a matrix with " +
+                        "long or integer elements only is a long matrix, any other " +
+                        "matrix a double matrix. A matrix of zeros defaults to " +
+                        "`:double`.\n\n" +
+                        "Dense matrices are immutable values. Slices and transposed " +
+                        "matrices are views that share the elements with the matrix " +
+                        "they have been derived from.")
+                    .examples(
+                        "(matrix/dense [[1 2 3] [4 5 6]])",
+                        "(matrix/dense [[1 2 3] [4 5 6]] :double)",
+                        "(matrix/dense 2 3)",
+                        "(matrix/dense 2 3 :long)")
+                    .seeAlso(
+                        "matrix/dense?", "matrix/dense-to-vector",
+                        "matrix/multiply", "matrix/add", "matrix/slice")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1, 2, 3);
+
+                final VncVal first = args.first();
+
+                if (Types.isVncLong(first) || Types.isVncInteger(first)) {
+                    ArityExceptions.assertArity(this, args, 2, 3);
+
+                    final int rows = Coerce.toVncLong(first).getIntValue();
+                    final int cols = Coerce.toVncLong(args.second()).getIntValue();
+                    final Boolean longType = args.size() == 3
+                                                ? elementType(args.third())
+                                                : Boolean.FALSE;
+                    try {
+                        return new VncMatrix(DenseMatrix.zeros(rows, cols, longType));
+                    }
+                    catch(IllegalArgumentException ex) {
+                        throw new VncException(ex.getMessage());
+                    }
+                }
+                else {
+                    ArityExceptions.assertArity(this, args, 1, 2);
+
+                    final Boolean longType = args.size() == 2 ? elementType(args.second()) : null;
+                    if (Types.isVncMatrix(first)) {
+                        final VncMatrix m = (VncMatrix)first;
+                        if (longType == null || longType == m.getMatrix().isLong()) {
+                            return m;
+                        }
+                        else {
+                            return VncMatrix.of(m.toVncVector(), longType);
+                        }
+                    }
+                    else if (Types.isVncSequence(first)) {
+                        return VncMatrix.of((VncSequence)first, longType);
+                    }
+                    else {
+                        throw new VncException(String.format(
+                                "Function 'matrix/dense' does not allow %s as matrix",
+                                Types.getType(first)));
+                    }
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction dense_Q =
+        new VncFunction(
+                "matrix/dense?",
+                VncFunction
+                    .meta()
+                    .arglists("(matrix/dense? x)")
+                    .doc("Returns true if x is a dense matrix else false")
+                    .examples(
+                        "(matrix/dense? (matrix/dense [[1 2] [3 4]]))",
+                        "(matrix/dense? [[1 2] [3 4]])")
+                    .seeAlso("matrix/dense")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                return VncBoolean.of(Types.isVncMatrix(args.first()));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction dense_to_vector =
+        new VncFunction(
+                "matrix/dense-to-vector",
+                VncFunction
+                    .meta()
+                    .arglists("(matrix/dense-to-vector m)")
+                    .doc("Converts a dense matrix to a vector of row vectors")
+                    .examples(
+                        "(matrix/dense-to-vector (matrix/dense [[1 2] [3 4]]))")
+                    .seeAlso("matrix/dense")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                return toVncMatrix(args.first(), this).toVncVector();
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction dense_shape =
+        new VncFunction(
+                "matrix/dense-shape",
+                VncFunction
+                    .meta()
+                    .arglists("(matrix/dense-shape m)")
+                    .doc(
+                        "Returns the shape `[rows columns]` of a dense matrix")
+                    .examples(
+                        "(matrix/dense-shape (matrix/dense [[1 2 3] [4 5 6]]))")
+                    .seeAlso("matrix/dense")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                final DenseMatrix m = toVncMatrix(args.first(), this).getMatrix();
+                return VncVector.of(VncLong.of(m.rows()), VncLong.of(m.cols()));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction dense_get =
+        new VncFunction(
+                "matrix/dense-get",
+                VncFunction
+                    .meta()
+                    .arglists("(matrix/dense-get m row col)")
+                    .doc("Returns the element at the row and column of a dense matrix")
+                    .examples(
+                        "(matrix/dense-get (matrix/dense [[1 2 3] [4 5 6]]) 1 2)")
+                    .seeAlso("matrix/dense", "matrix/dense-assoc")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 3);
+
+                final VncMatrix m = toVncMatrix(args.first(), this);
+                final int row = Coerce.toVncLong(args.second()).getIntValue();
+                final int col = Coerce.toVncLong(args.third()).getIntValue();
+
+                try {
+                    return m.get(row, col);
+                }
+                catch(IndexOutOfBoundsException ex) {
+                    throw new VncException(ex.getMessage());
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction dense_assoc =
+        new VncFunction(
+                "matrix/dense-assoc",
+                VncFunction
+                    .meta()
+                    .arglists("(matrix/dense-assoc m row col val)")
+                    .doc(
+                        "Returns a copy of the dense matrix with the element at the row " +
+                        "and column replaced. Assigning a double to a long matrix " +
+                        "returns a double matrix.")
+                    .examples(
+                        "(matrix/dense-assoc (matrix/dense [[1 2 3] [4 5 6]]) 1 2 9)")
+                    .seeAlso("matrix/dense", "matrix/dense-get")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 4);
+
+                final DenseMatrix m = toVncMatrix(args.first(), this).getMatrix();
+                final int row = Coerce.toVncLong(args.second()).getIntValue();
+                final int col = Coerce.toVncLong(args.third()).getIntValue();
+                final VncNumber val = Coerce.toVncNumber(args.fourth());
+
+                try {
+                    return new VncMatrix(
+                                isLongScalar(val)
+                                    ? m.assocLong(row, col, val.toJavaLong())
+                                    : m.assocDouble(row, col, val.toJavaDouble()));
+                }
+                catch(IndexOutOfBoundsException ex) {
+                    throw new VncException(ex.getMessage());
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction dense_row =
+        new VncFunction(
+                "matrix/dense-row",
+                VncFunction
+                    .meta()
+                    .arglists("(matrix/dense-row m n)")
+                    .doc("Returns the row n of a dense matrix as a vector")
+                    .examples(
+                        "(matrix/dense-row (matrix/dense [[1 2 3] [4 5 6]]) 1)")
+                    .seeAlso("matrix/dense", "matrix/dense-column")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 2);
+
+                final VncMatrix m = toVncMatrix(args.first(), this);
+                final int row = Coerce.toVncLong(args.second()).getIntValue();
+                if (row < 0 || row >= m.getMatrix().rows()) {
+                    throw new VncException("Invalid row index " + row);
+                }
+
+                return m.rowVector(row);
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction dense_column =
+        new VncFunction(
+                "matrix/dense-column",
+                VncFunction
+                    .meta()
+                    .arglists("(matrix/dense-column m n)")
+                    .doc("Returns the column n of a dense matrix as a vector")
+                    .examples(
+                        "(matrix/dense-column (matrix/dense [[1 2 3] [4 5 6]]) 1)")
+                    .seeAlso("matrix/dense", "matrix/dense-row")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 2);
+
+                final VncMatrix m = toVncMatrix(args.first(), this);
+                final int col = Coerce.toVncLong(args.second()).getIntValue();
+                if (col < 0 || col >= m.getMatrix().cols()) {
+                    throw new VncException("Invalid column index " + col);
+                }
+
+                return m.columnVector(col);
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction dense_transpose =
+        new VncFunction(
+                "matrix/dense-transpose",
+                VncFunction
+                    .meta()
+                    .arglists("(matrix/dense-transpose m)")
+                    .doc(
+                        "Transposes a dense matrix. The transposed matrix is a view " +
+                        "on the elements of m, the elements are not copied.")
+                    .examples(
+                        "(matrix/dense-transpose (matrix/dense [[1 2 3] [4 5 6]]))")
+                    .seeAlso("matrix/dense", "matrix/transpose")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1);
+
+                return new VncMatrix(toDenseMatrix(args.first(), this).transpose());
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction slice =
+        new VncFunction(
+                "matrix/slice",
+                VncFunction
+                    .meta()
+                    .arglists("(matrix/slice m row-start row-end col-start col-end)")
+                    .doc(
+                        "Returns the rectangular region `[row-start, row-end)` x " +
+                        "`[col-start, col-end)` of the matrix m as dense matrix. " +
+                        "Slicing a dense matrix returns a view that shares the " +
+                        "elements with m, the elements are not copied.")
+                    .examples(
+                        "(-> (matrix/dense [[1 2 3] [4 5 6] [7 8 9]]) \n" +
+                        "    (matrix/slice 1 3 0 2))")
+                    .seeAlso("matrix/dense")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 5);
+
+                final DenseMatrix m = toDenseMatrix(args.first(), this);
+
+                try {
+                    return new VncMatrix(
+                                m.slice(
+                                    Coerce.toVncLong(args.second()).getIntValue(),
+                                    Coerce.toVncLong(args.third()).getIntValue(),
+                                    Coerce.toVncLong(args.fourth()).getIntValue(),
+                                    Coerce.toVncLong(args.nth(4)).getIntValue()));
+                }
+                catch(IndexOutOfBoundsException ex) {
+                    throw new VncException(ex.getMessage());
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction add = elementwise(
+            "matrix/add",
+            ElementOp.ADD,
+            "Adds the matrices x and y element-wise or adds the number y to " +
+            "each element of the matrix x.",
+            "(matrix/add (matrix/dense [[1 2] [3 4]]) [[10 20] [30 40]])",
+            "(matrix/add (matrix/dense [[1 2] [3 4]]) 0.5)");
+
+    public static VncFunction sub = elementwise(
+            "matrix/sub",
+            ElementOp.SUB,
+            "Subtracts the matrix y element-wise from the matrix x or subtracts " +
+            "the number y from each element of the matrix x.",
+            "(matrix/sub (matrix/dense [[10 20] [30 40]]) [[1 2] [3 4]])",
+            "(matrix/sub (matrix/dense [[1 2] [3 4]]) 1)");
+
+    public static VncFunction mul = elementwise(
+            "matrix/mul",
+            ElementOp.MUL,
+            "Multiplies the matrices x and y element-wise (Hadamard product) " +
+            "or multiplies each element of the matrix x with the number y.",
+            "(matrix/mul (matrix/dense [[1 2] [3 4]]) [[1 2] [3 4]])",
+            "(matrix/mul (matrix/dense [[1 2] [3 4]]) 2.5)");
+
+    public static VncFunction div = elementwise(
+            "matrix/div",
+            ElementOp.DIV,
+            "Divides the matrix x element-wise by the matrix y or divides each " +
+            "element of the matrix x by the number y. Dividing long matrices " +
+            "is an integer division.",
+            "(matrix/div (matrix/dense [[10 20] [30 40]]) [[2 4] [5 8]])",
+            "(matrix/div (matrix/dense [[1 2] [3 4]]) 2.0)");
+
+    public static VncFunction multiply =
+        new VncFunction(
+                "matrix/multiply",
+                VncFunction
+                    .meta()
+                    .arglists("(matrix/multiply x y & options)")
+                    .doc(
+                        "Multiplies the matrix x with the matrix y and returns the " +
+                        "product as dense matrix. The matrices may be dense matrices " +
+                        "or vectors of vectors. The product of two long matrices is " +
+                        "a long matrix, else a double matrix.\n\n" +
+                        "The multiplication works on cache sized blocks of the " +
+                        "matrices.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :parallel b | If true compute the row blocks in parallel " +
+                        "                on the ForkJoin common pool. Defaults to false. |")
+                    .examples(
+                        "(matrix/multiply [[1 2 3] [4 5 6]] [[1 2] [3 4] [5 6]])",
+                        "(let [m (matrix/dense 500 500)]                \n" +
+                        "  (matrix/dense-shape                          \n" +
+                        "    (matrix/multiply m m :parallel true)))     ")
+                    .seeAlso("matrix/dense", "matrix/mul")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 2);
+
+                final DenseMatrix x = toDenseMatrix(args.first(), this);
+                final DenseMatrix y = toDenseMatrix(args.second(), this);
+
+                final VncHashMap options = VncHashMap.ofAll(args.slice(2));
+                final boolean parallel = VncBoolean.isTrue(
+                                            options.get(
+                                                new VncKeyword("parallel"),
+                                                VncBoolean.False));
+
+                try {
+                    return new VncMatrix(x.multiply(y, parallel));
+                }
+                catch(IllegalArgumentException ex) {
+                    throw new VncException(ex.getMessage());
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Util
+    ///////////////////////////////////////////////////////////////////////////
+
+    private static VncFunction elementwise(
+            final String name,
+            final ElementOp op,
+            final String doc,
+            final String... examples
+    ) {
+        return new VncFunction(
+                name,
+                VncFunction
+                    .meta()
+                    .arglists("(" + name + " x y)")
+                    .doc(
+                        doc + " Returns a dense matrix.\n\n" +
+                        "The matrix x may be a dense matrix or a vector of " +
+                        "vectors, y a matrix or a number. The result is a long " +
+                        "matrix if both operands are long, else a double matrix.")
+                    .examples(examples)
+                    .seeAlso("matrix/add", "matrix/sub", "matrix/mul", "matrix/div")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 2);
+
+                final DenseMatrix x = toDenseMatrix(args.first(), this);
+                final VncVal y = args.second();
+
+                try {
+                    if (Types.isVncNumber(y)) {
+                        return new VncMatrix(
+                                    isLongScalar(y)
+                                        ? x.elementwise(op, ((VncNumber)y).toJavaLong())
+                                        : x.elementwise(op, ((VncNumber)y).toJavaDouble()));
+                    }
+                    else {
+                        return new VncMatrix(x.elementwise(op, toDenseMatrix(y, this)));
+                    }
+                }
+                catch(IllegalArgumentException ex) {
+                    throw new VncException(ex.getMessage());
+                }
+                catch(ArithmeticException ex) {
+                    throw new VncException(
+                            String.format("Function '%s': %s", name, ex.getMessage()));
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+    }
+
+    private static VncMatrix toVncMatrix(final VncVal val, final VncFunction fn) {
+        if (Types.isVncMatrix(val)) {
+            return (VncMatrix)val;
+        }
+        else {
+            throw new VncException(String.format(
+                    "Function '%s' requires a dense matrix, got a %s",
+                    fn.getQualifiedName(),
+                    Types.getType(val)));
+        }
+    }
+
+    private static DenseMatrix toDenseMatrix(final VncVal val, final VncFunction fn) {
+        if (Types.isVncMatrix(val)) {
+            return ((VncMatrix)val).getMatrix();
+        }
+        else if (Types.isVncSequence(val)) {
+            return VncMatrix.of((VncSequence)val, null).getMatrix();
+        }
+        else {
+            throw new VncException(String.format(
+                    "Function '%s' requires a dense matrix or a vector of vectors, got a %s",
+                    fn.getQualifiedName(),
+                    Types.getType(val)));
+        }
+    }
+
+    private static boolean isLongScalar(final VncVal val) {
+        return val instanceof VncLong || val instanceof VncInteger;
+    }
+
+    private static Boolean elementType(final VncVal type) {
+        final String name = Coerce.toVncKeyword(type).getSimpleName();
+        switch(name) {
+            case "long":   return Boolean.TRUE;
+            case "double": return Boolean.FALSE;
+            default:
+                throw new VncException(String.format(
+                        "Invalid matrix element type :%s. Use :long or :double",
+                        name));
+        }
+    }
+
+
+    ///////////////////////////////////////////////////////////////////////////
+    // types_ns is namespace of type functions
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static final Map<VncVal, VncVal> ns =
+            new SymbolMapBuilder()
+                    .add(dense)
+                    .add(dense_Q)
+                    .add(dense_to_vector)
+                    .add(dense_shape)
+                    .add(dense_get)
+                    .add(dense_assoc)
+                    .add(dense_row)
+                    .add(dense_column)
+                    .add(dense_transpose)
+                    .add(slice)
+                    .add(add)
+                    .add(sub)
+                    .add(mul)
+                    .add(div)
+                    .add(multiply)
+                    .toMap();
+}
@@ -27,22 +27,32 @@ import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import javax.imageio.ImageIO;
+
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
 
 import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.thread.ThreadContext;
+import com.github.jlangch.venice.impl.types.IVncFunction;
+import com.github.jlangch.venice.impl.types.IVncReducible;
 import com.github.jlangch.venice.impl.types.VncBoolean;
 import com.github.jlangch.venice.impl.types.VncByteBuffer;
 import com.github.jlangch.venice.impl.types.VncDouble;
@@ -57,17 +67,24 @@ import com.github.jlangch.venice.impl.types.collections.VncHashMap;
 import com.github.jlangch.venice.impl.types.collections.VncList;
 import com.github.jlangch.venice.impl.types.collections.VncMap;
 import com.github.jlangch.venice.impl.types.collections.VncMapEntry;
+import com.github.jlangch.venice.impl.types.collections.VncSequence;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
 import com.github.jlangch.venice.impl.types.util.Coerce;
 import com.github.jlangch.venice.impl.types.util.Types;
 import com.github.jlangch.venice.impl.util.ArityExceptions;
+import com.github.jlangch.venice.impl.util.MeterRegistry;
 import com.github.jlangch.venice.impl.util.StringUtil;
 import com.github.jlangch.venice.impl.util.SymbolMapBuilder;
 import com.github.jlangch.venice.impl.util.io.ClassPathResource;
 import com.github.jlangch.venice.impl.util.kira.KiraTemplateEvaluator;
+import com.github.jlangch.venice.impl.util.loadpath.Access;
 import com.github.jlangch.venice.impl.util.loadpath.ILoadPaths;
 import com.github.jlangch.venice.impl.util.reflect.ReflectionAccessor;
 import com.github.jlangch.venice.util.pdf.HtmlColor;
+import com.github.jlangch.venice.util.pdf.PdfBatchRenderer;
+import com.github.jlangch.venice.util.pdf.PdfRasterizer;
 import com.github.jlangch.venice.util.pdf.PdfRenderer;
+import com.github.jlangch.venice.util.pdf.PdfRendererPool;
 import com.github.jlangch.venice.util.pdf.PdfTextStripper;
 import com.github.jlangch.venice.util.pdf.PdfUrlExtractor;
 import com.github.jlangch.venice.util.pdf.PdfUrlExtractor.Url;
@@ -126,7 +143,7 @@ public class PdfFunctions {
                         "            :base-url \"classpath:/\"\n" +
                         "            :resources {\"/chart_1.png\" (chart-create :2018) \n" +
                         "                        \"/chart_2.png\" (chart-create :2019) })")
-                    .seeAlso("pdf/text-to-pdf")
+                    .seeAlso("pdf/render-batch", "pdf/text-to-pdf")
                     .build()
         ) {
             @Override
@@ -158,6 +175,142 @@ public class PdfFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    public static VncFunction pdf_render_batch =
+        new VncFunction(
+                "pdf/render-batch",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(pdf/render-batch xhtmls & options)")
+                    .doc(
+                        "Renders many PDFs concurrently. xhtmls is a sequence or a " +
+                        "reducible of XHTML strings.\n\n" +
+                        "The documents are rendered by a pool of reusable renderers " +
+                        "on `:parallelism` worker threads. Fonts passed with the " +
+                        "`:fonts` option are loaded once and shared by all " +
+                        "renderers. The documents refer to these fonts by their " +
+                        "family name and do not need *@font-face* rules.\n\n" +
+                        "Without a handler returns a vector of the PDFs (bytebufs) " +
+                        "in the order of the documents. With a handler each PDF is " +
+                        "passed together with the document's 0-based index to the " +
+                        "handler as soon as it has been rendered and the number of " +
+                        "rendered documents is returned. The handler is called in the " +
+                        "caller's thread in the order of the documents. At most twice " +
+                        "as many documents as there are workers are in flight, so " +
+                        "large batches render in bounded memory with a handler.\n\n" +
+                        "*Options:* \n\n" +
+                        "| :base-url url     | a base url for resources . E.g.: \"classpath:/\" |\n" +
+                        "| :resources resmap | a resource map for dynamic resources shared by all documents |\n" +
+                        "| :fonts fonts      | a list of TTF or OTF fonts, classpath resources like \"classpath:/fonts/OpenSans-Regular.ttf\" or file paths |\n" +
+                        "| :parallelism n    | the number of worker threads, defaults to the number of CPUs |\n" +
+                        "| :handler f       | a two argument function `(fn [index pdf] ...)` that receives the rendered PDFs |\n")
+                    .examples(
+                        "(do                                                                   \n" +
+                        "  (load-module :kira)                                                 \n" +
+                        "                                                                      \n" +
+                        "  (def invoice (kira/fn [id]                                          \n" +
+                        "    \"\"\"<?xml version=\"1.0\" encoding=\"UTF-8\"?>                    \n" +
+                        "    <html lang=\"en\" xmlns=\"http://www.w3.org/1999/xhtml\">           \n" +
+                        "      <body style=\"font-family: 'Open Sans'\">                         \n" +
+                        "        <div>Invoice <%= id %></div>                                  \n" +
+                        "      </body>                                                         \n" +
+                        "    </html>                                                           \n" +
+                        "    \"\"\"))                                                              \n" +
+                        "                                                                      \n" +
+                        "  (pdf/render-batch                                                   \n" +
+                        "    (map invoice (range 1 1001))                                      \n" +
+                        "    :fonts [\"classpath:/com/github/jlangch/venice/fonts/OpenSans-Regular.ttf\"] \n" +
+                        "    :handler (fn [idx pdf]                                            \n" +
+                        "               (io/spit (str \"invoice-\" (inc idx) \".pdf\") pdf))))")
+                    .seeAlso("pdf/render")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                sandboxFunctionCallValidation();
+
+                final VncVal xhtmls = args.first();
+
+                final VncMap options = VncHashMap.ofAll(args.slice(1));
+                final VncVal baseUrl = options.get(new VncKeyword("base-url"));
+                final VncVal resources = options.get(new VncKeyword("resources"));
+                final VncVal fonts = options.get(new VncKeyword("fonts"));
+                final VncVal handler = options.get(new VncKeyword("handler"));
+                final int parallelism = getIntOption(
+                                            "parallelism",
+                                            options,
+                                            Runtime.getRuntime().availableProcessors());
+
+                // undocumented options
+                // be careful with these options, know what you are doing!
+                final int dotsPerPixel = getIntOption("dots-per-pixel", options, PdfRenderer.DOTS_PER_PIXEL);
+                final float dotsPerPoint = getFloatOption("dots-per-point", options, PdfRenderer.DOTS_PER_POINT);
+
+                if (parallelism < 1) {
+                    throw new VncException(
+                            "pdf/render-batch: The parallelism must be a positive number!");
+                }
+
+                final IVncFunction handlerFn = handler == Nil ? null : Coerce.toIVncFunction(handler);
+                if (handlerFn != null) {
+                    handlerFn.sandboxFunctionCallValidation();
+                }
+
+                final MeterRegistry meterRegistry = ThreadContext.getMeterRegistry();
+
+                final List<VncVal> pdfs = new ArrayList<>();
+
+                final PdfRendererPool pool = new PdfRendererPool(
+                                                    fonts == Nil ? null : mapFonts(Coerce.toVncSequence(fonts)),
+                                                    dotsPerPixel,
+                                                    dotsPerPoint,
+                                                    parallelism);
+
+                try (PdfBatchRenderer batch = new PdfBatchRenderer(
+                                                    pool,
+                                                    baseUrl == Nil ? null : Coerce.toVncString(baseUrl).getValue(),
+                                                    resources == Nil ? null : mapResources(Coerce.toVncMap(resources)),
+                                                    parallelism,
+                                                    (idx, pdf) -> {
+                                                        if (handlerFn == null) {
+                                                            pdfs.add(new VncByteBuffer(pdf));
+                                                        }
+                                                        else {
+                                                            VncFunction.applyWithMeter(
+                                                                handlerFn,
+                                                                VncList.of(new VncLong(idx), new VncByteBuffer(pdf)),
+                                                                meterRegistry);
+                                                        }
+                                                    })
+                ) {
+                    if (xhtmls == Nil) {
+                        // ok nothing to render
+                    }
+                    else if (Types.isIVncReducible(xhtmls)) {
+                        final Function<VncList,VncVal> step = a -> {
+                            batch.render(Coerce.toVncString(a.second()).getValue());
+                            return Nil;
+                        };
+
+                        ((IVncReducible)xhtmls).reduce(VncFunction.of(step), Nil, meterRegistry);
+                    }
+                    else {
+                        for (VncVal xhtml : Coerce.toVncSequence(xhtmls)) {
+                            batch.render(Coerce.toVncString(xhtml).getValue());
+                        }
+                    }
+
+                    final int count = batch.finish();
+
+                    return handlerFn == null ? VncVector.ofList(pdfs) : new VncLong(count);
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
     public static VncFunction pdf_watermark =
         new VncFunction(
                 "pdf/watermark",
@@ -719,7 +872,7 @@ public class PdfFunctions {
                         "The passed PDF pdf is a bytebuf. Returns the image buffer as a" +
                         ":java.awt.image.BufferedImage that can be further " +
                         "processed or saved with the  `:images` module. ")
-                    .seeAlso("pdf/render", "pdf/to-text")
+                    .seeAlso("pdf/pages-to-images", "pdf/render", "pdf/to-text")
                     .build()
         ) {
             @Override
@@ -746,11 +899,11 @@ public class PdfFunctions {
                     }
                 }
 
-                try(PDDocument doc = Loader.loadPDF(pdf.array())) {
+                try(PDDocument doc = Loader.loadPDF(new RandomAccessReadBuffer(pdf.duplicate()))) {
                     final PDFRenderer pdfRenderer = new PDFRenderer(doc);
 
                     final BufferedImage img = dpi != null
-                                                ? pdfRenderer.renderImage((int)pageNr, dpi.floatValue())
+                                                ? pdfRenderer.renderImageWithDPI((int)pageNr, dpi.floatValue())
                                                 : pdfRenderer.renderImage((int)pageNr);
 
                     return new VncJavaObject(img);
@@ -766,6 +919,163 @@ public class PdfFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    public static VncFunction pdf_pages_to_images =
+        new VncFunction(
+                "pdf/pages-to-images",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(pdf/pages-to-images pdf & options)")
+                    .doc(
+                        "Rasterizes a range of pages from the PDF to images. \n\n" +
+                        "The PDF is a bytebuf or a file (string path, `java.io.File`, " +
+                        "or `java.nio.file.Path`). A PDF file is read with random " +
+                        "access, optionally memory mapped, and is never loaded as " +
+                        "a whole to the heap. The pages are rendered on " +
+                        "`:parallelism` worker threads, each worker renders from its " +
+                        "own instance of the document.\n\n" +
+                        "With the `:dir` option the workers write the images to " +
+                        "the directory as files named 'page-{n}.{format}' with n " +
+                        "being the 0-based page number. With a handler the images " +
+                        "are passed together with their 0-based page number in page " +
+                        "order to the handler on the caller's thread. At most twice " +
+                        "as many pages as there are workers are kept in memory. " +
+                        "Both return the number of rasterized pages.\n\n" +
+                        "Without `:dir` and handler returns a vector of the images " +
+                        "(`:java.awt.image.BufferedImage`).\n\n" +
+                        "*Options:* \n\n" +
+                        "| :start n            | the first page (0-based, inclusive), defaults to 0 |\n" +
+                        "| :end n              | the last page (0-based, exclusive), defaults to the page count |\n" +
+                        "| :dpi n              | the image resolution in dots per inch, defaults to 72 |\n" +
+                        "| :image-type t       | the image type :rgb, :argb, :gray, or :binary, defaults to :rgb |\n" +
+                        "| :parallelism n      | the number of worker threads, defaults to the number of CPUs |\n" +
+                        "| :memory-mapped b    | if true memory maps a PDF file, defaults to false |\n" +
+                        "| :scratch-file b     | if true PDFBox buffers the document's streams in temporary files instead of the heap, defaults to false |\n" +
+                        "| :dir d              | writes the images to the directory d |\n" +
+                        "| :format f           | the image file format for :dir, e.g. \"png\", \"jpg\", defaults to \"png\" |\n" +
+                        "| :handler f          | a two argument function `(fn [page-nr image] ...)` that receives the images |\n")
+                    .examples(
+                        "(pdf/pages-to-images \"report.pdf\"                \n" +
+                        "                     :dpi 150                      \n" +
+                        "                     :memory-mapped true           \n" +
+                        "                     :dir \"./pages\")              ",
+                        "(pdf/pages-to-images \"report.pdf\"                \n" +
+                        "                     :start 10                     \n" +
+                        "                     :end 20                       \n" +
+                        "                     :handler (fn [n img]          \n" +
+                        "                                (println n (.getWidth img))))")
+                    .seeAlso("pdf/page-to-image", "pdf/pages")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertMinArity(this, args, 1);
+
+                sandboxFunctionCallValidation();
+
+                final ILoadPaths loadpaths = ThreadContext.getInterceptor().getLoadPaths();
+
+                final VncVal pdf = args.first();
+
+                final VncMap options = VncHashMap.ofAll(args.slice(1));
+                final VncVal start = options.get(new VncKeyword("start"));
+                final VncVal end = options.get(new VncKeyword("end"));
+                final float dpi = getFloatOption("dpi", options, 72.0);
+                final VncVal imageType = options.get(new VncKeyword("image-type"), new VncKeyword("rgb"));
+                final int parallelism = getIntOption(
+                                            "parallelism",
+                                            options,
+                                            Runtime.getRuntime().availableProcessors());
+                final boolean memoryMapped = getBooleanOption("memory-mapped", options, false);
+                final boolean scratchFile = getBooleanOption("scratch-file", options, false);
+                final VncVal dir = options.get(new VncKeyword("dir"));
+                final String format = getStringOption("format", options, "png");
+                final VncVal handler = options.get(new VncKeyword("handler"));
+
+                if (parallelism < 1) {
+                    throw new VncException(
+                            "pdf/pages-to-images: The parallelism must be a positive number!");
+                }
+                if (dpi <= 0.0f) {
+                    throw new VncException(
+                            "pdf/pages-to-images: The dpi must be a positive number!");
+                }
+
+                final IVncFunction handlerFn = handler == Nil ? null : Coerce.toIVncFunction(handler);
+                if (handlerFn != null) {
+                    handlerFn.sandboxFunctionCallValidation();
+                }
+
+                final File dirFile = dir == Nil ? null : convertToFile(dir);
+                if (dir != Nil && dirFile == null) {
+                    throw new VncException(String.format(
+                            "pdf/pages-to-images: Function does not allow %s as dir",
+                            Types.getType(dir)));
+                }
+
+                final PdfRasterizer.Source source = toRasterizerSource(pdf, memoryMapped, loadpaths);
+
+                final MeterRegistry meterRegistry = ThreadContext.getMeterRegistry();
+
+                try (PdfRasterizer rasterizer = new PdfRasterizer(
+                                                    source,
+                                                    dpi,
+                                                    toImageType(imageType),
+                                                    parallelism,
+                                                    scratchFile)
+                ) {
+                    final int startPage = start == Nil ? 0 : Coerce.toVncLong(start).getIntValue();
+                    final int endPage = end == Nil ? rasterizer.getPageCount() : Coerce.toVncLong(end).getIntValue();
+
+                    if (startPage < 0 || endPage > rasterizer.getPageCount() || startPage > endPage) {
+                        throw new VncException(String.format(
+                                "pdf/pages-to-images: Invalid page range [%d, %d) for a PDF with %d pages!",
+                                startPage, endPage, rasterizer.getPageCount()));
+                    }
+
+                    if (dirFile != null) {
+                        final int count = rasterizer.renderConcurrently(
+                                            startPage,
+                                            endPage,
+                                            (page, img) -> writeImage(
+                                                              img,
+                                                              format,
+                                                              new File(dirFile, "page-" + page + "." + format),
+                                                              loadpaths));
+                        return new VncLong(count);
+                    }
+                    else if (handlerFn != null) {
+                        final int count = rasterizer.render(
+                                            startPage,
+                                            endPage,
+                                            (page, img) -> VncFunction.applyWithMeter(
+                                                                handlerFn,
+                                                                VncList.of(new VncLong(page), new VncJavaObject(img)),
+                                                                meterRegistry));
+                        return new VncLong(count);
+                    }
+                    else {
+                        final List<VncVal> images = new ArrayList<>();
+                        rasterizer.render(
+                                startPage,
+                                endPage,
+                                (page, img) -> images.add(new VncJavaObject(img)));
+                        return VncVector.ofList(images);
+                    }
+                }
+                catch(VncException ex) {
+                    throw ex;
+                }
+                catch(Exception ex) {
+                    throw new VncException(
+                            "pdf/pages-to-images: Failed to rasterize the PDF pages. " + ex.getMessage(),
+                            ex);
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
 //    public static VncFunction pdf_extract_images =
 //        new VncFunction(
 //                "pdf/extract-images",
@@ -871,6 +1181,13 @@ public class PdfFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    private static List<String> mapFonts(final VncSequence fonts) {
+        return fonts
+                .stream()
+                .map(f -> Coerce.toVncString(f).getValue())
+                .collect(Collectors.toList());
+    }
+
     private static Map<String,ByteBuffer> mapResources(final VncMap resourceMap) {
         final Map<String,ByteBuffer> resources = new HashMap<>();
         for (VncMapEntry entry : resourceMap.entries()) {
@@ -999,6 +1316,78 @@ public class PdfFunctions {
         }
     }
 
+    private static PdfRasterizer.Source toRasterizerSource(
+            final VncVal pdf,
+            final boolean memoryMapped,
+            final ILoadPaths loadpaths
+    ) {
+        if (Types.isVncByteBuffer(pdf)) {
+            return PdfRasterizer.bufferSource(((VncByteBuffer)pdf).getValue());
+        }
+
+        final File file = convertToFile(pdf);
+        if (file == null) {
+            throw new VncException(String.format(
+                    "pdf/pages-to-images: Function does not allow %s as pdf input",
+                    Types.getType(pdf)));
+        }
+
+        final File normalized = loadpaths.normalize(file);
+        if (!loadpaths.isRegularFileOnLoadPath(normalized, Access.Read)) {
+            throw new VncException(String.format(
+                    "pdf/pages-to-images: The PDF file '%s' does not exist or is " +
+                    "not accessible with the load paths configuration!",
+                    file.getPath()));
+        }
+
+        return PdfRasterizer.fileSource(normalized, memoryMapped);
+    }
+
+    private static ImageType toImageType(final VncVal type) {
+        switch(Coerce.toVncKeyword(type).getSimpleName()) {
+            case "rgb":    return ImageType.RGB;
+            case "argb":   return ImageType.ARGB;
+            case "gray":   return ImageType.GRAY;
+            case "binary": return ImageType.BINARY;
+            default:
+                throw new VncException(String.format(
+                        "Invalid image type %s. Use one of :rgb, :argb, :gray, or :binary!",
+                        type.toString()));
+        }
+    }
+
+    private static void writeImage(
+            final BufferedImage img,
+            final String format,
+            final File file,
+            final ILoadPaths loadpaths
+    ) {
+        final OutputStream os = loadpaths.getOutputStream(
+                                    file,
+                                    StandardOpenOption.CREATE,
+                                    StandardOpenOption.WRITE,
+                                    StandardOpenOption.TRUNCATE_EXISTING);
+        if (os == null) {
+            throw new com.github.jlangch.venice.SecurityException(
+                    String.format(
+                            "Failed to write the image to the file %s. " +
+                            "The load paths configuration prevented this action!",
+                            file.getPath()));
+        }
+
+        try (OutputStream out = os) {
+            if (!ImageIO.write(img, format, out)) {
+                throw new VncException(String.format(
+                        "There is no image writer for the format '%s'!", format));
+            }
+        }
+        catch(IOException ex) {
+            throw new VncException(
+                    String.format("Failed to write the image to the file %s", file.getPath()),
+                    ex);
+        }
+    }
+
     private static File convertToFile(final VncVal f) {
         if (Types.isVncString(f)) {
             return new File(((VncString)f).getValue());
@@ -1034,6 +1423,7 @@ public class PdfFunctions {
                     .add(pdf_check_required_libs)
                     .add(pdf_available_Q)
                     .add(pdf_render)
+                    .add(pdf_render_batch)
                     .add(pdf_watermark)
                     .add(pdf_merge)
                     .add(pdf_copy)
@@ -1042,6 +1432,7 @@ public class PdfFunctions {
                     .add(pdf_to_text)
                     .add(pdf_extract_urls)
                     .add(pdf_page_to_image)
+                    .add(pdf_pages_to_images)
 //                    .add(pdf_extract_images)
                     .add(pdf_page_count)
                     .toMap();
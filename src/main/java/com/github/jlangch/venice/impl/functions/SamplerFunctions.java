@@ -0,0 +1,345 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.functions;
+
+import static com.github.jlangch.venice.impl.types.Constants.Nil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.types.VncBoolean;
+import com.github.jlangch.venice.impl.types.VncFunction;
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncString;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncHashMap;
+import com.github.jlangch.venice.impl.types.collections.VncList;
+import com.github.jlangch.venice.impl.types.util.Coerce;
+import com.github.jlangch.venice.impl.util.ArityExceptions;
+import com.github.jlangch.venice.impl.util.SymbolMapBuilder;
+import com.github.jlangch.venice.impl.util.callstack.CallStackSampler;
+
+
+public class SamplerFunctions {
+
+    ///////////////////////////////////////////////////////////////////////////
+    // Sampling profiler
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static VncFunction sampler_start =
+        new VncFunction(
+                "sampler/start",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(sampler/start & options)")
+                    .doc(
+                        "Starts the sampling profiler. The sampler periodically takes " +
+                        "snapshots of the Venice call stacks of all threads running " +
+                        "Venice code and aggregates them to collapsed stacks. The " +
+                        "sampled threads are not slowed down, the work is done " +
+                        "by the sampler's own thread.\n\n" +
+                        "Options: \n\n" +
+                        "| [![width: 20%]] | [![width: 80%]] |\n" +
+                        "| :interval n | The sampling interval in milliseconds. Defaults to 10ms. |\n" +
+                        "| :mode m     | The sampling mode `:cpu` (runnable threads only) or " +
+                                       "`:wall` (all threads). Defaults to `:cpu`. |\n\n" +
+                        "The samples are kept until cleared with `sampler/clear`.")
+                    .examples(
+                        "(do                                          \n" +
+                        "  (defn fib [n]                              \n" +
+                        "    (if (< n 2) n (+ (fib (- n 1)) (fib (- n 2)))))  \n" +
+                        "  (sampler/start :interval 5)                \n" +
+                        "  (fib 20)                                   \n" +
+                        "  (sampler/stop)                             \n" +
+                        "  (sampler/top 5))                           ")
+                    .seeAlso(
+                        "sampler/stop",
+                        "sampler/collapsed-stacks",
+                        "sampler/flamegraph",
+                        "sampler/top",
+                        "prof")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                final VncHashMap options = VncHashMap.ofAll(args);
+                final long interval = Coerce.toVncLong(
+                                        options.get(new VncKeyword("interval"), new VncLong(10)))
+                                      .getValue();
+                final VncKeyword mode = Coerce.toVncKeyword(
+                                        options.get(new VncKeyword("mode"), new VncKeyword("cpu")));
+
+                if (!mode.hasValue("cpu") && !mode.hasValue("wall")) {
+                    throw new VncException(String.format(
+                            "Invalid sampling mode %s. Use :cpu or :wall!", mode));
+                }
+
+                sampler.start(interval, mode.hasValue("wall"));
+                return new VncKeyword("running");
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction sampler_stop =
+        new VncFunction(
+                "sampler/stop",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(sampler/stop)")
+                    .doc(
+                        "Stops the sampling profiler. The samples taken so far are kept.")
+                    .examples(
+                        "(sampler/stop)")
+                    .seeAlso(
+                        "sampler/start",
+                        "sampler/running?",
+                        "sampler/clear")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 0);
+
+                sampler.stop();
+                return new VncKeyword("stopped");
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction sampler_running_Q =
+        new VncFunction(
+                "sampler/running?",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(sampler/running?)")
+                    .doc(
+                        "Returns true if the sampling profiler is running.")
+                    .examples(
+                        "(sampler/running?)")
+                    .seeAlso(
+                        "sampler/start",
+                        "sampler/stop")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 0);
+
+                return VncBoolean.of(sampler.isRunning());
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction sampler_clear =
+        new VncFunction(
+                "sampler/clear",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(sampler/clear)")
+                    .doc(
+                        "Removes the samples taken so far.")
+                    .examples(
+                        "(sampler/clear)")
+                    .seeAlso(
+                        "sampler/start",
+                        "sampler/sample-count")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 0);
+
+                sampler.clear();
+                return Nil;
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction sampler_sample_count =
+        new VncFunction(
+                "sampler/sample-count",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(sampler/sample-count)")
+                    .doc(
+                        "Returns the number of call stacks sampled so far.")
+                    .examples(
+                        "(sampler/sample-count)")
+                    .seeAlso(
+                        "sampler/start",
+                        "sampler/clear")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 0);
+
+                return new VncLong(sampler.getSampleCount());
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction sampler_collapsed_stacks =
+        new VncFunction(
+                "sampler/collapsed-stacks",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(sampler/collapsed-stacks)")
+                    .doc(
+                        "Returns the sampled call stacks in the collapsed stack text " +
+                        "format. Each line holds a distinct call stack, the function " +
+                        "names from the outermost to the innermost function separated " +
+                        "by ';', followed by a space and the number of samples.\n\n" +
+                        "The format is understood by flame graph tools like " +
+                        "Brendan Gregg's flamegraph.pl or speedscope.")
+                    .examples(
+                        "(io/spit \"./venice.collapsed\" (sampler/collapsed-stacks))")
+                    .seeAlso(
+                        "sampler/start",
+                        "sampler/flamegraph")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 0);
+
+                return new VncString(sampler.getCollapsedStacksText());
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction sampler_flamegraph =
+        new VncFunction(
+                "sampler/flamegraph",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(sampler/flamegraph)",
+                        "(sampler/flamegraph title)")
+                    .doc(
+                        "Renders the sampled call stacks to a flame graph and returns " +
+                        "it as an SVG string. The frames' tooltips show the number of " +
+                        "samples.")
+                    .examples(
+                        "(io/spit \"./venice-flamegraph.svg\" (sampler/flamegraph \"Venice\"))")
+                    .seeAlso(
+                        "sampler/start",
+                        "sampler/collapsed-stacks")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 0, 1);
+
+                final String title = args.isEmpty()
+                                        ? "Venice Flame Graph"
+                                        : Coerce.toVncString(args.first()).getValue();
+
+                return new VncString(sampler.getFlameGraphSvg(title));
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+    public static VncFunction sampler_top =
+        new VncFunction(
+                "sampler/top",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(sampler/top)",
+                        "(sampler/top n)")
+                    .doc(
+                        "Returns the n (defaults to 10) hottest functions, the functions " +
+                        "with the most samples at the top of the call stack. Each " +
+                        "function is a map with the keys `:name`, `:self` (samples at " +
+                        "the top of the stack), and `:total` (samples anywhere in the " +
+                        "stack).")
+                    .examples(
+                        "(sampler/top 5)")
+                    .seeAlso(
+                        "sampler/start",
+                        "sampler/flamegraph")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 0, 1);
+
+                final int n = args.isEmpty()
+                                ? 10
+                                : Coerce.toVncLong(args.first()).getIntValue();
+
+                final List<VncVal> top = new ArrayList<>();
+                for(Object[] fn : sampler.getTopFunctions(n)) {
+                    top.add(VncHashMap.of(
+                                new VncKeyword("name"),  new VncString((String)fn[0]),
+                                new VncKeyword("self"),  new VncLong((Long)fn[1]),
+                                new VncKeyword("total"), new VncLong((Long)fn[2])));
+                }
+                return VncList.ofList(top);
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
+
+    public static CallStackSampler getSampler() {
+        return sampler;
+    }
+
+
+    private static final CallStackSampler sampler =
+            new CallStackSampler("venice-sampler-pool");
+
+
+    ///////////////////////////////////////////////////////////////////////////
+    // types_ns is namespace of type functions
+    ///////////////////////////////////////////////////////////////////////////
+
+    public static final Map<VncVal, VncVal> ns =
+            new SymbolMapBuilder()
+                    .add(sampler_start)
+                    .add(sampler_stop)
+                    .add(sampler_running_Q)
+                    .add(sampler_clear)
+                    .add(sampler_sample_count)
+                    .add(sampler_collapsed_stacks)
+                    .add(sampler_flamegraph)
+                    .add(sampler_top)
+                    .toMap();
+}
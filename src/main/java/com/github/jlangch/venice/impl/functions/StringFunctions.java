@@ -28,6 +28,9 @@ import static com.github.jlangch.venice.impl.types.VncBoolean.True;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.Normalizer;
 import java.text.Normalizer.Form;
 import java.util.Arrays;
@@ -2843,6 +2846,64 @@ public class StringFunctions {
             private static final long serialVersionUID = -1848883965231344442L;
         };
 
+    public static VncFunction str_digest =
+        new VncFunction(
+                "str/digest",
+                VncFunction
+                    .meta()
+                    .arglists(
+                        "(str/digest s)",
+                        "(str/digest s algorithm)")
+                    .doc(
+                        "Returns the message digest of the UTF-8 encoded string s " +
+                        "as lower case hex string. \n\n" +
+                        "Algorithms: \n" +
+                        " * `:SHA-256` (default)\n" +
+                        " * `:SHA-512`\n" +
+                        " * `:SHA-1`\n" +
+                        " * `:MD5`\n\n" +
+                        "The digest is meant for keys and checksums, use the " +
+                        "`:crypt` module to hash passwords.")
+                    .examples(
+                        "(str/digest \"hello world\")",
+                        "(str/digest \"hello world\" :MD5)")
+                    .seeAlso("str/encode-base64")
+                    .build()
+        ) {
+            @Override
+            public VncVal apply(final VncList args) {
+                ArityExceptions.assertArity(this, args, 1, 2);
+
+                final VncVal arg = args.first();
+                if (arg == Nil) {
+                    return Nil;
+                }
+
+                final String s = Coerce.toVncString(arg).getValue();
+                final String algorithm = args.size() == 2
+                                            ? Coerce.toVncKeyword(args.second()).getSimpleName()
+                                            : "SHA-256";
+
+                if (!DIGEST_ALGORITHMS.contains(algorithm)) {
+                    throw new VncException(
+                            "Unsupported digest algorithm ':" + algorithm + "'. " +
+                            "Use one of {:SHA-256, :SHA-512, :SHA-1, :MD5}");
+                }
+
+                try {
+                    final MessageDigest md = MessageDigest.getInstance(algorithm);
+                    final byte[] digest = md.digest(s.getBytes(StandardCharsets.UTF_8));
+                    return new VncString(HexFormatter.toHex(digest, null).toLowerCase());
+                }
+                catch(NoSuchAlgorithmException ex) {
+                    throw new VncException(
+                            "The digest algorithm ':" + algorithm + "' is not available", ex);
+                }
+            }
+
+            private static final long serialVersionUID = -1848883965231344442L;
+        };
+
     public static VncFunction str_encode_url =
         new VncFunction(
                 "str/encode-url",
@@ -3219,6 +3280,9 @@ public class StringFunctions {
     private static final String EMAIL_REGEX =
             "^[\\w!#$%&’*+/=?`{|}~^-]+(?:\\.[\\w!#$%&’*+/=?`{|}~^-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,6}$";
 
+    private static final List<String> DIGEST_ALGORITHMS =
+            Arrays.asList("SHA-256", "SHA-512", "SHA-1", "MD5");
+
 
 
     ///////////////////////////////////////////////////////////////////////////
@@ -3297,6 +3361,7 @@ public class StringFunctions {
                     .add(str_format_bytebuf)
                     .add(str_encode_base64)
                     .add(str_decode_base64)
+                    .add(str_digest)
                     .add(str_encode_url)
                     .add(str_decode_url)
                     .add(str_escape_html)
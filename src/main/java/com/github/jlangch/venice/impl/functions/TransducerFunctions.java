@@ -1177,6 +1177,15 @@ public class TransducerFunctions {
                     };
 
                 }
+                else if (Types.isVncLazySeq(args.second())) {
+                    final IVncFunction fn = Coerce.toIVncFunction(args.first());
+                    fn.sandboxFunctionCallValidation();
+
+                    final MeterRegistry meterRegistry = ThreadContext.getMeterRegistry();
+
+                    return ((VncLazySeq)args.second()).keep(
+                                v -> VncFunction.applyWithMeter(fn, VncList.of(v), meterRegistry));
+                }
                 else {
                     // use 'map' to apply the mapping function
                     final VncVal result = TransducerFunctions.map.apply(args);
@@ -21,6 +21,9 @@
  */
 package com.github.jlangch.venice.impl.modules;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.IVeniceInterpreter;
 import com.github.jlangch.venice.impl.Printer;
@@ -73,8 +76,16 @@ public class CodeLoader {
                     // load the module's code
                     final String code = ModuleLoader.loadModule(moduleName);
 
+                    // read and macroexpand the code (cached)
+                    final VncVal ast = ModuleFormCache.loadModuleForms(
+                                            moduleName,
+                                            code,
+                                            venice,
+                                            env,
+                                            toModuleNames(loadedModules));
+
                     // evaluate the code
-                    loadCode(code, moduleName, venice, env);
+                    venice.EVAL(ast, env);
 
                     // remember the loaded module
                     loadedModules.add(module);
@@ -242,6 +253,14 @@ public class CodeLoader {
         return Coerce.toVncSet(env.getGlobalOrNull(new VncSymbol("*loaded-modules*")));
     }
 
+    private Set<String> toModuleNames(final VncSet modules) {
+        final Set<String> names = new HashSet<>();
+        for(VncVal m : modules) {
+            names.add(Types.isVncKeyword(m) ? ((VncKeyword)m).getValue() : m.toString());
+        }
+        return names;
+    }
+
     private VncSet getLoadedFiles(final Env env) {
         return Coerce.toVncSet(env.getGlobalOrNull(new VncSymbol("*loaded-files*")));
     }
@@ -0,0 +1,379 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.modules;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.jlangch.venice.Version;
+import com.github.jlangch.venice.impl.IVeniceInterpreter;
+import com.github.jlangch.venice.impl.env.Env;
+import com.github.jlangch.venice.impl.functions.Functions;
+import com.github.jlangch.venice.impl.types.VncBigDecimal;
+import com.github.jlangch.venice.impl.types.VncBigInteger;
+import com.github.jlangch.venice.impl.types.VncBoolean;
+import com.github.jlangch.venice.impl.types.VncChar;
+import com.github.jlangch.venice.impl.types.VncConstant;
+import com.github.jlangch.venice.impl.types.VncDouble;
+import com.github.jlangch.venice.impl.types.VncFunction;
+import com.github.jlangch.venice.impl.types.VncInteger;
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncString;
+import com.github.jlangch.venice.impl.types.VncSymbol;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncArrayMap;
+import com.github.jlangch.venice.impl.types.collections.VncHashMap;
+import com.github.jlangch.venice.impl.types.collections.VncHashSet;
+import com.github.jlangch.venice.impl.types.collections.VncList;
+import com.github.jlangch.venice.impl.types.collections.VncMap;
+import com.github.jlangch.venice.impl.types.collections.VncMapEntry;
+import com.github.jlangch.venice.impl.types.collections.VncOrderedMap;
+import com.github.jlangch.venice.impl.types.collections.VncSequence;
+import com.github.jlangch.venice.impl.types.collections.VncSet;
+import com.github.jlangch.venice.impl.types.collections.VncSortedMap;
+import com.github.jlangch.venice.impl.types.collections.VncSortedSet;
+import com.github.jlangch.venice.impl.types.collections.VncTinyList;
+import com.github.jlangch.venice.impl.types.collections.VncTinyVector;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
+import com.github.jlangch.venice.impl.util.HexFormatter;
+import com.github.jlangch.venice.impl.util.StringUtil;
+
+
+/**
+ * JVM wide cache of the parsed and the macro expanded forms of the Venice
+ * modules.
+ *
+ * <p>The forms are keyed by the module name, the Venice version, and a
+ * SHA-256 hash of the module's code, so an edited module or a SNAPSHOT
+ * build never gets stale forms from the disk cache. The
+ * macro expanded forms are additionally keyed by the modules loaded at
+ * expansion time, because these define the macros available to the
+ * expansion.
+ *
+ * <p>The cache is shared by all interpreter instances. It can optionally
+ * be backed by a disk cache directory set by the system property
+ * <code>venice.module.cache.dir</code>, to speed up the start of short
+ * lived JVMs. Forms that are not plain data (e.g. macros expanding to
+ * function objects) are never cached.
+ */
+public class ModuleFormCache {
+
+    public static VncVal loadModuleForms(
+            final String moduleName,
+            final String code,
+            final IVeniceInterpreter venice,
+            final Env env,
+            final Set<String> loadedModules
+    ) {
+        final String readKey = moduleName + "@" + Version.VERSION + "-" + contentHash(code);
+
+        VncVal ast = getOrLoad(
+                        readKey,
+                        () -> venice.READ("(do " + code + ")", moduleName));
+
+        if (venice.isMacroExpandOnLoad()) {
+            final String expandKey = readKey + "-x" + signature(loadedModules);
+
+            final VncVal readAst = ast;
+            ast = getOrLoad(expandKey, () -> venice.MACROEXPAND(readAst, env));
+        }
+
+        return ast;
+    }
+
+    public static void clear() {
+        forms.clear();
+    }
+
+    public static int size() {
+        return forms.size();
+    }
+
+    public static boolean isCacheable(final VncVal form) {
+        if (form instanceof VncFunction) {
+            // the reader emits some builtin functions, e.g. 'str' for
+            // interpolated strings
+            return isBuiltinFunction(form);
+        }
+
+        if (form.isWrapped()) {
+            return false;
+        }
+
+        final VncVal meta = form.getMeta();
+        if (meta != null && meta != form && !isCacheable(meta)) {
+            return false;
+        }
+
+        if (!CACHEABLE_TYPES.contains(form.getClass())) {
+            return false;
+        }
+        else if (form instanceof VncSequence) {
+            for(VncVal v : (VncSequence)form) {
+                if (!isCacheable(v)) return false;
+            }
+        }
+        else if (form instanceof VncSet) {
+            for(VncVal v : (VncSet)form) {
+                if (!isCacheable(v)) return false;
+            }
+        }
+        else if (form instanceof VncMap) {
+            for(VncMapEntry e : ((VncMap)form).entries()) {
+                if (!isCacheable(e.getKey()) || !isCacheable(e.getValue())) return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    private static VncVal getOrLoad(
+            final String key,
+            final FormSupplier supplier
+    ) {
+        VncVal ast = forms.get(key);
+        if (ast == null) {
+            ast = readFromDisk(key);
+            if (ast == null) {
+                ast = supplier.get();
+                if (isCacheable(ast)) {
+                    writeToDisk(key, ast);
+                }
+                else {
+                    return ast;
+                }
+            }
+            forms.put(key, ast);
+        }
+        return ast;
+    }
+
+    private static boolean isBuiltinFunction(final Object obj) {
+        return obj instanceof VncFunction
+                && Functions.functions.get(
+                        new VncSymbol(((VncFunction)obj).getQualifiedName())) == obj;
+    }
+
+    private static String contentHash(final String code) {
+        try {
+            final MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormatter.toHex(md.digest(code.getBytes(StandardCharsets.UTF_8)), null);
+        }
+        catch(NoSuchAlgorithmException ex) {
+            // every JVM provides SHA-256
+            throw new IllegalStateException("No SHA-256 message digest available", ex);
+        }
+    }
+
+    private static String signature(final Set<String> loadedModules) {
+        final String[] names = loadedModules.toArray(new String[0]);
+        Arrays.sort(names);
+        return Integer.toHexString(String.join(",", names).hashCode());
+    }
+
+    private static File cacheDir() {
+        final String dir = StringUtil.trimToNull(System.getProperty("venice.module.cache.dir"));
+        return dir == null ? null : new File(dir);
+    }
+
+    private static File cacheFile(final File dir, final String key) {
+        return new File(dir, key.replaceAll("[^a-zA-Z0-9._@-]", "_") + ".forms");
+    }
+
+    private static VncVal readFromDisk(final String key) {
+        final File dir = cacheDir();
+        if (dir == null) {
+            return null;
+        }
+
+        final File file = cacheFile(dir, key);
+        if (!file.isFile()) {
+            return null;
+        }
+
+        try (InputStream is = new BufferedInputStream(Files.newInputStream(file.toPath()));
+             ObjectInputStream ois = new FormsObjectInputStream(is)
+        ) {
+            return (VncVal)ois.readObject();
+        }
+        catch(Exception | StackOverflowError ex) {
+            // the cache is best effort, a broken cache file is just ignored
+            return null;
+        }
+    }
+
+    private static void writeToDisk(final String key, final VncVal ast) {
+        final File dir = cacheDir();
+        if (dir == null) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(dir.toPath());
+
+            final File file = cacheFile(dir, key);
+            final File tmp = File.createTempFile("venice-", ".tmp", dir);
+            try {
+                try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmp.toPath()));
+                     ObjectOutputStream oos = new FormsObjectOutputStream(os)
+                ) {
+                    oos.writeObject(ast);
+                }
+
+                Files.move(
+                    tmp.toPath(),
+                    file.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            }
+            finally {
+                tmp.delete();
+            }
+        }
+        catch(Exception | StackOverflowError ex) {
+            // the cache is best effort
+        }
+    }
+
+
+    @FunctionalInterface
+    private static interface FormSupplier {
+        VncVal get();
+    }
+
+    private static class BuiltinFunctionRef implements Serializable {
+        public BuiltinFunctionRef(final String name) {
+            this.name = name;
+        }
+
+        private static final long serialVersionUID = 2817401874123649411L;
+
+        private final String name;
+    }
+
+    private static class FormsObjectOutputStream extends ObjectOutputStream {
+        public FormsObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object obj) throws IOException {
+            // builtin functions are serialized by name
+            return isBuiltinFunction(obj)
+                    ? new BuiltinFunctionRef(((VncFunction)obj).getQualifiedName())
+                    : obj;
+        }
+    }
+
+    private static class FormsObjectInputStream extends ObjectInputStream {
+        public FormsObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+            enableResolveObject(true);
+        }
+
+        @Override
+        protected Object resolveObject(final Object obj) throws IOException {
+            if (obj instanceof BuiltinFunctionRef) {
+                final String name = ((BuiltinFunctionRef)obj).name;
+                final VncVal fn = Functions.functions.get(new VncSymbol(name));
+                if (fn == null) {
+                    throw new InvalidObjectException("Unknown builtin function " + name);
+                }
+                return fn;
+            }
+            return obj;
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass desc)
+        throws IOException, ClassNotFoundException {
+            // security: just deserialize Venice forms
+            final String name = desc.getName();
+            for(String prefix : ALLOWED_CLASS_PREFIXES) {
+                if (name.startsWith(prefix)) {
+                    return super.resolveClass(desc);
+                }
+            }
+            throw new InvalidClassException(name, "Not allowed in a Venice module cache");
+        }
+    }
+
+
+    private static final List<String> ALLOWED_CLASS_PREFIXES =
+            Arrays.asList(
+                BuiltinFunctionRef.class.getName(),
+                "com.github.jlangch.venice.impl.types.",
+                "io.vavr.",
+                "java.lang.",
+                "java.math.",
+                "[");
+
+    private static final Set<Class<?>> CACHEABLE_TYPES =
+            new HashSet<>(Arrays.asList(
+                VncConstant.class,
+                VncBoolean.class,
+                VncLong.class,
+                VncInteger.class,
+                VncDouble.class,
+                VncBigDecimal.class,
+                VncBigInteger.class,
+                VncString.class,
+                VncChar.class,
+                VncKeyword.class,
+                VncSymbol.class,
+                VncList.class,
+                VncTinyList.class,
+                VncVector.class,
+                VncTinyVector.class,
+                VncHashMap.class,
+                VncArrayMap.class,
+                VncOrderedMap.class,
+                VncSortedMap.class,
+                VncHashSet.class,
+                VncSortedSet.class));
+
+    private static final Map<String,VncVal> forms = new ConcurrentHashMap<>();
+}
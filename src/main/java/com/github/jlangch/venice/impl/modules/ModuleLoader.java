@@ -140,6 +140,7 @@ public class ModuleLoader {
     }
 
     public static void clear() {
+        ModuleFormCache.clear();
         modules.clear();
         classpathFiles.clear();
         externalFiles.clear();
@@ -24,11 +24,11 @@ package com.github.jlangch.venice.impl.reader;
 
 public class CharacterReader {
 
-    public CharacterReader(final String s) {
+    public CharacterReader(final CharSequence s) {
         str = s == null ? "" : s;
         length = str.length();
-        pos = str.isEmpty() ? 1 : 0;
-        chNext = str.isEmpty() ? EOF : str.charAt(0);
+        pos = length == 0 ? 1 : 0;
+        chNext = length == 0 ? EOF : str.charAt(0);
     }
 
     public int peek() {
@@ -58,6 +58,16 @@ public class CharacterReader {
         return new ReaderPos(pos, lineNr, columnNr);
     }
 
+    // zero based position of the next char
+    public int getFilePos() {
+        return pos;
+    }
+
+    // line and column of the next char packed into a long
+    public long getLineColumn() {
+        return ReaderPos.pack(lineNr, columnNr);
+    }
+
     private boolean eof() {
         return pos >= length;
     }
@@ -67,7 +77,7 @@ public class CharacterReader {
     private static final int CR  = '\r';
     private static final int EOF = -1;
 
-    private final String str;
+    private final CharSequence str;
     private final int length;
 
     private int chNext;
@@ -27,7 +27,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
-import java.util.stream.Collectors;
 
 import com.github.jlangch.venice.ContinueException;
 import com.github.jlangch.venice.EofException;
@@ -74,6 +73,10 @@ import com.github.jlangch.venice.impl.util.StringUtil;
  *           +-------------------------------------------------------+
  * </pre>
  *
+ * <p>The reader pulls the tokens one by one from the tokenizer while it
+ * builds the forms. No token list is materialized and whitespaces and
+ * comments are skipped without creating tokens.
+ *
  * @author juerg
  */
 public class Reader {
@@ -81,17 +84,18 @@ public class Reader {
     private Reader(
             final String filename,
             final String form,
-            final List<Token> formTokens
+            final Tokenizer tokenizer
     ) {
         this.filename = filename;
         this.form = form;
-        this.tokens = formTokens;
-        this.position = 0;
+        this.tokenizer = tokenizer;
     }
 
     public static VncVal read_str(final String str, final String filename) {
         final Reader r = reader(str, filename);
-        return read_form(r);
+        final VncVal form = read_form(r);
+        r.tokenizeRest();
+        return form;
     }
 
     public static VncVal read_str(
@@ -102,13 +106,15 @@ public class Reader {
         final Reader r = new Reader(
                                 filename,
                                 str,
-                                tokenize(str, filename, errorOnUnbalancedStringQuotes, true));
-        return read_form(r);
+                                Tokenizer.streaming(str, filename, errorOnUnbalancedStringQuotes, true));
+        final VncVal form = read_form(r);
+        r.tokenizeRest();
+        return form;
     }
 
     private static Reader reader(final String str, final String filename) {
         // Modules.validateFileName(filename);
-        return new Reader(filename, str, tokenize(str, filename, true, true));
+        return new Reader(filename, str, Tokenizer.streaming(str, filename, true, true));
     }
 
     public String unprocessedRest() {
@@ -116,33 +122,54 @@ public class Reader {
     }
 
     public int lastReadPos() {
-        return position == 0 ? -1 : tokens.get(position-1).getFileEndPos();
+        return lastToken == null ? -1 : lastToken.getFileEndPos();
     }
 
     @Override
     public String toString() {
-        return tokens
-                .stream()
-                .map(t -> String.format(
-                            "%-8s %s",
-                            String.format("%d,%d:", t.getLine(), t.getColumn()),
-                            t.getToken()))
-                .collect(Collectors.joining("\n"));
+        return lastToken == null
+                ? String.format("%s: <start>", filename)
+                : String.format(
+                    "%s %d,%d: %s",
+                    filename,
+                    lastToken.getLine(),
+                    lastToken.getColumn(),
+                    lastToken.getToken());
     }
 
-//    private boolean hasMoreTokens() {
-//        return position < tokens.size();
-//    }
+    private VncVal toMeta(final Token token) {
+        // share the file name string among the meta data of all forms
+        if (fileMeta == null || !fileMeta.getValue().equals(token.getFile())) {
+            fileMeta = new VncString(token.getFile());
+        }
+        return MetaUtil.toMeta(token, fileMeta);
+    }
 
     private Token peek() {
-        return position >= tokens.size() ? null : tokens.get(position);
+        if (nextToken == null && !eof) {
+            nextToken = tokenizer.nextToken();
+            eof = nextToken == null;
+        }
+        return nextToken;
+    }
+
+    private void tokenizeRest() {
+        // Tokenize the text after the form without building forms, so that
+        // malformed input following the form is still reported
+        if (!eof) {
+            while(tokenizer.nextToken() != null) { }
+            eof = true;
+        }
     }
 
     private Token next() {
-        if (position >= tokens.size()) {
+        final Token token = peek();
+        if (token == null) {
             throw new ContinueException();
         }
-        return tokens.get(position++);
+        nextToken = null;
+        lastToken = token;
+        return token;
     }
 
 
@@ -184,39 +211,39 @@ public class Reader {
                     final boolean hex = isHexNumberLiteral(sToken);
                     return new VncInteger(
                                 hex ? Integer.parseInt(sToken.substring(2, sToken.length()-1), 16)
-                                    : Integer.parseInt(butlast(sToken).replaceAll("_", "")),
-                                MetaUtil.toMeta(token));
+                                    : Integer.parseInt(stripUnderscores(butlast(sToken))),
+                                rdr.toMeta(token));
                 }
 
                 case LONG: {
                     final boolean hex = isHexNumberLiteral(sToken);
                     return new VncLong(
                                 hex ? Long.parseLong(sToken.substring(2), 16)
-                                    : Long.parseLong(sToken.replaceAll("_", "")),
-                                MetaUtil.toMeta(token));
+                                    : Long.parseLong(stripUnderscores(sToken)),
+                                rdr.toMeta(token));
                 }
 
                 case FLOAT:
                     return new VncFloat(
-                                Float.parseFloat(sToken.replaceAll("_", "")),
-                                MetaUtil.toMeta(token));
+                                Float.parseFloat(stripUnderscores(sToken)),
+                                rdr.toMeta(token));
 
                 case DOUBLE:
                     return new VncDouble(
-                                Double.parseDouble(sToken.replaceAll("_", "")),
-                                MetaUtil.toMeta(token));
+                                Double.parseDouble(stripUnderscores(sToken)),
+                                rdr.toMeta(token));
 
                 case DECIMAL:
                     return new VncBigDecimal(
-                                new BigDecimal(butlast(sToken).replaceAll("_", "")),
-                                MetaUtil.toMeta(token));
+                                new BigDecimal(stripUnderscores(butlast(sToken))),
+                                rdr.toMeta(token));
 
                 case BIGINT: {
                     final boolean hex = isHexNumberLiteral(sToken);
                     return new VncBigInteger(
-                                hex ? new BigInteger(butlast(sToken.substring(2)).replaceAll("_", ""), 16)
-                                    : new BigInteger(butlast(sToken).replaceAll("_", "")),
-                                MetaUtil.toMeta(token));
+                                hex ? new BigInteger(stripUnderscores(butlast(sToken.substring(2))), 16)
+                                    : new BigInteger(stripUnderscores(butlast(sToken))),
+                                rdr.toMeta(token));
                 }
 
                 case STRING: {
@@ -225,7 +252,7 @@ public class Reader {
                                                     sToken.substring(1),
                                                     "\""));
                         return interpolate(s, rdr.filename, token.getLine(), token.getColumn())
-                                .withMeta(MetaUtil.toMeta(token));
+                                .withMeta(rdr.toMeta(token));
                     }
 
                 case STRING_BLOCK: {
@@ -235,11 +262,11 @@ public class Reader {
                                                             sToken.substring(3),
                                                             "\"\"\"")));
                         return interpolate(s, rdr.filename, token.getLine(), token.getColumn())
-                                    .withMeta(MetaUtil.toMeta(token));
+                                    .withMeta(rdr.toMeta(token));
                     }
 
                 case KEYWORD:
-                    return new VncKeyword(sToken, MetaUtil.toMeta(token));
+                    return new VncKeyword(sToken, rdr.toMeta(token));
 
                 case SYMBOL: {
                         final VncSymbol sym = new VncSymbol(sToken);
@@ -249,7 +276,7 @@ public class Reader {
                         }
                         else {
                             rdr.anonymousFnArgs.addSymbol(sym);
-                            return sym.withMeta(MetaUtil.toMeta(token));
+                            return sym.withMeta(rdr.toMeta(token));
                         }
                     }
 
@@ -302,14 +329,14 @@ public class Reader {
 
         rdr.next();
 
-        return lst.withValues(items, MetaUtil.toMeta(lstToken));
+        return lst.withValues(items, rdr.toMeta(lstToken));
     }
 
     private static VncHashMap read_hash_map(final Reader rdr) {
         final Token refToken = rdr.peek();
 
         final VncSequence lst = read_list(rdr, VncList.empty(), '{', '}');
-        return VncHashMap.ofAll(lst).withMeta(MetaUtil.toMeta(refToken));
+        return VncHashMap.ofAll(lst).withMeta(rdr.toMeta(refToken));
     }
 
     private static VncVal read_form(final Reader rdr) {
@@ -322,7 +349,7 @@ public class Reader {
             case '\'':
                 rdr.next();
                 return VncList.of(new VncSymbol("quote"), read_form(rdr))
-                              .withMeta(MetaUtil.toMeta(token));
+                              .withMeta(rdr.toMeta(token));
 
             case '`':
                 rdr.next();
@@ -331,7 +358,7 @@ public class Reader {
                     //       Use gensym in these cases.
                     rdr.autoGenSym.enterSyntaxQuote();
                     return VncList.of(new VncSymbol("quasiquote"), read_form(rdr))
-                                  .withMeta(MetaUtil.toMeta(token));
+                                  .withMeta(rdr.toMeta(token));
                 }
                 finally {
                     rdr.autoGenSym.leaveSyntaxQuote();
@@ -341,13 +368,13 @@ public class Reader {
                 if (token.equals("~")) {
                     rdr.next();
                     return VncList.of(new VncSymbol("unquote"), read_form(rdr))
-                                  .withMeta(MetaUtil.toMeta(token));
+                                  .withMeta(rdr.toMeta(token));
                 }
                 else {
                     // ~@
                     rdr.next();
                     return VncList.of(new VncSymbol("splice-unquote"), read_form(rdr))
-                                  .withMeta(MetaUtil.toMeta(token));
+                                  .withMeta(rdr.toMeta(token));
                 }
 
             case '^':
@@ -356,7 +383,7 @@ public class Reader {
             case '@':
                 rdr.next();
                 return VncList.of(new VncSymbol("deref"), read_form(rdr))
-                              .withMeta(MetaUtil.toMeta(token));
+                              .withMeta(rdr.toMeta(token));
 
             case '#':
                 return parseReaderMacro(rdr, token);
@@ -399,7 +426,7 @@ public class Reader {
                         return VncHashSet.ofAll(read_list(rdr, VncList.empty(), '{' , '}'));
                     }
                     else if (t.charAt(0) == '(') {
-                        final VncVal meta = MetaUtil.toMeta(t);
+                        final VncVal meta = rdr.toMeta(t);
                         // anonymous function literal: #(> % 2)
                         if (rdr.anonymousFnArgs.isCapturing()) {
                             throw new ParseError(formatParseError(t, " #() forms cannot be nested"));
@@ -465,7 +492,7 @@ public class Reader {
 
         if (Types.isVncMap(meta)) {
             final Token symToken = rdr.peek();
-            return read_form(rdr).withMeta(MetaUtil.mergeMeta(meta, MetaUtil.toMeta(symToken)));
+            return read_form(rdr).withMeta(MetaUtil.mergeMeta(meta, rdr.toMeta(symToken)));
         }
         else {
             throw new ParseError(formatParseError(
@@ -563,7 +590,7 @@ public class Reader {
                 final String rest = str.substring(pos);
                 if (rest.startsWith("~(")) {
                     final String s_ = rest.substring(1);
-                    final Reader rdr = new Reader(filename, s_, tokenize(s_, filename, false, false));
+                    final Reader rdr = new Reader(filename, s_, Tokenizer.streaming(s_, filename, false, false));
                     list.add(read_list(rdr, VncList.empty(), '(' , ')'));
 
                     tail = rdr.unprocessedRest().substring(1);
@@ -660,6 +687,11 @@ public class Reader {
         return s.startsWith("0x") || s.startsWith("0X");
     }
 
+    private static String stripUnderscores(final String s) {
+        // number literals rarely have underscores, avoid the regex replace
+        return s.indexOf('_') < 0 ? s : s.replace("_", "");
+    }
+
     private static String butlast(final String s) {
         return s.substring(0, s.length()-1);
     }
@@ -689,8 +721,11 @@ public class Reader {
 
     private final String filename;
     private final String form;
-    private final List<Token> tokens;
-    private int position;
+    private final Tokenizer tokenizer;
+    private Token nextToken;  // one token look ahead
+    private Token lastToken;  // the last consumed token
+    private boolean eof;
+    private VncString fileMeta;
     private final AnonymousFnArgs anonymousFnArgs = new AnonymousFnArgs();
 
     private final AutoGenSym autoGenSym = new AutoGenSym();
@@ -46,6 +46,31 @@ public class ReaderPos {
         return columnNr;
     }
 
+    public long getLineColumn() {
+        return pack(lineNr, columnNr);
+    }
+
+
+    /**
+     * Packs a one based line and column number into a long. The line
+     * number goes to the upper, the column number to the lower 32 bits.
+     *
+     * @param lineNr a line number
+     * @param columnNr a column number
+     * @return the packed line and column
+     */
+    public static long pack(final int lineNr, final int columnNr) {
+        return ((long)lineNr << 32) | (columnNr & 0xFFFF_FFFFL);
+    }
+
+    public static int lineNr(final long lineColumn) {
+        return (int)(lineColumn >>> 32);
+    }
+
+    public static int columnNr(final long lineColumn) {
+        return (int)lineColumn;
+    }
+
 
     private final int filePos;    // zero based file position
     private final int lineNr;     // one based line number
@@ -29,13 +29,22 @@ public class Token {
             final String token,
             final String file,
             final ReaderPos pos
+    ) {
+        this(type, token, file, pos.getFilePos(), pos.getLineColumn());
+    }
+
+    public Token(
+            final TokenType type,
+            final String token,
+            final String file,
+            final int filePos,
+            final long lineColumn
     ) {
         this.type = type;
         this.token = token;
         this.file = file == null || file.isEmpty() ? "unknown" : file;
-        this.filePos = pos.getFilePos();
-        this.line = pos.getLineNr();
-        this.col = pos.getColumnNr();
+        this.filePos = filePos;
+        this.lineColumn = lineColumn;
     }
 
 
@@ -63,12 +72,17 @@ public class Token {
 
     // one based line number
     public int getLine() {
-        return line;
+        return ReaderPos.lineNr(lineColumn);
     }
 
     // one based column number
     public int getColumn() {
-        return col;
+        return ReaderPos.columnNr(lineColumn);
+    }
+
+    // line and column packed into a long, see ReaderPos::pack
+    public long getLineColumn() {
+        return lineColumn;
     }
 
     public char charAt(int index) {
@@ -107,7 +121,9 @@ public class Token {
 
     @Override
     public String toString() {
-        return String.format("%s (file: %s, line %d, column %d)", token, file, line, col);
+        return String.format(
+                "%s (file: %s, line %d, column %d)",
+                token, file, getLine(), getColumn());
     }
 
 
@@ -115,6 +131,5 @@ public class Token {
     private final String token;
     private final String file;
     private final int filePos;
-    private final int line;
-    private final int col;
+    private final long lineColumn;
 }
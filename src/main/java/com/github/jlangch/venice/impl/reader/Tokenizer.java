@@ -48,7 +48,7 @@ public class Tokenizer {
     }
 
     private Tokenizer(
-            final String text,
+            final CharSequence text,
             final String fileName,
             final boolean skipWhitespaces,
             final boolean errorOnUnbalancedStringQuotes,
@@ -82,23 +82,57 @@ public class Tokenizer {
                 ).tokenize();
     }
 
+    /**
+     * Returns a tokenizer that lexes the text on demand token by token.
+     * Whitespaces and comments are skipped without creating tokens for
+     * them.
+     *
+     * @param text the text to tokenize
+     * @param fileName the file name the text is from
+     * @param errorOnUnbalancedStringQuotes if true throw an error on
+     *                                      unbalanced string quotes
+     * @param errorOnIncompleteEscapeChars if true throw an error on incomplete
+     *                                     escape chars in strings
+     * @return the tokenizer
+     */
+    public static Tokenizer streaming(
+            final CharSequence text,
+            final String fileName,
+            final boolean errorOnUnbalancedStringQuotes,
+            final boolean errorOnIncompleteEscapeChars
+    ) {
+        return new Tokenizer(
+                    text,
+                    fileName,
+                    true,
+                    errorOnUnbalancedStringQuotes,
+                    errorOnIncompleteEscapeChars);
+    }
 
-    private List<Token> tokenize() {
-        tokens.clear();
 
+    /**
+     * Reads the next token.
+     *
+     * @return the next token or <code>null</code> if the end of the text
+     *         has been reached
+     */
+    public Token nextToken() {
         try {
             while(true) {
-                ReaderPos pos = reader.getPos();
+                startFilePos = reader.getFilePos();
+                startLineColumn = reader.getLineColumn();
 
-                int ch = reader.peek();
+                final int ch = reader.peek();
 
                 if (ch == EOF) {
-                    break;
+                    return null;
                 }
 
                 else if (ch == LF) {
-                    addToken(WHITESPACES, "\n", pos);
                     reader.consume();
+                    if (!skipWhitespaces) {
+                        return token(WHITESPACES, "\n");
+                    }
                 }
 
                 // - reader macro ---------------------------------------------
@@ -110,37 +144,46 @@ public class Tokenizer {
                         // Venice allows shebang lines simply by making #! equivalent to ; comment
                         // comment:  #! ....  read to EOL
                         reader.consume();
-                        readComment(pos, "#!");
+                        final Token t = readComment("#!");
+                        if (t != null) return t;
                     }
                     else if (chNext == '\\') {
                         // char reader macro. E.g.: #\A, #\\u03C0", #\space
                         reader.consume();
-                        processCharReaderMacro(pos);
+                        return processCharReaderMacro();
                     }
                     else if (chNext == '_') {
                         // skip form reader macro. E.g.: #_
                         reader.consume();
-                        addToken(ANY, String.valueOf("#_"), pos);
                         // leave the reader macro processing to the Reader
+                        return token(ANY, "#_");
                     }
                     else {
-                        addToken(ANY, String.valueOf('#'), pos);
                         // leave the reader macro processing to the Reader
+                        return token(ANY, "#");
                     }
                 }
 
                 // - whitespaces ----------------------------------------------
                 else if (isWhitespace((char)ch)) {
-                    final StringBuilder sb = new StringBuilder();
-                    sb.append((char)ch);
-                    reader.consume();
-
-                    while(isWhitespace((char)reader.peek())) {
-                        sb.append((char)reader.peek());
+                    if (skipWhitespaces) {
                         reader.consume();
+                        while(isWhitespace((char)reader.peek())) {
+                            reader.consume();
+                        }
                     }
+                    else {
+                        final StringBuilder sb = new StringBuilder();
+                        sb.append((char)ch);
+                        reader.consume();
 
-                    addToken(WHITESPACES, sb.toString(), pos);
+                        while(isWhitespace((char)reader.peek())) {
+                            sb.append((char)reader.peek());
+                            reader.consume();
+                        }
+
+                        return token(WHITESPACES, sb.toString());
+                    }
                 }
 
                 // - unquote splicing: ~@ -------------------------------------
@@ -149,40 +192,43 @@ public class Tokenizer {
 
                     final int chNext = reader.peek();
                     if (chNext == '@') {
-                        addToken(UNQUOTE_SPLICE, "~@", pos);
                         reader.consume();
+                        return token(UNQUOTE_SPLICE, "~@");
                     }
                     else {
-                        addToken(SPECIAL_CHAR, "~", pos);
+                        return token(SPECIAL_CHAR, "~");
                     }
                 }
 
                 // - special chars:  ()[]{}^'`~@ ------------------------------
                 else if (isSpecialChar((char)ch)) {
                     reader.consume();
-                    addToken(SPECIAL_CHAR, String.valueOf((char)ch), pos);
+                    return token(SPECIAL_CHAR, specialCharToken((char)ch));
                 }
 
                 // - string:  "xx" or """xx""" --------------------------------
                 else if (ch == '"') {
-                    readString(pos);
+                    return readString();
                 }
 
                 // - comment:  ; ....  read to EOL ----------------------------
                 else if (ch == ';') {
                     reader.consume();
-                    readComment(pos, ";");
+                    final Token t = readComment(";");
+                    if (t != null) return t;
                 }
 
                 // - comma: , (treated like a whitespace) ---------------------
                 else if (ch == ',') {
                     reader.consume();
-                    addToken(WHITESPACES, ",", pos);
+                    if (!skipWhitespaces) {
+                        return token(WHITESPACES, ",");
+                    }
                 }
 
                 // - anything else --------------------------------------------
                 else {
-                    readAny(ch, pos);
+                    return readAny(ch);
                 }
             }
         }
@@ -192,11 +238,21 @@ public class Tokenizer {
         catch(RuntimeException ex) {
             throw new ParseError("Parse error (tokenizer phase) while reading from input", ex);
         }
+    }
+
+
+    private List<Token> tokenize() {
+        final List<Token> tokens = new ArrayList<>();
+
+        Token t;
+        while((t = nextToken()) != null) {
+            tokens.add(t);
+        }
 
         return tokens;
     }
 
-    private void readAny(final int firstChar, final ReaderPos pos) {
+    private Token readAny(final int firstChar) {
         reader.consume();
 
         final StringBuilder sb = new StringBuilder();
@@ -216,22 +272,30 @@ public class Tokenizer {
             ch = reader.peek();
         }
 
-        addToken(ANY, sb.toString(), pos);
+        return token(ANY, sb.toString());
     }
 
-    private void readComment(final ReaderPos pos, final String prefix) {
-        final StringBuilder sb = new StringBuilder();
-        sb.append(prefix);
-
-        while(LF != reader.peek() && EOF != reader.peek()) {
-            sb.append((char)reader.peek());
-            reader.consume();
+    private Token readComment(final String prefix) {
+        if (skipWhitespaces) {
+            while(LF != reader.peek() && EOF != reader.peek()) {
+                reader.consume();
+            }
+            return null;
         }
+        else {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(prefix);
 
-        addToken(COMMENT, sb.toString(), pos);
+            while(LF != reader.peek() && EOF != reader.peek()) {
+                sb.append((char)reader.peek());
+                reader.consume();
+            }
+
+            return token(COMMENT, sb.toString());
+        }
     }
 
-    private void processCharReaderMacro(final ReaderPos startPos) {
+    private Token processCharReaderMacro() {
         final StringBuilder sb = new StringBuilder("#\\");
 
         int ch = reader.peek();
@@ -256,32 +320,31 @@ public class Tokenizer {
             }
         }
 
-        addToken(ANY, sb.toString(), startPos);
+        return token(ANY, sb.toString());
     }
 
-    private void readString(final ReaderPos pos) {
+    private Token readString() {
         reader.consume();
 
         final int chNext = reader.peek();
         if (chNext != '"'){
-            final String s = readSingleQuotedString(pos);
-            addToken(STRING, s, pos);
+            return token(STRING, readSingleQuotedString());
         }
         else {
             reader.consume();
 
             final int chNextNext = reader.peek();
             if (chNextNext != '"') {
-                addToken(STRING, "\"\"", pos);
+                return token(STRING, "\"\"");
             }
             else {
                 reader.consume();
-                addToken(STRING_BLOCK, readTripleQuotedString(pos), pos);
+                return token(STRING_BLOCK, readTripleQuotedString());
             }
         }
     }
 
-    private String readSingleQuotedString(final ReaderPos posStart) {
+    private String readSingleQuotedString() {
         final StringBuilder sb = new StringBuilder("\"");
 
         while(true) {
@@ -291,7 +354,7 @@ public class Tokenizer {
                 if (errorOnUnbalancedStringQuotes) {
                     throw new UnbalancedStringParseError(
                                 formatParseError(
-                                    new Token(STRING, sb.toString(), fileName, posStart),
+                                    token(STRING, sb.toString()),
                                     "Expected closing \" for single quoted string but got EOF"));
                 }
                 break;
@@ -302,10 +365,11 @@ public class Tokenizer {
                 break;
             }
             else if (ch == '\\') {
-                final ReaderPos pos = reader.getPos();
+                final int filePos = reader.getFilePos();
+                final long lineColumn = reader.getLineColumn();
                 reader.consume();
                 sb.append((char)ch);
-                readStringEscapeChar(STRING, pos, sb);
+                readStringEscapeChar(STRING, filePos, lineColumn, sb);
             }
             else {
                 reader.consume();
@@ -317,7 +381,7 @@ public class Tokenizer {
     }
 
 
-    private String readTripleQuotedString(final ReaderPos posStart) {
+    private String readTripleQuotedString() {
         final StringBuilder sb = new StringBuilder("\"\"\"");
 
         while(true) {
@@ -327,7 +391,7 @@ public class Tokenizer {
                 if (errorOnUnbalancedStringQuotes) {
                     throw new UnbalancedStringParseError(
                                 formatParseError(
-                                    new Token(STRING_BLOCK, sb.toString(), fileName, posStart),
+                                    token(STRING_BLOCK, sb.toString()),
                                     "Expected closing \"\"\" for triple quoted string but got EOF"));
                 }
                 break;
@@ -350,7 +414,8 @@ public class Tokenizer {
                 }
             }
             else if (ch == '\\') {
-                final ReaderPos pos = reader.getPos();
+                final int filePos = reader.getFilePos();
+                final long lineColumn = reader.getLineColumn();
                 reader.consume();
 
                 final int chNext = reader.peek();
@@ -365,7 +430,7 @@ public class Tokenizer {
                 }
                 else {
                     sb.append((char)ch);
-                    readStringEscapeChar(STRING, pos, sb);
+                    readStringEscapeChar(STRING, filePos, lineColumn, sb);
                 }
             }
             else {
@@ -411,19 +476,31 @@ public class Tokenizer {
         }
     }
 
-    private void addToken(
-            final TokenType type,
-            final String token,
-            final ReaderPos pos
-    ) {
-        if (!skipWhitespaces || (type != WHITESPACES && type != COMMENT)) {
-            tokens.add(new Token(type, token, fileName, pos));
+    private Token token(final TokenType type, final String token) {
+        return new Token(type, token, fileName, startFilePos, startLineColumn);
+    }
+
+    private static String specialCharToken(final char ch) {
+        switch(ch) {
+            case '(':  return "(";
+            case ')':  return ")";
+            case '[':  return "[";
+            case ']':  return "]";
+            case '{':  return "{";
+            case '}':  return "}";
+            case '^':  return "^";
+            case '\'': return "'";
+            case '`':  return "`";
+            case '~':  return "~";
+            case '@':  return "@";
+            default:   return String.valueOf(ch);
         }
     }
 
     private void readStringEscapeChar(
             final TokenType type,
-            final ReaderPos pos,
+            final int filePos,
+            final long lineColumn,
             final StringBuilder sb
     ) {
         final int ch = reader.peek();
@@ -433,14 +510,14 @@ public class Tokenizer {
         if (ch == LF || ch == CR) {
             if (errorOnIncompleteEscapeChars) {
                 throw new ParseError(formatParseError(
-                        new Token(type, "\\", fileName, pos),
+                        new Token(type, "\\", fileName, filePos, lineColumn),
                         "Expected escaped char in a string but got EOL"));
             }
         }
         else if (ch == EOF) {
             if (errorOnIncompleteEscapeChars) {
                 throw new EofException(formatParseError(
-                        new Token(type, "\\", fileName, pos),
+                        new Token(type, "\\", fileName, filePos, lineColumn),
                         "Expected escaped char in a string but got EOF"));
             }
         }
@@ -483,5 +560,7 @@ public class Tokenizer {
     private final boolean skipWhitespaces;
     private final boolean errorOnUnbalancedStringQuotes;
     private final boolean errorOnIncompleteEscapeChars;
-    private final List<Token> tokens = new ArrayList<>();
+
+    private int startFilePos;
+    private long startLineColumn;
 }
@@ -78,6 +78,7 @@ import com.github.jlangch.venice.impl.docgen.runtime.DocForm;
 import com.github.jlangch.venice.impl.env.Env;
 import com.github.jlangch.venice.impl.env.Var;
 import com.github.jlangch.venice.impl.functions.JsonFunctions;
+import com.github.jlangch.venice.impl.functions.SamplerFunctions;
 import com.github.jlangch.venice.impl.functions.SystemFunctions;
 import com.github.jlangch.venice.impl.javainterop.DynamicClassLoader2;
 import com.github.jlangch.venice.impl.namespaces.Namespaces;
@@ -96,6 +97,7 @@ import com.github.jlangch.venice.impl.types.collections.VncMap;
 import com.github.jlangch.venice.impl.types.util.Coerce;
 import com.github.jlangch.venice.impl.util.CommandLineArgs;
 import com.github.jlangch.venice.impl.util.StringUtil;
+import com.github.jlangch.venice.impl.util.callstack.CallStackSampler;
 import com.github.jlangch.venice.impl.util.io.CharsetUtil;
 import com.github.jlangch.venice.impl.util.io.zip.ZipFileSystemUtil;
 import com.github.jlangch.venice.impl.util.loadpath.ILoadPaths;
@@ -684,6 +686,7 @@ public class REPL implements IRepl {
                     case "info":          handleInfoCommand(terminal); break;
                     case "highlight":     handleHighlightCommand(args); break;
                     case "java-ex":       handleJavaExCommand(args); break;
+                    case "sampler":       handleSamplerCommand(args); break;
                     case "debug":         handleDebugHelpCommand(); break;
                     case "source-pdf":    handleSourcePdfCommand(args); break;
                     case "license":       handleLicenseCommand(args); break;
@@ -1078,6 +1081,84 @@ public class REPL implements IRepl {
         }
     }
 
+    private void handleSamplerCommand(final List<String> params) {
+        final CallStackSampler sampler = SamplerFunctions.getSampler();
+
+        switch(params.isEmpty() ? "status" : trimToEmpty(first(params))) {
+            case "start":
+                sampler.start(10, false);
+                printer.println("stdout", "Sampler started");
+                break;
+
+            case "stop":
+                sampler.stop();
+                printer.println("stdout", "Sampler stopped");
+                break;
+
+            case "status":
+                printer.println(
+                    "stdout",
+                    String.format(
+                        "Sampler: %s, %d samples",
+                        sampler.isRunning() ? "running" : "stopped",
+                        sampler.getSampleCount()));
+                break;
+
+            case "clear":
+                sampler.clear();
+                printer.println("stdout", "Sampler cleared");
+                break;
+
+            case "top":
+                final int n = params.size() > 1 ? Integer.parseInt(second(params)) : 10;
+                final long total = Math.max(1L, sampler.getSampleCount());
+                for(Object[] fn : sampler.getTopFunctions(n)) {
+                    printer.println(
+                        "stdout",
+                        String.format(
+                            "%6.2f%% %6.2f%%  %s",
+                            100.0D * (Long)fn[1] / total,
+                            100.0D * (Long)fn[2] / total,
+                            fn[0]));
+                }
+                break;
+
+            case "flamegraph":
+                if (params.size() != 2) {
+                    printer.println("error", "Invalid parameter. Use !sampler flamegraph {file}.");
+                }
+                else {
+                    saveSamplerData(second(params), sampler.getFlameGraphSvg("Venice Flame Graph"));
+                }
+                break;
+
+            case "collapsed":
+                if (params.size() != 2) {
+                    printer.println("error", "Invalid parameter. Use !sampler collapsed {file}.");
+                }
+                else {
+                    saveSamplerData(second(params), sampler.getCollapsedStacksText());
+                }
+                break;
+
+            default:
+                printer.println(
+                    "error",
+                    "Invalid parameter. Use !sampler {start|stop|status|clear|top|flamegraph|collapsed}.");
+                break;
+        }
+    }
+
+    private void saveSamplerData(final String file, final String data) {
+        try {
+            Files.write(new File(file).toPath(), data.getBytes(CharsetUtil.charset("UTF-8")));
+            printer.println("stdout", "Saved to " + file);
+        }
+        catch(IOException ex) {
+            printer.println("error", "Failed to save to " + file + ": " + ex.getMessage());
+        }
+    }
+
     private void handleSourcePdfCommand(final List<String> params) {
         if (params.size() == 1) {
             final String sourceFile = trimToEmpty(first(params));
@@ -60,6 +60,11 @@ public class ReplHelp {
             "  !java-ex     print Java exception\n" +
             "                 !java-ex\n" +
             "                 !java-ex {on/off}\n" +
+            "  !sampler     sampling profiler for Venice functions\n" +
+            "                 !sampler {start/stop/status/clear}\n" +
+            "                 !sampler top {n}\n" +
+            "                 !sampler flamegraph {svg-file}\n" +
+            "                 !sampler collapsed {file}\n" +
             "  !source-pdf  render Venice source code to PDF\n" +
             "                 !source-pdf {source-file}\n" +
             "                 !source-pdf {source-file} {dest-dir}\n" +
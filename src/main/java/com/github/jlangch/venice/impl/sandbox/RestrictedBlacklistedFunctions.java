@@ -180,6 +180,7 @@ public class RestrictedBlacklistedFunctions {
                 "io/print-line",
                 "io/read-char",
                 "io/read-line",
+                "io/reducible-lines",
                 "io/registered-watch-dirs",
                 "io/slurp",
                 "io/slurp-lines",
@@ -248,7 +249,18 @@ public class RestrictedBlacklistedFunctions {
                 "mbean/unregister",
                 "mbean/operating-system-mxbean",
                 "mbean/operating-runtime-mxbean",
-                "mbean/operating-memory-mxbean"
+                "mbean/operating-memory-mxbean",
+                "mbean/profiler-mxbean",
+                "mbean/executor-mxbean",
+
+                "sampler/start",
+                "sampler/stop",
+                "sampler/running?",
+                "sampler/clear",
+                "sampler/sample-count",
+                "sampler/collapsed-stacks",
+                "sampler/flamegraph",
+                "sampler/top"
 
 
                 // Note: Extension Modules are white listed if a sandbox is active.
@@ -324,15 +336,19 @@ public class RestrictedBlacklistedFunctions {
                 "cancel",
                 "cancelled?",
                 "complete-on-timeout",
+                "dag/execute",
                 "deliver",
                 "deliver-ex",
                 "done?",
+                "executor-metrics",
                 "future",
                 "future-task",
                 "future?",
                 "futures-fork",
                 "futures-thread-pool-info",
                 "futures-wait",
+                "go",
+                "go*",
                 // "lock",
                 // "lock?",
                 // "locked?",
@@ -365,6 +381,7 @@ public class RestrictedBlacklistedFunctions {
                 "thread-local?",
                 "thread-name",
                 "timeout-after",
+                "timeout-chan",
                 "when-complete",
 
                 // Scheduler
@@ -1016,11 +1016,20 @@ public class SpecialForms_OtherFunctions {
                         "Controls the code profiling. See the companion functions/macros " +
                         "'dorun' and 'perf'. The perf macro is built on prof and dorun and " +
                         "provides all for simple Venice profiling.\n\n" +
-                        "The profiler reports a function's elapsed time as \"time with children\"! \n\n" +
+                        "The profiler reports a function's elapsed time as \"time with children\" " +
+                        "(`:nanos`) and as \"self time\" without the time spent in the called " +
+                        "functions (`:self-nanos`). Each function has a latency histogram " +
+                        "providing the percentiles `:p50-nanos`, `:p99-nanos`, and " +
+                        "`:p999-nanos` (accurate to 12.5%) and the `:max-nanos` of a single " +
+                        "call.\n\n" +
+                        "The calls are recorded to per thread meters and merged on reading " +
+                        "the data, so the profiler can be kept on with a low overhead. " +
+                        "See `mbean/profiler-mxbean` to publish the data via JMX.\n\n" +
                         "Profiling recursive functions:¶\n" +
-                        "Because the profiler reports \"time with children\" and accumulates the " +
-                        "elapsed time across all recursive calls the resulting time for a " +
-                        "particular recursive function is higher than the effective time.")
+                        "Because the \"time with children\" is accumulated across all " +
+                        "recursive calls the resulting time for a particular recursive " +
+                        "function is higher than the effective time. The self time is " +
+                        "not affected.")
                     .examples(
                         "(do  \n" +
                         "  (prof :on)   ; turn profiler on  \n" +
@@ -1031,7 +1040,7 @@ public class SpecialForms_OtherFunctions {
                         "  (prof :data-formatted)   ; returns the profiler data as formatted text  \n" +
                         "  (prof :data-formatted \"Metrics\")   ; returns the profiler data as formatted text with a title  \n" +
                         "  nil)  ")
-                    .seeAlso("perf", "time")
+                    .seeAlso("perf", "time", "mbean/profiler-mxbean")
                     .build()
         ) {
             @Override
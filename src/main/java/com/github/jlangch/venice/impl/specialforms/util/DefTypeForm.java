@@ -24,9 +24,7 @@ package com.github.jlangch.venice.impl.specialforms.util;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import com.github.jlangch.venice.VncException;
@@ -42,7 +40,6 @@ import com.github.jlangch.venice.impl.types.VncVal;
 import com.github.jlangch.venice.impl.types.collections.VncHashSet;
 import com.github.jlangch.venice.impl.types.collections.VncList;
 import com.github.jlangch.venice.impl.types.collections.VncMap;
-import com.github.jlangch.venice.impl.types.collections.VncOrderedMap;
 import com.github.jlangch.venice.impl.types.collections.VncVector;
 import com.github.jlangch.venice.impl.types.custom.CustomWrappableTypes;
 import com.github.jlangch.venice.impl.types.custom.VncChoiceTypeDef;
@@ -319,25 +316,29 @@ public class DefTypeForm {
                     typeArgs.size()));
         }
 
-        final Map<VncVal,VncVal> fields = new LinkedHashMap<>();
-
-        for(int ii=0; ii<typeDef.count(); ii++) {
-            final VncCustomTypeFieldDef fieldDef = typeDef.getFieldDef(ii);
-            final VncVal arg = typeArgs.get(ii);
-
-            validateTypeCompatibility(typeDef.getType(), fieldDef, arg);
+        return createCustomType(
+                    typeDef,
+                    typeArgs.toArray(new VncVal[typeArgs.size()]),
+                    meta);
+    }
 
-            fields.put(fieldDef.getName(), arg);
+    public static VncCustomType createCustomType(
+            final VncCustomTypeDef typeDef,
+            final VncVal[] fields,
+            final VncVal meta
+    ) {
+        // 'fields' is laid out by field ordinal
+        for(int ii=0; ii<fields.length; ii++) {
+            validateTypeCompatibility(typeDef, typeDef.getFieldDef(ii), fields[ii]);
         }
 
-        final VncMap data = new VncOrderedMap(fields, Constants.Nil);
+        final VncCustomType value = new VncCustomType(typeDef, fields, meta);
 
-        typeDef.validate(data);
+        if (typeDef.getValidationFn() != null) {
+            typeDef.validate(value.getValuesAsMap());
+        }
 
-        return new VncCustomType(
-                        typeDef,
-                        data,
-                        meta);
+        return value;
     }
 
     public static VncCustomType createCustomType(
@@ -373,26 +374,12 @@ public class DefTypeForm {
                     fields.size()));
         }
 
-        final Map<VncVal,VncVal> fieldsNew = new LinkedHashMap<>();
-
-        for(int ii=0; ii<typeDef.count(); ii++) {
-            final VncCustomTypeFieldDef fieldDef = typeDef.getFieldDef(ii);
-
-            final VncVal arg = fields.get(fieldDef.getName());
-
-            validateTypeCompatibility(typeDef.getType(), fieldDef, arg);
-
-            fieldsNew.put(fieldDef.getName(), arg);
+        final VncVal[] values = new VncVal[typeDef.count()];
+        for(int ii=0; ii<values.length; ii++) {
+            values[ii] = fields.get(typeDef.getFieldName(ii));
         }
 
-        final VncMap data = new VncOrderedMap(fieldsNew, Constants.Nil);
-
-        typeDef.validate(data);
-
-        return new VncCustomType(
-                        typeDef,
-                        data,
-                        meta);
+        return createCustomType(typeDef, values, meta);
     }
 
     public static VncVal createWrappedType(
@@ -446,7 +433,7 @@ public class DefTypeForm {
     }
 
     private static void validateTypeCompatibility(
-            final VncKeyword type,
+            final VncCustomTypeDef typeDef,
             final VncCustomTypeFieldDef fieldDef,
             final VncVal arg
     ) {
@@ -454,7 +441,6 @@ public class DefTypeForm {
             return;
         }
 
-        final VncKeyword argType = Types.getType(arg);
         if (Types.isInstanceOf(fieldDef.getType(), arg)) {
             return;
         }
@@ -465,10 +451,10 @@ public class DefTypeForm {
 
         throw new VncException(String.format(
                 "The type %s requires arg %d of type %s instead of the passed %s",
-                type.toString(),
+                typeDef.getType().toString(),
                 fieldDef.getIndex().getValue() + 1,
                 fieldDef.getType().toString(),
-                argType.toString()));
+                Types.getType(arg).toString()));
     }
 
     private static void validateTypeCompatibility(
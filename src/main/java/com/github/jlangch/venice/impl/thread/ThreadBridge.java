@@ -38,6 +38,7 @@ import com.github.jlangch.venice.impl.util.CollectionUtil;
 import com.github.jlangch.venice.impl.util.StringUtil;
 import com.github.jlangch.venice.impl.util.callstack.CallFrame;
 import com.github.jlangch.venice.impl.util.callstack.CallStack;
+import com.github.jlangch.venice.impl.util.jfr.JfrEvents;
 
 
 /**
@@ -55,6 +56,8 @@ public class ThreadBridge {
             final boolean deactivateDebugAgent,
             final CallFrame[] callFrames
     ) {
+        this.name = name;
+        this.createdNanos = JfrEvents.ENABLED ? System.nanoTime() : 0L;
         this.parentThreadSnapshot = parentThreadSnapshot;
         this.deactivateDebugAgent = deactivateDebugAgent;
         this.callFrames = callFrames;
@@ -96,6 +99,7 @@ public class ThreadBridge {
 
     public <T> Callable<T> bridgeCallable(final Callable<T> callable) {
         final Callable<T> wrapper = () -> {
+            final long startNanos = JfrEvents.ENABLED ? System.nanoTime() : 0L;
             try {
                 // inherit thread local values to the child thread
                 ThreadContext.inheritFrom(parentThreadSnapshot);
@@ -116,6 +120,10 @@ public class ThreadBridge {
             finally {
                 // clean up
                 ThreadContext.remove();
+
+                if (JfrEvents.ENABLED) {
+                    JfrEvents.task(name, createdNanos, startNanos);
+                }
             }};
 
         return wrapper;
@@ -123,6 +131,7 @@ public class ThreadBridge {
 
     public Runnable bridgeRunnable(final Runnable runnable) {
         final Runnable wrapper = () -> {
+            final long startNanos = JfrEvents.ENABLED ? System.nanoTime() : 0L;
             try {
                 // inherit thread local values to the child thread
                 ThreadContext.inheritFrom(parentThreadSnapshot);
@@ -136,6 +145,10 @@ public class ThreadBridge {
             finally {
                 // clean up
                 ThreadContext.remove();
+
+                if (JfrEvents.ENABLED) {
+                    JfrEvents.task(name, createdNanos, startNanos);
+                }
             }};
 
         return wrapper;
@@ -302,6 +315,8 @@ public class ThreadBridge {
     };
 
 
+    private final String name;
+    private final long createdNanos;  // System::nanoTime, only if JFR events are enabled
     private final ThreadContextSnapshot parentThreadSnapshot;
     private final boolean deactivateDebugAgent;
     private final CallFrame[] callFrames;
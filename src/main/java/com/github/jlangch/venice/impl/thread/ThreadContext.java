@@ -27,6 +27,7 @@ import java.io.PrintStream;
 import java.io.Reader;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.WeakHashMap;
 
 import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.debug.agent.DebugAgent;
@@ -60,6 +61,9 @@ import com.github.jlangch.venice.javainterop.RejectAllInterceptor;
 public class ThreadContext {
 
     public ThreadContext() {
+        synchronized(contexts) {
+            contexts.put(Thread.currentThread(), this);
+        }
     }
 
 
@@ -236,6 +240,24 @@ public class ThreadContext {
         get().callStack = new CallStack();
     }
 
+    /**
+     * Returns the call stacks of all live threads that have a thread context.
+     *
+     * <p>The call stacks are owned by their threads. Other threads may only
+     * take best effort snapshots of them, see {@link CallStack#sample()}.
+     *
+     * @return the threads and their call stacks
+     */
+    public static Map<Thread,CallStack> getCallStacks() {
+        final Map<Thread,CallStack> stacks = new HashMap<>();
+        synchronized(contexts) {
+            for(Map.Entry<Thread,ThreadContext> e : contexts.entrySet()) {
+                stacks.put(e.getKey(), e.getValue().callStack);
+            }
+        }
+        return stacks;
+    }
+
     public static CallStack getCallStack() {
         return  get().callStack;
     }
@@ -338,6 +360,10 @@ public class ThreadContext {
 
             ThreadContext.context.set(null);
             ThreadContext.context.remove();
+
+            synchronized(contexts) {
+                contexts.remove(Thread.currentThread());
+            }
         }
         catch(Exception ex) {
             // do not care
@@ -424,6 +450,10 @@ public class ThreadContext {
     private static final VncKeyword ASSERTIONS = new VncKeyword("*assertions*");
 
 
+    // All thread contexts by thread. Weak keys, the entry goes away with
+    // its thread.
+    private static final Map<Thread,ThreadContext> contexts = new WeakHashMap<>();
+
     // Note: Do NOT use InheritableThreadLocal with ExecutorServices. It's not guaranteed
     //       to work in all cases!
     private static ThreadLocal<ThreadContext> context =
@@ -0,0 +1,420 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.threadpool;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncString;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncMap;
+import com.github.jlangch.venice.impl.types.collections.VncOrderedMap;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
+import com.github.jlangch.venice.impl.util.LatencyHistogram;
+
+
+/**
+ * Task metrics of a thread pool.
+ *
+ * <p>Records the queue wait (enqueue to start) and the execution time
+ * (start to end) of the tasks in latency histograms, counts the submitted,
+ * completed, failed, and rejected tasks, and tracks the number of queued
+ * and running tasks with their high water marks. The saturation history
+ * keeps the max number of queued and running tasks for each second of the
+ * last minute.
+ *
+ * <p>The metrics are kept per pool name in a JVM wide registry. Pools with
+ * the same name, e.g. the pools of multiple IPC servers, share their
+ * metrics.
+ */
+public class ExecutorMetrics {
+
+    private ExecutorMetrics(final String poolName) {
+        this.poolName = poolName;
+    }
+
+
+    /**
+     * Returns the metrics for a pool. Creates the metrics if the pool
+     * has none yet.
+     *
+     * @param poolName a pool name like "venice-future-pool"
+     * @return the metrics
+     */
+    public static ExecutorMetrics of(final String poolName) {
+        return registry.computeIfAbsent(poolName, ExecutorMetrics::new);
+    }
+
+    /**
+     * Returns the metrics for a pool
+     *
+     * @param poolName a pool name like "venice-future-pool"
+     * @return the metrics or <code>null</code> if the pool has no metrics
+     */
+    public static ExecutorMetrics find(final String poolName) {
+        return registry.get(poolName);
+    }
+
+    /**
+     * @return the metrics of all pools sorted by pool name
+     */
+    public static List<ExecutorMetrics> all() {
+        return registry.values()
+                       .stream()
+                       .sorted(Comparator.comparing(ExecutorMetrics::getPoolName))
+                       .collect(Collectors.toList());
+    }
+
+
+    /**
+     * Wraps a task to record its queue wait and execution time. Counts
+     * the task as submitted and queued.
+     *
+     * <p>Executors that wrap their tasks must unwrap them with
+     * {@link #unwrap(Runnable)} before handing them out, e.g. from
+     * <code>shutdownNow()</code>.
+     *
+     * @param task a task
+     * @return the metered task
+     */
+    public Runnable wrap(final Runnable task) {
+        return new MeteredTask(task, enqueued());
+    }
+
+    /**
+     * Returns the task wrapped by {@link #wrap(Runnable)}
+     *
+     * @param task a task
+     * @return the wrapped task or the passed task if it is not wrapped
+     */
+    public static Runnable unwrap(final Runnable task) {
+        return task instanceof MeteredTask ? ((MeteredTask)task).task : task;
+    }
+
+    /**
+     * Counts a task as submitted and queued.
+     *
+     * @return the enqueue time (nanos)
+     */
+    public long enqueued() {
+        submitted.increment();
+        updateSaturation(queued.incrementAndGet(), running.get());
+        return System.nanoTime();
+    }
+
+    /**
+     * Counts a task as submitted without queueing it. Used for scheduled
+     * tasks that wait for their delay rather than for a worker.
+     */
+    public void scheduled() {
+        submitted.increment();
+    }
+
+    /**
+     * Removes tasks from the queue that have been drained without being
+     * run, e.g. by <code>shutdownNow()</code>.
+     *
+     * @param count the number of tasks
+     */
+    public void drained(final int count) {
+        queued.addAndGet(-count);
+    }
+
+    /**
+     * Records the start of a task
+     *
+     * @param queueWaitNanos the time the task waited in the queue
+     * @param dequeued <code>true</code> if the task has been counted as
+     *                 queued by {@link #enqueued()}
+     * @return the start time (nanos)
+     */
+    public long started(final long queueWaitNanos, final boolean dequeued) {
+        final int q = dequeued ? queued.decrementAndGet() : queued.get();
+        updateSaturation(q, running.incrementAndGet());
+
+        final long wait = Math.max(0L, queueWaitNanos);
+        queueWait.recordConcurrent(wait);
+        queueWaitMax.accumulateAndGet(wait, Math::max);
+
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the end of a task
+     *
+     * @param startNanos the task's start time
+     * @param failed <code>true</code> if the task failed
+     */
+    public void finished(final long startNanos, final boolean failed) {
+        running.decrementAndGet();
+
+        final long elapsed = System.nanoTime() - startNanos;
+        execution.recordConcurrent(elapsed);
+        executionMax.accumulateAndGet(elapsed, Math::max);
+
+        if (failed) {
+            this.failed.increment();
+        }
+        else {
+            completed.increment();
+        }
+    }
+
+    /**
+     * Counts a rejected task
+     *
+     * @param dequeued <code>true</code> if the task has been counted as
+     *                 queued by {@link #enqueued()}
+     */
+    public void rejected(final boolean dequeued) {
+        if (dequeued) {
+            queued.decrementAndGet();
+        }
+        rejected.increment();
+    }
+
+    public void reset() {
+        submitted.reset();
+        completed.reset();
+        failed.reset();
+        rejected.reset();
+        maxQueued.set(queued.get());
+        maxRunning.set(running.get());
+        queueWait.reset();
+        queueWaitMax.set(0L);
+        execution.reset();
+        executionMax.set(0L);
+        for(int ii=0; ii<HISTORY_SECONDS; ii++) {
+            historySecond.set(ii, 0L);
+        }
+    }
+
+    public String getPoolName() {
+        return poolName;
+    }
+
+    public long getSubmittedTaskCount() {
+        return submitted.sum();
+    }
+
+    public long getCompletedTaskCount() {
+        return completed.sum();
+    }
+
+    public long getFailedTaskCount() {
+        return failed.sum();
+    }
+
+    public long getRejectedTaskCount() {
+        return rejected.sum();
+    }
+
+    public int getQueuedTaskCount() {
+        return Math.max(0, queued.get());
+    }
+
+    public int getRunningTaskCount() {
+        return Math.max(0, running.get());
+    }
+
+    public int getMaxQueuedTaskCount() {
+        return maxQueued.get();
+    }
+
+    public int getMaxRunningTaskCount() {
+        return maxRunning.get();
+    }
+
+    /**
+     * Returns the queue wait at a percentile
+     *
+     * @param percentile a percentile [0.0 .. 100.0]
+     * @return the queue wait in microseconds
+     */
+    public long getQueueWaitMicros(final double percentile) {
+        return toMicros(Math.min(queueWaitMax.get(), queueWait.getValueAtPercentile(percentile)));
+    }
+
+    public long getQueueWaitMaxMicros() {
+        return toMicros(queueWaitMax.get());
+    }
+
+    /**
+     * Returns the execution time at a percentile
+     *
+     * @param percentile a percentile [0.0 .. 100.0]
+     * @return the execution time in microseconds
+     */
+    public long getExecutionMicros(final double percentile) {
+        return toMicros(Math.min(executionMax.get(), execution.getValueAtPercentile(percentile)));
+    }
+
+    public long getExecutionMaxMicros() {
+        return toMicros(executionMax.get());
+    }
+
+    public VncMap toVncMap() {
+        return VncOrderedMap.of(
+                new VncKeyword("name"),          new VncString(poolName),
+                new VncKeyword("submitted"),     new VncLong(getSubmittedTaskCount()),
+                new VncKeyword("completed"),     new VncLong(getCompletedTaskCount()),
+                new VncKeyword("failed"),        new VncLong(getFailedTaskCount()),
+                new VncKeyword("rejected"),      new VncLong(getRejectedTaskCount()),
+                new VncKeyword("queued"),        new VncLong(getQueuedTaskCount()),
+                new VncKeyword("running"),       new VncLong(getRunningTaskCount()),
+                new VncKeyword("max-queued"),    new VncLong(getMaxQueuedTaskCount()),
+                new VncKeyword("max-running"),   new VncLong(getMaxRunningTaskCount()),
+                new VncKeyword("queue-wait"),    latencies(queueWait, queueWaitMax.get()),
+                new VncKeyword("execution"),     latencies(execution, executionMax.get()),
+                new VncKeyword("saturation"),    saturationHistory());
+    }
+
+
+    private VncMap latencies(final LatencyHistogram histogram, final long max) {
+        return VncOrderedMap.of(
+                new VncKeyword("count"), new VncLong(histogram.getTotalCount()),
+                new VncKeyword("p50"),   new VncLong(toMicros(Math.min(max, histogram.getValueAtPercentile(50.0D)))),
+                new VncKeyword("p90"),   new VncLong(toMicros(Math.min(max, histogram.getValueAtPercentile(90.0D)))),
+                new VncKeyword("p99"),   new VncLong(toMicros(Math.min(max, histogram.getValueAtPercentile(99.0D)))),
+                new VncKeyword("p999"),  new VncLong(toMicros(Math.min(max, histogram.getValueAtPercentile(99.9D)))),
+                new VncKeyword("max"),   new VncLong(toMicros(max)));
+    }
+
+    private VncVector saturationHistory() {
+        final long now = System.currentTimeMillis() / 1000L;
+
+        final List<VncVal> history = new ArrayList<>();
+        for(long sec=now-HISTORY_SECONDS+1; sec<=now; sec++) {
+            final int idx = (int)(sec % HISTORY_SECONDS);
+            if (historySecond.get(idx) == sec) {
+                history.add(VncOrderedMap.of(
+                        new VncKeyword("time"),    new VncLong(sec * 1000L),
+                        new VncKeyword("queued"),  new VncLong(historyQueued.get(idx)),
+                        new VncKeyword("running"), new VncLong(historyRunning.get(idx))));
+            }
+        }
+
+        return VncVector.ofList(history);
+    }
+
+    private void updateSaturation(final int queuedNow, final int runningNow) {
+        maxQueued.accumulateAndGet(queuedNow, Math::max);
+        maxRunning.accumulateAndGet(runningNow, Math::max);
+
+        final long sec = System.currentTimeMillis() / 1000L;
+        final int idx = (int)(sec % HISTORY_SECONDS);
+        final long slotSec = historySecond.get(idx);
+        if (slotSec != sec && historySecond.compareAndSet(idx, slotSec, sec)) {
+            // a new second claims the slot, values recorded concurrently
+            // with the reset may get lost, the history is approximate
+            historyQueued.set(idx, 0L);
+            historyRunning.set(idx, 0L);
+        }
+        historyQueued.accumulateAndGet(idx, queuedNow, Math::max);
+        historyRunning.accumulateAndGet(idx, runningNow, Math::max);
+    }
+
+    static boolean isFailedFuture(final Runnable task) {
+        if (task instanceof Future) {
+            final Future<?> f = (Future<?>)task;
+            if (f.isDone() && !f.isCancelled()) {
+                try {
+                    f.get();
+                }
+                catch(ExecutionException ex) {
+                    return true;
+                }
+                catch(Exception ex) {
+                    // not failed by the task
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long toMicros(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+
+    private class MeteredTask implements Runnable {
+        public MeteredTask(final Runnable task, final long enqueuedNanos) {
+            this.task = task;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+        @Override
+        public void run() {
+            final long startNanos = started(System.nanoTime() - enqueuedNanos, true);
+            boolean failed = true;
+            try {
+                task.run();
+                failed = isFailedFuture(task);
+            }
+            finally {
+                finished(startNanos, failed);
+            }
+        }
+
+        private final Runnable task;
+        private final long enqueuedNanos;
+    }
+
+
+    private static final int HISTORY_SECONDS = 60;
+
+    private static final Map<String,ExecutorMetrics> registry = new ConcurrentHashMap<>();
+
+    private final String poolName;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxQueued = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final AtomicLong queueWaitMax = new AtomicLong();
+    private final LatencyHistogram execution = new LatencyHistogram();
+    private final AtomicLong executionMax = new AtomicLong();
+
+    private final AtomicLongArray historySecond = new AtomicLongArray(HISTORY_SECONDS);
+    private final AtomicLongArray historyQueued = new AtomicLongArray(HISTORY_SECONDS);
+    private final AtomicLongArray historyRunning = new AtomicLongArray(HISTORY_SECONDS);
+}
@@ -0,0 +1,101 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.threadpool;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A {@link ScheduledThreadPoolExecutor} that records its task metrics in an
+ * {@link ExecutorMetrics}.
+ *
+ * <p>A scheduled task waits for its delay rather than for a worker, so the
+ * queue wait of a task is its lateness, the time between the scheduled and
+ * the actual start. Each run of a periodic task is recorded as an execution.
+ */
+public class InstrumentedScheduledThreadPoolExecutor extends ScheduledThreadPoolExecutor {
+
+    public InstrumentedScheduledThreadPoolExecutor(
+            final int corePoolSize,
+            final ThreadFactory threadFactory,
+            final ExecutorMetrics metrics
+    ) {
+        super(corePoolSize,
+              threadFactory,
+              new InstrumentedThreadPoolExecutor.CountingRejectionHandler(
+                      metrics,
+                      new ThreadPoolExecutor.AbortPolicy()));
+
+        this.metrics = metrics;
+    }
+
+
+    public ExecutorMetrics getMetrics() {
+        return metrics;
+    }
+
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(
+            final Runnable runnable,
+            final RunnableScheduledFuture<V> task
+    ) {
+        metrics.scheduled();
+        return task;
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(
+            final Callable<V> callable,
+            final RunnableScheduledFuture<V> task
+    ) {
+        metrics.scheduled();
+        return task;
+    }
+
+    @Override
+    protected void beforeExecute(final Thread t, final Runnable r) {
+        super.beforeExecute(t, r);
+
+        final long lateness = r instanceof RunnableScheduledFuture
+                                ? -((RunnableScheduledFuture<?>)r).getDelay(TimeUnit.NANOSECONDS)
+                                : 0L;
+        startNanos.set(metrics.started(lateness, false));
+    }
+
+    @Override
+    protected void afterExecute(final Runnable r, final Throwable t) {
+        super.afterExecute(r, t);
+
+        final boolean failed = t != null || ExecutorMetrics.isFailedFuture(r);
+        metrics.finished(startNanos.get(), failed);
+    }
+
+
+    private final ExecutorMetrics metrics;
+    private final ThreadLocal<Long> startNanos = ThreadLocal.withInitial(() -> 0L);
+}
@@ -0,0 +1,155 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.threadpool;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A {@link ThreadPoolExecutor} that records its task metrics in an
+ * {@link ExecutorMetrics}.
+ *
+ * <p>The tasks are not wrapped, the queue holds the caller's tasks. So
+ * <code>shutdownNow()</code> returns the submitted futures, and
+ * <code>remove(task)</code> and <code>getQueue()</code> work on the
+ * submitted tasks. The enqueue time of the queued tasks is kept in a map
+ * and the execution is timed by <code>beforeExecute</code> and
+ * <code>afterExecute</code>.
+ */
+public class InstrumentedThreadPoolExecutor extends ThreadPoolExecutor {
+
+    public InstrumentedThreadPoolExecutor(
+            final int corePoolSize,
+            final int maximumPoolSize,
+            final long keepAliveTime,
+            final TimeUnit unit,
+            final BlockingQueue<Runnable> workQueue,
+            final ThreadFactory threadFactory,
+            final ExecutorMetrics metrics
+    ) {
+        super(corePoolSize,
+              maximumPoolSize,
+              keepAliveTime,
+              unit,
+              workQueue,
+              threadFactory,
+              new CountingRejectionHandler(metrics, new ThreadPoolExecutor.AbortPolicy()));
+
+        this.metrics = metrics;
+    }
+
+
+    @Override
+    public void execute(final Runnable command) {
+        if (command == null) {
+            throw new NullPointerException();
+        }
+        enqueueNanos.put(command, metrics.enqueued());
+        super.execute(command);
+    }
+
+    @Override
+    public boolean remove(final Runnable task) {
+        final boolean removed = super.remove(task);
+        if (removed && enqueueNanos.remove(task) != null) {
+            metrics.drained(1);
+        }
+        return removed;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        final List<Runnable> drained = super.shutdownNow();
+        int count = 0;
+        for(Runnable r : drained) {
+            if (enqueueNanos.remove(r) != null) {
+                count++;
+            }
+        }
+        metrics.drained(count);
+        return drained;
+    }
+
+    public ExecutorMetrics getMetrics() {
+        return metrics;
+    }
+
+
+    @Override
+    protected void beforeExecute(final Thread t, final Runnable r) {
+        super.beforeExecute(t, r);
+
+        final Long enqueued = enqueueNanos.remove(r);
+        final long wait = enqueued == null ? 0L : System.nanoTime() - enqueued;
+        startNanos.set(metrics.started(wait, enqueued != null));
+    }
+
+    @Override
+    protected void afterExecute(final Runnable r, final Throwable t) {
+        super.afterExecute(r, t);
+
+        final boolean failed = t != null || ExecutorMetrics.isFailedFuture(r);
+        metrics.finished(startNanos.get(), failed);
+    }
+
+
+    static class CountingRejectionHandler implements RejectedExecutionHandler {
+
+        public CountingRejectionHandler(
+                final ExecutorMetrics metrics,
+                final RejectedExecutionHandler delegate
+        ) {
+            this.metrics = metrics;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void rejectedExecution(
+                final Runnable r,
+                final ThreadPoolExecutor executor
+        ) {
+            // tasks passed to execute() have been counted as queued
+            final boolean dequeued =
+                    executor instanceof InstrumentedThreadPoolExecutor
+                        && ((InstrumentedThreadPoolExecutor)executor).enqueueNanos.remove(r) != null;
+            metrics.rejected(dequeued);
+            delegate.rejectedExecution(r, executor);
+        }
+
+        private final ExecutorMetrics metrics;
+        private final RejectedExecutionHandler delegate;
+    }
+
+
+    private final ExecutorMetrics metrics;
+
+    // enqueue time of the queued tasks
+    private final Map<Runnable,Long> enqueueNanos = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> startNanos = ThreadLocal.withInitial(() -> 0L);
+}
@@ -22,7 +22,7 @@
 package com.github.jlangch.venice.impl.threadpool;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -52,9 +52,13 @@ public class ManagedCachedThreadPoolExecutor extends ManagedExecutor {
 
     @Override
     protected ExecutorService createExecutorService() {
-        final ThreadPoolExecutor es = (ThreadPoolExecutor)Executors.newCachedThreadPool(
+        final ThreadPoolExecutor es = new InstrumentedThreadPoolExecutor(
+                                            0, Integer.MAX_VALUE,
+                                            60L, TimeUnit.SECONDS,
+                                            new SynchronousQueue<Runnable>(),
                                             ThreadPoolUtil.createCountedThreadFactory(
-                                                    threadPoolName, true));
+                                                    threadPoolName, true),
+                                            getMetrics());
         es.setCorePoolSize(corePoolSize);
         es.setKeepAliveTime(keepAliveTimeSeconds, TimeUnit.SECONDS);
         es.setMaximumPoolSize(maxThreadPoolSize);
@@ -117,6 +121,10 @@ public class ManagedCachedThreadPoolExecutor extends ManagedExecutor {
         return getExecutor().getCompletedTaskCount();
     }
 
+    public ExecutorMetrics getMetrics() {
+        return ExecutorMetrics.of(threadPoolName);
+    }
+
     public VncMap info() {
         return VncOrderedMap.of(
                 new VncKeyword("core-pool-size"),
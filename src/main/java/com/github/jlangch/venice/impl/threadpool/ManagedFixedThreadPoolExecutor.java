@@ -0,0 +1,67 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.threadpool;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+public class ManagedFixedThreadPoolExecutor extends ManagedExecutor {
+
+    public ManagedFixedThreadPoolExecutor(
+            final String threadPoolName,
+            final int poolSize
+    ) {
+        this.threadPoolName = threadPoolName;
+        this.poolSize = Math.max(1, poolSize);
+    }
+
+
+    @Override
+    public ThreadPoolExecutor getExecutor() {
+        return (ThreadPoolExecutor)super.getExecutor();
+    }
+
+    @Override
+    protected ExecutorService createExecutorService() {
+        return new InstrumentedThreadPoolExecutor(
+                    poolSize, poolSize,
+                    0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<Runnable>(),
+                    ThreadPoolUtil.createCountedThreadFactory(threadPoolName, true),
+                    getMetrics());
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public ExecutorMetrics getMetrics() {
+        return ExecutorMetrics.of(threadPoolName);
+    }
+
+
+    private final String threadPoolName;
+    private final int poolSize;
+}
@@ -22,7 +22,6 @@
 package com.github.jlangch.venice.impl.threadpool;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 
 
@@ -44,9 +43,14 @@ public class ManagedScheduledThreadPoolExecutor extends ManagedExecutor {
 
     @Override
     protected ExecutorService createExecutorService() {
-        return Executors.newScheduledThreadPool(
+        return new InstrumentedScheduledThreadPoolExecutor(
                     corePoolSize,
-                    ThreadPoolUtil.createCountedThreadFactory(threadPoolName, true));
+                    ThreadPoolUtil.createCountedThreadFactory(threadPoolName, true),
+                    getMetrics());
+    }
+
+    public ExecutorMetrics getMetrics() {
+        return ExecutorMetrics.of(threadPoolName);
     }
 
 
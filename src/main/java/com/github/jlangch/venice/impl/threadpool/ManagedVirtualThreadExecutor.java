@@ -0,0 +1,100 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.threadpool;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * An executor that runs each task on a new virtual thread on Java 21+.
+ *
+ * <p>On older Java VMs it falls back to an unbounded cached thread pool.
+ * Idle pool threads are reused and blocked tasks do not starve each
+ * other, but every concurrently blocked task occupies a system thread.
+ * A bounded pool would deadlock or reject tasks as soon as all its
+ * threads wait on each other.
+ *
+ * <p>The virtual thread API is accessed by reflection because Venice
+ * is compiled for Java 8.
+ */
+public class ManagedVirtualThreadExecutor extends ManagedExecutor {
+
+    public ManagedVirtualThreadExecutor(final String threadPoolName) {
+        this.threadPoolName = threadPoolName;
+    }
+
+
+    public static boolean isVirtualThreadSupported() {
+        return virtualThreadFactory(null) != null;
+    }
+
+    public boolean isUsingVirtualThreads() {
+        return !(getExecutor() instanceof ThreadPoolExecutor);
+    }
+
+    @Override
+    protected ExecutorService createExecutorService() {
+        final ThreadFactory factory = virtualThreadFactory(threadPoolName);
+        if (factory != null) {
+            try {
+                final Method m = Executors.class.getMethod(
+                                        "newThreadPerTaskExecutor",
+                                        ThreadFactory.class);
+                return (ExecutorService)m.invoke(null, factory);
+            }
+            catch(Exception ex) {
+                // fall back to a thread pool
+            }
+        }
+
+        final ThreadPoolExecutor es = (ThreadPoolExecutor)Executors.newCachedThreadPool(
+                                            ThreadPoolUtil.createCountedThreadFactory(
+                                                    threadPoolName, true));
+        es.setKeepAliveTime(10, TimeUnit.SECONDS);
+        return es;
+    }
+
+    private static ThreadFactory virtualThreadFactory(final String name) {
+        try {
+            // Thread.ofVirtual().name(name + "-", 1L).factory()
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            if (name != null) {
+                builder = builderClass
+                            .getMethod("name", String.class, long.class)
+                            .invoke(builder, name + "-", 1L);
+            }
+            return (ThreadFactory)builderClass.getMethod("factory").invoke(builder);
+        }
+        catch(Exception ex) {
+            return null; // Java VM without virtual threads
+        }
+    }
+
+
+    private final String threadPoolName;
+}
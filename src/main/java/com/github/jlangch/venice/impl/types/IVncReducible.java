@@ -0,0 +1,47 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types;
+
+import com.github.jlangch.venice.impl.util.MeterRegistry;
+
+
+/**
+ * A self-reducing value. 'reduce', 'transduce' and 'docoll' hand the
+ * reduction over to the value instead of walking it as a sequence.
+ */
+public interface IVncReducible {
+
+    /**
+     * Reduce the values
+     *
+     * @param reduceFn the reducing function
+     * @param init the init value. If <code>null</code> the first value is
+     *             used as the init value.
+     * @param meterRegistry the meter registry
+     * @return the reduced value
+     */
+    VncVal reduce(
+        IVncFunction reduceFn,
+        VncVal init,
+        MeterRegistry meterRegistry);
+
+}
@@ -87,7 +87,13 @@ public enum TypeRank {
     STACK (253),
     CIRCULAR_BUFFER (254),
 
-    LOCK (260);
+    LOCK (260),
+    CHANNEL (261),
+
+    LINE_REDUCIBLE (270),
+    ITERATOR_REDUCIBLE (271),
+
+    MATRIX (280);
 
 
     private TypeRank(final int rank) {
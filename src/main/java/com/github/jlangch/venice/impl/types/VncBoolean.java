@@ -48,6 +48,11 @@ public class VncBoolean extends VncScalar {
         return bool ? True : False;
     }
 
+    private Object readResolve() {
+        // deserialization: keep 'true' and 'false' singletons
+        return isWrapped() ? this : of(value);
+    }
+
     public static boolean isTrue(final VncVal val) {
         return (val instanceof VncBoolean) && (((VncBoolean)val).getValue() == Boolean.TRUE);
     }
@@ -55,6 +55,11 @@ public class VncConstant extends VncScalar {
         return value;
     }
 
+    private Object readResolve() {
+        // deserialization: keep 'nil' a singleton
+        return "nil".equals(value) ? Nil : this;
+    }
+
     @Override
     public TypeRank typeRank() {
         return TypeRank.CONSTANT;
@@ -394,11 +394,12 @@ public abstract class VncFunction
         if (meterRegistry.enabled && fn.isNative()) {
             // Non native functions are profiled by the VeniceInterpreter while executing
             // (interpreting) the function. Do not profile them twice!
+            final int frame = meterRegistry.enter();
             final long nanos = System.nanoTime();
 
             final VncVal result = fn.apply(args);
 
-            meterRegistry.record(((VncFunction)fn).getQualifiedName(), System.nanoTime() - nanos);
+            meterRegistry.record((VncFunction)fn, frame, System.nanoTime() - nanos);
 
             return result;
         }
@@ -0,0 +1,179 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types;
+
+import static com.github.jlangch.venice.impl.types.VncFunction.applyWithMeter;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.types.collections.VncList;
+import com.github.jlangch.venice.impl.util.MeterRegistry;
+import com.github.jlangch.venice.impl.util.MetaUtil;
+import com.github.jlangch.venice.impl.util.transducer.Reduced;
+
+
+/**
+ * A self-reducing source of values read from an iterator.
+ *
+ * <p>The values are handed one by one to the reducing function and are never
+ * collected, so a reduction runs in constant memory regardless of the source
+ * size. Unlike a lazy sequence, there is no head that retains the realized
+ * values.
+ *
+ * <p>The iterator is closed (if it is {@link AutoCloseable}) as soon as the
+ * reduction completes, fails, or is stopped by a <code>reduced</code> value.
+ *
+ * <p>If the source can be reopened (e.g. a file) the reducible can be reduced
+ * any number of times, otherwise only once.
+ */
+public class VncIteratorReducible extends VncVal implements IVncReducible {
+
+    public VncIteratorReducible(
+            final String name,
+            final IteratorSource source,
+            final boolean reopenable
+    ) {
+        this(name, source, reopenable, new AtomicBoolean(false), Constants.Nil);
+    }
+
+    private VncIteratorReducible(
+            final String name,
+            final IteratorSource source,
+            final boolean reopenable,
+            final AtomicBoolean consumed,
+            final VncVal meta
+    ) {
+        super(meta);
+        this.name = name;
+        this.source = source;
+        this.reopenable = reopenable;
+        this.consumed = consumed;
+    }
+
+
+    @Override
+    public VncIteratorReducible withMeta(final VncVal meta) {
+        // shares the consumed flag, the source can still be read just once
+        return new VncIteratorReducible(name, source, reopenable, consumed, meta);
+    }
+
+    @Override
+    public VncKeyword getType() {
+        return new VncKeyword(
+                        TYPE,
+                        MetaUtil.typeMeta(
+                                new VncKeyword(VncVal.TYPE)));
+    }
+
+    @Override
+    public TypeRank typeRank() {
+        return TypeRank.ITERATOR_REDUCIBLE;
+    }
+
+    @Override
+    public Object convertToJavaObject() {
+        return null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public VncVal reduce(
+            final IVncFunction reduceFn,
+            final VncVal init,
+            final MeterRegistry meterRegistry
+    ) {
+        if (!reopenable && !consumed.compareAndSet(false, true)) {
+            throw new VncException(String.format(
+                    "The reducible '%s' has already been consumed!",
+                    name));
+        }
+
+        final Iterator<VncVal> iter = source.open();
+        try {
+            VncVal value = init;
+
+            while(iter.hasNext()) {
+                final VncVal v = iter.next();
+
+                if (value == null) {
+                    value = v;  // first value is the init value
+                }
+                else {
+                    value = meterRegistry.enabled
+                                ? applyWithMeter(reduceFn, VncList.of(value, v), meterRegistry)
+                                : reduceFn.apply(VncList.of(value, v));
+                    if (Reduced.isReduced(value)) {
+                        return Reduced.unreduced(value);
+                    }
+                }
+            }
+
+            return value == null ? reduceFn.apply(VncList.empty()) : value;
+        }
+        finally {
+            if (iter instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable)iter).close();
+                }
+                catch(Exception ex) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "(reducible \"" + name + "\")";
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj;
+    }
+
+
+    @FunctionalInterface
+    public static interface IteratorSource {
+        Iterator<VncVal> open();
+    }
+
+
+    public static final String TYPE = ":core/reducible";
+
+    private static final long serialVersionUID = -1848883965231344442L;
+
+    private final String name;
+    private final transient IteratorSource source;
+    private final boolean reopenable;
+    private final AtomicBoolean consumed;
+}
@@ -25,6 +25,8 @@ import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.types.collections.VncList;
 import com.github.jlangch.venice.impl.types.collections.VncMap;
 import com.github.jlangch.venice.impl.types.collections.VncSet;
+import com.github.jlangch.venice.impl.types.custom.VncCustomType;
+import com.github.jlangch.venice.impl.types.custom.VncCustomTypeDef;
 import com.github.jlangch.venice.impl.types.util.QualifiedName;
 import com.github.jlangch.venice.impl.types.util.Types;
 import com.github.jlangch.venice.impl.util.ArityExceptions;
@@ -98,6 +100,17 @@ public class VncKeyword extends VncString implements IVncFunction, INamespaceAwa
         if (first == Constants.Nil) {
             return args.second();
         }
+        else if (first instanceof VncCustomType) {
+            // indexed field load, keyed by the custom type's definition
+            final VncCustomType custom = (VncCustomType)first;
+            final int idx = fieldIndex(custom.getTypeDef());
+            if (idx >= 0) {
+                return custom.getField(idx);
+            }
+            else {
+                return args.size() == 1 ? Constants.Nil : args.second();
+            }
+        }
         else if (Types.isVncMap(first)) {
             final VncMap map = (VncMap)first;
             if (args.size() == 1) {
@@ -264,6 +277,19 @@ public class VncKeyword extends VncString implements IVncFunction, INamespaceAwa
     }
 
 
+    private int fieldIndex(final VncCustomTypeDef typeDef) {
+        // single entry inline cache: a keyword at a call site is almost
+        // always applied to values of the same custom type
+        final FieldSlot slot = fieldSlot;
+        if (slot != null && slot.typeDef == typeDef) {
+            return slot.index;
+        }
+
+        final int index = typeDef.getFieldIndex(this);
+        fieldSlot = new FieldSlot(typeDef, index);
+        return index;
+    }
+
     private static String stripColon(final String name) {
         if (name == null || name.isEmpty()) {
             return name;
@@ -284,4 +310,17 @@ public class VncKeyword extends VncString implements IVncFunction, INamespaceAwa
     private final String qualifiedName;
     private final String simpleName;
     private final String namespace;
+
+    private transient volatile FieldSlot fieldSlot;
+
+
+    private static final class FieldSlot {
+        FieldSlot(final VncCustomTypeDef typeDef, final int index) {
+            this.typeDef = typeDef;
+            this.index = index;
+        }
+
+        final VncCustomTypeDef typeDef;
+        final int index;
+    }
 }
@@ -0,0 +1,337 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types;
+
+import static com.github.jlangch.venice.impl.types.VncFunction.applyWithMeter;
+
+import java.io.BufferedReader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.thread.ThreadBridge;
+import com.github.jlangch.venice.impl.threadpool.ManagedFixedThreadPoolExecutor;
+import com.github.jlangch.venice.impl.types.collections.VncList;
+import com.github.jlangch.venice.impl.util.MeterRegistry;
+import com.github.jlangch.venice.impl.util.MetaUtil;
+import com.github.jlangch.venice.impl.util.transducer.Reduced;
+
+
+/**
+ * A self-reducing source of text lines.
+ *
+ * <p>The lines are read from a buffered reader and handed one by one to the
+ * reducing function. The lines are never collected, so a reduction runs in
+ * constant memory regardless of the source size and stops reading as soon as
+ * the reducing function returns a <code>reduced</code> value.
+ *
+ * <p>An optional line decoder maps each line to a value (or <code>null</code>
+ * to skip the line). With a parallelism greater than 1 the lines are decoded
+ * in batches on a thread pool while the reducing function still receives the
+ * values in line order. The number of batches in flight is bounded by the
+ * parallelism.
+ *
+ * <p>If the source can be reopened (e.g. a file) the reducible can be reduced
+ * any number of times and the reader is closed after each reduction. Otherwise
+ * the source is a caller supplied stream or reader that can be reduced only
+ * once and is left open.
+ */
+public class VncLineReducible extends VncVal implements IVncReducible {
+
+    public VncLineReducible(
+            final String name,
+            final LineSource source,
+            final boolean reopenable,
+            final Function<String,VncVal> decoder,
+            final int parallelism
+    ) {
+        this(name, source, reopenable, decoder, parallelism, new AtomicBoolean(false), Constants.Nil);
+    }
+
+    private VncLineReducible(
+            final String name,
+            final LineSource source,
+            final boolean reopenable,
+            final Function<String,VncVal> decoder,
+            final int parallelism,
+            final AtomicBoolean consumed,
+            final VncVal meta
+    ) {
+        super(meta);
+        this.name = name;
+        this.source = source;
+        this.reopenable = reopenable;
+        this.decoder = decoder == null ? s -> new VncString(s) : decoder;
+        this.parallelism = Math.max(1, parallelism);
+        this.consumed = consumed;
+    }
+
+
+    @Override
+    public VncLineReducible withMeta(final VncVal meta) {
+        // shares the consumed flag, the source can still be read just once
+        return new VncLineReducible(name, source, reopenable, decoder, parallelism, consumed, meta);
+    }
+
+    @Override
+    public VncKeyword getType() {
+        return new VncKeyword(
+                        TYPE,
+                        MetaUtil.typeMeta(
+                                new VncKeyword(VncVal.TYPE)));
+    }
+
+    @Override
+    public TypeRank typeRank() {
+        return TypeRank.LINE_REDUCIBLE;
+    }
+
+    @Override
+    public Object convertToJavaObject() {
+        return null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public VncVal reduce(
+            final IVncFunction reduceFn,
+            final VncVal init,
+            final MeterRegistry meterRegistry
+    ) {
+        if (!reopenable && !consumed.compareAndSet(false, true)) {
+            throw new VncException(String.format(
+                    "The reducible lines '%s' have already been consumed!",
+                    name));
+        }
+
+        BufferedReader rd = null;
+        try {
+            rd = source.open();
+
+            final VncVal value = parallelism == 1
+                                    ? reduceSequential(rd, reduceFn, init, meterRegistry)
+                                    : reduceParallel(rd, reduceFn, init, meterRegistry);
+
+            return value == null ? reduceFn.apply(VncList.empty()) : value;
+        }
+        catch(VncException ex) {
+            throw ex;
+        }
+        catch(Exception ex) {
+            throw new VncException(
+                    String.format("Failed to reduce the lines of '%s'", name),
+                    ex);
+        }
+        finally {
+            // only close what the reducible opened itself, streams and
+            // readers passed in by the caller are left open
+            if (reopenable && rd != null) {
+                try { rd.close(); } catch(Exception ignore) { }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "(reducible-lines \"" + name + "\")";
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj;
+    }
+
+
+    public static void shutdown() {
+        mngdExecutor.shutdown();
+    }
+
+
+    private VncVal reduceSequential(
+            final BufferedReader rd,
+            final IVncFunction reduceFn,
+            final VncVal init,
+            final MeterRegistry meterRegistry
+    ) throws Exception {
+        VncVal value = init;
+
+        String line;
+        while((line = rd.readLine()) != null) {
+            final VncVal v = decoder.apply(line);
+            if (v == null) continue;  // skipped line
+
+            if (value == null) {
+                value = v;  // first value is the init value
+            }
+            else {
+                value = step(reduceFn, value, v, meterRegistry);
+                if (Reduced.isReduced(value)) {
+                    return Reduced.unreduced(value);
+                }
+            }
+        }
+
+        return value;
+    }
+
+    private VncVal reduceParallel(
+            final BufferedReader rd,
+            final IVncFunction reduceFn,
+            final VncVal init,
+            final MeterRegistry meterRegistry
+    ) throws Exception {
+        // Create a wrapper that inherits the Venice thread context
+        // from the parent thread to the decoder threads!
+        final ThreadBridge threadBridge = ThreadBridge.create("reducible-lines");
+
+        final ArrayDeque<Future<List<VncVal>>> inflight = new ArrayDeque<>();
+
+        try {
+            VncVal value = init;
+            boolean eof = false;
+
+            while(true) {
+                // keep the decoder pool busy, but never hold more than
+                // 'parallelism' batches in memory
+                while(!eof && inflight.size() < parallelism) {
+                    final List<String> batch = readBatch(rd);
+                    if (batch.isEmpty()) {
+                        eof = true;
+                    }
+                    else {
+                        inflight.add(
+                            mngdExecutor
+                                .getExecutor()
+                                .submit(threadBridge.bridgeCallable(() -> decodeBatch(batch))));
+                    }
+                }
+
+                final Future<List<VncVal>> next = inflight.poll();
+                if (next == null) {
+                    return value;
+                }
+
+                for(VncVal v : awaitBatch(next)) {
+                    if (value == null) {
+                        value = v;  // first value is the init value
+                    }
+                    else {
+                        value = step(reduceFn, value, v, meterRegistry);
+                        if (Reduced.isReduced(value)) {
+                            return Reduced.unreduced(value);
+                        }
+                    }
+                }
+            }
+        }
+        finally {
+            // early termination or failure: discard pending batches
+            inflight.forEach(f -> f.cancel(true));
+        }
+    }
+
+    private List<String> readBatch(final BufferedReader rd) throws Exception {
+        final List<String> batch = new ArrayList<>(BATCH_SIZE);
+        String line;
+        while(batch.size() < BATCH_SIZE && (line = rd.readLine()) != null) {
+            batch.add(line);
+        }
+        return batch;
+    }
+
+    private List<VncVal> decodeBatch(final List<String> lines) {
+        final List<VncVal> values = new ArrayList<>(lines.size());
+        for(String line : lines) {
+            final VncVal v = decoder.apply(line);
+            if (v != null) values.add(v);
+        }
+        return values;
+    }
+
+    private static List<VncVal> awaitBatch(final Future<List<VncVal>> future) throws Exception {
+        try {
+            return future.get();
+        }
+        catch(ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            else {
+                throw ex;
+            }
+        }
+    }
+
+    private static VncVal step(
+            final IVncFunction reduceFn,
+            final VncVal value,
+            final VncVal v,
+            final MeterRegistry meterRegistry
+    ) {
+        return meterRegistry.enabled
+                ? applyWithMeter(reduceFn, VncList.of(value, v), meterRegistry)
+                : reduceFn.apply(VncList.of(value, v));
+    }
+
+
+    @FunctionalInterface
+    public static interface LineSource {
+        BufferedReader open() throws Exception;
+    }
+
+
+    public static final String TYPE = ":core/reducible-lines";
+
+    private static final int BATCH_SIZE = 256;
+
+    private static final long serialVersionUID = -1848883965231344442L;
+
+    private static final ManagedFixedThreadPoolExecutor mngdExecutor =
+            new ManagedFixedThreadPoolExecutor(
+                    "venice-reducible-lines-pool",
+                    Runtime.getRuntime().availableProcessors());
+
+    private final String name;
+    private final transient LineSource source;
+    private final boolean reopenable;
+    private final transient Function<String,VncVal> decoder;
+    private final int parallelism;
+    private final AtomicBoolean consumed;
+}
@@ -53,9 +53,25 @@ public class VncLong extends VncNumber {
     }
 
 
+    /**
+     * Returns a long without meta data. Values within the small long cache
+     * range (default -1024..1024) are shared preallocated instances.
+     *
+     * <p>The cache range can be configured with the system properties
+     * <code>venice.long.cache.low</code> and <code>venice.long.cache.high</code>.
+     *
+     * @param v a long value
+     * @return the VncLong
+     */
+    public static VncLong of(final long v) {
+        return v >= CACHE_LOW && v <= CACHE_HIGH
+                ? CACHE[(int)(v - CACHE_LOW)]
+                : new VncLong(v);
+    }
+
     public static VncLong of(final VncVal v) {
         if (Types.isVncNumber(v)) {
-            return new VncLong(((VncNumber)v).toJavaLong());
+            return of(((VncNumber)v).toJavaLong());
         }
         else {
             throw new VncException(String.format(
@@ -92,26 +108,26 @@ public class VncLong extends VncNumber {
 
     @Override
     public VncLong inc() {
-        return new VncLong(value + 1L);
+        return of(value + 1L);
     }
 
     @Override
     public VncLong dec() {
-        return new VncLong(value - 1L);
+        return of(value - 1L);
     }
 
     @Override
     public VncLong negate() {
-        return new VncLong(Math.negateExact(value));
+        return of(Math.negateExact(value));
     }
 
     @Override
     public VncNumber add(final VncVal op) {
         if (op instanceof VncLong) {
-            return new VncLong(value + ((VncLong)op).value);
+            return of(value + ((VncLong)op).value);
         }
         else if (op instanceof VncInteger) {
-            return new VncLong(value + ((VncInteger)op).toJavaLong());
+            return of(value + ((VncInteger)op).toJavaLong());
         }
         else if (op instanceof VncFloat) {
             return new VncFloat(value + ((VncFloat)op).toJavaFloat());
@@ -135,10 +151,10 @@ public class VncLong extends VncNumber {
     @Override
     public VncNumber sub(final VncVal op) {
         if (op instanceof VncLong) {
-            return new VncLong(value - ((VncLong)op).value);
+            return of(value - ((VncLong)op).value);
         }
         else if (op instanceof VncInteger) {
-            return new VncLong(value - ((VncInteger)op).toJavaLong());
+            return of(value - ((VncInteger)op).toJavaLong());
         }
         else if (op instanceof VncFloat) {
             return new VncFloat(value - ((VncFloat)op).toJavaFloat());
@@ -162,10 +178,10 @@ public class VncLong extends VncNumber {
     @Override
     public VncNumber mul(final VncVal op) {
         if (op instanceof VncLong) {
-            return new VncLong(value * ((VncLong)op).value);
+            return of(value * ((VncLong)op).value);
         }
         else if (op instanceof VncInteger) {
-            return new VncLong(value * ((VncInteger)op).toJavaLong());
+            return of(value * ((VncInteger)op).toJavaLong());
         }
         else if (op instanceof VncFloat) {
             return new VncFloat(value * ((VncFloat)op).toJavaFloat());
@@ -190,10 +206,10 @@ public class VncLong extends VncNumber {
     public VncNumber div(final VncVal op) {
         try {
             if (op instanceof VncLong) {
-                return new VncLong(value / ((VncLong)op).value);
+                return of(value / ((VncLong)op).value);
             }
             else if (op instanceof VncInteger) {
-                return new VncLong(value / ((VncInteger)op).toJavaLong());
+                return of(value / ((VncInteger)op).toJavaLong());
             }
             else if (op instanceof VncFloat) {
                 return new VncFloat(value / ((VncFloat)op).toJavaFloat());
@@ -262,7 +278,7 @@ public class VncLong extends VncNumber {
 
     @Override
     public VncNumber square() {
-        return new VncLong(value * value);
+        return of(value * value);
     }
 
     @Override
@@ -386,5 +402,17 @@ public class VncLong extends VncNumber {
 
     private static final long serialVersionUID = -1848883965231344442L;
 
+    // the cache range is limited to -2^20..2^20
+    private static final long CACHE_LIMIT = 1L << 20;
+    private static final long CACHE_LOW = Math.max(-CACHE_LIMIT, Math.min(0L, Long.getLong("venice.long.cache.low", -1024L)));
+    private static final long CACHE_HIGH = Math.min(CACHE_LIMIT, Math.max(0L, Long.getLong("venice.long.cache.high", 1024L)));
+    private static final VncLong[] CACHE = new VncLong[(int)(CACHE_HIGH - CACHE_LOW + 1L)];
+
+    static {
+        for(int ii=0; ii<CACHE.length; ii++) {
+            CACHE[ii] = new VncLong(CACHE_LOW + ii);
+        }
+    }
+
     private final long value;
 }
@@ -0,0 +1,232 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.types.collections.VncSequence;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
+import com.github.jlangch.venice.impl.types.util.Types;
+import com.github.jlangch.venice.impl.util.MetaUtil;
+import com.github.jlangch.venice.impl.util.matrix.DenseMatrix;
+
+
+/**
+ * A dense 2D matrix of long or double elements backed by a
+ * {@link DenseMatrix}.
+ */
+public class VncMatrix extends VncVal {
+
+    public VncMatrix(final DenseMatrix matrix) {
+        this(matrix, Constants.Nil);
+    }
+
+    public VncMatrix(final DenseMatrix matrix, final VncVal meta) {
+        super(meta);
+        this.matrix = matrix;
+    }
+
+
+    /**
+     * Creates a matrix from a sequence of row sequences.
+     *
+     * @param rows the rows, e.g. <code>[[1 2] [3 4]]</code>
+     * @param longElements true for a long matrix, false for a double matrix,
+     *                     and null to create a long matrix if all elements
+     *                     are longs or integers else a double matrix
+     * @return the matrix
+     */
+    public static VncMatrix of(final VncSequence rows, final Boolean longElements) {
+        final int nRows = rows.size();
+        final int nCols = nRows == 0 ? 0 : columns(rows.first());
+
+        final List<VncSequence> rowList = new ArrayList<>(nRows);
+        boolean allLongs = true;
+        for(VncVal r : rows) {
+            final VncSequence row = toRow(r);
+            if (row.size() != nCols) {
+                throw new VncException(
+                        "All matrix rows must have the same number of columns!");
+            }
+            for(VncVal v : row) {
+                if (!(v instanceof VncNumber)) {
+                    throw new VncException(String.format(
+                            "A matrix element must be a number, got a %s",
+                            Types.getType(v)));
+                }
+                allLongs = allLongs && (v instanceof VncLong || v instanceof VncInteger);
+            }
+            rowList.add(row);
+        }
+
+        final boolean asLong = longElements == null ? allLongs : longElements;
+
+        if (asLong) {
+            final long[] data = new long[nRows * nCols];
+            int ii = 0;
+            for(VncSequence row : rowList) {
+                for(VncVal v : row) {
+                    data[ii++] = ((VncNumber)v).toJavaLong();
+                }
+            }
+            return new VncMatrix(DenseMatrix.ofLongs(nRows, nCols, data));
+        }
+        else {
+            final double[] data = new double[nRows * nCols];
+            int ii = 0;
+            for(VncSequence row : rowList) {
+                for(VncVal v : row) {
+                    data[ii++] = ((VncNumber)v).toJavaDouble();
+                }
+            }
+            return new VncMatrix(DenseMatrix.ofDoubles(nRows, nCols, data));
+        }
+    }
+
+
+    @Override
+    public VncMatrix withMeta(final VncVal meta) {
+        return new VncMatrix(matrix, meta);
+    }
+
+    @Override
+    public VncKeyword getType() {
+        return new VncKeyword(
+                        TYPE,
+                        MetaUtil.typeMeta(
+                                new VncKeyword(VncVal.TYPE)));
+    }
+
+    @Override
+    public TypeRank typeRank() {
+        return TypeRank.MATRIX;
+    }
+
+    public DenseMatrix getMatrix() {
+        return matrix;
+    }
+
+    public VncVal get(final int row, final int col) {
+        return matrix.isLong()
+                ? VncLong.of(matrix.getLong(row, col))
+                : new VncDouble(matrix.getDouble(row, col));
+    }
+
+    /**
+     * @return the matrix as a vector of row vectors
+     */
+    public VncVector toVncVector() {
+        final List<VncVal> rows = new ArrayList<>(matrix.rows());
+        for(int r=0; r<matrix.rows(); r++) {
+            rows.add(rowVector(r));
+        }
+        return VncVector.ofList(rows);
+    }
+
+    public VncVector rowVector(final int row) {
+        final List<VncVal> items = new ArrayList<>(matrix.cols());
+        for(int c=0; c<matrix.cols(); c++) {
+            items.add(get(row, c));
+        }
+        return VncVector.ofList(items);
+    }
+
+    public VncVector columnVector(final int col) {
+        final List<VncVal> items = new ArrayList<>(matrix.rows());
+        for(int r=0; r<matrix.rows(); r++) {
+            items.add(get(r, col));
+        }
+        return VncVector.ofList(items);
+    }
+
+    @Override
+    public Object convertToJavaObject() {
+        if (matrix.isLong()) {
+            final long[][] data = new long[matrix.rows()][];
+            for(int r=0; r<matrix.rows(); r++) {
+                data[r] = matrix.row(r).toLongArray();
+            }
+            return data;
+        }
+        else {
+            final double[][] data = new double[matrix.rows()][];
+            for(int r=0; r<matrix.rows(); r++) {
+                data[r] = matrix.row(r).toDoubleArray();
+            }
+            return data;
+        }
+    }
+
+    @Override
+    public int compareTo(final VncVal o) {
+        return equals(o) ? 0 : -1; // limited compare!
+    }
+
+    @Override
+    public int hashCode() {
+        return matrix.hashCode();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        return matrix.equals(((VncMatrix)obj).matrix);
+    }
+
+    @Override
+    public String toString() {
+        return toString(true);
+    }
+
+    @Override
+    public String toString(final boolean print_machine_readably) {
+        return toVncVector().toString(print_machine_readably);
+    }
+
+
+    private static int columns(final VncVal row) {
+        return toRow(row).size();
+    }
+
+    private static VncSequence toRow(final VncVal row) {
+        if (row instanceof VncSequence) {
+            return (VncSequence)row;
+        }
+        else {
+            throw new VncException("A matrix must be a sequence of row sequences!");
+        }
+    }
+
+
+    public static final String TYPE = ":matrix/dense";
+
+    private static final long serialVersionUID = -1848883965231344442L;
+
+    private final DenseMatrix matrix;
+}
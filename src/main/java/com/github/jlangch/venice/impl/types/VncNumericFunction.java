@@ -0,0 +1,70 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types;
+
+
+/**
+ * A native function with a primitive fast path for exactly two
+ * <code>long</code> or two <code>double</code> arguments.
+ *
+ * <p>The interpreter calls {@link #applyPrimitive(VncVal, VncVal)} for
+ * arity 2 calls with already evaluated arguments without building an
+ * argument list. If the arguments are not both longs or both doubles
+ * the interpreter falls back to {@link #apply(com.github.jlangch.venice.impl.types.collections.VncList)}.
+ *
+ * <p>The primitive implementations must return exactly the same result
+ * as the generic <code>apply</code> implementation.
+ */
+public abstract class VncNumericFunction extends VncFunction {
+
+    public VncNumericFunction(final String name, final VncVal meta) {
+        super(name, meta);
+    }
+
+
+    /**
+     * Applies the function to two evaluated arguments.
+     *
+     * @param x the first argument
+     * @param y the second argument
+     * @return the result or <code>null</code> if the arguments are not
+     *         both longs or both doubles
+     */
+    public final VncVal applyPrimitive(final VncVal x, final VncVal y) {
+        if (x instanceof VncLong && y instanceof VncLong) {
+            return applyLong(((VncLong)x).toJavaLong(), ((VncLong)y).toJavaLong());
+        }
+        else if (x instanceof VncDouble && y instanceof VncDouble) {
+            return applyDouble(((VncDouble)x).toJavaDouble(), ((VncDouble)y).toJavaDouble());
+        }
+        else {
+            return null;
+        }
+    }
+
+    protected abstract VncVal applyLong(final long x, final long y);
+
+    protected abstract VncVal applyDouble(final double x, final double y);
+
+
+    private static final long serialVersionUID = -1848883965231344442L;
+}
@@ -23,6 +23,7 @@ package com.github.jlangch.venice.impl.types;
 
 import static com.github.jlangch.venice.impl.types.Constants.Nil;
 
+import java.io.IOException;
 import java.io.Serializable;
 
 import com.github.jlangch.venice.VncException;
@@ -110,6 +111,21 @@ public abstract class VncVal implements Comparable<VncVal>, Serializable {
         return toString();
     }
 
+    /**
+     * Prints this value to a sink. Collections override this method to
+     * print their elements directly to the sink.
+     *
+     * @param out the sink
+     * @param print_machine_readably if true print readably
+     * @throws IOException if the sink fails
+     */
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        out.append(toString(print_machine_readably));
+    }
+
 
     @Override
     public int hashCode() {
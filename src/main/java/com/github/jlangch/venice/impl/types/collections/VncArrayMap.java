@@ -0,0 +1,385 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types.collections;
+
+import static com.github.jlangch.venice.impl.types.Constants.Nil;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.Printer;
+import com.github.jlangch.venice.impl.types.VncBoolean;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.custom.VncWrappingTypeDef;
+
+
+/**
+ * An immutable hash map optimized for keeping up to 8 entries.
+ * Returns a HAMT based VncHashMap if the map grows beyond its max
+ * number of entries.
+ *
+ * <p>The keys and values are kept interleaved in a flat array and
+ * looked up by a linear scan. For the small maps that dominate a
+ * typical Venice application (options, metadata, records) this is
+ * faster to create and to query than a VAVR hash array mapped trie and
+ * needs a fraction of its memory.
+ *
+ * <p>An array map preserves the insertion order of its keys. It is a
+ * VncHashMap in every other respect and compares equal to a HAMT based
+ * hash map with the same entries.
+ */
+public class VncArrayMap extends VncHashMap {
+
+    public VncArrayMap() {
+        this(new VncVal[0], null);
+    }
+
+    public VncArrayMap(final VncVal meta) {
+        this(new VncVal[0], meta);
+    }
+
+    private VncArrayMap(final VncVal[] kvs, final VncVal meta) {
+        super((io.vavr.collection.Map<VncVal,VncVal>)null, meta);
+        this.kvs = kvs;
+    }
+
+    private VncArrayMap(
+            final VncVal[] kvs,
+            final VncWrappingTypeDef wrappingTypeDef,
+            final VncVal meta
+    ) {
+        super(null, wrappingTypeDef, meta);
+        this.kvs = kvs;
+    }
+
+    /**
+     * Returns a hash map with the entries of a Java map. The map is an
+     * array map if the number of entries permits it.
+     *
+     * @param vals the entries
+     * @param meta the meta data
+     * @return the hash map
+     */
+    public static VncHashMap ofMap(
+            final Map<? extends VncVal,? extends VncVal> vals,
+            final VncVal meta
+    ) {
+        if (vals == null) {
+            return new VncArrayMap(meta);
+        }
+        else if (vals.size() > MAX_ENTRIES) {
+            return new VncHashMap(vals, meta);
+        }
+        else {
+            final VncVal[] kvs = new VncVal[vals.size() * 2];
+            int i = 0;
+            for(Map.Entry<? extends VncVal,? extends VncVal> e : vals.entrySet()) {
+                kvs[i++] = e.getKey();
+                kvs[i++] = e.getValue();
+            }
+            return new VncArrayMap(kvs, meta);
+        }
+    }
+
+
+    @Override
+    public VncArrayMap emptyWithMeta() {
+        return new VncArrayMap(getMeta());
+    }
+
+    @Override
+    public VncHashMap withValues(final Map<VncVal,VncVal> replaceVals) {
+        return ofMap(replaceVals, getMeta());
+    }
+
+    @Override
+    public VncHashMap withValues(
+            final Map<VncVal,VncVal> replaceVals,
+            final VncVal meta
+    ) {
+        return ofMap(replaceVals, meta);
+    }
+
+    @Override
+    public VncArrayMap withMeta(final VncVal meta) {
+        return new VncArrayMap(kvs, meta);
+    }
+
+    @Override
+    public VncArrayMap wrap(final VncWrappingTypeDef wrappingTypeDef, final VncVal meta) {
+        return new VncArrayMap(kvs, wrappingTypeDef, meta);
+    }
+
+    @Override
+    public Map<VncVal,VncVal> getJavaMap() {
+        final Map<VncVal,VncVal> map = new LinkedHashMap<>();
+        for(int i=0; i<kvs.length; i+=2) {
+            map.put(kvs[i], kvs[i+1]);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public VncVal get(final VncVal key) {
+        final int idx = indexOf(kvs, kvs.length, key);
+        return idx < 0 ? Nil : kvs[idx+1];
+    }
+
+    @Override
+    public VncVal containsKey(final VncVal key) {
+        return VncBoolean.of(indexOf(kvs, kvs.length, key) >= 0);
+    }
+
+    @Override
+    public VncList keys() {
+        final List<VncVal> keys = new ArrayList<>(kvs.length / 2);
+        for(int i=0; i<kvs.length; i+=2) {
+            keys.add(kvs[i]);
+        }
+        return VncList.ofList(keys);
+    }
+
+    @Override
+    public List<VncMapEntry> entries() {
+        final List<VncMapEntry> entries = new ArrayList<>(kvs.length / 2);
+        for(int i=0; i<kvs.length; i+=2) {
+            entries.add(new VncMapEntry(kvs[i], kvs[i+1]));
+        }
+        return Collections.unmodifiableList(entries);
+    }
+
+    @Override
+    public VncHashMap putAll(final VncMap map) {
+        if (map instanceof VncArrayMap) {
+            final VncVal[] other = ((VncArrayMap)map).kvs;
+            return assocAll(Arrays.asList(other).iterator(), other.length);
+        }
+        else if (size() + map.size() > MAX_ENTRIES) {
+            return new VncHashMap(toVavrMap(), getMeta()).putAll(map);
+        }
+        else {
+            final List<VncVal> other = new ArrayList<>(map.size() * 2);
+            for(VncMapEntry e : map.entries()) {
+                other.add(e.getKey());
+                other.add(e.getValue());
+            }
+            return assocAll(other.iterator(), other.size());
+        }
+    }
+
+    @Override
+    public VncHashMap assoc(final VncVal... mvs) {
+        if (mvs.length %2 != 0) {
+            throw new VncException(String.format(
+                    "hash-map: assoc requires an even number of items."));
+        }
+
+        return assocAll(Arrays.asList(mvs).iterator(), mvs.length);
+    }
+
+    @Override
+    public VncHashMap assoc(final VncSequence mvs) {
+        if (mvs.size() %2 != 0) {
+            throw new VncException(String.format(
+                    "hash-map: assoc requires an even number of items."));
+        }
+
+        return assocAll(mvs.iterator(), mvs.size());
+    }
+
+    @Override
+    public VncArrayMap dissoc(final VncVal... keys) {
+        return dissocAll(Arrays.asList(keys));
+    }
+
+    @Override
+    public VncArrayMap dissoc(final VncSequence keys) {
+        return dissocAll(keys);
+    }
+
+    @Override
+    public VncList toVncList() {
+        return VncList.ofList(pairs(), getMeta());
+    }
+
+    @Override
+    public VncVector toVncVector() {
+        return VncVector.ofList(pairs(), getMeta());
+    }
+
+    @Override
+    public int size() {
+        return kvs.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return kvs.length == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for(int i=0; i<kvs.length; i+=2) {
+            hash += kvs[i].hashCode() ^ kvs[i+1].hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof VncHashMap)) {
+            return false;
+        }
+
+        final VncHashMap other = (VncHashMap)obj;
+        if (other.size() != size()) {
+            return false;
+        }
+        for(int i=0; i<kvs.length; i+=2) {
+            final VncVal v = other.lookup(kvs[i]);
+            if (v == null || !v.equals(kvs[i+1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        out.append('{');
+        for(int i=0; i<kvs.length; i+=2) {
+            Printer.printKeyValue(kvs[i], kvs[i+1], i == 0, print_machine_readably, out);
+        }
+        out.append('}');
+    }
+
+    @Override
+    VncVal lookup(final VncVal key) {
+        final int idx = indexOf(kvs, kvs.length, key);
+        return idx < 0 ? null : kvs[idx+1];
+    }
+
+    @Override
+    io.vavr.collection.HashMap<VncVal,VncVal> toVavrMap() {
+        return toVavrMap(kvs, kvs.length);
+    }
+
+
+    private VncHashMap assocAll(final Iterator<VncVal> mvs, final int count) {
+        final VncVal[] arr = Arrays.copyOf(kvs, Math.min(kvs.length + count, MAX_ENTRIES * 2));
+        int len = kvs.length;
+
+        while(mvs.hasNext()) {
+            final VncVal key = mvs.next();
+            final VncVal val = mvs.next();
+
+            final int idx = indexOf(arr, len, key);
+            if (idx >= 0) {
+                arr[idx+1] = val;
+            }
+            else if (len < arr.length) {
+                arr[len++] = key;
+                arr[len++] = val;
+            }
+            else {
+                // promote to a HAMT based hash map
+                io.vavr.collection.HashMap<VncVal,VncVal> map = toVavrMap(arr, len).put(key, val);
+                while(mvs.hasNext()) {
+                    map = map.put(mvs.next(), mvs.next());
+                }
+                return new VncHashMap(map, getMeta());
+            }
+        }
+
+        return new VncArrayMap(len == arr.length ? arr : Arrays.copyOf(arr, len), getMeta());
+    }
+
+    private VncArrayMap dissocAll(final Iterable<VncVal> keys) {
+        VncVal[] arr = kvs;
+        int len = kvs.length;
+
+        for(VncVal key : keys) {
+            final int idx = indexOf(arr, len, key);
+            if (idx >= 0) {
+                if (arr == kvs) {
+                    arr = kvs.clone();
+                }
+                System.arraycopy(arr, idx+2, arr, idx, len-idx-2);
+                len -= 2;
+            }
+        }
+
+        return new VncArrayMap(len == arr.length ? arr : Arrays.copyOf(arr, len), getMeta());
+    }
+
+    private List<VncVal> pairs() {
+        final List<VncVal> pairs = new ArrayList<>(kvs.length / 2);
+        for(int i=0; i<kvs.length; i+=2) {
+            pairs.add(VncVector.of(kvs[i], kvs[i+1]));
+        }
+        return pairs;
+    }
+
+    private static io.vavr.collection.HashMap<VncVal,VncVal> toVavrMap(
+            final VncVal[] kvs,
+            final int len
+    ) {
+        io.vavr.collection.HashMap<VncVal,VncVal> map = io.vavr.collection.HashMap.empty();
+        for(int i=0; i<len; i+=2) {
+            map = map.put(kvs[i], kvs[i+1]);
+        }
+        return map;
+    }
+
+    private static int indexOf(final VncVal[] kvs, final int len, final VncVal key) {
+        // the hash check avoids most of the calls to equals
+        final int hash = key.hashCode();
+        for(int i=0; i<len; i+=2) {
+            final VncVal k = kvs[i];
+            if (k == key || (k.hashCode() == hash && k.equals(key))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+
+    public static final int MAX_ENTRIES = 8;
+
+    private static final long serialVersionUID = -1848883965231344442L;
+
+    private final VncVal[] kvs;
+}
@@ -0,0 +1,448 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types.collections;
+
+import static com.github.jlangch.venice.impl.types.Constants.Nil;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.github.jlangch.venice.impl.javainterop.JavaInteropUtil;
+import com.github.jlangch.venice.impl.types.VncVal;
+
+import io.vavr.Lazy;
+import io.vavr.collection.Stream;
+
+
+/**
+ * A lazy sequence that realizes its items in chunks of up to 32 items.
+ *
+ * <p>The chunk aware operations <code>map</code>, <code>filter</code>,
+ * <code>keep</code>, <code>take</code>, <code>take-while</code> and
+ * <code>doall</code> process a chunk at a time and do not create a cons cell
+ * and a supplier per item. Laziness is kept at chunk granularity.
+ *
+ * <p>All other operations fall back to the stream based implementation of
+ * {@link VncLazySeq}.
+ */
+public class VncChunkedSeq extends VncLazySeq {
+
+    private VncChunkedSeq(final Lazy<Chunk> chunk, final int offset, final VncVal meta) {
+        super(meta);
+        this.chunk = chunk;
+        this.offset = offset;
+    }
+
+
+    public static VncChunkedSeq of(final Iterable<VncVal> items, final VncVal meta) {
+        final Iterator<VncVal> iter = items.iterator();
+        return new VncChunkedSeq(Lazy.of(() -> read(iter)), 0, meta);
+    }
+
+    public static VncChunkedSeq ofArray(final Object array, final VncVal meta) {
+        return new VncChunkedSeq(Lazy.of(() -> readArray(array, 0)), 0, meta);
+    }
+
+
+    @Override
+    public Stream<VncVal> lazyStream() {
+        return Stream.ofAll(() -> new ChunkIterator(chunk.get(), offset));
+    }
+
+    @Override
+    public VncChunkedSeq emptyWithMeta() {
+        return new VncChunkedSeq(END_LAZY, 0, getMeta());
+    }
+
+    @Override
+    public VncChunkedSeq withMeta(final VncVal meta) {
+        return new VncChunkedSeq(chunk, offset, meta);
+    }
+
+    @Override
+    public Iterator<VncVal> iterator() {
+        return new ChunkIterator(chunk.get(), offset);
+    }
+
+    @Override
+    public void forEach(final Consumer<? super VncVal> action) {
+        Chunk c = chunk.get();
+        int from = offset;
+        while(c != END) {
+            for(int ii=from; ii<c.size; ii++) {
+                action.accept(c.items[ii]);
+            }
+            c = c.next.get();
+            from = 0;
+        }
+    }
+
+    @Override
+    public VncChunkedSeq map(final Function<? super VncVal, ? extends VncVal> mapper) {
+        final Lazy<Chunk> src = chunk;
+        final int from = offset;
+        return new VncChunkedSeq(Lazy.of(() -> map(src.get(), from, mapper)), 0, getMeta());
+    }
+
+    @Override
+    public VncChunkedSeq filter(final Predicate<? super VncVal> predicate) {
+        final Lazy<Chunk> src = chunk;
+        final int from = offset;
+        return new VncChunkedSeq(Lazy.of(() -> filter(src.get(), from, predicate)), 0, getMeta());
+    }
+
+    @Override
+    public VncChunkedSeq keep(final Function<? super VncVal, ? extends VncVal> mapper) {
+        final Lazy<Chunk> src = chunk;
+        final int from = offset;
+        return new VncChunkedSeq(Lazy.of(() -> keep(src.get(), from, mapper)), 0, getMeta());
+    }
+
+    @Override
+    public VncChunkedSeq take(final int n) {
+        final Lazy<Chunk> src = chunk;
+        final int from = offset;
+        return new VncChunkedSeq(Lazy.of(() -> take(src.get(), from, n)), 0, getMeta());
+    }
+
+    @Override
+    public VncChunkedSeq takeWhile(final Predicate<? super VncVal> predicate) {
+        final Lazy<Chunk> src = chunk;
+        final int from = offset;
+        return new VncChunkedSeq(Lazy.of(() -> takeWhile(src.get(), from, predicate)), 0, getMeta());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return chunk.get() == END;
+    }
+
+    @Override
+    public VncVal nth(final int idx) {
+        final VncVal v = nthOrDefault(idx, null);
+        if (v == null) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + idx);
+        }
+        return v;
+    }
+
+    @Override
+    public VncVal nthOrDefault(final int idx, final VncVal defaultVal) {
+        if (idx < 0) {
+            return defaultVal;
+        }
+
+        Chunk c = chunk.get();
+        int pos = offset + idx;
+        while(c != END) {
+            if (pos < c.size) {
+                return c.items[pos];
+            }
+            pos -= c.size;
+            c = c.next.get();
+        }
+        return defaultVal;
+    }
+
+    @Override
+    public VncVal first() {
+        final Chunk c = chunk.get();
+        return c == END ? Nil : c.items[offset];
+    }
+
+    @Override
+    public VncVal second() {
+        return nthOrDefault(1, Nil);
+    }
+
+    @Override
+    public VncVal third() {
+        return nthOrDefault(2, Nil);
+    }
+
+    @Override
+    public VncVal fourth() {
+        return nthOrDefault(3, Nil);
+    }
+
+    @Override
+    public VncChunkedSeq rest() {
+        return drop(1);
+    }
+
+    @Override
+    public VncChunkedSeq drop(final int n) {
+        Lazy<Chunk> lazy = chunk;
+        Chunk c = lazy.get();
+        int pos = offset + Math.max(0, n);
+        while(c != END) {
+            if (pos < c.size) {
+                return new VncChunkedSeq(lazy, pos, getMeta());
+            }
+            pos -= c.size;
+            lazy = c.next;
+            c = lazy.get();
+        }
+        return new VncChunkedSeq(END_LAZY, 0, getMeta());
+    }
+
+    @Override
+    public VncList toVncList() {
+        return realize();
+    }
+
+    @Override
+    public VncVector toVncVector() {
+        return VncVector.ofList(realizeItems(Integer.MAX_VALUE), getMeta());
+    }
+
+    @Override
+    public VncList realize() {
+        return VncList.ofList(realizeItems(Integer.MAX_VALUE), getMeta());
+    }
+
+    @Override
+    public VncList realize(final int n) {
+        return VncList.ofList(realizeItems(n), getMeta());
+    }
+
+
+    private List<VncVal> realizeItems(final int max) {
+        final List<VncVal> items = new ArrayList<>();
+
+        Chunk c = chunk.get();
+        int from = offset;
+        while(c != END && items.size() < max) {
+            final int to = (int)Math.min(c.size, (long)from + max - items.size());
+            items.addAll(Arrays.asList(c.items).subList(from, to));
+            c = c.next.get();
+            from = 0;
+        }
+
+        return items;
+    }
+
+    private static Chunk read(final Iterator<VncVal> iter) {
+        if (!iter.hasNext()) {
+            return END;
+        }
+
+        final VncVal[] items = new VncVal[CHUNK_SIZE];
+        int size = 0;
+        while(size < CHUNK_SIZE && iter.hasNext()) {
+            items[size++] = iter.next();
+        }
+        return new Chunk(items, size, Lazy.of(() -> read(iter)));
+    }
+
+    private static Chunk readArray(final Object array, final int start) {
+        final int length = Array.getLength(array);
+        if (start >= length) {
+            return END;
+        }
+
+        final int size = Math.min(CHUNK_SIZE, length - start);
+        final VncVal[] items = new VncVal[size];
+        for(int ii=0; ii<size; ii++) {
+            items[ii] = JavaInteropUtil.convertToVncVal(Array.get(array, start + ii));
+        }
+        return new Chunk(items, size, Lazy.of(() -> readArray(array, start + size)));
+    }
+
+    private static Chunk map(
+            final Chunk c,
+            final int from,
+            final Function<? super VncVal, ? extends VncVal> mapper
+    ) {
+        if (c == END) {
+            return END;
+        }
+
+        final int size = c.size - from;
+        final VncVal[] items = new VncVal[size];
+        for(int ii=0; ii<size; ii++) {
+            items[ii] = mapper.apply(c.items[from + ii]);
+        }
+        return new Chunk(items, size, Lazy.of(() -> map(c.next.get(), 0, mapper)));
+    }
+
+    private static Chunk filter(
+            final Chunk chunk,
+            final int offset,
+            final Predicate<? super VncVal> predicate
+    ) {
+        Chunk c = chunk;
+        int from = offset;
+        while(c != END) {
+            final VncVal[] items = new VncVal[c.size - from];
+            int size = 0;
+            for(int ii=from; ii<c.size; ii++) {
+                final VncVal v = c.items[ii];
+                if (predicate.test(v)) {
+                    items[size++] = v;
+                }
+            }
+
+            final Lazy<Chunk> next = c.next;
+            if (size > 0) {
+                return new Chunk(items, size, Lazy.of(() -> filter(next.get(), 0, predicate)));
+            }
+
+            // skip chunks without matching items
+            c = next.get();
+            from = 0;
+        }
+        return END;
+    }
+
+    private static Chunk keep(
+            final Chunk chunk,
+            final int offset,
+            final Function<? super VncVal, ? extends VncVal> mapper
+    ) {
+        Chunk c = chunk;
+        int from = offset;
+        while(c != END) {
+            final VncVal[] items = new VncVal[c.size - from];
+            int size = 0;
+            for(int ii=from; ii<c.size; ii++) {
+                final VncVal v = mapper.apply(c.items[ii]);
+                if (v != Nil) {
+                    items[size++] = v;
+                }
+            }
+
+            final Lazy<Chunk> next = c.next;
+            if (size > 0) {
+                return new Chunk(items, size, Lazy.of(() -> keep(next.get(), 0, mapper)));
+            }
+
+            // skip chunks without kept items
+            c = next.get();
+            from = 0;
+        }
+        return END;
+    }
+
+    private static Chunk take(final Chunk c, final int from, final int n) {
+        if (c == END || n <= 0) {
+            return END;
+        }
+
+        final int size = Math.min(c.size - from, n);
+        final VncVal[] items = from == 0 && size == c.size
+                                ? c.items
+                                : Arrays.copyOfRange(c.items, from, from + size);
+
+        return size == n
+                ? new Chunk(items, size, END_LAZY)
+                : new Chunk(items, size, Lazy.of(() -> take(c.next.get(), 0, n - size)));
+    }
+
+    private static Chunk takeWhile(
+            final Chunk c,
+            final int from,
+            final Predicate<? super VncVal> predicate
+    ) {
+        if (c == END) {
+            return END;
+        }
+
+        final VncVal[] items = new VncVal[c.size - from];
+        int size = 0;
+        for(int ii=from; ii<c.size; ii++) {
+            final VncVal v = c.items[ii];
+            if (!predicate.test(v)) {
+                return size == 0 ? END : new Chunk(items, size, END_LAZY);
+            }
+            items[size++] = v;
+        }
+        return new Chunk(items, size, Lazy.of(() -> takeWhile(c.next.get(), 0, predicate)));
+    }
+
+
+    private static class Chunk implements Serializable {
+        public Chunk(final VncVal[] items, final int size, final Lazy<Chunk> next) {
+            this.items = items;
+            this.size = size;
+            this.next = next;
+        }
+
+        private Object readResolve() {
+            return size == 0 ? END : this;
+        }
+
+        private static final long serialVersionUID = 2451798123650392451L;
+
+        // a chunk other than END has at least one item
+        private final VncVal[] items;
+        private final int size;
+        private final Lazy<Chunk> next;
+    }
+
+    private static class ChunkIterator implements Iterator<VncVal> {
+        public ChunkIterator(final Chunk chunk, final int offset) {
+            this.chunk = chunk;
+            this.pos = offset;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (chunk != END && pos >= chunk.size) {
+                // realize the next chunk not before it is needed
+                chunk = chunk.next.get();
+                pos = 0;
+            }
+            return chunk != END;
+        }
+
+        @Override
+        public VncVal next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return chunk.items[pos++];
+        }
+
+        private Chunk chunk;
+        private int pos;
+    }
+
+
+    private static final long serialVersionUID = -1848883965231344442L;
+
+    private static final int CHUNK_SIZE = 32;
+
+    private static final Chunk END = new Chunk(new VncVal[0], 0, null);
+    private static final Lazy<Chunk> END_LAZY = Lazy.of(() -> END);
+
+    private final Lazy<Chunk> chunk;
+    private final int offset;
+}
@@ -24,8 +24,13 @@ package com.github.jlangch.venice.impl.types.collections;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.github.jlangch.venice.VncException;
@@ -40,6 +45,8 @@ import com.github.jlangch.venice.impl.types.util.Types;
 import com.github.jlangch.venice.impl.util.MetaUtil;
 import com.github.jlangch.venice.impl.util.dag.DAG;
 import com.github.jlangch.venice.impl.util.dag.DagCycleException;
+import com.github.jlangch.venice.impl.util.dag.DagExecutionException;
+import com.github.jlangch.venice.impl.util.dag.DagExecutor;
 import com.github.jlangch.venice.impl.util.dag.Edge;
 
 
@@ -217,6 +224,47 @@ public class VncDAG extends VncCollection {
         };
     }
 
+    public VncOrderedMap execute(
+            final Function<VncVal,VncVal> fn,
+            final ExecutorService executor,
+            final int parallelism
+    ) {
+        try {
+            final Map<VncVal,DagExecutor.Result<VncVal>> results =
+                    new DagExecutor<VncVal,VncVal>(dag, executor, parallelism).execute(fn);
+
+            final Map<VncVal,VncVal> map = new LinkedHashMap<>();
+            results.forEach((node, r) -> map.put(
+                                            node,
+                                            VncOrderedMap.of(
+                                                new VncKeyword("result"),
+                                                r.getValue(),
+                                                new VncKeyword("start-ms"),
+                                                new VncLong(r.getStartNanos() / 1_000_000L),
+                                                new VncKeyword("elapsed-ms"),
+                                                new VncLong(r.getElapsedNanos() / 1_000_000L))));
+
+            return new VncOrderedMap(map);
+        }
+        catch(DagExecutionException ex) {
+            if (ex.getCause() instanceof VncException) {
+                // keep the type, a user's ValueException is catchable by type
+                throw (VncException)ex.getCause();
+            }
+            throw new VncException(ex.getMessage(), ex.getCause());
+        }
+        catch(RejectedExecutionException ex) {
+            throw new VncException(
+                    "The DAG thread pool rejected the execution of a node. " +
+                    "The pool is saturated by other DAG executions.",
+                    ex);
+        }
+        catch(InterruptedException ex) {
+            throw new com.github.jlangch.venice.InterruptedException(
+                    "Interrupted while executing the DAG nodes.");
+        }
+    }
+
     public VncBoolean isParentOf(final VncVal parent, final VncVal value) {
         try {
             return VncBoolean.of(dag.isParentOf(parent, value));
@@ -21,13 +21,13 @@
  */
 package com.github.jlangch.venice.impl.types.collections;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.Printer;
@@ -108,7 +108,7 @@ public class VncHashMap extends VncMap {
                     lst.size()));
         }
 
-        return new VncHashMap().assoc(lst);
+        return new VncArrayMap().assoc(lst);
     }
 
     public static VncHashMap ofAll(final VncVector vec) {
@@ -118,7 +118,7 @@ public class VncHashMap extends VncMap {
                     vec.size()));
         }
 
-        return new VncHashMap().assoc(vec);
+        return new VncArrayMap().assoc(vec);
     }
 
     public static VncHashMap of(final VncVal... mvs) {
@@ -128,18 +128,18 @@ public class VncHashMap extends VncMap {
                     mvs.length));
         }
 
-        return new VncHashMap().assoc(mvs);
+        return new VncArrayMap().assoc(mvs);
     }
 
 
     @Override
     public VncHashMap emptyWithMeta() {
-        return new VncHashMap(getMeta());
+        return new VncArrayMap(getMeta());
     }
 
     @Override
     public VncHashMap withValues(final Map<VncVal,VncVal> replaceVals) {
-        return new VncHashMap(replaceVals, getMeta());
+        return VncArrayMap.ofMap(replaceVals, getMeta());
     }
 
     @Override
@@ -147,7 +147,7 @@ public class VncHashMap extends VncMap {
             final Map<VncVal,VncVal> replaceVals,
             final VncVal meta
     ) {
-        return new VncHashMap(replaceVals, meta);
+        return VncArrayMap.ofMap(replaceVals, meta);
     }
 
 
@@ -210,7 +210,7 @@ public class VncHashMap extends VncMap {
     public VncHashMap putAll(final VncMap map) {
         if (map instanceof VncHashMap) {
             return new VncHashMap(
-                    value.merge(((VncHashMap)map).value, (u,v) -> v),
+                    value.merge(((VncHashMap)map).toVavrMap(), (u,v) -> v),
                     getMeta());
         }
         else {
@@ -315,15 +315,22 @@ public class VncHashMap extends VncMap {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // same hash as an array map with the same entries
+        int hash = 0;
+        for(io.vavr.Tuple2<VncVal,VncVal> e : value) {
+            hash += e._1.hashCode() ^ e._2.hashCode();
+        }
+        return hash;
     }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
             return true;
-        if (getClass() != obj.getClass())
+        if (!(obj instanceof VncHashMap))
             return false;
+        if (obj instanceof VncArrayMap)
+            return obj.equals(this);
         VncHashMap other = (VncHashMap) obj;
         return value.equals(other.value);
     }
@@ -335,19 +342,36 @@ public class VncHashMap extends VncMap {
 
     @Override
     public String toString(final boolean print_machine_readably) {
-        final Stream<VncVal> stream = value
-                                        .map(e -> Arrays.asList(e._1, e._2))
-                                        .collect(Collectors.toList())
-                                        .stream()
-                                        .flatMap(l -> l.stream());
+        return Printer.pr_str(this, print_machine_readably);
+    }
+
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        out.append('{');
+        boolean first = true;
+        for(io.vavr.Tuple2<VncVal,VncVal> e : value) {
+            Printer.printKeyValue(e._1, e._2, first, print_machine_readably, out);
+            first = false;
+        }
+        out.append('}');
+    }
+
+
+    VncVal lookup(final VncVal key) {
+        return value.get(key).getOrNull();
+    }
 
-        return "{" + Printer.join(stream, " ", print_machine_readably) + "}";
+    io.vavr.collection.HashMap<VncVal,VncVal> toVavrMap() {
+        return value;
     }
 
 
     public static final String TYPE = ":core/hash-map";
 
-    public static final VncHashMap EMPTY = new VncHashMap();
+    public static final VncHashMap EMPTY = new VncArrayMap();
 
     private static final long serialVersionUID = -1848883965231344442L;
 
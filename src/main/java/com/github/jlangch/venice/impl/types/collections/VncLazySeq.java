@@ -23,6 +23,7 @@ package com.github.jlangch.venice.impl.types.collections;
 
 import static com.github.jlangch.venice.impl.types.Constants.Nil;
 
+import java.io.IOException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.function.Consumer;
@@ -79,7 +80,7 @@ public class VncLazySeq extends VncSequence {
     }
 
     public static VncLazySeq cons(final VncVal head, final VncLazySeq tail, final VncVal meta) {
-        return new VncLazySeq(Stream.cons(head, () -> tail.value), meta);
+        return new VncLazySeq(Stream.cons(head, () -> tail.lazyStream()), meta);
     }
 
     public static VncLazySeq ofAll(final VncSequence list, final VncVal meta) {
@@ -100,7 +101,7 @@ public class VncLazySeq extends VncSequence {
 
 
     public VncLazySeq scanLeft(final VncVal zero, final VncFunction fn, final VncVal meta) {
-        return new VncLazySeq(value.scanLeft(zero, (u,v) -> fn.apply(VncList.of(u,v))), meta);
+        return new VncLazySeq(lazyStream().scanLeft(zero, (u,v) -> fn.apply(VncList.of(u,v))), meta);
     }
 
 
@@ -126,7 +127,7 @@ public class VncLazySeq extends VncSequence {
 
     @Override
     public VncLazySeq withMeta(final VncVal meta) {
-        return new VncLazySeq(value, meta);
+        return new VncLazySeq(lazyStream(), meta);
     }
 
     @Override
@@ -141,32 +142,36 @@ public class VncLazySeq extends VncSequence {
 
     @Override
     public Iterator<VncVal> iterator() {
-        return isEmpty() ? EmptyIterator.empty() : value.iterator();
+        return isEmpty() ? EmptyIterator.empty() : lazyStream().iterator();
     }
 
     @Override
     public java.util.stream.Stream<VncVal> stream() {
-        return value.toJavaStream();
+        return lazyStream().toJavaStream();
     }
 
     @Override
     public void forEach(Consumer<? super VncVal> action) {
-        value.forEach(v -> action.accept(v));
+        lazyStream().forEach(v -> action.accept(v));
     }
 
     @Override
     public VncLazySeq filter(final Predicate<? super VncVal> predicate) {
-        return new VncLazySeq(value.filter(predicate), getMeta());
+        return new VncLazySeq(lazyStream().filter(predicate), getMeta());
     }
 
     @Override
     public VncLazySeq map(final Function<? super VncVal, ? extends VncVal> mapper) {
-        return new VncLazySeq(value.map(mapper), getMeta());
+        return new VncLazySeq(lazyStream().map(mapper), getMeta());
+    }
+
+    public VncLazySeq keep(final Function<? super VncVal, ? extends VncVal> mapper) {
+        return new VncLazySeq(lazyStream().<VncVal>map(mapper).filter(v -> v != Nil), getMeta());
     }
 
     @Override
     public List<VncVal> getJavaList() {
-        return value.asJava(); // return an immutable view on top of Stream<VncVal>
+        return lazyStream().asJava(); // return an immutable view on top of Stream<VncVal>
     }
 
     @Override
@@ -176,18 +181,18 @@ public class VncLazySeq extends VncSequence {
 
     @Override
     public boolean isEmpty() {
-        return value.isEmpty();
+        return lazyStream().isEmpty();
     }
 
     @Override
     public VncVal nth(final int idx) {
-        return value.get(idx);
+        return lazyStream().get(idx);
     }
 
     @Override
     public VncVal nthOrDefault(final int idx, final VncVal defaultVal) {
         try {
-            return value.get(idx);
+            return lazyStream().get(idx);
         }
         catch(IndexOutOfBoundsException ex) {
             return defaultVal;
@@ -196,22 +201,22 @@ public class VncLazySeq extends VncSequence {
 
     @Override
     public VncVal first() {
-        return isEmpty() ? Nil : value.head();
+        return isEmpty() ? Nil : lazyStream().head();
     }
 
     @Override
     public VncVal second() {
-        return value.drop(1).head();
+        return lazyStream().drop(1).head();
     }
 
     @Override
     public VncVal third() {
-        return value.drop(2).head();
+        return lazyStream().drop(2).head();
     }
 
     @Override
     public VncVal fourth() {
-        return value.drop(3).head();
+        return lazyStream().drop(3).head();
     }
 
     @Override
@@ -221,7 +226,7 @@ public class VncLazySeq extends VncSequence {
 
     @Override
     public VncLazySeq rest() {
-        return new VncLazySeq(value.drop(1), getMeta()) ;
+        return new VncLazySeq(lazyStream().drop(1), getMeta()) ;
     }
 
     @Override
@@ -231,67 +236,67 @@ public class VncLazySeq extends VncSequence {
 
     @Override
     public VncLazySeq drop(final int n) {
-        return new VncLazySeq(value.drop(n), getMeta());
+        return new VncLazySeq(lazyStream().drop(n), getMeta());
     }
 
     @Override
     public VncLazySeq dropWhile(final Predicate<? super VncVal> predicate) {
-        return new VncLazySeq(value.dropWhile(predicate), getMeta());
+        return new VncLazySeq(lazyStream().dropWhile(predicate), getMeta());
     }
 
     @Override
     public VncLazySeq dropRight(final int n) {
-        return new VncLazySeq(value.dropRight(n), getMeta());
+        return new VncLazySeq(lazyStream().dropRight(n), getMeta());
     }
 
     @Override
     public VncLazySeq take(final int n) {
-        return new VncLazySeq(value.take(n), getMeta());
+        return new VncLazySeq(lazyStream().take(n), getMeta());
     }
 
     @Override
     public VncLazySeq takeWhile(final Predicate<? super VncVal> predicate) {
-        return new VncLazySeq(value.takeWhile(predicate), getMeta());
+        return new VncLazySeq(lazyStream().takeWhile(predicate), getMeta());
     }
 
     @Override
     public VncLazySeq takeRight(final int n) {
-        return new VncLazySeq(value.takeRight(n), getMeta());
+        return new VncLazySeq(lazyStream().takeRight(n), getMeta());
     }
 
     @Override
     public VncLazySeq reverse() {
-        return new VncLazySeq(value.reverse(), getMeta());
+        return new VncLazySeq(lazyStream().reverse(), getMeta());
     }
 
     @Override
     public VncLazySeq shuffle() {
-        return new VncLazySeq(value.shuffle(), getMeta());
+        return new VncLazySeq(lazyStream().shuffle(), getMeta());
     }
 
     @Override
     public VncLazySeq distinct() {
-        return new VncLazySeq(value.distinct(), getMeta());
+        return new VncLazySeq(lazyStream().distinct(), getMeta());
     }
 
     @Override
     public VncLazySeq slice(final int start, final int end) {
-        return new VncLazySeq(value.subSequence(start, end), getMeta());
+        return new VncLazySeq(lazyStream().subSequence(start, end), getMeta());
     }
 
     @Override
     public VncLazySeq slice(final int start) {
-        return new VncLazySeq(value.subSequence(start), getMeta());
+        return new VncLazySeq(lazyStream().subSequence(start), getMeta());
     }
 
     @Override
     public VncList toVncList() {
-        return new VncList(value, getMeta());
+        return new VncList(lazyStream(), getMeta());
     }
 
     @Override
     public VncVector toVncVector() {
-        return new VncVector(value, getMeta());
+        return new VncVector(lazyStream(), getMeta());
     }
 
 
@@ -347,40 +352,49 @@ public class VncLazySeq extends VncSequence {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return lazyStream().hashCode();
     }
 
     @Override
     public boolean equals(Object obj) {
         if (this == obj)
             return true;
-        if (getClass() != obj.getClass())
+        if (!(obj instanceof VncLazySeq))
             return false;
         VncLazySeq other = (VncLazySeq) obj;
-        return value.equals(other.value);
+        return lazyStream().equals(other.lazyStream());
     }
 
     @Override
     public String toString() {
-        return value.hasDefiniteSize()
-                ? "(" + Printer.join(this, " ", true) + ")"
-                : "(...)";
+        return toString(true);
     }
 
     @Override
     public String toString(final boolean print_machine_readably) {
-        return value.hasDefiniteSize()
-                ? "(" + Printer.join(this, " ", print_machine_readably) + ")"
-                : "(...)";
+        return Printer.pr_str(this, print_machine_readably);
+    }
+
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        if (lazyStream().hasDefiniteSize()) {
+            Printer.printSeq("(", this, ")", print_machine_readably, out);
+        }
+        else {
+            out.append("(...)");
+        }
     }
 
 
     public VncList realize() {
-        return new VncList(value.toList(), getMeta());
+        return new VncList(lazyStream().toList(), getMeta());
     }
 
     public VncList realize(final int n) {
-        return new VncList(value.slice(0, n).toList(), getMeta());
+        return new VncList(lazyStream().slice(0, n).toList(), getMeta());
     }
 
     public static VncLazySeq empty() {
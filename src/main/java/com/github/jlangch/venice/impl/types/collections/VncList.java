@@ -23,6 +23,7 @@ package com.github.jlangch.venice.impl.types.collections;
 
 import static com.github.jlangch.venice.impl.types.Constants.Nil;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -432,6 +433,8 @@ public class VncList extends VncSequence {
     public boolean equals(Object obj) {
         if (this == obj)
             return true;
+        if (obj instanceof VncRange)
+            return obj.equals(this);
         if (getClass() != obj.getClass())
             return false;
         VncList other = (VncList) obj;
@@ -440,12 +443,20 @@ public class VncList extends VncSequence {
 
     @Override
     public String toString() {
-        return "(" + Printer.join(this, " ", true) + ")";
+        return toString(true);
     }
 
     @Override
     public String toString(final boolean print_machine_readably) {
-        return "(" + Printer.join(this, " ", print_machine_readably) + ")";
+        return Printer.pr_str(this, print_machine_readably);
+    }
+
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        Printer.printSeq("(", this, ")", print_machine_readably, out);
     }
 
     public static VncList empty() {
@@ -21,9 +21,11 @@
  */
 package com.github.jlangch.venice.impl.types.collections;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
 
+import com.github.jlangch.venice.impl.Printer;
 import com.github.jlangch.venice.impl.types.Constants;
 import com.github.jlangch.venice.impl.types.TypeRank;
 import com.github.jlangch.venice.impl.types.VncKeyword;
@@ -90,10 +92,19 @@ public class VncMapEntry extends VncVal {
 
     @Override
     public String toString(final boolean print_machine_readably) {
-        return String.format(
-                "[%s %s]",
-                key.toString(print_machine_readably),
-                val.toString(print_machine_readably));
+        return Printer.pr_str(this, print_machine_readably);
+    }
+
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        out.append('[');
+        key.print(out, print_machine_readably);
+        out.append(' ');
+        val.print(out, print_machine_readably);
+        out.append(']');
     }
 
 
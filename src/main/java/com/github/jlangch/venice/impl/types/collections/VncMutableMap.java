@@ -21,14 +21,13 @@
  */
 package com.github.jlangch.venice.impl.types.collections;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.Printer;
@@ -44,7 +43,7 @@ import com.github.jlangch.venice.impl.util.MetaUtil;
 public class VncMutableMap extends VncMap implements VncMutable {
 
     public VncMutableMap() {
-        this(null, null);
+        this((Map<VncVal,VncVal>)null, null);
     }
 
     public VncMutableMap(final VncVal meta) {
@@ -60,6 +59,18 @@ public class VncMutableMap extends VncMap implements VncMutable {
         value = vals == null ? new ConcurrentHashMap<>() : new ConcurrentHashMap<>(vals);
     }
 
+    /**
+     * Creates a mutable map that uses the passed map as its storage.
+     * The map is not copied.
+     *
+     * @param meta the meta data
+     * @param storage the storage
+     */
+    protected VncMutableMap(final VncVal meta, final Map<VncVal,VncVal> storage) {
+        super(meta == null ? Constants.Nil : meta);
+        value = storage;
+    }
+
 
     public static VncMutableMap ofAll(final VncSequence lst) {
         if (lst != null && (lst.size() % 2 != 0)) {
@@ -273,13 +284,21 @@ public class VncMutableMap extends VncMap implements VncMutable {
 
     @Override
     public String toString(final boolean print_machine_readably) {
-        final Stream<VncVal> stream = value
-                                        .entrySet()
-                                        .stream()
-                                        .map(e -> Arrays.asList(e.getKey(), e.getValue()))
-                                        .flatMap(l -> l.stream());
+        return Printer.pr_str(this, print_machine_readably);
+    }
 
-        return "{" + Printer.join(stream, " ", print_machine_readably) + "}";
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        out.append('{');
+        boolean first = true;
+        for(Map.Entry<VncVal,VncVal> e : value.entrySet()) {
+            Printer.printKeyValue(e.getKey(), e.getValue(), first, print_machine_readably, out);
+            first = false;
+        }
+        out.append('}');
     }
 
 
@@ -287,5 +306,5 @@ public class VncMutableMap extends VncMap implements VncMutable {
 
     private static final long serialVersionUID = -1848883965231344442L;
 
-    private final ConcurrentHashMap<VncVal,VncVal> value;
+    private final Map<VncVal,VncVal> value;
 }
@@ -21,6 +21,7 @@
  */
 package com.github.jlangch.venice.impl.types.collections;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -44,7 +45,7 @@ import com.github.jlangch.venice.impl.util.MetaUtil;
 public class VncMutableSet extends VncSet implements VncMutable {
 
     public VncMutableSet() {
-        this(null, null);
+        this((Collection<VncVal>)null, null);
     }
 
     public VncMutableSet(final VncVal meta) {
@@ -53,9 +54,22 @@ public class VncMutableSet extends VncSet implements VncMutable {
 
     public VncMutableSet(final Collection<? extends VncVal> val, final VncVal meta) {
         super(meta == null ? Constants.Nil : meta);
+        value = ConcurrentHashMap.newKeySet();
         if (val != null) value.addAll(val);
     }
 
+    /**
+     * Creates a mutable set that uses the passed set as its storage.
+     * The set is not copied.
+     *
+     * @param meta the meta data
+     * @param storage the storage
+     */
+    protected VncMutableSet(final VncVal meta, final Set<VncVal> storage) {
+        super(meta == null ? Constants.Nil : meta);
+        value = storage;
+    }
+
     public static VncMutableSet ofAll(final Iterable<? extends VncVal> iter) {
         final Set<VncVal> set = ConcurrentHashMap.newKeySet();
         for(VncVal o : iter) set.add(o);
@@ -244,7 +258,15 @@ public class VncMutableSet extends VncSet implements VncMutable {
 
     @Override
     public String toString(final boolean print_machine_readably) {
-        return "#{" + Printer.join(stream(), " ", print_machine_readably) + "}";
+        return Printer.pr_str(this, print_machine_readably);
+    }
+
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        Printer.printSeq("#{", this, "}", print_machine_readably, out);
     }
 
 
@@ -252,5 +274,5 @@ public class VncMutableSet extends VncSet implements VncMutable {
 
     private static final long serialVersionUID = -1848883965231344442L;
 
-    private final Set<VncVal> value = ConcurrentHashMap.newKeySet();
+    private final Set<VncVal> value;
 }
@@ -21,6 +21,7 @@
  */
 package com.github.jlangch.venice.impl.types.collections;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -404,12 +405,20 @@ public class VncMutableVector extends VncSequence implements VncMutable {
 
     @Override
     public String toString() {
-        return "[" + Printer.join(this, " ", true) + "]";
+        return toString(true);
     }
 
     @Override
     public String toString(final boolean print_machine_readably) {
-        return "[" + Printer.join(this, " ", print_machine_readably) + "]";
+        return Printer.pr_str(this, print_machine_readably);
+    }
+
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        Printer.printSeq("[", this, "]", print_machine_readably, out);
     }
 
 
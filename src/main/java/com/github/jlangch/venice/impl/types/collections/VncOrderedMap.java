@@ -21,13 +21,13 @@
  */
 package com.github.jlangch.venice.impl.types.collections;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.Printer;
@@ -327,13 +327,21 @@ public class VncOrderedMap extends VncMap {
 
     @Override
     public String toString(final boolean print_machine_readably) {
-        final Stream<VncVal> stream = value
-                                        .map(e -> Arrays.asList(e._1, e._2))
-                                        .collect(Collectors.toList())
-                                        .stream()
-                                        .flatMap(l -> l.stream());
+        return Printer.pr_str(this, print_machine_readably);
+    }
 
-        return "{" + Printer.join(stream, " ", print_machine_readably) + "}";
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        out.append('{');
+        boolean first = true;
+        for(io.vavr.Tuple2<VncVal,VncVal> e : value) {
+            Printer.printKeyValue(e._1, e._2, first, print_machine_readably, out);
+            first = false;
+        }
+        out.append('}');
     }
 
 
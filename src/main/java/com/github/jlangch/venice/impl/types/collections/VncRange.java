@@ -0,0 +1,490 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types.collections;
+
+import static com.github.jlangch.venice.impl.types.Constants.Nil;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.functions.MathFunctions;
+import com.github.jlangch.venice.impl.types.IVncFunction;
+import com.github.jlangch.venice.impl.types.IVncReducible;
+import com.github.jlangch.venice.impl.types.VncDouble;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.custom.VncWrappingTypeDef;
+import com.github.jlangch.venice.impl.util.MeterRegistry;
+import com.github.jlangch.venice.impl.util.transducer.Reducer;
+
+
+/**
+ * An immutable list of long or double numbers from start (inclusive) to
+ * end (exclusive) by step.
+ *
+ * <p>The range keeps just its primitive start, step and item count. The
+ * items are created on demand. <code>count</code>, <code>nth</code>,
+ * <code>last</code>, and all sub ranges like <code>rest</code>,
+ * <code>take</code> or <code>drop</code> are O(1). The range reduces
+ * itself, summing up a range with <code>+</code> does not create any
+ * intermediate values.
+ *
+ * <p>The i-th item of a range is computed as <code>start + i * step</code>.
+ */
+public class VncRange extends VncList implements IVncReducible {
+
+    private VncRange(
+            final boolean doubles,
+            final long lStart,
+            final long lStep,
+            final double dStart,
+            final double dStep,
+            final int count,
+            final VncVal meta
+    ) {
+        super(meta);
+        this.doubles = doubles;
+        this.lStart = lStart;
+        this.lStep = lStep;
+        this.dStart = dStart;
+        this.dStep = dStep;
+        this.count = count;
+    }
+
+
+    public static VncRange of(final long start, final long end, final long step) {
+        if (step == 0) {
+            throw new VncException("range: a step value must not be 0");
+        }
+
+        long count;
+        if (step > 0 ? start >= end : start <= end) {
+            count = 0;
+        }
+        else {
+            // unsigned arithmetic to handle the full range of long values
+            final long span = step > 0 ? end - start : start - end;
+            final long absStep = step > 0 ? step : -step;
+            count = Long.divideUnsigned(span, absStep)
+                        + (Long.remainderUnsigned(span, absStep) == 0 ? 0 : 1);
+        }
+
+        return new VncRange(false, start, step, 0.0D, 0.0D, checkCount(count), null);
+    }
+
+    public static VncRange of(final double start, final double end, final double step) {
+        if (step == 0.0D) {
+            throw new VncException("range: a step value must not be 0");
+        }
+        if (Double.isNaN(start) || Double.isNaN(end) || Double.isNaN(step)
+                || Double.isInfinite(start) || Double.isInfinite(step)) {
+            throw new VncException("range: start and step must be finite numbers");
+        }
+
+        long count;
+        if (step > 0 ? start >= end : start <= end) {
+            count = 0;
+        }
+        else {
+            final double n = Math.ceil((end - start) / step);
+            if (n > Integer.MAX_VALUE) {
+                throw new VncException("range: too many items");
+            }
+
+            // correct floating point rounding at the end bound
+            count = (long)n;
+            while(count > 0 && !inRange(start + (count - 1) * step, end, step)) count--;
+            while(inRange(start + count * step, end, step)) count++;
+        }
+
+        return new VncRange(true, 0L, 0L, start, step, checkCount(count), null);
+    }
+
+
+    @Override
+    public VncList emptyWithMeta() {
+        return new VncTinyList(getMeta());
+    }
+
+    @Override
+    public VncList withMeta(final VncVal meta) {
+        return new VncRange(doubles, lStart, lStep, dStart, dStep, count, meta);
+    }
+
+    @Override
+    public VncList wrap(final VncWrappingTypeDef wrappingTypeDef, final VncVal meta) {
+        return materialize().wrap(wrappingTypeDef, meta);
+    }
+
+    @Override
+    public Iterator<VncVal> iterator() {
+        return new RangeIterator();
+    }
+
+    @Override
+    public Stream<VncVal> stream() {
+        return IntStream.range(0, count).mapToObj(this::item);
+    }
+
+    @Override
+    public void forEach(final Consumer<? super VncVal> action) {
+        for(int ii=0; ii<count; ii++) {
+            action.accept(item(ii));
+        }
+    }
+
+    @Override
+    public VncList filter(final Predicate<? super VncVal> predicate) {
+        return VncList.ofAll(stream().filter(predicate), getMeta());
+    }
+
+    @Override
+    public VncList map(final Function<? super VncVal, ? extends VncVal> mapper) {
+        return VncList.ofAll(stream().map(mapper), getMeta());
+    }
+
+    @Override
+    public List<VncVal> getJavaList() {
+        // an immutable view on top of the range
+        return new AbstractList<VncVal>() {
+            @Override
+            public VncVal get(final int index) {
+                if (index < 0 || index >= count) {
+                    throw new IndexOutOfBoundsException("Index: " + index);
+                }
+                return item(index);
+            }
+
+            @Override
+            public int size() {
+                return count;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public VncVal nth(final int idx) {
+        if (idx < 0 || idx >= count) {
+            throw new VncException(String.format(
+                        "nth: index %d out of range for a list of size %d.",
+                        idx,
+                        size()));
+        }
+
+        return item(idx);
+    }
+
+    @Override
+    public VncVal nthOrDefault(final int idx, final VncVal defaultVal) {
+        return idx >= 0 && idx < count ? item(idx) : defaultVal;
+    }
+
+    @Override
+    public VncVal first() {
+        return nthOrDefault(0, Nil);
+    }
+
+    @Override
+    public VncVal last() {
+        return nthOrDefault(count - 1, Nil);
+    }
+
+    @Override
+    public VncList rest() {
+        return count == 0 ? this : sub(1, count);
+    }
+
+    @Override
+    public VncList butlast() {
+        return count == 0 ? this : sub(0, count - 1);
+    }
+
+    @Override
+    public VncList drop(final int n) {
+        return n <= 0 ? this : sub(Math.min(n, count), count);
+    }
+
+    @Override
+    public VncList dropWhile(final Predicate<? super VncVal> predicate) {
+        int ii = 0;
+        while(ii < count && predicate.test(item(ii))) ii++;
+        return sub(ii, count);
+    }
+
+    @Override
+    public VncList dropRight(final int n) {
+        return n <= 0 ? this : sub(0, Math.max(0, count - n));
+    }
+
+    @Override
+    public VncList take(final int n) {
+        return n >= count ? this : sub(0, Math.max(0, n));
+    }
+
+    @Override
+    public VncList takeWhile(final Predicate<? super VncVal> predicate) {
+        int ii = 0;
+        while(ii < count && predicate.test(item(ii))) ii++;
+        return sub(0, ii);
+    }
+
+    @Override
+    public VncList takeRight(final int n) {
+        return n >= count ? this : sub(Math.max(0, count - n), count);
+    }
+
+    @Override
+    public VncList reverse() {
+        if (count <= 1) {
+            return this;
+        }
+        else {
+            final int lastIdx = count - 1;
+            return doubles
+                    ? new VncRange(true, 0L, 0L, dStart + lastIdx * dStep, -dStep, count, getMeta())
+                    : new VncRange(false, lStart + lastIdx * lStep, -lStep, 0.0D, 0.0D, count, getMeta());
+        }
+    }
+
+    @Override
+    public VncList shuffle() {
+        return materialize().shuffle();
+    }
+
+    @Override
+    public VncList distinct() {
+        // the items of a long range are distinct by definition
+        return doubles ? materialize().distinct() : this;
+    }
+
+    @Override
+    public VncList slice(final int start, final int end) {
+        final int end_ = Math.min(end, count);
+        return start >= 0 && start <= end_ ? sub(start, end_) : materialize().slice(start, end);
+    }
+
+    @Override
+    public VncList slice(final int start) {
+        return start >= 0 && start <= count ? sub(start, count) : materialize().slice(start);
+    }
+
+    @Override
+    public VncList toVncList() {
+        return this;
+    }
+
+    @Override
+    public VncVector toVncVector() {
+        return VncVector.ofList(getJavaList(), getMeta());
+    }
+
+    @Override
+    public VncList addAtStart(final VncVal val) {
+        return materialize().addAtStart(val);
+    }
+
+    @Override
+    public VncList addAllAtStart(final VncSequence list, final boolean reverseAdd) {
+        return materialize().addAllAtStart(list, reverseAdd);
+    }
+
+    @Override
+    public VncList addAtEnd(final VncVal val) {
+        return materialize().addAtEnd(val);
+    }
+
+    @Override
+    public VncList addAllAtEnd(final VncSequence list) {
+        return materialize().addAllAtEnd(list);
+    }
+
+    @Override
+    public VncList setAt(final int idx, final VncVal val) {
+        return materialize().setAt(idx, val);
+    }
+
+    @Override
+    public VncList removeAt(final int idx) {
+        return materialize().removeAt(idx);
+    }
+
+    @Override
+    public VncVal reduce(
+            final IVncFunction reduceFn,
+            final VncVal init,
+            final MeterRegistry meterRegistry
+    ) {
+        if (count == 0) {
+            return init == null ? reduceFn.apply(VncList.empty()) : init;
+        }
+
+        if (reduceFn == MathFunctions.add && !meterRegistry.enabled) {
+            // primitive sum, same overflow semantics as '+'
+            if (!doubles && (init == null || init instanceof VncLong)) {
+                long sum = init == null ? 0L : ((VncLong)init).getValue();
+                for(int ii=0; ii<count; ii++) {
+                    sum += lStart + ii * lStep;
+                }
+                return VncLong.of(sum);
+            }
+            else if (doubles && (init == null || init instanceof VncDouble)) {
+                double sum = init == null ? dStart : ((VncDouble)init).getValue() + dStart;
+                for(int ii=1; ii<count; ii++) {
+                    sum += dStart + ii * dStep;
+                }
+                return new VncDouble(sum);
+            }
+        }
+
+        return init == null
+                ? Reducer.reduce(reduceFn, item(0), rest(), meterRegistry)
+                : Reducer.reduce(reduceFn, init, this, meterRegistry);
+    }
+
+    @Override
+    public int hashCode() {
+        // same hash as a VncList with the same items
+        int hash = 1;
+        for(int ii=0; ii<count; ii++) {
+            hash = 31 * hash + item(ii).hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj)
+            return true;
+        if (obj instanceof VncRange) {
+            final VncRange other = (VncRange)obj;
+            if (count != other.count || doubles != other.doubles)
+                return false;
+            if (count == 0)
+                return true;
+            return doubles
+                    ? Double.compare(dStart, other.dStart) == 0
+                        && (count == 1 || Double.compare(dStep, other.dStep) == 0)
+                    : lStart == other.lStart
+                        && (count == 1 || lStep == other.lStep);
+        }
+        else if (obj != null && obj.getClass() == VncList.class) {
+            // a range is equal to a list with the same items
+            final VncList other = (VncList)obj;
+            if (count != other.size())
+                return false;
+            int ii = 0;
+            for(VncVal v : other) {
+                if (!item(ii++).equals(v))
+                    return false;
+            }
+            return true;
+        }
+        else {
+            return false;
+        }
+    }
+
+
+    private VncVal item(final int idx) {
+        return doubles
+                ? new VncDouble(dStart + idx * dStep)
+                : VncLong.of(lStart + idx * lStep);
+    }
+
+    private VncList sub(final int from, final int to) {
+        if (from == 0 && to == count) {
+            return this;
+        }
+        else if (from >= to) {
+            return emptyWithMeta();
+        }
+        else if (to - from <= VncTinyList.MAX_ELEMENTS) {
+            return VncList.ofList(getJavaList().subList(from, to), getMeta());
+        }
+        else {
+            return doubles
+                    ? new VncRange(true, 0L, 0L, dStart + from * dStep, dStep, to - from, getMeta())
+                    : new VncRange(false, lStart + from * lStep, lStep, 0.0D, 0.0D, to - from, getMeta());
+        }
+    }
+
+    private VncList materialize() {
+        return VncList.ofList(getJavaList(), getMeta());
+    }
+
+    private static boolean inRange(final double val, final double end, final double step) {
+        return step > 0 ? val < end : val > end;
+    }
+
+    private static int checkCount(final long count) {
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new VncException("range: too many items");
+        }
+        return (int)count;
+    }
+
+
+    private class RangeIterator implements Iterator<VncVal> {
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        public VncVal next() {
+            if (index >= count) {
+                throw new NoSuchElementException();
+            }
+            return item(index++);
+        }
+
+        private int index;
+    }
+
+
+    private static final long serialVersionUID = -1848883965231344442L;
+
+    private final boolean doubles;
+    private final long lStart;
+    private final long lStep;
+    private final double dStart;
+    private final double dStep;
+    private final int count;
+}
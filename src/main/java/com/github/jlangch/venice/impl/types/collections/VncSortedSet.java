@@ -21,6 +21,7 @@
  */
 package com.github.jlangch.venice.impl.types.collections;
 
+import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -264,7 +265,15 @@ public class VncSortedSet extends VncSet {
 
     @Override
     public String toString(final boolean print_machine_readably) {
-        return "#{" + Printer.join(toVncList(), " ", print_machine_readably) + "}";
+        return Printer.pr_str(this, print_machine_readably);
+    }
+
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        Printer.printSeq("#{", this, "}", print_machine_readably, out);
     }
 
 
@@ -23,6 +23,7 @@ package com.github.jlangch.venice.impl.types.collections;
 
 import static com.github.jlangch.venice.impl.types.Constants.Nil;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -746,12 +747,20 @@ public class VncTinyVector extends VncVector {
 
     @Override
     public String toString() {
-        return "[" + Printer.join(this, " ", true) + "]";
+        return toString(true);
     }
 
     @Override
     public String toString(final boolean print_machine_readably) {
-        return "[" + Printer.join(this, " ", print_machine_readably) + "]";
+        return Printer.pr_str(this, print_machine_readably);
+    }
+
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        Printer.printSeq("[", this, "]", print_machine_readably, out);
     }
 
 
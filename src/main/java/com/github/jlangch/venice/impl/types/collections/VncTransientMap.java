@@ -0,0 +1,139 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types.collections;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.types.VncVal;
+
+
+/**
+ * A single owner map that is modified in place and turned into a
+ * persistent hash map or ordered map by {@link #persistent()}.
+ *
+ * <p>Associating the entries one by one to a persistent map creates an
+ * intermediate map for every entry. A transient map collects the entries
+ * in a Java map and builds the persistent map in a single bulk pass.
+ * The entries keep their insertion order.
+ *
+ * <p>A transient can not be modified after it has been made persistent.
+ */
+public class VncTransientMap extends VncMutableMap {
+
+    /**
+     * Creates an empty transient map that turns into a hash map
+     */
+    public VncTransientMap() {
+        this(VncHashMap.EMPTY);
+    }
+
+    /**
+     * Creates a transient map with the entries of a hash map or an
+     * ordered map. The transient turns into the same kind of map.
+     *
+     * @param map a hash map or an ordered map
+     */
+    public VncTransientMap(final VncMap map) {
+        this(map.getJavaMap(), map instanceof VncOrderedMap, map.getMeta());
+    }
+
+    private VncTransientMap(
+            final Map<VncVal,VncVal> vals,
+            final boolean ordered,
+            final VncVal meta
+    ) {
+        super(meta, new LinkedHashMap<>(vals));
+        this.ordered = ordered;
+    }
+
+
+    /**
+     * Returns a persistent map with the entries of this transient.
+     * The transient can not be modified anymore.
+     *
+     * @return the persistent map
+     */
+    public VncMap persistent() {
+        ensureEditable();
+        editable = false;
+        return ordered
+                ? new VncOrderedMap(getJavaMap(), getMeta())
+                : VncArrayMap.ofMap(getJavaMap(), getMeta());
+    }
+
+    @Override
+    public VncTransientMap withMeta(final VncVal meta) {
+        ensureEditable();
+        return new VncTransientMap(getJavaMap(), ordered, meta);
+    }
+
+    @Override
+    public VncMutableMap putAll(final VncMap map) {
+        ensureEditable();
+        return super.putAll(map);
+    }
+
+    @Override
+    public VncMutableMap assoc(final VncVal... mvs) {
+        ensureEditable();
+        return super.assoc(mvs);
+    }
+
+    @Override
+    public VncMutableMap assoc(final VncSequence mvs) {
+        ensureEditable();
+        return super.assoc(mvs);
+    }
+
+    @Override
+    public VncMutableMap dissoc(final VncVal... keys) {
+        ensureEditable();
+        return super.dissoc(keys);
+    }
+
+    @Override
+    public VncMutableMap dissoc(final VncSequence keys) {
+        ensureEditable();
+        return super.dissoc(keys);
+    }
+
+    @Override
+    public void clear() {
+        ensureEditable();
+        super.clear();
+    }
+
+
+    private void ensureEditable() {
+        if (!editable) {
+            throw new VncException("Transient map used after persistent! call");
+        }
+    }
+
+
+    private static final long serialVersionUID = -1848883965231344442L;
+
+    private final boolean ordered;
+    private boolean editable = true;
+}
@@ -0,0 +1,128 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types.collections;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.types.VncVal;
+
+
+/**
+ * A single owner set that is modified in place and turned into a
+ * persistent hash set by {@link #persistent()}.
+ *
+ * <p>Adding the elements one by one to a persistent set creates an
+ * intermediate set for every element. A transient set collects the
+ * elements in a Java set and builds the persistent set in a single
+ * bulk pass.
+ *
+ * <p>A transient can not be modified after it has been made persistent.
+ */
+public class VncTransientSet extends VncMutableSet {
+
+    public VncTransientSet() {
+        super(null, new HashSet<>());
+    }
+
+    public VncTransientSet(final VncHashSet set) {
+        this(set.getJavaSet(), set.getMeta());
+    }
+
+    private VncTransientSet(final Set<VncVal> vals, final VncVal meta) {
+        super(meta, new HashSet<>(vals));
+    }
+
+
+    /**
+     * Returns a persistent hash set with the elements of this transient.
+     * The transient can not be modified anymore.
+     *
+     * @return the persistent set
+     */
+    public VncHashSet persistent() {
+        ensureEditable();
+        editable = false;
+        return new VncHashSet(io.vavr.collection.HashSet.ofAll(getJavaSet()), getMeta());
+    }
+
+    @Override
+    public VncTransientSet withMeta(final VncVal meta) {
+        ensureEditable();
+        return new VncTransientSet(getJavaSet(), meta);
+    }
+
+    @Override
+    public VncMutableSet add(final VncVal val) {
+        ensureEditable();
+        return super.add(val);
+    }
+
+    @Override
+    public VncMutableSet addAll(final VncSet val) {
+        ensureEditable();
+        return super.addAll(val);
+    }
+
+    @Override
+    public VncMutableSet addAll(final VncSequence seq) {
+        ensureEditable();
+        return super.addAll(seq);
+    }
+
+    @Override
+    public VncMutableSet remove(final VncVal val) {
+        ensureEditable();
+        return super.remove(val);
+    }
+
+    @Override
+    public VncMutableSet removeAll(final VncSet val) {
+        ensureEditable();
+        return super.removeAll(val);
+    }
+
+    @Override
+    public VncMutableSet removeAll(final VncSequence seq) {
+        ensureEditable();
+        return super.removeAll(seq);
+    }
+
+    @Override
+    public void clear() {
+        ensureEditable();
+        super.clear();
+    }
+
+
+    private void ensureEditable() {
+        if (!editable) {
+            throw new VncException("Transient set used after persistent! call");
+        }
+    }
+
+
+    private static final long serialVersionUID = -1848883965231344442L;
+
+    private boolean editable = true;
+}
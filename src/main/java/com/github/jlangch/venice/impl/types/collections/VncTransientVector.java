@@ -0,0 +1,126 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types.collections;
+
+import java.util.ArrayList;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.types.VncVal;
+
+
+/**
+ * A single owner vector that is modified in place and turned into a
+ * persistent vector by {@link #persistent()}.
+ *
+ * <p>Adding the elements one by one to a persistent vector copies a trie
+ * path for every element. A transient vector collects the elements in an
+ * array list and builds the persistent vector in a single bulk pass.
+ *
+ * <p>A transient can not be modified after it has been made persistent.
+ */
+public class VncTransientVector extends VncMutableVector {
+
+    public VncTransientVector() {
+        super(new ArrayList<>(), null);
+    }
+
+    public VncTransientVector(final VncVector vec) {
+        super(new ArrayList<>(vec.getJavaList()), vec.getMeta());
+    }
+
+    private VncTransientVector(final ArrayList<VncVal> storage, final VncVal meta) {
+        super(storage, meta);
+    }
+
+
+    /**
+     * Returns a persistent vector with the elements of this transient.
+     * The transient can not be modified anymore.
+     *
+     * @return the persistent vector
+     */
+    public VncVector persistent() {
+        ensureEditable();
+        editable = false;
+        return VncVector.ofList(getJavaList(), getMeta());
+    }
+
+    @Override
+    public VncTransientVector withMeta(final VncVal meta) {
+        ensureEditable();
+        return new VncTransientVector(new ArrayList<>(getJavaList()), meta);
+    }
+
+    @Override
+    public void clear() {
+        ensureEditable();
+        super.clear();
+    }
+
+    @Override
+    public VncMutableVector addAtStart(final VncVal val) {
+        ensureEditable();
+        return super.addAtStart(val);
+    }
+
+    @Override
+    public VncMutableVector addAllAtStart(final VncSequence list, final boolean reverseAdd) {
+        ensureEditable();
+        return super.addAllAtStart(list, reverseAdd);
+    }
+
+    @Override
+    public VncMutableVector addAtEnd(final VncVal val) {
+        ensureEditable();
+        return super.addAtEnd(val);
+    }
+
+    @Override
+    public VncMutableVector addAllAtEnd(final VncSequence list) {
+        ensureEditable();
+        return super.addAllAtEnd(list);
+    }
+
+    @Override
+    public VncMutableVector setAt(final int idx, final VncVal val) {
+        ensureEditable();
+        return super.setAt(idx, val);
+    }
+
+    @Override
+    public VncMutableVector removeAt(final int idx) {
+        ensureEditable();
+        return super.removeAt(idx);
+    }
+
+
+    private void ensureEditable() {
+        if (!editable) {
+            throw new VncException("Transient vector used after persistent! call");
+        }
+    }
+
+
+    private static final long serialVersionUID = -1848883965231344442L;
+
+    private boolean editable = true;
+}
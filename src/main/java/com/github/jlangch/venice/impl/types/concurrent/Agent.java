@@ -32,6 +32,7 @@ import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.Printer;
 import com.github.jlangch.venice.impl.thread.ThreadBridge;
 import com.github.jlangch.venice.impl.thread.ThreadContext;
+import com.github.jlangch.venice.impl.threadpool.ExecutorMetrics;
 import com.github.jlangch.venice.impl.threadpool.ThreadPoolUtil;
 import com.github.jlangch.venice.impl.types.Constants;
 import com.github.jlangch.venice.impl.types.IDeref;
@@ -454,12 +455,14 @@ public class Agent implements IDeref {
                         2 + Runtime.getRuntime().availableProcessors(),
                         ThreadPoolUtil.createCountedThreadFactory(
                                 "venice-agent-send-pool",
-                                true /* daemon threads */)));
+                                true /* daemon threads */)),
+                ExecutorMetrics.of("venice-agent-send-pool"));
 
     private final static StripedExecutorService sendOffExecutor =
             new StripedExecutorService(
                 Executors.newCachedThreadPool(
                         ThreadPoolUtil.createCountedThreadFactory(
                                 "venice-agent-send-off-pool",
-                                true /* daemon threads */)));
+                                true /* daemon threads */)),
+                ExecutorMetrics.of("venice-agent-send-off-pool"));
 }
@@ -0,0 +1,481 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.types.Constants;
+import com.github.jlangch.venice.impl.types.TypeRank;
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncVal;
+
+
+/**
+ * A CSP channel with a fixed, dropping, or sliding buffer.
+ *
+ * <p>A channel with a fixed buffer of size 0 is unbuffered. A put on
+ * an unbuffered channel waits until a taker has received the value.
+ *
+ * <p>Putting to a closed channel is a no-op that returns <code>false</code>.
+ * Taking from a closed channel returns the buffered values and
+ * <code>nil</code> when the buffer is drained.
+ */
+public class VncChannel extends VncVal {
+
+    public VncChannel(final int capacity, final BufferType bufferType) {
+        if (capacity < 0) {
+            throw new VncException("A channel's buffer size must not be negative");
+        }
+        if (capacity == 0 && bufferType != BufferType.FIXED) {
+            throw new VncException(String.format(
+                    "A %s channel buffer requires a buffer size greater than 0",
+                    bufferType.name().toLowerCase()));
+        }
+
+        this.capacity = capacity;
+        this.bufferType = bufferType;
+    }
+
+
+    /**
+     * Puts a value, waits until buffer space is available.
+     *
+     * @param val a value, must not be nil
+     * @return <code>true</code> if the value was put or <code>false</code>
+     *         if the channel is closed
+     */
+    public boolean put(final VncVal val) {
+        return put(val, -1L);
+    }
+
+    /**
+     * Puts a value, waits up to the timeout until buffer space is available.
+     *
+     * @param val a value, must not be nil
+     * @param timeoutMillis the timeout, a negative value waits indefinitely
+     * @return <code>true</code> if the value was put or <code>false</code>
+     *         if the channel is closed or the timeout elapsed
+     */
+    public boolean put(final VncVal val, final long timeoutMillis) {
+        validate(val);
+
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        lock.lock();
+        try {
+            if (capacity == 0 && timeoutMillis >= 0) {
+                // unbuffered with timeout: wait for a taker
+                while (!closed && buf.size() >= waitingTakers) {
+                    if (nanos <= 0) {
+                        return false;
+                    }
+                    nanos = notFull.awaitNanos(nanos);
+                }
+            }
+            else if (bufferType == BufferType.FIXED) {
+                while (!closed && buf.size() >= Math.max(1, capacity)) {
+                    if (timeoutMillis < 0) {
+                        notFull.await();
+                    }
+                    else if (nanos <= 0) {
+                        return false;
+                    }
+                    else {
+                        nanos = notFull.awaitNanos(nanos);
+                    }
+                }
+            }
+
+            if (closed) {
+                return false;
+            }
+
+            final long ticket = enqueue(val);
+
+            if (capacity == 0) {
+                // unbuffered: rendezvous with a taker
+                while (!isTaken(ticket) && !closed) {
+                    if (timeoutMillis < 0) {
+                        taken.await();
+                    }
+                    else if (nanos <= 0) {
+                        withdraw(ticket);
+                        return false;
+                    }
+                    else {
+                        nanos = taken.awaitNanos(nanos);
+                    }
+                }
+            }
+
+            return true;
+        }
+        catch(InterruptedException ex) {
+            throw new com.github.jlangch.venice.InterruptedException(
+                    "Interrupted while putting a value to a channel");
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Puts a value if this is possible without waiting.
+     *
+     * @param val a value, must not be nil
+     * @return <code>true</code> if the value was put else <code>false</code>
+     */
+    public boolean offer(final VncVal val) {
+        validate(val);
+
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            else if (bufferType != BufferType.FIXED) {
+                enqueue(val);
+                return true;
+            }
+            else if (capacity == 0 ? buf.size() < waitingTakers : buf.size() < capacity) {
+                enqueue(val);
+                return true;
+            }
+            else {
+                return false;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a value, waits until a value is available or the channel
+     * is closed.
+     *
+     * @return the value or nil if the channel is closed and drained
+     */
+    public VncVal take() {
+        return take(-1L);
+    }
+
+    /**
+     * Takes a value, waits up to the timeout until a value is available
+     * or the channel is closed.
+     *
+     * @param timeoutMillis the timeout, a negative value waits indefinitely
+     * @return the value or nil if the channel is closed and drained or
+     *         the timeout elapsed
+     */
+    public VncVal take(final long timeoutMillis) {
+        long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        lock.lock();
+        try {
+            waitingTakers++;
+            if (capacity == 0) {
+                notFull.signalAll();
+            }
+            try {
+                while (buf.isEmpty() && !closed) {
+                    if (timeoutMillis < 0) {
+                        notEmpty.await();
+                    }
+                    else if (nanos <= 0) {
+                        return Constants.Nil;
+                    }
+                    else {
+                        nanos = notEmpty.awaitNanos(nanos);
+                    }
+                }
+            }
+            finally {
+                waitingTakers--;
+            }
+
+            return buf.isEmpty() ? drained() : dequeue();
+        }
+        catch(InterruptedException ex) {
+            throw new com.github.jlangch.venice.InterruptedException(
+                    "Interrupted while taking a value from a channel");
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes a value if one is available without waiting.
+     *
+     * @return the value, or nil if no value is available
+     */
+    public VncVal poll() {
+        final VncVal v = tryTake();
+        return v == null ? Constants.Nil : v;
+    }
+
+    /**
+     * Takes a value if one is available without waiting.
+     *
+     * @return the value, nil if the channel is closed and drained, or
+     *         <code>null</code> if no value is available
+     */
+    public VncVal tryTake() {
+        lock.lock();
+        try {
+            if (!buf.isEmpty()) {
+                return dequeue();
+            }
+            else {
+                return closed ? drained() : null;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            if (!closed) {
+                closed = true;
+                notEmpty.signalAll();
+                notFull.signalAll();
+                taken.signalAll();
+                signalWaiters();
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the channel with an error. Takers receive the buffered values
+     * and get the error rethrown when the buffer is drained.
+     *
+     * @param error an error
+     */
+    public void fail(final RuntimeException error) {
+        lock.lock();
+        try {
+            if (!closed) {
+                this.error = error;
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+        close();
+    }
+
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return buf.size();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public BufferType getBufferType() {
+        return bufferType;
+    }
+
+    /**
+     * Registers a waiter that gets a permit released whenever the state
+     * of this channel changes. Used to wait on multiple channels.
+     *
+     * @param waiter a waiter
+     */
+    public void addWaiter(final Semaphore waiter) {
+        waiters.add(waiter);
+    }
+
+    public void removeWaiter(final Semaphore waiter) {
+        waiters.remove(waiter);
+    }
+
+
+    @Override
+    public VncVal withMeta(final VncVal meta) {
+        return this;
+    }
+
+    @Override
+    public VncKeyword getType() {
+        return new VncKeyword(TYPE);
+    }
+
+    @Override
+    public TypeRank typeRank() {
+        return TypeRank.CHANNEL;
+    }
+
+    @Override
+    public Object convertToJavaObject() {
+        return this;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "channel (%s, size %d, %s)",
+                bufferType.name().toLowerCase(),
+                capacity,
+                isClosed() ? "closed" : "open");
+    }
+
+
+    private void validate(final VncVal val) {
+        if (val == null || val == Constants.Nil) {
+            throw new VncException("A channel does not permit nil values");
+        }
+    }
+
+    // requires the lock
+    private long enqueue(final VncVal val) {
+        if (bufferType == BufferType.DROPPING && buf.size() >= capacity) {
+            return putCount; // drop the new value
+        }
+        if (bufferType == BufferType.SLIDING && buf.size() >= capacity) {
+            buf.pollFirst(); // drop the oldest value
+        }
+
+        buf.addLast(val);
+        if (capacity == 0) {
+            pending.addLast(++putCount);
+        }
+        notEmpty.signal();
+        signalWaiters();
+        return putCount;
+    }
+
+    // requires the lock
+    private VncVal dequeue() {
+        final VncVal val = buf.pollFirst();
+        notFull.signal();
+        if (capacity == 0) {
+            pending.pollFirst();
+            taken.signalAll();
+        }
+        signalWaiters();
+        return val;
+    }
+
+    // requires the lock
+    private boolean isTaken(final long ticket) {
+        // the tickets of the values not yet taken are in ascending order
+        return pending.isEmpty() || pending.peekFirst() > ticket;
+    }
+
+    // requires the lock
+    private void withdraw(final long ticket) {
+        // removes an unbuffered value whose put timed out
+        final Iterator<Long> t = pending.iterator();
+        final Iterator<VncVal> v = buf.iterator();
+        while (t.hasNext()) {
+            v.next();
+            if (t.next() == ticket) {
+                t.remove();
+                v.remove();
+                notFull.signal();
+                signalWaiters();
+                return;
+            }
+        }
+    }
+
+    // requires the lock
+    private VncVal drained() {
+        if (error != null) {
+            throw error;
+        }
+        return Constants.Nil;
+    }
+
+    private void signalWaiters() {
+        for(Semaphore w : waiters) {
+            w.release();
+        }
+    }
+
+
+    public static enum BufferType { FIXED, DROPPING, SLIDING };
+
+
+    private static final long serialVersionUID = 7392251093287604418L;
+
+    public static final String TYPE = ":core/channel";
+
+    private final int capacity;
+    private final BufferType bufferType;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Condition taken = lock.newCondition();
+    private final ArrayDeque<VncVal> buf = new ArrayDeque<>();
+    // unbuffered channels: the put tickets of the values in the buffer
+    private final ArrayDeque<Long> pending = new ArrayDeque<>();
+    private final List<Semaphore> waiters = new CopyOnWriteArrayList<>();
+
+    private boolean closed;
+    private RuntimeException error;
+    private int waitingTakers;
+    private long putCount;
+}
@@ -21,8 +21,11 @@
  */
 package com.github.jlangch.venice.impl.types.custom;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -31,6 +34,7 @@ import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.specialforms.util.DefTypeForm;
 import com.github.jlangch.venice.impl.types.Constants;
 import com.github.jlangch.venice.impl.types.TypeRank;
+import com.github.jlangch.venice.impl.types.VncBoolean;
 import com.github.jlangch.venice.impl.types.VncFunction;
 import com.github.jlangch.venice.impl.types.VncInteger;
 import com.github.jlangch.venice.impl.types.VncKeyword;
@@ -50,23 +54,23 @@ public class VncCustomType extends VncMap {
 
     public VncCustomType(
             final VncCustomTypeDef typeDef,
-            final VncMap values,
+            final VncVal[] fields,
             final VncVal meta
     ) {
-        this(typeDef, values, null, meta);
+        this(typeDef, fields, null, meta);
     }
 
     public VncCustomType(
             final VncCustomTypeDef typeDef,
-            final VncMap values,
+            final VncVal[] fields,
             final VncWrappingTypeDef wrappingTypeDef,
             final VncVal meta
     ) {
         super(wrappingTypeDef, meta);
 
-        this.type = typeDef.getType();
+        this.type = typeDef.getInstanceType();
         this.typeDef = typeDef;
-        this.values = values;
+        this.fields = fields;
     }
 
     @Override
@@ -88,12 +92,12 @@ public class VncCustomType extends VncMap {
 
     @Override
     public VncCustomType wrap(final VncWrappingTypeDef wrappingTypeDef, final VncVal meta) {
-        return new VncCustomType(typeDef, values, wrappingTypeDef, meta);
+        return new VncCustomType(typeDef, fields, wrappingTypeDef, meta);
     }
 
     @Override
     public VncCustomType withMeta(final VncVal meta) {
-        return new VncCustomType(typeDef, values, meta);
+        return new VncCustomType(typeDef, fields, meta);
     }
 
     @Override
@@ -112,29 +116,40 @@ public class VncCustomType extends VncMap {
 
     @Override
     public Map<VncVal,VncVal> getJavaMap() {
-        return values.getJavaMap();
+        final Map<VncVal,VncVal> map = new LinkedHashMap<>();
+        for(int ii=0; ii<fields.length; ii++) {
+            map.put(typeDef.getFieldName(ii), fields[ii]);
+        }
+        return map;
     }
 
     public VncMap getValuesAsMap() {
-        return values;
+        return new VncOrderedMap(getJavaMap(), Constants.Nil);
     }
 
     public VncVector getValuesAsVector() {
-        VncVector vec = VncVector.empty();
-        for(VncCustomTypeFieldDef f : typeDef.getFieldDefs()) {
-            vec = vec.addAtEnd(values.get(f.getName()));
-        }
-        return vec;
+        return VncVector.of(fields);
+    }
+
+    /**
+     * Returns a field value by its ordinal
+     *
+     * @param index the field's ordinal as resolved by the type definition
+     * @return the field value
+     */
+    public VncVal getField(final int index) {
+        return fields[index];
     }
 
     @Override
     public VncVal containsKey(final VncVal key) {
-        return values.containsKey(key);
+        return VncBoolean.of(typeDef.getFieldIndex(key) >= 0);
     }
 
     @Override
     public VncVal get(final VncVal key) {
-        return values.get(key);
+        final int idx = typeDef.getFieldIndex(key);
+        return idx < 0 ? Constants.Nil : fields[idx];
     }
 
     @Override
@@ -155,19 +170,25 @@ public class VncCustomType extends VncMap {
     public VncMap putAll(final VncMap map) {
         // return a normal map because after putting fields the value
         // will not comply anymore to the custom type contract
-        return values.putAll(map);
+        return getValuesAsMap().putAll(map);
     }
 
     @Override
-    public VncMap assoc(final VncVal... mvs) {
+    public VncCustomType assoc(final VncVal... mvs) {
         if (mvs.length %2 != 0) {
             throw new VncException(String.format(
                     ":core/custom-type: assoc requires an even number of items."));
         }
 
-        VncMap tmp = values;
+        final VncVal[] tmp = fields.clone();
         for (int i=0; i<mvs.length; i+=2) {
-            tmp = tmp.assoc(mvs[i], mvs[i+1]);
+            final int idx = typeDef.getFieldIndex(mvs[i]);
+            if (idx < 0) {
+                // let the map based factory report the invalid field
+                return DefTypeForm.createCustomType(
+                            typeDef, getValuesAsMap().assoc(mvs), getMeta());
+            }
+            tmp[idx] = mvs[i+1];
         }
 
         return DefTypeForm.createCustomType(typeDef, tmp, getMeta());
@@ -180,52 +201,45 @@ public class VncCustomType extends VncMap {
                     ":core/custom-type: assoc requires an even number of items."));
         }
 
-        VncMap map = values;
-        VncSequence kv = mvs;
-        while(!kv.isEmpty()) {
-            map = map.assoc(kv.first(), kv.second());
-            kv = kv.drop(2);
-        }
-
-        return DefTypeForm.createCustomType(typeDef, map, getMeta());
+        return assoc(mvs.getJavaList().toArray(new VncVal[mvs.size()]));
     }
 
     @Override
     public VncMap dissoc(final VncVal... keys) {
         // return a normal map because after removing a field the value
         // will not comply anymore to the custom type contract
-        return values.dissoc(keys);
+        return getValuesAsMap().dissoc(keys);
     }
 
     @Override
     public VncMap dissoc(final VncSequence keys) {
         // return a normal map because after removing a field the value
         // will not comply anymore to the custom type contract
-        return values.dissoc(keys);
+        return getValuesAsMap().dissoc(keys);
     }
 
     @Override
     public VncList toVncList() {
-        return values.toVncList();
+        return getValuesAsMap().toVncList();
     }
 
     @Override
     public VncVector toVncVector() {
-        return values.toVncVector();
+        return getValuesAsMap().toVncVector();
     }
 
     public VncMap toVncMap() {
-        return values;
+        return getValuesAsMap();
     }
 
     @Override
     public int size() {
-        return values.size();
+        return fields.length;
     }
 
     @Override
     public boolean isEmpty() {
-        return values.isEmpty();
+        return fields.length == 0;
     }
 
     @Override
@@ -235,7 +249,7 @@ public class VncCustomType extends VncMap {
 
     @Override
     public Object convertToJavaObject() {
-        return values.convertToJavaObject();
+        return getValuesAsMap().convertToJavaObject();
     }
 
     @Override
@@ -245,7 +259,7 @@ public class VncCustomType extends VncMap {
             if (type.equals(other.type)) {
                 final VncFunction fn = typeDef.getCustomCompareToFn();
                 return fn == null
-                        ? values.compareTo(other.values)
+                        ? (Arrays.equals(fields, other.fields) ? 0 : -1)
                         : customCompareTo(fn, other);
             }
             else {
@@ -265,7 +279,7 @@ public class VncCustomType extends VncMap {
         final int prime = 31;
         int result = super.hashCode();
         result = prime * result + ((type == null) ? 0 : type.hashCode());
-        result = prime * result + ((values == null) ? 0 : values.hashCode());
+        result = prime * result + Arrays.hashCode(fields);
         return result;
     }
 
@@ -283,10 +297,7 @@ public class VncCustomType extends VncMap {
                 return false;
         } else if (!type.equals(other.type))
             return false;
-        if (values == null) {
-            if (other.values != null)
-                return false;
-        } else if (!values.equals(other.values))
+        if (!Arrays.equals(fields, other.fields))
             return false;
         return true;
     }
@@ -298,7 +309,7 @@ public class VncCustomType extends VncMap {
         return fn == null
                 ? VncOrderedMap
                     .of(new VncKeyword(":custom-type*"), type)
-                    .putAll(values)
+                    .putAll(getValuesAsMap())
                     .toString()
                 : customToString(fn);
     }
@@ -310,11 +321,29 @@ public class VncCustomType extends VncMap {
         return fn == null
                 ? VncOrderedMap
                     .of(new VncKeyword(":custom-type*"), type)
-                    .putAll(values)
+                    .putAll(getValuesAsMap())
                     .toString(print_machine_readably)
                 : customToString(fn);
     }
 
+    @Override
+    public void print(
+            final Appendable out,
+            final boolean print_machine_readably
+    ) throws IOException {
+        final VncFunction fn = typeDef.getCustomToStringFn();
+
+        if (fn == null) {
+            VncOrderedMap
+                .of(new VncKeyword(":custom-type*"), type)
+                .putAll(getValuesAsMap())
+                .print(out, print_machine_readably);
+        }
+        else {
+            out.append(customToString(fn));
+        }
+    }
+
     private String customToString(final VncFunction fn) {
         final VncVal s = fn.apply(VncList.of(this));
         return s == Constants.Nil ? null : s.toString();
@@ -341,5 +370,5 @@ public class VncCustomType extends VncMap {
 
     private final VncKeyword type;
     private final VncCustomTypeDef typeDef;
-    private final VncMap values;
+    private final VncVal[] fields;  // indexed by field ordinal
 }
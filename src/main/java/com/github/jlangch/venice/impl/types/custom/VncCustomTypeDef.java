@@ -23,7 +23,9 @@ package com.github.jlangch.venice.impl.types.custom;
 
 import static com.github.jlangch.venice.impl.types.Constants.Nil;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -49,6 +51,16 @@ public class VncCustomTypeDef extends VncCustomBaseTypeDef {
 
         this.fieldDefs = fieldDefs;
         this.validationFn = validationFn;
+
+        this.instanceType = getType();
+
+        // resolve the field ordinals at definition time
+        this.fieldNames = new VncKeyword[fieldDefs.size()];
+        this.fieldIndex = new HashMap<>();
+        for(int ii=0; ii<fieldNames.length; ii++) {
+            fieldNames[ii] = fieldDefs.get(ii).getName();
+            fieldIndex.put(fieldNames[ii], ii);
+        }
     }
 
 
@@ -66,6 +78,30 @@ public class VncCustomTypeDef extends VncCustomBaseTypeDef {
         return fieldDefs;
     }
 
+    /**
+     * Returns the ordinal of a field.
+     *
+     * @param name a field name
+     * @return the field's ordinal or -1 if the type has no such field
+     */
+    public int getFieldIndex(final VncVal name) {
+        for(int ii=0; ii<fieldNames.length; ii++) {
+            if (fieldNames[ii] == name) {
+                return ii;
+            }
+        }
+        final Integer idx = fieldIndex.get(name);
+        return idx == null ? -1 : idx;
+    }
+
+    public VncKeyword getFieldName(final int index) {
+        return fieldNames[index];
+    }
+
+    VncKeyword getInstanceType() {
+        return instanceType;
+    }
+
     public Set<VncKeyword> getFieldNames() {
         return fieldDefs.stream().map(f -> f.getName()).collect(Collectors.toSet());
     }
@@ -118,6 +154,9 @@ public class VncCustomTypeDef extends VncCustomBaseTypeDef {
 
     private static final long serialVersionUID = -1848883965231344442L;
 
+    private final VncKeyword instanceType;
     private final List<VncCustomTypeFieldDef> fieldDefs;
+    private final VncKeyword[] fieldNames;
+    private final Map<VncVal,Integer> fieldIndex;
     private final VncFunction validationFn;
 }
@@ -64,6 +64,7 @@ import com.github.jlangch.venice.impl.types.collections.VncSet;
 import com.github.jlangch.venice.impl.types.collections.VncSortedSet;
 import com.github.jlangch.venice.impl.types.collections.VncStack;
 import com.github.jlangch.venice.impl.types.collections.VncVector;
+import com.github.jlangch.venice.impl.types.concurrent.VncChannel;
 import com.github.jlangch.venice.impl.types.concurrent.VncLock;
 import com.github.jlangch.venice.impl.types.custom.VncProtocol;
 import com.github.jlangch.venice.impl.util.callstack.CallFrame;
@@ -141,6 +142,22 @@ public class Coerce {
         }
     }
 
+    public static VncChannel toVncChannel(final VncVal val) {
+        if (val == null) {
+            throw new VncException("Cannot coerce a null value to a channel.");
+        }
+        else if (Types.isVncChannel(val)) {
+            return (VncChannel)val;
+        }
+        else {
+            try (WithCallStack cs = new WithCallStack(callframe(val))) {
+                throw new VncException(String.format(
+                        "Cannot coerce value of type %s to channel.",
+                        Types.getType(val)));
+            }
+        }
+    }
+
     public static VncThreadLocal toVncThreadLocal(final VncVal val) {
         if (val == null) {
             throw new VncException("Cannot coerce a null value to thread-local.");
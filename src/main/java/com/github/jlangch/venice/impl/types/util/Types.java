@@ -30,6 +30,7 @@ import com.github.jlangch.venice.impl.namespaces.Namespaces;
 import com.github.jlangch.venice.impl.types.IDeref;
 import com.github.jlangch.venice.impl.types.IVncFunction;
 import com.github.jlangch.venice.impl.types.IVncJavaObject;
+import com.github.jlangch.venice.impl.types.IVncReducible;
 import com.github.jlangch.venice.impl.types.VncAtom;
 import com.github.jlangch.venice.impl.types.VncBigDecimal;
 import com.github.jlangch.venice.impl.types.VncBigInteger;
@@ -41,10 +42,13 @@ import com.github.jlangch.venice.impl.types.VncDouble;
 import com.github.jlangch.venice.impl.types.VncFloat;
 import com.github.jlangch.venice.impl.types.VncFunction;
 import com.github.jlangch.venice.impl.types.VncInteger;
+import com.github.jlangch.venice.impl.types.VncIteratorReducible;
 import com.github.jlangch.venice.impl.types.VncJavaObject;
 import com.github.jlangch.venice.impl.types.VncJust;
 import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLineReducible;
 import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncMatrix;
 import com.github.jlangch.venice.impl.types.VncMultiArityFunction;
 import com.github.jlangch.venice.impl.types.VncMultiFunction;
 import com.github.jlangch.venice.impl.types.VncNumber;
@@ -81,6 +85,7 @@ import com.github.jlangch.venice.impl.types.collections.VncSortedMap;
 import com.github.jlangch.venice.impl.types.collections.VncSortedSet;
 import com.github.jlangch.venice.impl.types.collections.VncStack;
 import com.github.jlangch.venice.impl.types.collections.VncVector;
+import com.github.jlangch.venice.impl.types.concurrent.VncChannel;
 import com.github.jlangch.venice.impl.types.concurrent.VncLock;
 import com.github.jlangch.venice.impl.types.custom.VncCustomType;
 import com.github.jlangch.venice.impl.types.custom.VncProtocol;
@@ -268,10 +273,30 @@ public class Types {
         return val != null && (val instanceof VncLock);
     }
 
+    public static boolean isVncChannel(final VncVal val) {
+        return val != null && (val instanceof VncChannel);
+    }
+
     public static boolean isIVncFunction(final VncVal val) {
         return val != null && (val instanceof IVncFunction);
     }
 
+    public static boolean isIVncReducible(final VncVal val) {
+        return val != null && (val instanceof IVncReducible);
+    }
+
+    public static boolean isVncMatrix(final VncVal val) {
+        return val != null && (val instanceof VncMatrix);
+    }
+
+    public static boolean isVncLineReducible(final VncVal val) {
+        return val != null && (val instanceof VncLineReducible);
+    }
+
+    public static boolean isVncIteratorReducible(final VncVal val) {
+        return val != null && (val instanceof VncIteratorReducible);
+    }
+
     public static boolean isVncFunction(final VncVal val) {
         return val != null && (val instanceof VncFunction);
     }
@@ -392,9 +417,15 @@ public class Types {
             case ":core/protocol":       return Types.isVncProtocol(val);
 
             case ":core/lock":           return Types.isVncLock(val);
+            case ":core/channel":        return Types.isVncChannel(val);
+
+            case ":core/reducible-lines": return Types.isVncLineReducible(val);
+            case ":core/reducible":       return Types.isVncIteratorReducible(val);
 
             case ":dag/dag":             return Types.isVncDAG(val);
 
+            case ":matrix/dense":        return Types.isVncMatrix(val);
+
             default:
                 try {
                     if (Types.isVncCustomType(val)) {
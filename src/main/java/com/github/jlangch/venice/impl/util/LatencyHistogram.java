@@ -0,0 +1,200 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * A fixed size log-linear latency histogram in the spirit of HdrHistogram.
+ *
+ * <p>Values below 8ns are counted exactly. Above that every power of two
+ * range is split into 8 linear sub buckets, giving a relative error of at
+ * most 12.5%. Values above 2^36ns (about 68s) are counted in the last bucket.
+ *
+ * <p>The buckets of a power of two range are allocated on the first value
+ * recorded in that range. A histogram of values within a few orders of
+ * magnitude takes a few hundred bytes.
+ *
+ * <p>The histogram is designed for a single writer thread. Recording uses
+ * ordered stores only, other threads may read and merge concurrently and see
+ * an eventually consistent state. Histograms shared by multiple writer
+ * threads record with {@link #recordConcurrent(long)}.
+ */
+public class LatencyHistogram {
+
+    public LatencyHistogram() {
+        this.rows = new AtomicReferenceArray<>(ROWS);
+    }
+
+    /**
+     * Records a value. Must only be called by the histogram's owner thread.
+     *
+     * @param value the value (nanoseconds)
+     */
+    public void record(final long value) {
+        final int idx = bucketIndex(value);
+        final AtomicLongArray row = row(idx);
+        final int sub = idx & (SUB_BUCKETS - 1);
+        row.lazySet(sub, row.get(sub) + 1L);
+    }
+
+    /**
+     * Records a value. May be called by any thread.
+     *
+     * @param value the value (nanoseconds)
+     */
+    public void recordConcurrent(final long value) {
+        final int idx = bucketIndex(value);
+        rowConcurrent(idx).incrementAndGet(idx & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * Adds the counts of another histogram to this histogram. Must only be
+     * called by the histogram's owner thread.
+     *
+     * @param other a histogram
+     */
+    public void add(final LatencyHistogram other) {
+        for(int ii=0; ii<BUCKETS; ii++) {
+            final long n = other.count(ii);
+            if (n > 0L) {
+                final AtomicLongArray row = row(ii);
+                final int sub = ii & (SUB_BUCKETS - 1);
+                row.lazySet(sub, row.get(sub) + n);
+            }
+        }
+    }
+
+    /**
+     * Clears all counts. Values recorded concurrently may get lost.
+     */
+    public void reset() {
+        for(int ii=0; ii<ROWS; ii++) {
+            rows.set(ii, null);
+        }
+    }
+
+    public long getTotalCount() {
+        long total = 0L;
+        for(int ii=0; ii<BUCKETS; ii++) {
+            total += count(ii);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the value at the given percentile. The value is the highest
+     * value that is equivalent to the bucket the percentile falls into.
+     *
+     * @param percentile a percentile [0.0 .. 100.0]
+     * @return the value or 0 if the histogram is empty
+     */
+    public long getValueAtPercentile(final double percentile) {
+        final long total = getTotalCount();
+        if (total == 0L) {
+            return 0L;
+        }
+
+        final double p = Math.min(Math.max(percentile, 0.0D), 100.0D);
+        final long target = Math.max(1L, (long)Math.ceil(p / 100.0D * total));
+
+        long cumulative = 0L;
+        for(int ii=0; ii<BUCKETS; ii++) {
+            cumulative += count(ii);
+            if (cumulative >= target) {
+                return highestEquivalentValue(ii);
+            }
+        }
+
+        return highestEquivalentValue(BUCKETS - 1);
+    }
+
+    private long count(final int index) {
+        final AtomicLongArray row = rows.get(index / SUB_BUCKETS);
+        return row == null ? 0L : row.get(index & (SUB_BUCKETS - 1));
+    }
+
+    private AtomicLongArray row(final int index) {
+        final int r = index / SUB_BUCKETS;
+        AtomicLongArray row = rows.get(r);
+        if (row == null) {
+            row = new AtomicLongArray(SUB_BUCKETS);
+            rows.set(r, row);
+        }
+        return row;
+    }
+
+    private AtomicLongArray rowConcurrent(final int index) {
+        final int r = index / SUB_BUCKETS;
+        final AtomicLongArray row = rows.get(r);
+        if (row != null) {
+            return row;
+        }
+        rows.compareAndSet(r, null, new AtomicLongArray(SUB_BUCKETS));
+        return rows.get(r);
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKETS) {
+            return value < 0L ? 0 : (int)value;
+        }
+
+        final long v = Math.min(value, MAX_VALUE);
+        final int exp = 63 - Long.numberOfLeadingZeros(v);
+        final int sub = (int)(v >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exp - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long lowestEquivalentValue(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final int exp = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final int sub = index % SUB_BUCKETS;
+        return (long)(SUB_BUCKETS + sub) << (exp - SUB_BUCKET_BITS);
+    }
+
+    static long highestEquivalentValue(final int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final int exp = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return lowestEquivalentValue(index) + (1L << (exp - SUB_BUCKET_BITS)) - 1L;
+    }
+
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36;
+    private static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1L;
+
+    private static final int ROWS = MAX_EXPONENT - SUB_BUCKET_BITS + 1;
+
+    static final int BUCKETS = ROWS * SUB_BUCKETS;
+
+    // one row of sub buckets per power of two range, allocated on demand
+    private final AtomicReferenceArray<AtomicLongArray> rows;
+}
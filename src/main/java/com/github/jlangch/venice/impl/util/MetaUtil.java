@@ -54,10 +54,14 @@ public class MetaUtil {
     }
 
     public static VncVal toMeta(final Token token) {
+        return toMeta(token, new VncString(token.getFile()));
+    }
+
+    public static VncVal toMeta(final Token token, final VncString file) {
         return VncHashMap.of(
-                    FILE, new VncString(token.getFile()),
-                    LINE, new VncLong(token.getLine()),
-                    COLUMN, new VncLong(token.getColumn()));
+                    FILE, file,
+                    LINE, VncLong.of(token.getLine()),
+                    COLUMN, VncLong.of(token.getColumn()));
     }
 
     public static VncVal addMetaVal(final VncVal meta, final VncVal... mvs) {
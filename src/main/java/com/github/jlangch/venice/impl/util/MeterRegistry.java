@@ -22,14 +22,20 @@
 package com.github.jlangch.venice.impl.util;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.stream.Collectors;
 
+import com.github.jlangch.venice.impl.types.VncFunction;
 import com.github.jlangch.venice.impl.types.VncKeyword;
 import com.github.jlangch.venice.impl.types.VncLong;
 import com.github.jlangch.venice.impl.types.VncString;
@@ -41,6 +47,20 @@ import com.github.jlangch.venice.impl.types.util.Coerce;
 import com.github.jlangch.venice.util.ElapsedTime;
 
 
+/**
+ * Collects function execution times.
+ *
+ * <p>Every thread records into its own meters, registered on the first call
+ * of a function and keyed by the function's qualified name. The instances of
+ * an anonymous function share one meter named after the function without
+ * the instance's unique suffix, e.g. "user/anonymous-fn". Recording a call
+ * does neither build strings nor touch shared state. The per thread meters
+ * are merged by name when the data is read.
+ *
+ * <p>Besides the inclusive elapsed time the registry tracks the self time of
+ * functions (inclusive time minus the time spent in metered callees) and a
+ * latency histogram per function.
+ */
 public class MeterRegistry implements Serializable {
 
     public MeterRegistry(final boolean enabled) {
@@ -60,43 +80,100 @@ public class MeterRegistry implements Serializable {
     }
 
     public void reset() {
-        data.clear();
+        generation = new Generation();
     }
 
     public void resetAllBut(final VncSequence records) {
-        final Map<String,ElapsedTime> keep =
-                records.stream()
-                       .map(r -> data.get(Coerce.toVncString(r).getValue()))
-                       .filter(t -> t != null)
-                       .collect(Collectors.toMap(ElapsedTime::getName, Function.identity()));
+        final Set<String> names = records
+                                    .stream()
+                                    .map(r -> Coerce.toVncString(r).getValue())
+                                    .collect(Collectors.toSet());
+
+        final Generation gen = new Generation();
+        for(Meter m : merge().values()) {
+            if (names.contains(m.name)) {
+                gen.meters.add(m);
+            }
+        }
 
-        data.clear();
-        data.putAll(keep);
+        generation = gen;
+    }
+
+    /**
+     * Opens a metered call frame on the current thread. The returned frame
+     * must be passed to the matching <code>record</code> call to account the
+     * function's self time.
+     *
+     * @return the frame (always greater than 0)
+     */
+    public int enter() {
+        return threadMeters.get().enter();
     }
 
     public void record(final String name, final long elapsedTime) {
         if (elapsedTime >= 0) {
-            data.compute(
-                    name,
-                    (k, v) -> v == null
-                                ? new ElapsedTime(name, elapsedTime)
-                                : v.add(elapsedTime));
+            final ThreadMeters tm = threadMeters.get();
+            Meter m = tm.named(generation).get(name);
+            if (m == null) {
+                m = tm.register(name, name, tm.named);
+            }
+            m.record(elapsedTime, elapsedTime);
+        }
+    }
+
+    public void record(
+            final VncFunction fn,
+            final int frame,
+            final long elapsedTime
+    ) {
+        if (elapsedTime >= 0) {
+            final ThreadMeters tm = threadMeters.get();
+            final String key = tm.key(fn);
+            Meter m = tm.functions(generation).get(key);
+            if (m == null) {
+                m = tm.register(key, key, tm.functions);
+            }
+            m.record(elapsedTime, tm.exit(frame, elapsedTime));
         }
     }
 
-    public void record(final String name, final int arity, final long elapsedTime) {
+    public void record(
+            final VncFunction fn,
+            final VncFunction arityFn,
+            final int frame,
+            final long elapsedTime
+    ) {
         if (elapsedTime >= 0) {
-            final String name_ = name + "[" + arity + "]";
-            data.compute(
-                    name_,
-                    (k, v) -> v == null
-                                ? new ElapsedTime(name_, elapsedTime)
-                                : v.add(elapsedTime));
+            final ThreadMeters tm = threadMeters.get();
+            final String key = tm.key(fn);
+            final int arity = arityFn.getParams().size();
+            final Meter[] meters = tm.arities(generation).get(key);
+            Meter m = meters != null && arity < meters.length ? meters[arity] : null;
+            if (m == null) {
+                m = tm.registerArity(key, arity);
+            }
+            m.record(elapsedTime, tm.exit(frame, elapsedTime));
+        }
+    }
+
+    public void recordMacro(final VncFunction macro, final long elapsedTime) {
+        if (elapsedTime >= 0) {
+            final ThreadMeters tm = threadMeters.get();
+            final String key = tm.key(macro);
+            Meter m = tm.macros(generation).get(key);
+            if (m == null) {
+                m = tm.register(key, key + "[m]", tm.macros);
+            }
+            m.record(elapsedTime, elapsedTime);
         }
     }
 
     public Collection<ElapsedTime> getTimerData() {
-        return data.values();
+        return merge()
+                .values()
+                .stream()
+                .map(m -> m.toElapsedTime())
+                .collect(Collectors.toList());
     }
 
     public VncList getVncTimerData() {
@@ -141,6 +218,12 @@ public class MeterRegistry implements Serializable {
         if (lines.isEmpty()) {
             lines.add("no meter data!");
         }
+        else {
+            lines.add(0, String.format(
+                            "%-" + (maxNameLen + maxCountLen + 5) + "s %11s %11s %11s %11s %11s %11s",
+                            "",
+                            "total", "avg", "self", "p50", "p99", "p999"));
+        }
 
         if (!StringUtil.isBlank(title)) {
             final int maxLineLen = Math.max(
@@ -162,24 +245,223 @@ public class MeterRegistry implements Serializable {
 
     private String format(final ElapsedTime t, final int maxNameLen, final int maxCountLen) {
         return String.format(
-                    "%-" + maxNameLen +"s  [%" + maxCountLen + "d]: %11s %11s",
+                    "%-" + maxNameLen +"s  [%" + maxCountLen + "d]: %11s %11s %11s %11s %11s %11s",
                     t.getName(),
                     t.getCount(),
                     ElapsedTime.formatNanos(t.getElapsedNanos()),
-                    t.getCount() == 1 ? "" : ElapsedTime.formatNanos(t.getElapsedNanos() / t.getCount()));
+                    t.getCount() == 1 ? "" : ElapsedTime.formatNanos(t.getElapsedNanos() / t.getCount()),
+                    ElapsedTime.formatNanos(t.getSelfNanos()),
+                    ElapsedTime.formatNanos(t.getP50Nanos()),
+                    ElapsedTime.formatNanos(t.getP99Nanos()),
+                    ElapsedTime.formatNanos(t.getP999Nanos()));
     }
 
     private VncMap convertToVncMap(final ElapsedTime timer) {
         return VncHashMap.of(
-                new VncKeyword("name"),  new VncString(timer.getName()),
-                new VncKeyword("count"), new VncLong(timer.getCount()),
-                new VncKeyword("nanos"), new VncLong(timer.getElapsedNanos()));
+                new VncKeyword("name"),       new VncString(timer.getName()),
+                new VncKeyword("count"),      new VncLong(timer.getCount()),
+                new VncKeyword("nanos"),      new VncLong(timer.getElapsedNanos()),
+                new VncKeyword("self-nanos"), new VncLong(timer.getSelfNanos()),
+                new VncKeyword("max-nanos"),  new VncLong(timer.getMaxNanos()),
+                new VncKeyword("p50-nanos"),  new VncLong(timer.getP50Nanos()),
+                new VncKeyword("p99-nanos"),  new VncLong(timer.getP99Nanos()),
+                new VncKeyword("p999-nanos"), new VncLong(timer.getP999Nanos()));
+    }
+
+    private Map<String,Meter> merge() {
+        final Map<String,Meter> merged = new LinkedHashMap<>();
+        for(Meter m : generation.meters) {
+            merged.computeIfAbsent(m.name, k -> new Meter(k)).add(m);
+        }
+        return merged;
+    }
+
+    private Object readResolve() {
+        // the per thread meters are not serialized
+        return new MeterRegistry(enabled);
+    }
+
+
+    private static class Generation {
+        // all meters of all threads, registered once per thread and key
+        final Queue<Meter> meters = new ConcurrentLinkedQueue<>();
+    }
+
+
+    private static class Meter {
+        Meter(final String name) {
+            this.name = name;
+        }
+
+        // single writer: only the owner thread records
+        void record(final long elapsed, final long self) {
+            counters.lazySet(COUNT, counters.get(COUNT) + 1L);
+            counters.lazySet(TOTAL, counters.get(TOTAL) + elapsed);
+            counters.lazySet(SELF,  counters.get(SELF) + self);
+            if (elapsed > counters.get(MAX)) {
+                counters.lazySet(MAX, elapsed);
+            }
+            histogram.record(elapsed);
+        }
+
+        void add(final Meter other) {
+            counters.lazySet(COUNT, counters.get(COUNT) + other.counters.get(COUNT));
+            counters.lazySet(TOTAL, counters.get(TOTAL) + other.counters.get(TOTAL));
+            counters.lazySet(SELF,  counters.get(SELF) + other.counters.get(SELF));
+            counters.lazySet(MAX,   Math.max(counters.get(MAX), other.counters.get(MAX)));
+            histogram.add(other.histogram);
+        }
+
+        ElapsedTime toElapsedTime() {
+            final long max = counters.get(MAX);
+            return new ElapsedTime(
+                        name,
+                        (int)Math.min(Integer.MAX_VALUE, counters.get(COUNT)),
+                        counters.get(TOTAL),
+                        counters.get(SELF),
+                        max,
+                        Math.min(max, histogram.getValueAtPercentile(50.0D)),
+                        Math.min(max, histogram.getValueAtPercentile(99.0D)),
+                        Math.min(max, histogram.getValueAtPercentile(99.9D)));
+        }
+
+        private static final int COUNT = 0;
+        private static final int TOTAL = 1;
+        private static final int SELF = 2;
+        private static final int MAX = 3;
+
+        final String name;
+        final AtomicLongArray counters = new AtomicLongArray(4);
+        final LatencyHistogram histogram = new LatencyHistogram();
+    }
+
+
+    private static class ThreadMeters {
+        int enter() {
+            final int frame = ++depth;
+            if (frame == childNanos.length) {
+                childNanos = Arrays.copyOf(childNanos, frame * 2);
+            }
+            childNanos[frame] = 0L;
+            return frame;
+        }
+
+        // closes the frame and returns the self time of the call
+        long exit(final int frame, final long elapsed) {
+            if (frame <= 0 || frame > depth) {
+                return elapsed;  // frame opened before a reset or not at all
+            }
+
+            final long self = elapsed - childNanos[frame];
+            depth = frame - 1;  // heals frames not closed while metering was off
+            childNanos[depth] += elapsed;
+            return Math.max(0L, self);
+        }
+
+        Map<String,Meter> functions(final Generation gen) {
+            sync(gen);
+            return functions;
+        }
+
+        Map<String,Meter[]> arities(final Generation gen) {
+            sync(gen);
+            return arities;
+        }
+
+        Map<String,Meter> macros(final Generation gen) {
+            sync(gen);
+            return macros;
+        }
+
+        Map<String,Meter> named(final Generation gen) {
+            sync(gen);
+            return named;
+        }
+
+        Meter register(final String key, final String name, final Map<String,Meter> map) {
+            final Meter m = new Meter(name);
+            map.put(key, m);
+            generation.meters.add(m);
+            return m;
+        }
+
+        Meter registerArity(final String key, final int arity) {
+            Meter[] meters = arities.get(key);
+            if (meters == null || arity >= meters.length) {
+                meters = meters == null
+                            ? new Meter[arity + 1]
+                            : Arrays.copyOf(meters, arity + 1);
+                arities.put(key, meters);
+            }
+
+            final Meter m = new Meter(key + "[" + arity + "]");
+            meters[arity] = m;
+            generation.meters.add(m);
+            return m;
+        }
+
+        // the meter key of a function, shared by all instances of an
+        // anonymous function
+        String key(final VncFunction fn) {
+            final String name = fn.getQualifiedName();
+            if (!fn.isAnonymous()) {
+                return name;
+            }
+
+            // a small cache avoids building the key on each call
+            final int slot = System.identityHashCode(name) & (ANON_CACHE_SIZE - 1);
+            if (anonNames[slot] != name) {
+                anonNames[slot] = name;
+                anonKeys[slot] = anonymousKey(name);
+            }
+            return anonKeys[slot];
+        }
+
+        private static String anonymousKey(final String name) {
+            // strip the unique suffix "-<uuid>"
+            final int len = name.length();
+            final String stripped = len > UUID_SUFFIX_LEN && name.charAt(len - UUID_SUFFIX_LEN) == '-'
+                                        ? name.substring(0, len - UUID_SUFFIX_LEN)
+                                        : name;
+            return stripped.endsWith("/anonymous") || stripped.equals("anonymous")
+                    ? stripped + "-fn"
+                    : stripped;
+        }
+
+        private void sync(final Generation gen) {
+            if (gen != generation) {
+                // the registry has been reset, start with fresh meters
+                generation = gen;
+                functions = new HashMap<>();
+                arities = new HashMap<>();
+                macros = new HashMap<>();
+                named = new HashMap<>();
+            }
+        }
+
+        private static final int ANON_CACHE_SIZE = 64;
+        private static final int UUID_SUFFIX_LEN = 37;
+
+        private Generation generation;
+        private Map<String,Meter> functions;
+        private Map<String,Meter[]> arities;
+        private Map<String,Meter> macros;
+        private Map<String,Meter> named;
+
+        private final String[] anonNames = new String[ANON_CACHE_SIZE];
+        private final String[] anonKeys = new String[ANON_CACHE_SIZE];
+
+        private int depth = 0;
+        private long[] childNanos = new long[64];
     }
 
 
     private static final long serialVersionUID = 5426843508785133806L;
 
-    private final Map<String,ElapsedTime> data = new ConcurrentHashMap<>();
+    private transient volatile Generation generation = new Generation();
+
+    private final transient ThreadLocal<ThreadMeters> threadMeters =
+            ThreadLocal.withInitial(ThreadMeters::new);
 
     public volatile boolean enabled;
 }
@@ -0,0 +1,572 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.array;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+
+/**
+ * Bulk operations on primitive <code>int</code>, <code>long</code>,
+ * <code>float</code>, and <code>double</code> arrays.
+ *
+ * <p>The operations run as plain loops over the array without boxing the
+ * elements. The parallel variants split the array on the common ForkJoin
+ * pool. Integer arithmetic wraps on overflow like the Venice long
+ * arithmetic.
+ */
+public class PrimitiveArrays {
+
+    public static boolean isNumericArray(final Object arr) {
+        return arr instanceof int[]
+                || arr instanceof long[]
+                || arr instanceof float[]
+                || arr instanceof double[];
+    }
+
+    public static boolean isIntegralArray(final Object arr) {
+        return arr instanceof int[] || arr instanceof long[];
+    }
+
+    public static int length(final Object arr) {
+        if (arr instanceof int[]) return ((int[])arr).length;
+        if (arr instanceof long[]) return ((long[])arr).length;
+        if (arr instanceof float[]) return ((float[])arr).length;
+        if (arr instanceof double[]) return ((double[])arr).length;
+        throw unsupported(arr);
+    }
+
+    /**
+     * Sums the elements. Integral arrays are summed as long, floating point
+     * arrays as double.
+     *
+     * @param arr an array
+     * @param parallel sum in parallel
+     * @return a Long or a Double
+     */
+    public static Number sum(final Object arr, final boolean parallel) {
+        if (arr instanceof int[]) {
+            final int[] a = (int[])arr;
+            if (parallel) {
+                return Arrays.stream(a).parallel().asLongStream().sum();
+            }
+            long sum = 0L;
+            for(int v : a) sum += v;
+            return sum;
+        }
+        else if (arr instanceof long[]) {
+            final long[] a = (long[])arr;
+            if (parallel) {
+                return Arrays.stream(a).parallel().sum();
+            }
+            long sum = 0L;
+            for(long v : a) sum += v;
+            return sum;
+        }
+        else if (arr instanceof float[]) {
+            final float[] a = (float[])arr;
+            if (parallel) {
+                return range(a.length, true).mapToDouble(i -> a[i]).reduce(0.0D, Double::sum);
+            }
+            double sum = 0.0D;
+            for(float v : a) sum += v;
+            return sum;
+        }
+        else if (arr instanceof double[]) {
+            final double[] a = (double[])arr;
+            if (parallel) {
+                return Arrays.stream(a).parallel().reduce(0.0D, Double::sum);
+            }
+            double sum = 0.0D;
+            for(double v : a) sum += v;
+            return sum;
+        }
+        else {
+            throw unsupported(arr);
+        }
+    }
+
+    /**
+     * @param arr an array
+     * @param parallel search in parallel
+     * @return the smallest element or null if the array is empty
+     */
+    public static Number min(final Object arr, final boolean parallel) {
+        if (length(arr) == 0) {
+            return null;
+        }
+
+        if (arr instanceof int[]) {
+            final int[] a = (int[])arr;
+            if (parallel) return Arrays.stream(a).parallel().reduce(Math::min).getAsInt();
+            int min = a[0];
+            for(int v : a) min = Math.min(min, v);
+            return min;
+        }
+        else if (arr instanceof long[]) {
+            final long[] a = (long[])arr;
+            if (parallel) return Arrays.stream(a).parallel().reduce(Math::min).getAsLong();
+            long min = a[0];
+            for(long v : a) min = Math.min(min, v);
+            return min;
+        }
+        else if (arr instanceof float[]) {
+            final float[] a = (float[])arr;
+            if (parallel) return (float)range(a.length, true).mapToDouble(i -> a[i]).reduce(Math::min).getAsDouble();
+            float min = a[0];
+            for(float v : a) min = Math.min(min, v);
+            return min;
+        }
+        else {
+            final double[] a = (double[])arr;
+            if (parallel) return Arrays.stream(a).parallel().reduce(Math::min).getAsDouble();
+            double min = a[0];
+            for(double v : a) min = Math.min(min, v);
+            return min;
+        }
+    }
+
+    /**
+     * @param arr an array
+     * @param parallel search in parallel
+     * @return the largest element or null if the array is empty
+     */
+    public static Number max(final Object arr, final boolean parallel) {
+        if (length(arr) == 0) {
+            return null;
+        }
+
+        if (arr instanceof int[]) {
+            final int[] a = (int[])arr;
+            if (parallel) return Arrays.stream(a).parallel().reduce(Math::max).getAsInt();
+            int max = a[0];
+            for(int v : a) max = Math.max(max, v);
+            return max;
+        }
+        else if (arr instanceof long[]) {
+            final long[] a = (long[])arr;
+            if (parallel) return Arrays.stream(a).parallel().reduce(Math::max).getAsLong();
+            long max = a[0];
+            for(long v : a) max = Math.max(max, v);
+            return max;
+        }
+        else if (arr instanceof float[]) {
+            final float[] a = (float[])arr;
+            if (parallel) return (float)range(a.length, true).mapToDouble(i -> a[i]).reduce(Math::max).getAsDouble();
+            float max = a[0];
+            for(float v : a) max = Math.max(max, v);
+            return max;
+        }
+        else {
+            final double[] a = (double[])arr;
+            if (parallel) return Arrays.stream(a).parallel().reduce(Math::max).getAsDouble();
+            double max = a[0];
+            for(double v : a) max = Math.max(max, v);
+            return max;
+        }
+    }
+
+    /**
+     * @param arr an array
+     * @param parallel compute in parallel
+     * @return the arithmetic mean or null if the array is empty
+     */
+    public static Double mean(final Object arr, final boolean parallel) {
+        final int len = length(arr);
+        return len == 0 ? null : sumAsDouble(arr, parallel) / len;
+    }
+
+    /**
+     * Computes the variance in two passes, first the mean and then the sum
+     * of the squared deviations from the mean.
+     *
+     * @param arr an array
+     * @param sample if true the sample variance (n-1) else the population
+     *               variance (n)
+     * @param parallel compute in parallel
+     * @return the variance, 0.0 for arrays with less than two elements
+     */
+    public static double variance(final Object arr, final boolean sample, final boolean parallel) {
+        final int len = length(arr);
+        if (len < 2) {
+            return 0.0D;
+        }
+
+        final double mean = sumAsDouble(arr, parallel) / len;
+
+        final double sumSq;
+        if (arr instanceof double[]) {
+            final double[] a = (double[])arr;
+            sumSq = range(len, parallel).mapToDouble(i -> sq(a[i] - mean)).reduce(0.0D, Double::sum);
+        }
+        else if (arr instanceof long[]) {
+            final long[] a = (long[])arr;
+            sumSq = range(len, parallel).mapToDouble(i -> sq(a[i] - mean)).reduce(0.0D, Double::sum);
+        }
+        else if (arr instanceof int[]) {
+            final int[] a = (int[])arr;
+            sumSq = range(len, parallel).mapToDouble(i -> sq(a[i] - mean)).reduce(0.0D, Double::sum);
+        }
+        else {
+            final float[] a = (float[])arr;
+            sumSq = range(len, parallel).mapToDouble(i -> sq(a[i] - mean)).reduce(0.0D, Double::sum);
+        }
+
+        return sumSq / (sample ? len - 1 : len);
+    }
+
+    /**
+     * Sorts the array in place in ascending order.
+     *
+     * @param arr an array
+     * @param parallel sort with <code>Arrays.parallelSort</code>
+     */
+    public static void sort(final Object arr, final boolean parallel) {
+        if (arr instanceof int[]) {
+            if (parallel) Arrays.parallelSort((int[])arr); else Arrays.sort((int[])arr);
+        }
+        else if (arr instanceof long[]) {
+            if (parallel) Arrays.parallelSort((long[])arr); else Arrays.sort((long[])arr);
+        }
+        else if (arr instanceof float[]) {
+            if (parallel) Arrays.parallelSort((float[])arr); else Arrays.sort((float[])arr);
+        }
+        else if (arr instanceof double[]) {
+            if (parallel) Arrays.parallelSort((double[])arr); else Arrays.sort((double[])arr);
+        }
+        else {
+            throw unsupported(arr);
+        }
+    }
+
+    /**
+     * Searches a sorted array with <code>Arrays.binarySearch</code>.
+     *
+     * <p>On int and long arrays the key is compared exactly. A key outside
+     * the element range or with a fractional part is never found and
+     * yields its insertion point. On float arrays the key is rounded to the
+     * nearest float, like the elements of a float array created from doubles.
+     *
+     * @param arr a sorted array
+     * @param key the key
+     * @return the index of the key, if it is contained in the array;
+     *         otherwise, <code>(-(insertion point) - 1)</code>
+     */
+    public static int binarySearch(final Object arr, final Number key) {
+        if (arr instanceof int[] || arr instanceof long[]) {
+            return binarySearchIntegral(arr, key);
+        }
+        else if (arr instanceof float[]) {
+            return Arrays.binarySearch((float[])arr, key.floatValue());
+        }
+        else if (arr instanceof double[]) {
+            return Arrays.binarySearch((double[])arr, key.doubleValue());
+        }
+        else {
+            throw unsupported(arr);
+        }
+    }
+
+    /**
+     * Replaces each element in place with the sum of itself and all
+     * preceding elements.
+     *
+     * @param arr an array
+     * @param parallel compute with <code>Arrays.parallelPrefix</code>
+     *                 (float arrays are always computed sequentially)
+     */
+    public static void prefixSum(final Object arr, final boolean parallel) {
+        if (arr instanceof int[]) {
+            final int[] a = (int[])arr;
+            if (parallel) {
+                Arrays.parallelPrefix(a, Integer::sum);
+            }
+            else {
+                for(int ii=1; ii<a.length; ii++) a[ii] += a[ii-1];
+            }
+        }
+        else if (arr instanceof long[]) {
+            final long[] a = (long[])arr;
+            if (parallel) {
+                Arrays.parallelPrefix(a, Long::sum);
+            }
+            else {
+                for(int ii=1; ii<a.length; ii++) a[ii] += a[ii-1];
+            }
+        }
+        else if (arr instanceof float[]) {
+            final float[] a = (float[])arr;
+            for(int ii=1; ii<a.length; ii++) a[ii] += a[ii-1];
+        }
+        else if (arr instanceof double[]) {
+            final double[] a = (double[])arr;
+            if (parallel) {
+                Arrays.parallelPrefix(a, Double::sum);
+            }
+            else {
+                for(int ii=1; ii<a.length; ii++) a[ii] += a[ii-1];
+            }
+        }
+        else {
+            throw unsupported(arr);
+        }
+    }
+
+    /**
+     * Applies an arithmetic operation element-wise to two arrays of the same
+     * type and length. Returns a new array of that type.
+     *
+     * @param op the operation
+     * @param x the first array
+     * @param y the second array
+     * @param parallel compute in parallel
+     * @return the new array
+     */
+    public static Object elementwise(
+            final ArithOp op,
+            final Object x,
+            final Object y,
+            final boolean parallel
+    ) {
+        if (x.getClass() != y.getClass()) {
+            throw new IllegalArgumentException(
+                    "The arrays must have the same element type");
+        }
+        if (length(x) != length(y)) {
+            throw new IllegalArgumentException(String.format(
+                    "The arrays must have the same length (%d, %d)",
+                    length(x), length(y)));
+        }
+
+        if (x instanceof int[]) {
+            final int[] a = (int[])x;
+            final int[] b = (int[])y;
+            final int[] r = new int[a.length];
+            range(r.length, parallel).forEach(i -> r[i] = (int)op.apply(a[i], b[i]));
+            return r;
+        }
+        else if (x instanceof long[]) {
+            final long[] a = (long[])x;
+            final long[] b = (long[])y;
+            final long[] r = new long[a.length];
+            range(r.length, parallel).forEach(i -> r[i] = op.apply(a[i], b[i]));
+            return r;
+        }
+        else if (x instanceof float[]) {
+            final float[] a = (float[])x;
+            final float[] b = (float[])y;
+            final float[] r = new float[a.length];
+            range(r.length, parallel).forEach(i -> r[i] = (float)op.apply(a[i], b[i]));
+            return r;
+        }
+        else if (x instanceof double[]) {
+            final double[] a = (double[])x;
+            final double[] b = (double[])y;
+            final double[] r = new double[a.length];
+            range(r.length, parallel).forEach(i -> r[i] = op.apply(a[i], b[i]));
+            return r;
+        }
+        else {
+            throw unsupported(x);
+        }
+    }
+
+    /**
+     * Applies an arithmetic operation element-wise to an array and a scalar.
+     * An integral array with an integral scalar gives an array of the same
+     * type. An integral array with a floating point scalar gives a double
+     * array. A float array gives a float array and a double array a double
+     * array.
+     *
+     * @param op the operation
+     * @param x the array
+     * @param y the scalar
+     * @param parallel compute in parallel
+     * @return the new array
+     */
+    public static Object elementwise(
+            final ArithOp op,
+            final Object x,
+            final Number y,
+            final boolean parallel
+    ) {
+        final boolean integralScalar = y instanceof Long || y instanceof Integer;
+
+        if (isIntegralArray(x) && integralScalar) {
+            final long s = y.longValue();
+            if (x instanceof int[]) {
+                final int[] a = (int[])x;
+                final int[] r = new int[a.length];
+                range(r.length, parallel).forEach(i -> r[i] = (int)op.apply(a[i], s));
+                return r;
+            }
+            else {
+                final long[] a = (long[])x;
+                final long[] r = new long[a.length];
+                range(r.length, parallel).forEach(i -> r[i] = op.apply(a[i], s));
+                return r;
+            }
+        }
+        else {
+            final double s = y.doubleValue();
+            if (x instanceof float[]) {
+                final float[] a = (float[])x;
+                final float[] r = new float[a.length];
+                range(r.length, parallel).forEach(i -> r[i] = (float)op.apply(a[i], s));
+                return r;
+            }
+            else if (x instanceof double[]) {
+                final double[] a = (double[])x;
+                final double[] r = new double[a.length];
+                range(r.length, parallel).forEach(i -> r[i] = op.apply(a[i], s));
+                return r;
+            }
+            else if (x instanceof long[]) {
+                final long[] a = (long[])x;
+                final double[] r = new double[a.length];
+                range(r.length, parallel).forEach(i -> r[i] = op.apply(a[i], s));
+                return r;
+            }
+            else if (x instanceof int[]) {
+                final int[] a = (int[])x;
+                final double[] r = new double[a.length];
+                range(r.length, parallel).forEach(i -> r[i] = op.apply(a[i], s));
+                return r;
+            }
+            else {
+                throw unsupported(x);
+            }
+        }
+    }
+
+
+    private static double sumAsDouble(final Object arr, final boolean parallel) {
+        if (arr instanceof long[]) {
+            // avoid a long overflow
+            final long[] a = (long[])arr;
+            return range(a.length, parallel).mapToDouble(i -> a[i]).reduce(0.0D, Double::sum);
+        }
+        else {
+            return sum(arr, parallel).doubleValue();
+        }
+    }
+
+    private static IntStream range(final int len, final boolean parallel) {
+        final IntStream s = IntStream.range(0, len);
+        return parallel ? s.parallel() : s;
+    }
+
+    private static double sq(final double x) {
+        return x * x;
+    }
+
+    private static int binarySearchIntegral(final Object arr, final Number key) {
+        final boolean intArr = arr instanceof int[];
+        final int len = length(arr);
+
+        final BigDecimal k;
+        if (key instanceof BigDecimal) {
+            k = (BigDecimal)key;
+        }
+        else if (key instanceof BigInteger) {
+            k = new BigDecimal((BigInteger)key);
+        }
+        else if (key instanceof Double || key instanceof Float) {
+            final double d = key.doubleValue();
+            if (Double.isNaN(d) || d == Double.POSITIVE_INFINITY) {
+                return -len - 1;  // NaN sorts last, like Arrays.sort(double[])
+            }
+            else if (d == Double.NEGATIVE_INFINITY) {
+                return -1;
+            }
+            k = new BigDecimal(d);
+        }
+        else {
+            k = BigDecimal.valueOf(key.longValue());
+        }
+
+        final long min = intArr ? Integer.MIN_VALUE : Long.MIN_VALUE;
+        final long max = intArr ? Integer.MAX_VALUE : Long.MAX_VALUE;
+        if (k.compareTo(BigDecimal.valueOf(min)) < 0) {
+            return -1;
+        }
+        else if (k.compareTo(BigDecimal.valueOf(max)) > 0) {
+            return -len - 1;
+        }
+
+        final long floor = k.setScale(0, RoundingMode.FLOOR).longValueExact();
+        final int idx = intArr
+                            ? Arrays.binarySearch((int[])arr, (int)floor)
+                            : Arrays.binarySearch((long[])arr, floor);
+
+        if (k.compareTo(BigDecimal.valueOf(floor)) == 0) {
+            return idx;  // integral key
+        }
+
+        // a fractional key is inserted after all elements <= floor(key)
+        int ip = idx < 0 ? -idx - 1 : idx + 1;
+        while (ip < len && (intArr ? ((int[])arr)[ip] : ((long[])arr)[ip]) == floor) {
+            ip++;
+        }
+        return -ip - 1;
+    }
+
+    private static IllegalArgumentException unsupported(final Object arr) {
+        return new IllegalArgumentException(String.format(
+                "Expected an int, long, float, or double array but got %s",
+                arr == null ? "nil" : arr.getClass().getSimpleName()));
+    }
+
+
+    /**
+     * Element-wise arithmetic operations
+     */
+    public static enum ArithOp {
+
+        ADD {
+            public long apply(final long x, final long y) { return x + y; }
+            public double apply(final double x, final double y) { return x + y; }
+        },
+
+        SUB {
+            public long apply(final long x, final long y) { return x - y; }
+            public double apply(final double x, final double y) { return x - y; }
+        },
+
+        MUL {
+            public long apply(final long x, final long y) { return x * y; }
+            public double apply(final double x, final double y) { return x * y; }
+        },
+
+        DIV {
+            public long apply(final long x, final long y) { return x / y; }
+            public double apply(final double x, final double y) { return x / y; }
+        };
+
+        public abstract long apply(final long x, final long y);
+
+        public abstract double apply(final double x, final double y);
+    }
+}
@@ -135,6 +135,35 @@ public class CallStack {
         return Arrays.asList(queue.toArray(new CallFrame[queue.size()]));
     }
 
+    /**
+     * Returns a snapshot of the call frames ordered from the outermost to the
+     * innermost frame.
+     *
+     * <p>In contrast to all other methods this method may be called from
+     * another thread, e.g. by a sampling profiler. It does not synchronize
+     * with the owning thread and returns a best effort snapshot.
+     *
+     * @return the call frames or {@code null} if the call stack has been
+     *         modified while taking the snapshot
+     */
+    public CallFrame[] sample() {
+        try {
+            final Object[] items = queue.toArray();
+            final CallFrame[] frames = new CallFrame[items.length];
+            for(int ii=0; ii<items.length; ii++) {
+                final Object item = items[items.length - 1 - ii];
+                if (!(item instanceof CallFrame)) {
+                    return null;
+                }
+                frames[ii] = (CallFrame)item;
+            }
+            return frames;
+        }
+        catch(RuntimeException ex) {
+            return null;
+        }
+    }
+
     /**
      * Checks if the any of call frames refers to the specified function name
      *
@@ -0,0 +1,235 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.callstack;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.thread.ThreadContext;
+import com.github.jlangch.venice.impl.threadpool.ManagedScheduledThreadPoolExecutor;
+
+
+/**
+ * A sampling profiler for Venice functions.
+ *
+ * <p>The sampler periodically takes snapshots of the Venice call stacks of
+ * all threads running Venice code and aggregates them to collapsed stacks
+ * (one line per distinct stack, the frames separated by ';', followed by
+ * the number of samples). The collapsed stacks can be rendered to a flame
+ * graph.
+ *
+ * <p>The interpreter threads are not involved in sampling, the whole work
+ * is done by the sampler thread.
+ */
+public class CallStackSampler {
+
+    public CallStackSampler(final String threadPoolName) {
+        this.scheduler = new ManagedScheduledThreadPoolExecutor(threadPoolName, 1);
+    }
+
+
+    /**
+     * Starts sampling
+     *
+     * @param intervalMillis the sampling interval in milliseconds
+     * @param wallClock if <code>true</code> samples all threads, otherwise
+     *                  only the runnable threads (CPU time)
+     */
+    public void start(final long intervalMillis, final boolean wallClock) {
+        if (intervalMillis <= 0) {
+            throw new VncException("The sampling interval must be a positive number!");
+        }
+
+        synchronized(this) {
+            if (task != null) {
+                throw new VncException("The sampler is already running!");
+            }
+
+            this.wallClock = wallClock;
+            this.task = scheduler
+                            .getExecutor()
+                            .scheduleAtFixedRate(
+                                this::sample,
+                                intervalMillis,
+                                intervalMillis,
+                                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public void stop() {
+        synchronized(this) {
+            if (task != null) {
+                task.cancel(false);
+                task = null;
+                scheduler.shutdown();
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        synchronized(this) {
+            return task != null;
+        }
+    }
+
+    public void clear() {
+        stacks.clear();
+        samples.set(0L);
+    }
+
+    /**
+     * @return the number of call stacks sampled
+     */
+    public long getSampleCount() {
+        return samples.get();
+    }
+
+    /**
+     * @return the collapsed stacks and their sample counts, ordered by
+     *         descending sample count
+     */
+    public Map<String,Long> getCollapsedStacks() {
+        final Map<String,Long> sorted = new LinkedHashMap<>();
+        stacks.entrySet()
+              .stream()
+              .sorted((u,v) -> Long.compare(v.getValue(), u.getValue()))
+              .forEach(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    /**
+     * @return the collapsed stacks in the text format used by the flame graph
+     *         tools (e.g. Brendan Gregg's flamegraph.pl or speedscope)
+     */
+    public String getCollapsedStacksText() {
+        final StringBuilder sb = new StringBuilder();
+        getCollapsedStacks().forEach(
+            (stack, count) -> sb.append(stack).append(' ').append(count).append('\n'));
+        return sb.toString();
+    }
+
+    public String getFlameGraphSvg(final String title) {
+        return FlameGraph.toSvg(getCollapsedStacks(), title);
+    }
+
+    /**
+     * Returns the functions with the highest number of samples at the top of
+     * the stack (self samples).
+     *
+     * @param n the max number of functions
+     * @return the functions ordered by descending self samples. Every
+     *         function is a triple: name, self samples, total samples
+     */
+    public List<Object[]> getTopFunctions(final int n) {
+        final Map<String,long[]> fns = new HashMap<>();
+
+        for(Map.Entry<String,Long> e : stacks.entrySet()) {
+            final String[] frames = e.getKey().split(";");
+            final long count = e.getValue();
+
+            // count a recursive function once per stack
+            final Set<String> seen = new HashSet<>();
+            for(String f : frames) {
+                if (seen.add(f)) {
+                    fns.computeIfAbsent(f, k -> new long[2])[1] += count;
+                }
+            }
+            fns.get(frames[frames.length-1])[0] += count;
+        }
+
+        final List<Object[]> top = new ArrayList<>();
+        fns.entrySet()
+           .stream()
+           .sorted((u,v) -> u.getValue()[0] != v.getValue()[0]
+                               ? Long.compare(v.getValue()[0], u.getValue()[0])
+                               : Long.compare(v.getValue()[1], u.getValue()[1]))
+           .limit(n)
+           .forEach(e -> top.add(new Object[] {
+                                    e.getKey(),
+                                    e.getValue()[0],
+                                    e.getValue()[1] }));
+        return top;
+    }
+
+    /**
+     * Takes a sample of all threads' call stacks
+     */
+    void sample() {
+        final Thread self = Thread.currentThread();
+
+        for(Map.Entry<Thread,CallStack> e : ThreadContext.getCallStacks().entrySet()) {
+            final Thread th = e.getKey();
+            if (th == self || !th.isAlive()) {
+                continue;
+            }
+            if (!wallClock && th.getState() != Thread.State.RUNNABLE) {
+                continue;
+            }
+
+            final CallFrame[] frames = e.getValue().sample();
+            if (frames != null && frames.length > 0) {
+                stacks.merge(collapse(frames), 1L, Long::sum);
+                samples.incrementAndGet();
+            }
+        }
+    }
+
+    private static String collapse(final CallFrame[] frames) {
+        final StringBuilder sb = new StringBuilder();
+
+        // keep the innermost frames of very deep (recursive) stacks
+        final int start = Math.max(0, frames.length - MAX_DEPTH);
+        if (start > 0) {
+            sb.append("[truncated]");
+        }
+
+        for(int ii=start; ii<frames.length; ii++) {
+            if (sb.length() > 0) {
+                sb.append(';');
+            }
+            final String name = frames[ii].getFnName();
+            sb.append(name == null ? "unknown" : name);
+        }
+
+        return sb.toString();
+    }
+
+
+    private static final int MAX_DEPTH = 256;
+
+    private final ManagedScheduledThreadPoolExecutor scheduler;
+    private final Map<String,Long> stacks = new ConcurrentHashMap<>();
+    private final AtomicLong samples = new AtomicLong();
+
+    private ScheduledFuture<?> task;
+    private volatile boolean wallClock;
+}
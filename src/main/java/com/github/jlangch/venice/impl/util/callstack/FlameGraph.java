@@ -0,0 +1,169 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.callstack;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * Renders collapsed stacks to a flame graph SVG.
+ *
+ * <p>The root frames are at the bottom, the width of a frame is
+ * proportional to its number of samples. Siblings are ordered
+ * alphabetically, like the classic flamegraph.pl does.
+ */
+public class FlameGraph {
+
+    public static String toSvg(
+            final Map<String,Long> collapsedStacks,
+            final String title
+    ) {
+        final Node root = new Node("all");
+        for(Map.Entry<String,Long> e : collapsedStacks.entrySet()) {
+            Node node = root;
+            node.samples += e.getValue();
+            for(String frame : e.getKey().split(";")) {
+                node = node.children.computeIfAbsent(frame, Node::new);
+                node.samples += e.getValue();
+            }
+        }
+
+        final int depth = root.depth();
+        final int height = TITLE_HEIGHT + (depth + 1) * FRAME_HEIGHT + PADDING;
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append("<?xml version=\"1.0\" standalone=\"no\"?>\n");
+        sb.append(String.format(
+                "<svg version=\"1.1\" width=\"%d\" height=\"%d\" "
+                    + "viewBox=\"0 0 %d %d\" xmlns=\"http://www.w3.org/2000/svg\">\n",
+                WIDTH, height, WIDTH, height));
+        sb.append(String.format(
+                "<rect x=\"0\" y=\"0\" width=\"%d\" height=\"%d\" fill=\"#f8f8f8\"/>\n",
+                WIDTH, height));
+        sb.append(String.format(
+                "<text x=\"%d\" y=\"20\" font-family=\"Verdana\" font-size=\"15\" "
+                    + "text-anchor=\"middle\">%s</text>\n",
+                WIDTH / 2,
+                escape(title == null ? "Flame Graph" : title)));
+
+        if (root.samples > 0) {
+            final double scale = (WIDTH - 2.0 * PADDING) / root.samples;
+            render(sb, root, 0, PADDING, height - PADDING, scale, root.samples);
+        }
+
+        sb.append("</svg>\n");
+        return sb.toString();
+    }
+
+    private static void render(
+            final StringBuilder sb,
+            final Node node,
+            final int level,
+            final double x,
+            final int bottom,
+            final double scale,
+            final long total
+    ) {
+        final double width = node.samples * scale;
+        if (width < MIN_WIDTH) {
+            return;
+        }
+
+        final int y = bottom - (level + 1) * FRAME_HEIGHT;
+        final String name = escape(node.name);
+
+        sb.append("<g>");
+        sb.append(String.format(
+                Locale.ROOT,
+                "<title>%s (%d samples, %.2f%%)</title>",
+                name, node.samples, 100.0D * node.samples / total));
+        sb.append(String.format(
+                Locale.ROOT,
+                "<rect x=\"%.1f\" y=\"%d\" width=\"%.1f\" height=\"%d\" "
+                    + "fill=\"%s\" rx=\"2\" ry=\"2\"/>",
+                x, y, width, FRAME_HEIGHT - 1, color(node.name)));
+
+        final int chars = (int)((width - 6) / CHAR_WIDTH);
+        if (chars >= 3) {
+            final String label = node.name.length() <= chars
+                                    ? node.name
+                                    : node.name.substring(0, chars - 2) + "..";
+            sb.append(String.format(
+                    Locale.ROOT,
+                    "<text x=\"%.1f\" y=\"%d\" font-family=\"Verdana\" "
+                        + "font-size=\"12\">%s</text>",
+                    x + 3, y + FRAME_HEIGHT - 4, escape(label)));
+        }
+        sb.append("</g>\n");
+
+        double childX = x;
+        for(Node child : node.children.values()) {
+            render(sb, child, level + 1, childX, bottom, scale, total);
+            childX += child.samples * scale;
+        }
+    }
+
+    private static String color(final String name) {
+        // a stable warm color per function name
+        final int h = name.hashCode();
+        final int r = 205 + Math.floorMod(h, 50);
+        final int g = Math.floorMod(h >>> 8, 230);
+        final int b = Math.floorMod(h >>> 16, 55);
+        return String.format("rgb(%d,%d,%d)", r, g, b);
+    }
+
+    private static String escape(final String s) {
+        return s.replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;");
+    }
+
+
+    private static class Node {
+        Node(final String name) {
+            this.name = name;
+        }
+
+        int depth() {
+            int max = 0;
+            for(Node child : children.values()) {
+                max = Math.max(max, child.depth() + 1);
+            }
+            return max;
+        }
+
+        final String name;
+        final Map<String,Node> children = new TreeMap<>();
+        long samples;
+    }
+
+
+    private static final int WIDTH = 1200;
+    private static final int FRAME_HEIGHT = 17;
+    private static final int TITLE_HEIGHT = 30;
+    private static final int PADDING = 10;
+    private static final double CHAR_WIDTH = 7.0D;
+    private static final double MIN_WIDTH = 0.1D;
+}
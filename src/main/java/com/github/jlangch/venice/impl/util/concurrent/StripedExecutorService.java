@@ -43,6 +43,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 
+import com.github.jlangch.venice.impl.threadpool.ExecutorMetrics;
+
 
 /**
  * The StripedExecutorService accepts Runnable/Callable objects
@@ -69,6 +71,11 @@ public class StripedExecutorService extends AbstractExecutorService {
      */
     private final ExecutorService executor;
 
+    /**
+     * The task metrics, may be null.
+     */
+    private final ExecutorMetrics metrics;
+
     /**
      * The lock prevents shutdown from being called in the middle
      * of a submit. It also guards the executors IdentityHashMap.
@@ -119,7 +126,21 @@ public class StripedExecutorService extends AbstractExecutorService {
      *                 the tasks
      */
     public StripedExecutorService(ExecutorService executor) {
+        this(executor, null);
+    }
+
+    /**
+     * Creates a StripedExecutorService that records its task
+     * metrics.  The queue wait of a task is measured from its
+     * submission to the stripe until it starts.
+     *
+     * @param executor the executor service that we use to execute
+     *                 the tasks
+     * @param metrics the metrics, may be null
+     */
+    public StripedExecutorService(ExecutorService executor, ExecutorMetrics metrics) {
         this.executor = executor;
+        this.metrics = metrics;
     }
 
     /**
@@ -305,18 +326,36 @@ public class StripedExecutorService extends AbstractExecutorService {
     public void execute(Runnable command) {
         lock.lock();
         try {
-            checkPoolIsRunning();
+            try {
+                checkPoolIsRunning();
+            }
+            catch(RejectedExecutionException ex) {
+                if (metrics != null) {
+                    metrics.rejected(false);
+                }
+                throw ex;
+            }
+
             Object stripe = getStripe(command);
-            if (stripe != null) {
-                SerialExecutor ser_exec = executors.get(stripe);
-                if (ser_exec == null) {
-                    executors.put(stripe, ser_exec =
-                            new SerialExecutor(stripe));
+            Runnable task = metrics == null ? command : metrics.wrap(command);
+            try {
+                if (stripe != null) {
+                    SerialExecutor ser_exec = executors.get(stripe);
+                    if (ser_exec == null) {
+                        executors.put(stripe, ser_exec =
+                                new SerialExecutor(stripe));
+                    }
+                    ser_exec.execute(task);
+                }
+                else {
+                    executor.execute(task);
                 }
-                ser_exec.execute(command);
             }
-            else {
-                executor.execute(command);
+            catch(RejectedExecutionException ex) {
+                if (metrics != null) {
+                    metrics.rejected(true);
+                }
+                throw ex;
             }
         }
         finally {
@@ -372,11 +411,23 @@ public class StripedExecutorService extends AbstractExecutorService {
         lock.lock();
         try {
             shutdown();
-            List<Runnable> result = new ArrayList<>();
+            List<Runnable> drained = new ArrayList<>();
             for (SerialExecutor ser_ex : executors.values()) {
-                ser_ex.tasks.drainTo(result);
+                ser_ex.tasks.drainTo(drained);
+            }
+            drained.addAll(executor.shutdownNow());
+            if (metrics != null) {
+                metrics.drained(drained.size());
+            }
+
+            // return the tasks as they have been submitted
+            List<Runnable> result = new ArrayList<>(drained.size());
+            for (Runnable r : drained) {
+                if (r instanceof SerialTask) {
+                    r = ((SerialTask) r).task;
+                }
+                result.add(ExecutorMetrics.unwrap(r));
             }
-            result.addAll(executor.shutdownNow());
             return result;
         }
         finally {
@@ -493,6 +544,30 @@ public class StripedExecutorService extends AbstractExecutorService {
      */
     private static boolean DEBUG = false;
 
+    /**
+     * The wrapper of a task queued in a SerialExecutor.  Runs the
+     * task and then schedules the next task of the SerialExecutor.
+     */
+    private static class SerialTask implements Runnable {
+        private final Runnable task;
+        private final SerialExecutor serialExecutor;
+
+        private SerialTask(Runnable task, SerialExecutor serialExecutor) {
+            this.task = task;
+            this.serialExecutor = serialExecutor;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            }
+            finally {
+                serialExecutor.scheduleNext();
+            }
+        }
+    }
+
     /**
      * SerialExecutor is based on the construct with the same name
      * described in the {@link Executor} JavaDocs.  The difference
@@ -535,17 +610,7 @@ public class StripedExecutorService extends AbstractExecutorService {
         public void execute(final Runnable r) {
             lock.lock();
             try {
-                tasks.add(new Runnable() {
-                    @Override
-                    public void run() {
-                        try {
-                            r.run();
-                        }
-                        finally {
-                            scheduleNext();
-                        }
-                    }
-                });
+                tasks.add(new SerialTask(r, this));
 
                 if (active == null) {
                     scheduleNext();
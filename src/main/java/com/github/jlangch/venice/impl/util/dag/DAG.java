@@ -21,20 +21,20 @@
  */
 package com.github.jlangch.venice.impl.util.dag;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.LinkedHashMap;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
 
 
 public class DAG<T> {
@@ -50,18 +50,29 @@ public class DAG<T> {
      * List<String> sorted = dag.topologicalSort();
      * String path = String.join(" -> ", sorted); // "A -> B -> C"
      * </pre>
+     *
+     * <p>A DAG is immutable. Adding nodes or edges returns a new DAG and
+     * leaves this DAG unchanged. The DAGs share their unchanged structure
+     * through persistent collections, so adding a node or an edge does not
+     * copy the graph.
+     *
+     * <p>Every DAG maintains a topological rank of its nodes. The rank is
+     * updated incrementally (Pearce-Kelly) for each added edge, which
+     * detects cycles and backs the reachability queries. Adding many edges
+     * at once recomputes the rank with Kahn's algorithm.
      */
     public DAG() {
     }
 
-    private DAG(
-            final Map<T, Node<T>> nodes,
-            final Set<Edge<Node<T>>> edges
-    ) {
-        this.nodes.putAll(nodes);
-        this.edges.addAll(edges);
-
-        update();
+    private DAG(final DAG<T> other) {
+        // shares the persistent structure with the other DAG
+        this.values = other.values;
+        this.childMap = other.childMap;
+        this.parentMap = other.parentMap;
+        this.edgeList = other.edgeList;
+        this.edgeSet = other.edgeSet;
+        this.order = other.order;
+        this.rank = other.rank;
     }
 
     public DAG<T> addNode(final T value) {
@@ -69,35 +80,39 @@ public class DAG<T> {
             throw new IllegalArgumentException("A node value must not be null");
         }
 
-        getNodeOrCreate(value);
-
-        return new DAG<>(nodes, edges);
+        final DAG<T> dag = new DAG<>(this);
+        dag.addNodeInternal(value);
+        return dag;
     }
 
     public DAG<T> addNodes(final List<T> values) {
+        final DAG<T> dag = new DAG<>(this);
         if (values != null) {
             for(T v : values) {
-                getNodeOrCreate(v);
+                dag.addNodeInternal(v);
             }
         }
-
-        return new DAG<>(nodes, edges);
+        return dag;
     }
 
     public DAG<T> addEdge(final T parent, final T child) {
-        addEdgeInternal(parent, child);
-
-        return new DAG<>(nodes, edges);
+        final DAG<T> dag = new DAG<>(this);
+        dag.addEdgeInternal(parent, child, true);
+        return dag;
     }
 
     public DAG<T> addEdges(final List<Edge<T>> edges) {
+        final DAG<T> dag = new DAG<>(this);
         if (edges != null) {
+            final boolean incremental = edges.size() <= MAX_INCREMENTAL_EDGES;
             for(Edge<T> e : edges) {
-                addEdgeInternal(e.getParent(), e.getChild());
+                dag.addEdgeInternal(e.getParent(), e.getChild(), incremental);
+            }
+            if (!incremental) {
+                dag.rerank();
             }
         }
-
-        return new DAG<>(nodes, this.edges);
+        return dag;
     }
 
     public Node<T> getNode(final T value) {
@@ -105,163 +120,117 @@ public class DAG<T> {
             throw new IllegalArgumentException("A node value must not be null");
         }
 
-        return nodes.get(value);
+        return isNode(value) ? new Node<>(value, this) : null;
     }
 
     public Collection<Node<T>> getNodes() {
-        return Collections.unmodifiableCollection(nodes.values());
+        return Collections.unmodifiableCollection(toNodes(values));
     }
 
     public List<Edge<Node<T>>> getEdges() {
         return Collections.unmodifiableList(
-                new ArrayList<>(edges));
+                edgeList.map(e -> new Edge<Node<T>>(
+                                        new Node<>(e.getParent(), this),
+                                        new Node<>(e.getChild(), this)))
+                        .toJavaList());
     }
 
     public Collection<T> getValues() {
-        return Collections.unmodifiableCollection(
-                nodes.values()
-                     .stream()
-                     .map(n -> n.getValue())
-                     .collect(Collectors.toList()));
+        return Collections.unmodifiableCollection(values.toJavaList());
     }
 
     public int size() {
-        return nodes.size();
+        return values.size();
     }
 
     public boolean isEmpty() {
-        return nodes.isEmpty();
+        return values.isEmpty();
     }
 
     public Node<T> node(final T value) {
-        if (value == null) {
-            throw new IllegalArgumentException("A node value must not be null");
-        }
-
-        return nodes.get(value);
+        return getNode(value);
     }
 
     public List<T> children(final T value) {
-        if (value == null) {
-            throw new IllegalArgumentException("A node value must not be null");
-        }
+        findNode(value);
 
-        final Node<T> node = nodes.get(value);
-        if (node == null) {
-            throw new NoSuchElementException("Node not found: " + value);
-        }
-
-        final Set<Node<T>> children = new LinkedHashSet<>();
-        final List<Node<T>> toVisit = new LinkedList<>(node.getChildren());
-
-        while(!toVisit.isEmpty()) {
-            final Node<T> n = toVisit.remove(0);
-            if (!children.contains(n)) {
-                children.add(n);
-                toVisit.addAll(n.getChildren());
-            }
-        }
-
-        return Node.toValues(children);
+        return childrenCache.computeIfAbsent(
+                    value,
+                    v -> Collections.unmodifiableList(reachable(v, true)));
     }
 
     public List<T> directChildren(final T value) {
-        if (value == null) {
-            throw new IllegalArgumentException("A node value must not be null");
-        }
-
-        final Node<T> node = nodes.get(value);
-        if (node == null) {
-            throw new NoSuchElementException("Node not found: " + value);
-        }
-
-        return Node.toValues(node.getChildren());
+        findNode(value);
+        return childValues(value).toJavaList();
     }
 
     public List<T> parents(final T value) {
-        if (value == null) {
-            throw new IllegalArgumentException("A node value must not be null");
-        }
-
-        final Node<T> node = nodes.get(value);
-        if (node == null) {
-            throw new NoSuchElementException("Node not found: " + value);
-        }
-
-        final Set<Node<T>> parents = new LinkedHashSet<>();
-        final List<Node<T>> toVisit = new LinkedList<>(node.getParents());
+        findNode(value);
 
-        while(!toVisit.isEmpty()) {
-            final Node<T> n = toVisit.remove(0);
-            if (!parents.contains(n)) {
-                parents.add(n);
-                toVisit.addAll(n.getParents());
-            }
-        }
-
-        return Node.toValues(parents);
+        return parentsCache.computeIfAbsent(
+                    value,
+                    v -> Collections.unmodifiableList(reachable(v, false)));
     }
 
     public List<T> directParents(final T value) {
-        if (value == null) {
-            throw new IllegalArgumentException("A node value must not be null");
-        }
-
-        final Node<T> node = nodes.get(value);
-        if (node == null) {
-            throw new NoSuchElementException("Node not found: " + value);
-        }
-        return Node.toValues(node.getParents());
+        findNode(value);
+        return parentValues(value).toJavaList();
     }
 
     public List<T> roots() {
-        return Node.toValues(roots);
+        List<T> r = roots;
+        if (r == null) {
+            r = Collections.unmodifiableList(
+                    values.filter(v -> parentValues(v).isEmpty())
+                          .toJavaList());
+            roots = r;
+        }
+        return r;
     }
 
     /**
      * Topological Sort using Kahn's algorithm.
      *
+     * <p>The order is computed once and cached.
+     *
      * @return the sorted values
      *
      * @throws DagCycleException if cycle is found
      */
     public List<T> topologicalSort() throws DagCycleException {
-        return new TopologicalSort<T>(edges, getIsolatedNodes()).sort();
+        return Collections.unmodifiableList(sorted());
     }
 
     public boolean isParentOf(final T parent, final T value)  {
-        return parents(value).contains(parent);
+        findNode(value);
+        return isReachable(parent, value);
     }
 
     public boolean isChildOf(final T child, final T value)  {
-        return children(value).contains(child);
+        findNode(value);
+        return isReachable(value, child);
     }
 
     public boolean isNode(final T value)  {
-        return nodes.containsKey(value);
+        return value != null && rank.containsKey(value);
     }
 
     public boolean isEdge(final T parent, final T child)  {
-        return edges.contains(new Edge<Node<T>>(new Node<T>(parent), new Node<T>(child)));
+        return edgeSet.contains(new Edge<T>(parent, child));
     }
 
     @Override
     public String toString() {
-        return String.format("DAG{nodes=%d}", nodes.size());
+        return String.format("DAG{nodes=%d}", values.size());
     }
 
     public List<Node<T>> getIsolatedNodes() {
         // nodes without parent and children
-        return nodes.values()
-                    .stream()
-                    .filter(n -> n.isWithoutRelations())
-                    .collect(Collectors.toList());
+        return toNodes(values.filter(v -> isWithoutRelations(v)));
     }
 
     public Comparator<T> comparator() {
-        final AtomicInteger idx = new AtomicInteger();
-        final Map<T,Integer> map = new ConcurrentHashMap<>();
-        topologicalSort().forEach(e -> map.put(e, idx.getAndIncrement()));
+        final Map<T,Integer> map = sortedRank();
 
         return new Comparator<T>() {
             @Override
@@ -273,72 +242,281 @@ public class DAG<T> {
     }
 
 
-    private Node<T> getNodeOrCreate(final T value) {
-        return nodes.computeIfAbsent(value, v -> new Node<>(v));
+    List<Node<T>> childNodes(final T value) {
+        return toNodes(childValues(value));
+    }
+
+    List<Node<T>> parentNodes(final T value) {
+        return toNodes(parentValues(value));
+    }
+
+    boolean isWithoutRelations(final T value) {
+        return childValues(value).isEmpty() && parentValues(value).isEmpty();
+    }
+
+
+    private List<Node<T>> toNodes(final io.vavr.collection.Vector<T> values) {
+        return values.map(v -> new Node<>(v, this)).toJavaList();
+    }
+
+    private io.vavr.collection.Vector<T> childValues(final T value) {
+        return childMap.getOrElse(value, io.vavr.collection.Vector.empty());
     }
 
-    private void update() throws DagCycleException {
-        roots.clear();
-        findRoots();
-        checkForCycles();
+    private io.vavr.collection.Vector<T> parentValues(final T value) {
+        return parentMap.getOrElse(value, io.vavr.collection.Vector.empty());
     }
 
-    private void addEdgeInternal(final T parent, final T child) {
+    private int rankOf(final T value) {
+        return rank.get(value).get();
+    }
+
+    private void findNode(final T value) {
+        if (value == null) {
+            throw new IllegalArgumentException("A node value must not be null");
+        }
+
+        if (!isNode(value)) {
+            throw new NoSuchElementException("Node not found: " + value);
+        }
+    }
+
+    private void addNodeInternal(final T value) {
+        if (!rank.containsKey(value)) {
+            // new nodes go to the end of the topological order
+            rank = rank.put(value, order.size());
+            order = order.append(value);
+            values = values.append(value);
+        }
+    }
+
+    private void addEdgeInternal(
+            final T parent,
+            final T child,
+            final boolean reorder
+    ) throws DagCycleException {
         if (parent == null) {
             throw new IllegalArgumentException("A parent must not be null");
         }
         if (child == null) {
             throw new IllegalArgumentException("A child must not be null");
         }
+        if (parent.equals(child)) {
+            final String n = new Node<T>(parent).toString();
+            throw new DagCycleException(n + "->" + n);
+        }
+
+        addNodeInternal(parent);
+        addNodeInternal(child);
 
-        final Node<T> parentNode = getNodeOrCreate(parent);
-        final Node<T> childNode = getNodeOrCreate(child);
+        final Edge<T> edge = new Edge<>(parent, child);
+        if (!edgeSet.contains(edge)) {
+            edgeSet = edgeSet.add(edge);
+            edgeList = edgeList.append(edge);
+            childMap = childMap.put(parent, childValues(parent).append(child));
+            parentMap = parentMap.put(child, parentValues(child).append(parent));
 
-        final Edge<Node<T>> edge = new Edge<>(parentNode, childNode);
-        if (!edges.contains(edge)) {
-            parentNode.addChild(childNode);
-            edges.add(edge);
+            if (reorder) {
+                reorder(parent, child);
+            }
         }
     }
 
-    private void findRoots() {
-        for (Node<T> n : nodes.values()) {
-            if (n.getParents().isEmpty()) {
-                roots.add(n);
+    /**
+     * Pearce-Kelly dynamic topological sort. Restores the topological order
+     * after adding the edge from x to y.
+     */
+    private void reorder(final T x, final T y) throws DagCycleException {
+        final int lb = rankOf(y);
+        final int ub = rankOf(x);
+        if (lb >= ub) {
+            return; // order is still valid
+        }
+
+        // nodes reachable from y within the affected region
+        final List<T> forward = new ArrayList<>();
+        final Set<T> visitedF = new HashSet<>();
+        final Deque<T> stack = new ArrayDeque<>();
+        stack.push(y);
+        visitedF.add(y);
+        while(!stack.isEmpty()) {
+            final T v = stack.pop();
+            forward.add(v);
+            for(T c : childValues(v)) {
+                final int r = rankOf(c);
+                if (r == ub) {
+                    throw new DagCycleException(
+                            String.format("The edge %s -> %s is a cycle!", x, y));
+                }
+                if (r < ub && visitedF.add(c)) {
+                    stack.push(c);
+                }
+            }
+        }
+
+        // nodes reaching x within the affected region
+        final List<T> backward = new ArrayList<>();
+        final Set<T> visitedB = new HashSet<>();
+        stack.push(x);
+        visitedB.add(x);
+        while(!stack.isEmpty()) {
+            final T v = stack.pop();
+            backward.add(v);
+            for(T p : parentValues(v)) {
+                if (rankOf(p) > lb && visitedB.add(p)) {
+                    stack.push(p);
+                }
             }
         }
+
+        final Comparator<T> byRank = (a, b) -> Integer.compare(rankOf(a), rankOf(b));
+        backward.sort(byRank);
+        forward.sort(byRank);
+
+        // the backward nodes take the lower slots, the forward nodes the
+        // upper slots of the affected region
+        final List<T> affected = new ArrayList<>(backward);
+        affected.addAll(forward);
+
+        final List<Integer> slots = new ArrayList<>(affected.size());
+        affected.forEach(v -> slots.add(rankOf(v)));
+        Collections.sort(slots);
+
+        for(int ii=0; ii<affected.size(); ii++) {
+            final T v = affected.get(ii);
+            final int slot = slots.get(ii);
+            order = order.update(slot, v);
+            rank = rank.put(v, slot);
+        }
     }
 
-    private void checkForCycles() throws DagCycleException {
-        if (roots.isEmpty() && nodes.size() > 1) {
-            throw new DagCycleException("No childless node found to be selected as root!");
+    /**
+     * Recomputes the topological rank of all nodes using Kahn's algorithm.
+     */
+    private void rerank() throws DagCycleException {
+        final Map<T,Integer> indegree = new HashMap<>();
+        final Deque<T> queue = new ArrayDeque<>();
+        for(T v : values) {
+            final int n = parentValues(v).size();
+            indegree.put(v, n);
+            if (n == 0) {
+                queue.add(v);
+            }
+        }
+
+        io.vavr.collection.Vector<T> ord = io.vavr.collection.Vector.empty();
+        io.vavr.collection.HashMap<T,Integer> rnk = io.vavr.collection.HashMap.empty();
+        while(!queue.isEmpty()) {
+            final T v = queue.poll();
+            rnk = rnk.put(v, ord.size());
+            ord = ord.append(v);
+            for(T c : childValues(v)) {
+                if (indegree.merge(c, -1, Integer::sum) == 0) {
+                    queue.add(c);
+                }
+            }
+        }
+
+        if (ord.size() < values.size()) {
+            throw new DagCycleException("The graph has at least one cycle!");
         }
 
-        final List<Node<T>> cycleCrawlerPath = new ArrayList<>();
-        for (Node<T> n : roots) {
-            checkForCycles(n, cycleCrawlerPath);
+        order = ord;
+        rank = rnk;
+    }
+
+    private List<T> sorted() throws DagCycleException {
+        List<T> s = sorted;
+        if (s == null) {
+            synchronized(this) {
+                if (sorted == null) {
+                    sorted = new TopologicalSort<T>(getEdges(), getIsolatedNodes()).sort();
+                }
+                s = sorted;
+            }
+        }
+        return s;
+    }
+
+    private Map<T,Integer> sortedRank() throws DagCycleException {
+        Map<T,Integer> r = sortedRank;
+        if (r == null) {
+            final List<T> s = sorted();
+            r = new HashMap<>();
+            for(int ii=0; ii<s.size(); ii++) {
+                r.put(s.get(ii), ii);
+            }
+            sortedRank = r;
         }
+        return r;
     }
 
-    private void checkForCycles(final Node<T> n, final List<Node<T>> path) {
-        if (path.contains(n)) {
-            path.add(n);
-            throw new DagCycleException(
-                        getPath(path.subList(path.indexOf(n), path.size())));
+    private List<T> reachable(final T value, final boolean downwards) {
+        // breadth first
+        final Set<T> found = new LinkedHashSet<>();
+        final Deque<T> toVisit = new ArrayDeque<>(
+                                    (downwards ? childValues(value) : parentValues(value))
+                                        .toJavaList());
+
+        while(!toVisit.isEmpty()) {
+            final T v = toVisit.poll();
+            if (found.add(v)) {
+                (downwards ? childValues(v) : parentValues(v)).forEach(toVisit::add);
+            }
         }
-        path.add(n);
-        n.getParents().forEach(node -> checkForCycles(node, path));
-        path.remove(path.size() - 1);
+
+        return new ArrayList<>(found);
     }
 
-    private String getPath(final List<Node<T>> path) {
-        return path.stream()
-                   .map(n -> String.valueOf(n.getValue()))
-                   .collect(Collectors.joining(" -> "));
+    private boolean isReachable(final T from, final T to) {
+        // rank backed: 'to' is reachable from 'from' only if 'from' precedes
+        // 'to' in the topological order. Nodes ranked before 'from' can be
+        // skipped while walking up the parents of 'to'.
+        if (!isNode(from) || !isNode(to) || from.equals(to)) {
+            return false;
+        }
+
+        final int rankFrom = rankOf(from);
+        if (rankFrom >= rankOf(to)) {
+            return false;
+        }
+
+        final Set<T> visited = new HashSet<>();
+        final Deque<T> stack = new ArrayDeque<>();
+        stack.push(to);
+        while(!stack.isEmpty()) {
+            for(T p : parentValues(stack.pop())) {
+                if (p.equals(from)) {
+                    return true;
+                }
+                if (rankOf(p) > rankFrom && visited.add(p)) {
+                    stack.push(p);
+                }
+            }
+        }
+
+        return false;
     }
 
 
-    private final Map<T, Node<T>> nodes = new LinkedHashMap<>();
-    private final List<Node<T>> roots = new ArrayList<>();
-    private final Set<Edge<Node<T>>> edges = new LinkedHashSet<>();
+    // beyond this number of added edges recomputing the rank is cheaper
+    private static final int MAX_INCREMENTAL_EDGES = 100;
+
+    // persistent graph structure, shared with the derived DAGs
+    private io.vavr.collection.Vector<T> values = io.vavr.collection.Vector.empty();
+    private io.vavr.collection.HashMap<T,io.vavr.collection.Vector<T>> childMap = io.vavr.collection.HashMap.empty();
+    private io.vavr.collection.HashMap<T,io.vavr.collection.Vector<T>> parentMap = io.vavr.collection.HashMap.empty();
+    private io.vavr.collection.Vector<Edge<T>> edgeList = io.vavr.collection.Vector.empty();
+    private io.vavr.collection.HashSet<Edge<T>> edgeSet = io.vavr.collection.HashSet.empty();
+
+    // topological order and the node ranks within that order
+    private io.vavr.collection.Vector<T> order = io.vavr.collection.Vector.empty();
+    private io.vavr.collection.HashMap<T,Integer> rank = io.vavr.collection.HashMap.empty();
+
+    // lazily computed
+    private volatile List<T> roots;
+    private volatile List<T> sorted;
+    private volatile Map<T,Integer> sortedRank;
+    private final Map<T,List<T>> childrenCache = new ConcurrentHashMap<>();
+    private final Map<T,List<T>> parentsCache = new ConcurrentHashMap<>();
 }
@@ -0,0 +1,44 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.dag;
+
+
+public class DagExecutionException extends RuntimeException {
+
+    public DagExecutionException(
+            final String message,
+            final Object node,
+            final Throwable cause
+    ) {
+        super(message, cause);
+        this.node = node;
+    }
+
+    public Object getNode() {
+        return node;
+    }
+
+
+    private static final long serialVersionUID = -2435609848276327154L;
+
+    private final transient Object node;
+}
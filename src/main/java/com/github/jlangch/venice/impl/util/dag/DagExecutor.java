@@ -0,0 +1,267 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.dag;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+
+/**
+ * Executes a function for every node of a DAG on a thread pool.
+ *
+ * <p>A node is scheduled as soon as all its parents have completed.
+ * At most 'parallelism' nodes are executed at the same time. The
+ * scheduling is done by the calling thread, that blocks until all
+ * nodes have completed.
+ *
+ * <p>If a node function fails no further nodes are scheduled. The
+ * executor waits for the running nodes and rethrows the first failure.
+ *
+ * <p>If the thread pool rejects a node while other nodes of this DAG are
+ * running, the node is kept ready and submitted again after the next node
+ * has completed. If no other node is running, the submission is retried
+ * for up to 10 seconds before the {@code RejectedExecutionException} is
+ * rethrown.
+ *
+ * <pre>
+ * Map&lt;String,DagExecutor.Result&lt;Integer&gt;&gt; results =
+ *     new DagExecutor&lt;String,Integer&gt;(dag, executor, 4)
+ *           .execute(node -&gt; build(node));
+ * </pre>
+ *
+ * @param <T> the node type
+ * @param <R> the node function result type
+ */
+public class DagExecutor<T,R> {
+
+    public DagExecutor(
+            final DAG<T> dag,
+            final ExecutorService executor,
+            final int parallelism
+    ) {
+        if (dag == null) {
+            throw new IllegalArgumentException("A dag must not be null");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("An executor must not be null");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be greater than 0");
+        }
+
+        this.dag = dag;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+
+    /**
+     * Executes the function for all nodes
+     *
+     * @param fn the node function
+     * @return the results mapped by node in topological order
+     * @throws DagExecutionException if a node function failed
+     * @throws InterruptedException if the calling thread has been interrupted
+     */
+    public Map<T,Result<R>> execute(
+            final Function<T,R> fn
+    ) throws InterruptedException {
+        final Map<T,Result<R>> results = new HashMap<>();
+        if (dag.isEmpty()) {
+            return results;
+        }
+
+        final List<T> order = dag.topologicalSort();
+
+        // number of parents that have not completed yet
+        final Map<T,Integer> pending = new HashMap<>();
+        final Deque<T> ready = new ArrayDeque<>();
+        for(T v : order) {
+            final int parents = dag.getNode(v).getParents().size();
+            pending.put(v, parents);
+            if (parents == 0) {
+                ready.add(v);
+            }
+        }
+
+        final BlockingQueue<Completion<T,R>> completed = new LinkedBlockingQueue<>();
+        final List<Future<?>> running = new ArrayList<>();
+        final long startTime = System.nanoTime();
+
+        RuntimeException failure = null;
+        int active = 0;
+        long rejectedSince = 0L;
+
+        try {
+            while(true) {
+                while(failure == null && active < parallelism && !ready.isEmpty()) {
+                    final T node = ready.peek();
+                    try {
+                        running.add(executor.submit(() -> completed.add(run(node, fn, startTime))));
+                    }
+                    catch(RejectedExecutionException ex) {
+                        if (active > 0) {
+                            break;  // retry after the next completion
+                        }
+
+                        // no running node to wait for, the pool is saturated
+                        // by other tasks
+                        if (executor.isShutdown()) {
+                            throw ex;
+                        }
+                        if (rejectedSince == 0L) {
+                            rejectedSince = System.nanoTime();
+                        }
+                        else if (System.nanoTime() - rejectedSince > MAX_REJECTED_NANOS) {
+                            throw ex;
+                        }
+                        Thread.sleep(REJECTED_RETRY_MILLIS);
+                        continue;
+                    }
+                    rejectedSince = 0L;
+                    ready.poll();
+                    active++;
+                }
+
+                if (active == 0) {
+                    break;
+                }
+
+                final Completion<T,R> c = completed.take();
+                active--;
+
+                if (c.error != null) {
+                    if (failure == null) {
+                        failure = new DagExecutionException(
+                                        String.format(
+                                            "The DAG node %s failed! %s",
+                                            c.node,
+                                            c.error.getMessage()),
+                                        c.node,
+                                        c.error);
+                    }
+                }
+                else {
+                    results.put(c.node, c.result);
+
+                    for(Node<T> child : dag.getNode(c.node).getChildren()) {
+                        final T v = child.getValue();
+                        final int n = pending.get(v) - 1;
+                        pending.put(v, n);
+                        if (n == 0) {
+                            ready.add(v);
+                        }
+                    }
+                }
+            }
+        }
+        catch(InterruptedException | RuntimeException ex) {
+            running.forEach(f -> f.cancel(true));
+            throw ex;
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        // return the results in topological order
+        final Map<T,Result<R>> sorted = new LinkedHashMap<>();
+        order.forEach(v -> sorted.put(v, results.get(v)));
+        return sorted;
+    }
+
+
+    private Completion<T,R> run(
+            final T node,
+            final Function<T,R> fn,
+            final long startTime
+    ) {
+        final long start = System.nanoTime();
+        try {
+            final R r = fn.apply(node);
+            final long end = System.nanoTime();
+            return new Completion<>(node, new Result<>(r, start - startTime, end - start), null);
+        }
+        catch(Throwable ex) {
+            return new Completion<>(node, null, ex);
+        }
+    }
+
+
+    public static class Result<R> {
+        public Result(final R value, final long startNanos, final long elapsedNanos) {
+            this.value = value;
+            this.startNanos = startNanos;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public R getValue() {
+            return value;
+        }
+
+        /**
+         * @return the start time relative to the start of the execution
+         */
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        private final R value;
+        private final long startNanos;
+        private final long elapsedNanos;
+    }
+
+    private static class Completion<T,R> {
+        public Completion(final T node, final Result<R> result, final Throwable error) {
+            this.node = node;
+            this.result = result;
+            this.error = error;
+        }
+
+        private final T node;
+        private final Result<R> result;
+        private final Throwable error;
+    }
+
+
+    private static final long MAX_REJECTED_NANOS = 10_000_000_000L;
+    private static final long REJECTED_RETRY_MILLIS = 5L;
+
+    private final DAG<T> dag;
+    private final ExecutorService executor;
+    private final int parallelism;
+}
@@ -23,15 +23,23 @@ package com.github.jlangch.venice.impl.util.dag;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 
+/**
+ * A node of a DAG. The node is a view on its DAG, the parents and children
+ * are looked up in the DAG the node has been obtained from.
+ */
 public class Node<T> {
 
     public Node(final T value) {
+        this(value, null);
+    }
+
+    Node(final T value, final DAG<T> dag) {
         this.value = value;
+        this.dag = dag;
     }
 
     public T getValue() {
@@ -39,27 +47,19 @@ public class Node<T> {
     }
 
     public List<Node<T>> getParents() {
-        return Collections.unmodifiableList(parents);
+        return dag == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(dag.parentNodes(value));
     }
 
     public List<Node<T>> getChildren() {
-        return Collections.unmodifiableList(children);
-    }
-
-    public void addChild(final Node<T> child) {
-        if (child == this) {
-            throw new DagCycleException(this.toString() + "->" + this.toString());
-        }
-
-        children.add(child);
-
-        if (!child.getParents().contains(this)) {
-            child.addParent(this);
-        }
+        return dag == null
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(dag.childNodes(value));
     }
 
     public boolean isWithoutRelations() {
-        return parents.isEmpty() && children.isEmpty();
+        return dag == null || dag.isWithoutRelations(value);
     }
 
     @Override
@@ -100,19 +100,6 @@ public class Node<T> {
     }
 
 
-    private void addParent(final Node<T> parent) {
-        if (parent == this) {
-            throw new DagCycleException(this.toString() + "->" + this.toString());
-        }
-
-        parents.add(parent);
-        if (!parent.getChildren().contains(this)) {
-            parent.addChild(this);
-        }
-    }
-
-
-    private final List<Node<T>> parents = new LinkedList<>();
-    private final List<Node<T>> children = new LinkedList<>();
     private final T value;
+    private final DAG<T> dag;
 }
@@ -44,6 +44,7 @@ import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFColor;
 import org.apache.poi.xssf.usermodel.XSSFFont;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -58,6 +59,13 @@ import com.github.jlangch.venice.impl.util.MimeTypes;
  * Excel file formats. When opening an excel file the format (xls, xlsx) will
  * be detected automatically.
  *
+ * <p>Large XLSX documents can be written with a streaming workbook (SXSSF)
+ * that keeps only a window of the most recently written rows in memory and
+ * flushes older rows to a temporary file. Rows that have been flushed can
+ * not be accessed anymore, so operations that need random access to the
+ * rows (reading cells, shifting, copying, or deleting rows, auto sizing
+ * columns, evaluating formulas, charts) are rejected.
+ *
  * <p>The following cell formats are pre-registered and can be changed any
  * time:
  * <ul>
@@ -117,6 +125,21 @@ public class Excel implements Closeable {
         return new Excel(new XSSFWorkbook());
     }
 
+    public static Excel createXlsxStreaming(
+            final int rowWindow,
+            final boolean compressTempFiles
+    ) {
+        if (rowWindow < 1) {
+            throw new ExcelException(String.format(
+                    "Invalid streaming row window %d. The row window must be positive!",
+                    rowWindow));
+        }
+
+        // no shared strings table, the strings are written inline to keep
+        // the memory bounded
+        return new Excel(new SXSSFWorkbook(null, rowWindow, compressTempFiles, false));
+    }
+
     public static Excel open(final byte[] document) {
         return open(new ByteArrayInputStream(document));
     }
@@ -174,6 +197,12 @@ public class Excel implements Closeable {
     }
 
     public void evaluateAllFormulas() {
+        if (isStreaming()) {
+            throw new ExcelException(
+                    "Formulas can not be evaluated in a streaming Excel. " +
+                    "The rows written so far have been flushed to disk!");
+        }
+
         evaluator.clearAllCachedResultValues();
         evaluator.evaluateAll();
     }
@@ -350,6 +379,7 @@ public class Excel implements Closeable {
     @Override
     public void close() {
         try {
+            // closing a streaming workbook deletes its temporary files too
             this.workbook.close();
         }
         catch(Exception ex) {
@@ -368,7 +398,11 @@ public class Excel implements Closeable {
     }
 
     public boolean isXlsx() {
-        return workbook instanceof XSSFWorkbook;
+        return workbook instanceof XSSFWorkbook || isStreaming();
+    }
+
+    public boolean isStreaming() {
+        return workbook instanceof SXSSFWorkbook;
     }
 
 
@@ -36,6 +36,7 @@ import org.apache.poi.ss.usermodel.Font;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
 import org.apache.poi.ss.usermodel.VerticalAlignment;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFColor;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
@@ -141,7 +142,7 @@ public class ExcelCellStyles {
         final CellStyle style = workbook.createCellStyle();
 
         if (bgColor != null) {
-            if (workbook instanceof XSSFWorkbook) {
+            if (workbook instanceof XSSFWorkbook || workbook instanceof SXSSFWorkbook) {
                 ((XSSFCellStyle)style).setFillForegroundColor(
                         new XSSFColor(bgColor, null));
             }
@@ -71,6 +71,8 @@ import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellAddress;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressList;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFCellStyle;
 import org.apache.poi.xssf.usermodel.XSSFColor;
 import org.apache.poi.xssf.usermodel.XSSFDataValidationHelper;
@@ -217,11 +219,13 @@ public class ExcelSheet {
     }
 
     public int getFirstCellNum(final int row) {
+        checkRowNotFlushed(row);
         final Row r = sheet.getRow(row);
         return r == null ? -1 : r.getFirstCellNum();
     }
 
     public int getLastCellNum(final int row) {
+        checkRowNotFlushed(row);
         final Row r = sheet.getRow(row);
         return r == null ? -1 : r.getLastCellNum();
     }
@@ -269,6 +273,8 @@ public class ExcelSheet {
     }
 
     public void deleteRow(final int row) {
+        checkNotStreaming("Deleting rows");
+
         final int lastRowNum = sheet.getLastRowNum();
         if (row >= 0 && row < lastRowNum) {
             sheet.shiftRows(row + 1, lastRowNum, -1);
@@ -286,6 +292,8 @@ public class ExcelSheet {
             final boolean clearValues,
             final boolean clearStyles
     ) {
+        checkRowNotFlushed(row);
+
         final Row sourceRow = sheet.getRow(row);
         if (sourceRow == null) {
             return;
@@ -309,6 +317,8 @@ public class ExcelSheet {
             final boolean copyValues,
             final boolean copyStyles
     ) {
+        checkNotStreaming("Copying rows");
+
         final Row sourceRow = sheet.getRow(row);
         if (sourceRow == null) {
             return;
@@ -342,6 +352,8 @@ public class ExcelSheet {
             final boolean copyValues,
             final boolean copyStyles
     ) {
+        checkNotStreaming("Copying rows");
+
         final int lastRowNum = sheet.getLastRowNum();
 
         if (rowTo > lastRowNum) {
@@ -380,6 +392,8 @@ public class ExcelSheet {
     }
 
     public void insertEmptyRow(final int row) {
+        checkNotStreaming("Inserting rows");
+
         final int lastRowNum = sheet.getLastRowNum();
 
         // Shift rows from the specified row index down by 1 row to make space for the new row
@@ -390,6 +404,8 @@ public class ExcelSheet {
     }
 
     public void insertEmptyRows(final int row, final int count) {
+        checkNotStreaming("Inserting rows");
+
         for(int ii=0; ii<count; ii++) {
             final int lastRowNum = sheet.getLastRowNum();
 
@@ -425,7 +441,7 @@ public class ExcelSheet {
             final int regionFirstCol,
             final int regionLastCol
     ) {
-        if (!(sheet instanceof XSSFSheet)) {
+        if (!isXlsx()) {
             throw new RuntimeException("conditional background colors are available for XLSX documents only!");
         }
         // Create a conditional formatting rule for blank cells
@@ -457,7 +473,7 @@ public class ExcelSheet {
             final int regionFirstCol,
             final int regionLastCol
     ) {
-        if (!(sheet instanceof XSSFSheet)) {
+        if (!isXlsx()) {
             throw new RuntimeException("conditional font colors are available for XLSX documents only!");
         }
 
@@ -495,7 +511,7 @@ public class ExcelSheet {
             final int regionFirstCol,
             final int regionLastCol
     ) {
-        if (!(sheet instanceof XSSFSheet)) {
+        if (!isXlsx()) {
             throw new RuntimeException("conditional font colors are available for XLSX documents only!");
         }
 
@@ -777,6 +793,8 @@ public class ExcelSheet {
             final CellRangeAddr categoriesCellRangeAddr,
             final List<LineDataSeries> series
     ) {
+        checkNotStreaming("Adding charts");
+
         new ExcelCharts(sheet).addLineChart(
                                 title,
                                 areaCellRangeAddr,
@@ -806,6 +824,8 @@ public class ExcelSheet {
             final CellRangeAddr categoriesCellRangeAddr,
             final List<BarDataSeries> series
     ) {
+        checkNotStreaming("Adding charts");
+
         new ExcelCharts(sheet).addBarChart(
                                     title,
                                     areaCellRangeAddr,
@@ -834,6 +854,8 @@ public class ExcelSheet {
             final CellRangeAddr categoriesCellRangeAddr,
             final List<AreaDataSeries> series
     ) {
+        checkNotStreaming("Adding charts");
+
         new ExcelCharts(sheet).addAreaChart(
                     title,
                     areaCellRangeAddr,
@@ -856,6 +878,8 @@ public class ExcelSheet {
             final CellRangeAddr categoriesCellRangeAddr,
             final List<PieDataSeries> series
     ) {
+        checkNotStreaming("Adding charts");
+
         new ExcelCharts(sheet).addPieChart(
                                 title,
                                 areaCellRangeAddr,
@@ -1049,6 +1073,7 @@ public class ExcelSheet {
     }
 
     public void autoSizeColumn(final int col) {
+        checkNotStreaming("Auto sizing columns");
         sheet.autoSizeColumn(col);
     }
 
@@ -1057,6 +1082,8 @@ public class ExcelSheet {
     }
 
     public void autoSizeColumns() {
+        checkNotStreaming("Auto sizing columns");
+
         final int firstRow = sheet.getFirstRowNum();
         if (firstRow >= 0) {
             final Row row = sheet.getRow(firstRow);
@@ -1069,6 +1096,7 @@ public class ExcelSheet {
     }
 
     public void evaluateAllFormulas() {
+        checkNotStreaming("Evaluating formulas");
         evaluator.evaluateAll();
     }
 
@@ -1156,6 +1184,7 @@ public class ExcelSheet {
     }
 
     private Cell getCell(final int row, final int col) {
+        checkRowNotFlushed(row);
         final Row r = sheet.getRow(row);
         return r == null ? null : r.getCell(col, MissingCellPolicy.RETURN_NULL_AND_BLANK);
     }
@@ -1171,10 +1200,37 @@ public class ExcelSheet {
     }
 
     private Row getRowCreate(final int row) {
+        checkRowNotFlushed(row);
         final Row r = sheet.getRow(row);
         return (r != null) ? r :sheet.createRow(row);
     }
 
+    private boolean isXlsx() {
+        return sheet instanceof XSSFSheet || sheet instanceof SXSSFSheet;
+    }
+
+    private void checkNotStreaming(final String operation) {
+        if (sheet instanceof SXSSFSheet) {
+            throw new ExcelException(String.format(
+                    "Excel sheet '%s': %s is not supported by a streaming Excel!",
+                    sheet.getSheetName(),
+                    operation));
+        }
+    }
+
+    private void checkRowNotFlushed(final int row) {
+        if (sheet instanceof SXSSFSheet
+                && row <= ((SXSSFSheet)sheet).getLastFlushedRowNum()
+        ) {
+            throw new ExcelException(String.format(
+                    "Excel sheet '%s': The row %d has already been flushed to " +
+                    "disk. A streaming Excel keeps only the most recently " +
+                    "written rows in memory!",
+                    sheet.getSheetName(),
+                    row+1));
+        }
+    }
+
     private String coalesce(final String s1, final String s2) {
         return s1 != null ? s1 : s2;
     }
@@ -1185,7 +1241,7 @@ public class ExcelSheet {
         final CellStyle style = workbook.createCellStyle();
         style.cloneStyleFrom(cell.getCellStyle());
 
-        if (workbook instanceof XSSFWorkbook) {
+        if (workbook instanceof XSSFWorkbook || workbook instanceof SXSSFWorkbook) {
             ((XSSFCellStyle)style).setFillForegroundColor(
                     new XSSFColor(bgColor, null));
 
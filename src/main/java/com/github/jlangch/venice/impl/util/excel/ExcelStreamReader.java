@@ -0,0 +1,447 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.excel;
+
+import java.io.File;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+
+import com.github.jlangch.venice.ExcelException;
+
+
+/**
+ * Streaming read-only access to the rows of a XLSX sheet.
+ *
+ * <p>The sheet XML is pulled row by row from the package without building
+ * the POI workbook model. Only the shared strings table and the cell styles
+ * are held in memory, so the memory footprint does not grow with the number
+ * of rows.
+ *
+ * <p>The cell values are converted like {@link ExcelSheet#getValue(int, int)}
+ * does: <code>null</code> for blank and error cells, <code>String</code>,
+ * <code>Boolean</code>, <code>Double</code>, or <code>LocalDateTime</code>
+ * for date formatted numeric cells. Formulas are not evaluated, their cached
+ * result is returned.
+ *
+ * <p>Empty rows are not stored in a XLSX sheet and are skipped.
+ */
+public class ExcelStreamReader implements AutoCloseable {
+
+    private ExcelStreamReader(final OPCPackage pkg) {
+        this.pkg = pkg;
+    }
+
+    public static ExcelStreamReader open(final File file) {
+        try {
+            return new ExcelStreamReader(OPCPackage.open(file, PackageAccess.READ));
+        }
+        catch(Exception ex) {
+            throw new ExcelException(String.format(
+                    "Failed to open the Excel file '%s'!",
+                    file.getPath()));
+        }
+    }
+
+    public static ExcelStreamReader open(final InputStream document) {
+        try {
+            return new ExcelStreamReader(OPCPackage.open(document));
+        }
+        catch(Exception ex) {
+            throw new ExcelException("Failed to open the Excel document from the input stream");
+        }
+    }
+
+
+    /**
+     * Returns the names of the sheets in workbook order
+     *
+     * @return the sheet names
+     */
+    public List<String> getSheetNames() {
+        try {
+            final List<String> names = new ArrayList<>();
+            final XSSFReader.SheetIterator it = (XSSFReader.SheetIterator)new XSSFReader(pkg).getSheetsData();
+            while(it.hasNext()) {
+                it.next().close();
+                names.add(it.getSheetName());
+            }
+            return names;
+        }
+        catch(ExcelException ex) {
+            throw ex;
+        }
+        catch(Exception ex) {
+            throw new ExcelException("Failed to read the Excel sheet names", ex);
+        }
+    }
+
+    /**
+     * Returns an iterator over the rows of a sheet. Each row is an array of
+     * the cell values from the first column to the row's last non empty cell.
+     *
+     * <p>The reader is closed when the iterator is exhausted or fails.
+     *
+     * @param sheet a sheet name or a 1-based sheet index
+     * @param skipRows the number of leading rows to skip
+     * @return the row iterator
+     */
+    public Iterator<Object[]> rows(final Object sheet, final int skipRows) {
+        try {
+            final XSSFReader reader = new XSSFReader(pkg);
+            final ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            final StylesTable styles = reader.getStylesTable();
+            final boolean date1904 = isDate1904(reader);
+
+            final RowIterator rows = new RowIterator(
+                                            openSheet(reader, sheet),
+                                            sharedStrings,
+                                            styles,
+                                            date1904);
+            for(int ii=0; ii<skipRows && rows.hasNext(); ii++) {
+                rows.next();
+            }
+            return rows;
+        }
+        catch(ExcelException ex) {
+            close();
+            throw ex;
+        }
+        catch(Exception ex) {
+            close();
+            throw new ExcelException("Failed to stream the Excel sheet " + sheet, ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            pkg.revert();  // read-only, do not save
+        }
+        catch(Exception ex) {
+            // ignore
+        }
+    }
+
+
+    private InputStream openSheet(
+            final XSSFReader reader,
+            final Object sheet
+    ) throws Exception {
+        final XSSFReader.SheetIterator it = (XSSFReader.SheetIterator)reader.getSheetsData();
+
+        int index = 0;
+        while(it.hasNext()) {
+            final InputStream is = it.next();
+            index++;
+
+            if (sheet instanceof Number
+                    ? ((Number)sheet).intValue() == index
+                    : it.getSheetName().equals(String.valueOf(sheet))
+            ) {
+                return is;
+            }
+            is.close();
+        }
+
+        throw new ExcelException(String.format("The sheet '%s' does not exist", sheet));
+    }
+
+    private static boolean isDate1904(final XSSFReader reader) throws Exception {
+        try (InputStream is = reader.getWorkbookData()) {
+            final XMLStreamReader xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(is);
+            try {
+                while(xml.hasNext()) {
+                    if (xml.next() == XMLStreamConstants.START_ELEMENT) {
+                        final String name = xml.getLocalName();
+                        if ("workbookPr".equals(name)) {
+                            final String v = xml.getAttributeValue(null, "date1904");
+                            return "1".equals(v) || "true".equals(v);
+                        }
+                        else if ("sheets".equals(name)) {
+                            return false;
+                        }
+                    }
+                }
+                return false;
+            }
+            finally {
+                xml.close();
+            }
+        }
+    }
+
+    static int columnIndex(final String cellRef) {
+        int col = 0;
+        for(int ii=0; ii<cellRef.length(); ii++) {
+            final char c = cellRef.charAt(ii);
+            if (c >= 'A' && c <= 'Z') {
+                col = col * 26 + (c - 'A' + 1);
+            }
+            else {
+                break;
+            }
+        }
+        return col - 1;  // 0-based
+    }
+
+
+    private class RowIterator implements Iterator<Object[]> {
+
+        public RowIterator(
+                final InputStream sheetData,
+                final ReadOnlySharedStringsTable sharedStrings,
+                final StylesTable styles,
+                final boolean date1904
+        ) throws XMLStreamException {
+            this.sheetData = sheetData;
+            this.xml = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetData);
+            this.sharedStrings = sharedStrings;
+            this.styles = styles;
+            this.date1904 = date1904;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !eof) {
+                try {
+                    next = readRow();
+                    if (next == null) {
+                        eof = true;
+                        closeSheet();
+                    }
+                }
+                catch(Exception ex) {
+                    eof = true;
+                    closeSheet();
+                    throw new ExcelException("Failed to read an Excel sheet row", ex);
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Object[] row = next;
+            next = null;
+            return row;
+        }
+
+        private Object[] readRow() throws XMLStreamException {
+            Object[] cells = null;
+            int size = 0;
+            int col = -1;
+
+            while(xml.hasNext()) {
+                final int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    switch(xml.getLocalName()) {
+                        case "row":
+                            cells = new Object[16];
+                            size = 0;
+                            col = -1;
+                            break;
+
+                        case "c":
+                            final String ref = xml.getAttributeValue(null, "r");
+                            col = ref == null ? col + 1 : columnIndex(ref);
+                            final Object value = readCell(
+                                                    xml.getAttributeValue(null, "t"),
+                                                    xml.getAttributeValue(null, "s"));
+                            if (value != null && cells != null) {
+                                if (col >= cells.length) {
+                                    cells = Arrays.copyOf(cells, Math.max(col + 1, cells.length * 2));
+                                }
+                                cells[col] = value;
+                                size = Math.max(size, col + 1);
+                            }
+                            break;
+
+                        default:
+                            break;
+                    }
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT) {
+                    final String name = xml.getLocalName();
+                    if ("row".equals(name)) {
+                        return cells == null ? new Object[0] : Arrays.copyOf(cells, size);
+                    }
+                    else if ("sheetData".equals(name)) {
+                        return null;
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        // reads the cell up to its end element
+        private Object readCell(final String type, final String style) throws XMLStreamException {
+            String raw = null;
+            String inline = null;
+
+            while(xml.hasNext()) {
+                final int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    final String name = xml.getLocalName();
+                    if ("v".equals(name)) {
+                        raw = xml.getElementText();
+                    }
+                    else if ("is".equals(name)) {
+                        inline = readInlineString();
+                    }
+                    else if ("f".equals(name)) {
+                        xml.getElementText();  // formula, use the cached value
+                    }
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(xml.getLocalName())) {
+                    break;
+                }
+            }
+
+            if (type == null || "n".equals(type)) {
+                if (raw == null || raw.isEmpty()) {
+                    return null;
+                }
+                final double d = Double.parseDouble(raw);
+                return isDateStyle(style) ? DateUtil.getLocalDateTime(d, date1904) : (Object)d;
+            }
+
+            switch(type) {
+                case "s":
+                    return raw == null ? null : sharedStrings.getItemAt(Integer.parseInt(raw)).getString();
+                case "inlineStr":
+                    return inline;
+                case "str":
+                    return raw == null ? "" : raw;
+                case "b":
+                    return raw == null ? null : "1".equals(raw) || "true".equals(raw);
+                case "d":
+                    return raw == null ? null : parseIsoDate(raw);
+                case "e":
+                default:
+                    return null;
+            }
+        }
+
+        // concatenates the text runs of an inline string, skips phonetic runs
+        private String readInlineString() throws XMLStreamException {
+            final StringBuilder sb = new StringBuilder();
+            int phonetic = 0;
+            while(xml.hasNext()) {
+                final int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    final String name = xml.getLocalName();
+                    if ("rPh".equals(name)) {
+                        phonetic++;
+                    }
+                    else if ("t".equals(name) && phonetic == 0) {
+                        sb.append(xml.getElementText());
+                    }
+                }
+                else if (event == XMLStreamConstants.END_ELEMENT) {
+                    final String name = xml.getLocalName();
+                    if ("rPh".equals(name)) {
+                        phonetic--;
+                    }
+                    else if ("is".equals(name)) {
+                        break;
+                    }
+                }
+            }
+            return sb.toString();
+        }
+
+        private boolean isDateStyle(final String style) {
+            if (style == null || styles == null) {
+                return false;
+            }
+
+            final int idx = Integer.parseInt(style);
+            Boolean date = dateStyles.get(idx);
+            if (date == null) {
+                final XSSFCellStyle cs = styles.getStyleAt(idx);
+                date = cs != null
+                        && DateUtil.isADateFormat(cs.getDataFormat(), cs.getDataFormatString());
+                dateStyles.put(idx, date);
+            }
+            return date;
+        }
+
+        private Object parseIsoDate(final String s) {
+            try {
+                return LocalDateTime.parse(s);
+            }
+            catch(Exception ex) {
+                return s;
+            }
+        }
+
+        private void closeSheet() {
+            try {
+                xml.close();
+                sheetData.close();
+            }
+            catch(Exception ex) {
+                // ignore
+            }
+            finally {
+                close();
+            }
+        }
+
+
+        private final InputStream sheetData;
+        private final XMLStreamReader xml;
+        private final ReadOnlySharedStringsTable sharedStrings;
+        private final StylesTable styles;
+        private final boolean date1904;
+        private final Map<Integer,Boolean> dateStyles = new HashMap<>();
+        private Object[] next;
+        private boolean eof;
+    }
+
+
+    private final OPCPackage pkg;
+}
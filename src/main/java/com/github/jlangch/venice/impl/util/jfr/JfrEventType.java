@@ -0,0 +1,175 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.jfr;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A Java Flight Recorder event type that is defined at runtime through
+ * <code>jdk.jfr.EventFactory</code>.
+ *
+ * <p>The JFR API is accessed by reflection only. Venice is compiled for
+ * Java 8 and must load on JVMs that do not provide the <code>jdk.jfr</code>
+ * module.
+ *
+ * <p>Events are emitted after the measured activity has completed. The
+ * measured time is carried by a <code>@Timespan</code> field, the JFR start
+ * time of the event is the time it has been committed.
+ */
+class JfrEventType {
+
+    private JfrEventType(
+            final Object factory,
+            final Method newEvent,
+            final Method set,
+            final Method commit
+    ) {
+        this.factory = factory;
+        this.newEvent = newEvent;
+        this.set = set;
+        this.commit = commit;
+    }
+
+    /**
+     * Define a new event type.
+     *
+     * @param name the event name, e.g. "venice.FunctionCall"
+     * @param label the event label
+     * @param description the event description
+     * @param category the event category
+     * @param fields the event fields
+     * @return the event type
+     * @throws Exception if the JFR API is not available
+     */
+    static JfrEventType define(
+            final String name,
+            final String label,
+            final String description,
+            final String[] category,
+            final Field... fields
+    ) throws Exception {
+        final Class<?> clazzAnnotationElement = Class.forName("jdk.jfr.AnnotationElement");
+        final Class<?> clazzValueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+        final Class<?> clazzEventFactory = Class.forName("jdk.jfr.EventFactory");
+        final Class<?> clazzEvent = Class.forName("jdk.jfr.Event");
+
+        final Constructor<?> annotationElement = clazzAnnotationElement.getConstructor(Class.class, Object.class);
+        final Constructor<?> valueDescriptor = clazzValueDescriptor.getConstructor(Class.class, String.class, List.class);
+
+        final List<Object> eventAnnotations = new ArrayList<>();
+        eventAnnotations.add(annotationElement.newInstance(annotation("jdk.jfr.Name"), name));
+        eventAnnotations.add(annotationElement.newInstance(annotation("jdk.jfr.Label"), label));
+        eventAnnotations.add(annotationElement.newInstance(annotation("jdk.jfr.Description"), description));
+        eventAnnotations.add(annotationElement.newInstance(annotation("jdk.jfr.Category"), category));
+        eventAnnotations.add(annotationElement.newInstance(annotation("jdk.jfr.StackTrace"), Boolean.FALSE));
+
+        final List<Object> eventFields = new ArrayList<>();
+        for(Field f : fields) {
+            final List<Object> fieldAnnotations = new ArrayList<>();
+            fieldAnnotations.add(annotationElement.newInstance(annotation("jdk.jfr.Label"), f.label));
+            if (f.unit != null) {
+                fieldAnnotations.add(annotationElement.newInstance(annotation(f.unit), f.unitValue));
+            }
+            eventFields.add(valueDescriptor.newInstance(f.type, f.name, fieldAnnotations));
+        }
+
+        final Object factory = clazzEventFactory
+                                    .getMethod("create", List.class, List.class)
+                                    .invoke(null, eventAnnotations, eventFields);
+
+        return new JfrEventType(
+                    factory,
+                    clazzEventFactory.getMethod("newEvent"),
+                    clazzEvent.getMethod("set", int.class, Object.class),
+                    clazzEvent.getMethod("commit"));
+    }
+
+    /**
+     * Emit an event. The values are passed in the order of the fields the
+     * event type has been defined with.
+     *
+     * @param values the field values
+     */
+    void emit(final Object... values) {
+        try {
+            final Object event = newEvent.invoke(factory);
+            for(int ii=0; ii<values.length; ii++) {
+                set.invoke(event, ii, values[ii]);
+            }
+            commit.invoke(event);
+        }
+        catch(Exception ex) {
+            // JFR events are diagnostics only, never fail the caller
+        }
+    }
+
+    static Field stringField(final String name, final String label) {
+        return new Field(String.class, name, label, null, null);
+    }
+
+    static Field timespanField(final String name, final String label) {
+        return new Field(long.class, name, label, "jdk.jfr.Timespan", "NANOSECONDS");
+    }
+
+    static Field bytesField(final String name, final String label) {
+        return new Field(long.class, name, label, "jdk.jfr.DataAmount", "BYTES");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> annotation(final String className) throws Exception {
+        return (Class<? extends Annotation>)Class.forName(className);
+    }
+
+
+    static class Field {
+        private Field(
+                final Class<?> type,
+                final String name,
+                final String label,
+                final String unit,
+                final String unitValue
+        ) {
+            this.type = type;
+            this.name = name;
+            this.label = label;
+            this.unit = unit;
+            this.unitValue = unitValue;
+        }
+
+        private final Class<?> type;
+        private final String name;
+        private final String label;
+        private final String unit;
+        private final String unitValue;
+    }
+
+
+    private final Object factory;
+    private final Method newEvent;
+    private final Method set;
+    private final Method commit;
+}
@@ -0,0 +1,222 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.jfr;
+
+import static com.github.jlangch.venice.impl.util.jfr.JfrEventType.bytesField;
+import static com.github.jlangch.venice.impl.util.jfr.JfrEventType.stringField;
+import static com.github.jlangch.venice.impl.util.jfr.JfrEventType.timespanField;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Publishes Venice activity as custom Java Flight Recorder events.
+ *
+ * <p>The events are disabled by default. They are enabled with the system
+ * property <code>venice.jfr.enabled=true</code> on JVMs that provide the
+ * <code>jdk.jfr.EventFactory</code> API. On all other JVMs (e.g. Java 8
+ * without JFR) the events stay disabled and the JFR API is never touched.
+ *
+ * <p>To keep the overhead low only activities that exceed a threshold are
+ * emitted. The thresholds are configured in milliseconds with the system
+ * properties:
+ * <ul>
+ *   <li><code>venice.jfr.function.threshold</code> (default 20ms)
+ *       slow Venice function calls</li>
+ *   <li><code>venice.jfr.task.threshold</code> (default 10ms)
+ *       future, agent, and scheduler tasks (queue wait plus execution time)</li>
+ *   <li><code>venice.jfr.ipc.threshold</code> (default 10ms)
+ *       IPC request latency on the client and the server</li>
+ *   <li><code>venice.jfr.wal.threshold</code> (default 5ms)
+ *       Write-Ahead-Log fsync time</li>
+ * </ul>
+ *
+ * <p>Callers guard the measurement with the constant {@link #ENABLED} flag,
+ * so the JIT removes the instrumentation entirely if the events are disabled.
+ */
+public class JfrEvents {
+
+    /**
+     * Emit a slow function call event if the call took longer than the
+     * function threshold.
+     *
+     * @param fnName the qualified function name
+     * @param startNanos the call's start time (System::nanoTime)
+     */
+    public static void functionCall(final String fnName, final long startNanos) {
+        final long elapsed = System.nanoTime() - startNanos;
+        if (elapsed >= FUNCTION_THRESHOLD) {
+            FUNCTION_CALL.emit(fnName, elapsed);
+        }
+    }
+
+    /**
+     * Emit a task event if the queue wait plus the execution time of a
+     * task exceeded the task threshold.
+     *
+     * @param kind the task kind, e.g. "future", "send", "send-off"
+     * @param queuedNanos the time the task has been queued (System::nanoTime)
+     * @param startNanos the time the task has been started (System::nanoTime)
+     */
+    public static void task(
+            final String kind,
+            final long queuedNanos,
+            final long startNanos
+    ) {
+        final long now = System.nanoTime();
+        if (now - queuedNanos >= TASK_THRESHOLD) {
+            TASK.emit(kind, startNanos - queuedNanos, now - startNanos);
+        }
+    }
+
+    /**
+     * Emit an IPC request event if the request took longer than the IPC
+     * threshold.
+     *
+     * @param side "client" or "server"
+     * @param messageType the request's message type
+     * @param destination the request's destination (queue, topic,
+     *                    or function), may be <code>null</code>
+     * @param startNanos the request's start time (System::nanoTime)
+     */
+    public static void ipcRequest(
+            final String side,
+            final Object messageType,
+            final String destination,
+            final long startNanos
+    ) {
+        final long elapsed = System.nanoTime() - startNanos;
+        if (elapsed >= IPC_THRESHOLD) {
+            IPC_REQUEST.emit(
+                    side,
+                    String.valueOf(messageType),
+                    destination == null ? "" : destination,
+                    elapsed);
+        }
+    }
+
+    /**
+     * Emit a WAL fsync event if the fsync took longer than the WAL
+     * threshold.
+     *
+     * @param file the WAL file
+     * @param bytes the number of bytes written before the fsync
+     * @param startNanos the fsync's start time (System::nanoTime)
+     */
+    public static void walFsync(
+            final String file,
+            final long bytes,
+            final long startNanos
+    ) {
+        final long elapsed = System.nanoTime() - startNanos;
+        if (elapsed >= WAL_THRESHOLD) {
+            WAL_FSYNC.emit(file, bytes, elapsed);
+        }
+    }
+
+
+    private static long threshold(final String property, final long defaultMillis) {
+        return TimeUnit.MILLISECONDS.toNanos(
+                    Math.max(0L, Long.getLong(property, defaultMillis)));
+    }
+
+    private static JfrEventType define(
+            final String name,
+            final String label,
+            final String description,
+            final String subCategory,
+            final JfrEventType.Field... fields
+    ) {
+        if (!Boolean.getBoolean("venice.jfr.enabled")) {
+            return null;
+        }
+
+        try {
+            return JfrEventType.define(
+                        name,
+                        label,
+                        description,
+                        new String[] { "Venice", subCategory },
+                        fields);
+        }
+        catch(Throwable ex) {
+            return null;  // JFR is not available on this JVM
+        }
+    }
+
+
+    private static final long FUNCTION_THRESHOLD = threshold("venice.jfr.function.threshold", 20L);
+    private static final long TASK_THRESHOLD = threshold("venice.jfr.task.threshold", 10L);
+    private static final long IPC_THRESHOLD = threshold("venice.jfr.ipc.threshold", 10L);
+    private static final long WAL_THRESHOLD = threshold("venice.jfr.wal.threshold", 5L);
+
+    private static final JfrEventType FUNCTION_CALL =
+            define(
+                "venice.FunctionCall",
+                "Venice Function Call",
+                "A Venice function call that exceeded the function threshold",
+                "Functions",
+                stringField("function", "Function"),
+                timespanField("elapsed", "Elapsed"));
+
+    private static final JfrEventType TASK =
+            define(
+                "venice.Task",
+                "Venice Task",
+                "A future, agent, or scheduler task whose queue wait plus "
+                    + "execution time exceeded the task threshold",
+                "Concurrency",
+                stringField("kind", "Kind"),
+                timespanField("queueWait", "Queue Wait"),
+                timespanField("execution", "Execution"));
+
+    private static final JfrEventType IPC_REQUEST =
+            define(
+                "venice.IpcRequest",
+                "Venice IPC Request",
+                "An IPC request that exceeded the IPC threshold",
+                "IPC",
+                stringField("side", "Side"),
+                stringField("messageType", "Message Type"),
+                stringField("destination", "Destination"),
+                timespanField("latency", "Latency"));
+
+    private static final JfrEventType WAL_FSYNC =
+            define(
+                "venice.WalFsync",
+                "Venice WAL Fsync",
+                "A Write-Ahead-Log fsync that exceeded the WAL threshold",
+                "IPC",
+                stringField("file", "File"),
+                bytesField("bytes", "Bytes"),
+                timespanField("elapsed", "Elapsed"));
+
+    /**
+     * <code>true</code> if the Venice JFR events are enabled and the JVM
+     * supports them
+     */
+    public static final boolean ENABLED =
+            FUNCTION_CALL != null
+                && TASK != null
+                && IPC_REQUEST != null
+                && WAL_FSYNC != null;
+}
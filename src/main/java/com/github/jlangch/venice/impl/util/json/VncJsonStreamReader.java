@@ -0,0 +1,334 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.json;
+
+import java.io.Closeable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncString;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
+import com.github.jlangch.venice.nanojson.JsonParserException;
+import com.github.jlangch.venice.nanojson.JsonReader;
+
+
+/**
+ * Streams a JSON document using the nanojson pull parser without building
+ * the complete Venice value tree.
+ *
+ * <ul>
+ *   <li>{@link #arrayElements(List)} iterates the elements of the array at
+ *       a path. Only one element is held in memory at a time.</li>
+ *   <li>{@link #events()} iterates the low level parse events of the
+ *       document.</li>
+ * </ul>
+ *
+ * <p>The source is closed as soon as the iteration is exhausted or fails.
+ */
+public class VncJsonStreamReader {
+
+    public VncJsonStreamReader(
+            final JsonReader reader,
+            final Closeable source,
+            final Function<VncVal,VncVal> key_fn,
+            final BiFunction<VncVal,VncVal,VncVal> value_fn,
+            final boolean toDecimal
+    ) {
+        this.reader = reader;
+        this.source = source;
+        this.valueReader = new VncJsonReader(reader, key_fn, value_fn, toDecimal);
+        this.scalarReader = new VncJsonReader(reader, null, null, toDecimal);
+    }
+
+
+    /**
+     * Returns an iterator over the elements of the array at the path.
+     *
+     * @param path A list of object keys (strings) and array indices (integers)
+     *             that select the array. An empty path selects the top level
+     *             array.
+     * @return the element iterator
+     */
+    public Iterator<VncVal> arrayElements(final List<Object> path) {
+        try {
+            for(Object step : path) {
+                if (!navigate(step)) {
+                    close();
+                    throw new VncException(String.format(
+                            "The JSON path %s does not exist!", path));
+                }
+            }
+
+            if (reader.current() != JsonReader.Type.ARRAY) {
+                close();
+                throw new VncException(String.format(
+                        "The JSON path %s does not select an array but a %s!",
+                        path,
+                        reader.current().name().toLowerCase()));
+            }
+
+            reader.array();
+        }
+        catch(JsonParserException ex) {
+            close();
+            throw parseError(ex);
+        }
+
+        return new Iterator<VncVal>() {
+            @Override
+            public boolean hasNext() {
+                if (state == 0) {
+                    try {
+                        state = reader.next() ? 1 : 2;
+                    }
+                    catch(JsonParserException ex) {
+                        state = 2;
+                        close();
+                        throw parseError(ex);
+                    }
+                    finally {
+                        if (state == 2) close();
+                    }
+                }
+                return state == 1;
+            }
+
+            @Override
+            public VncVal next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                try {
+                    return valueReader.read();
+                }
+                catch(RuntimeException ex) {
+                    state = 2;
+                    close();
+                    throw ex;
+                }
+                finally {
+                    if (state == 1) state = 0;
+                }
+            }
+
+            // 0: unknown, 1: element available, 2: end of array
+            private int state = 0;
+        };
+    }
+
+    /**
+     * Returns an iterator over the parse events of the document.
+     *
+     * <p>The events are vectors:
+     * <pre>
+     *   [:start-object]  [:end-object]
+     *   [:start-array]   [:end-array]
+     *   [:key "name"]    [:value 100]
+     * </pre>
+     *
+     * @return the event iterator
+     */
+    public Iterator<VncVal> events() {
+        return new Iterator<VncVal>() {
+            @Override
+            public boolean hasNext() {
+                if (nextEvent == null && !done) {
+                    try {
+                        nextEvent = advance();
+                    }
+                    catch(JsonParserException ex) {
+                        done = true;
+                        close();
+                        throw parseError(ex);
+                    }
+                    catch(RuntimeException ex) {
+                        done = true;
+                        close();
+                        throw ex;
+                    }
+                    if (nextEvent == null) {
+                        done = true;
+                        close();
+                    }
+                }
+                return nextEvent != null;
+            }
+
+            @Override
+            public VncVal next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final VncVal e = nextEvent;
+                nextEvent = null;
+                return e;
+            }
+
+            private VncVal advance() throws JsonParserException {
+                if (!started) {
+                    started = true;
+                    return valueEvent();
+                }
+                else if (pendingValue) {
+                    pendingValue = false;
+                    return valueEvent();
+                }
+                else if (stack.isEmpty()) {
+                    return null;
+                }
+                else if (reader.next()) {
+                    if (stack.peek()) {
+                        // in an object: key first, the value follows
+                        pendingValue = true;
+                        return VncVector.of(KEY, new VncString(reader.key()));
+                    }
+                    else {
+                        return valueEvent();
+                    }
+                }
+                else {
+                    return stack.pop() ? END_OBJECT : END_ARRAY;
+                }
+            }
+
+            private VncVal valueEvent() throws JsonParserException {
+                switch(reader.current()) {
+                    case OBJECT:
+                        reader.object();
+                        stack.push(true);
+                        return START_OBJECT;
+                    case ARRAY:
+                        reader.array();
+                        stack.push(false);
+                        return START_ARRAY;
+                    default:
+                        return VncVector.of(VALUE, scalarReader.read());
+                }
+            }
+
+            // true: object, false: array
+            private final Deque<Boolean> stack = new ArrayDeque<>();
+            private boolean started = false;
+            private boolean pendingValue = false;
+            private boolean done = false;
+            private VncVal nextEvent = null;
+        };
+    }
+
+    public void close() {
+        if (source != null) {
+            try {
+                source.close();
+            }
+            catch(Exception ex) {
+                // silently
+            }
+        }
+    }
+
+
+    private boolean navigate(final Object step) throws JsonParserException {
+        if (step instanceof String) {
+            if (reader.current() != JsonReader.Type.OBJECT) {
+                return false;
+            }
+
+            reader.object();
+            while(reader.next()) {
+                if (step.equals(reader.key())) {
+                    return true;
+                }
+                skip();
+            }
+            return false;
+        }
+        else if (step instanceof Integer) {
+            if (reader.current() != JsonReader.Type.ARRAY) {
+                return false;
+            }
+
+            final int index = (Integer)step;
+            int idx = 0;
+
+            reader.array();
+            while(reader.next()) {
+                if (idx++ == index) {
+                    return true;
+                }
+                skip();
+            }
+            return false;
+        }
+        else {
+            throw new VncException(String.format(
+                    "Invalid JSON path element '%s'. Expected a key or an index!",
+                    step));
+        }
+    }
+
+    private void skip() throws JsonParserException {
+        switch(reader.current()) {
+            case OBJECT:
+                reader.object();
+                while(reader.next()) skip();
+                break;
+            case ARRAY:
+                reader.array();
+                while(reader.next()) skip();
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static VncException parseError(final JsonParserException ex) {
+        return new VncException(
+                    String.format(
+                        "JSON deserialization error at line %d column %d. %s",
+                        ex.getLinePosition(),
+                        ex.getCharPosition(),
+                        ex.getMessage()),
+                    ex);
+    }
+
+
+    private static final VncKeyword KEY = new VncKeyword("key");
+    private static final VncKeyword VALUE = new VncKeyword("value");
+    private static final VncVector START_OBJECT = VncVector.of(new VncKeyword("start-object"));
+    private static final VncVector END_OBJECT = VncVector.of(new VncKeyword("end-object"));
+    private static final VncVector START_ARRAY = VncVector.of(new VncKeyword("start-array"));
+    private static final VncVector END_ARRAY = VncVector.of(new VncKeyword("end-array"));
+
+    private final JsonReader reader;
+    private final Closeable source;
+    private final VncJsonReader valueReader;
+    private final VncJsonReader scalarReader;
+}
@@ -0,0 +1,574 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.matrix;
+
+import java.io.Serializable;
+import java.util.stream.IntStream;
+
+
+/**
+ * A dense 2D matrix of <code>long</code> or <code>double</code> elements.
+ *
+ * <p>The elements are stored in a flat row-major array. A matrix is an
+ * immutable value. Slices and transposed matrices are views that share the
+ * array of the matrix they have been derived from. They address the
+ * elements through an offset and a row and column stride.
+ *
+ * <p>Long arithmetic wraps on overflow like the Venice long arithmetic.
+ */
+public final class DenseMatrix implements Serializable {
+
+    private DenseMatrix(
+            final long[] longs,
+            final double[] doubles,
+            final int rows,
+            final int cols,
+            final int offset,
+            final int rowStride,
+            final int colStride
+    ) {
+        this.longs = longs;
+        this.doubles = doubles;
+        this.rows = rows;
+        this.cols = cols;
+        this.offset = offset;
+        this.rowStride = rowStride;
+        this.colStride = colStride;
+    }
+
+
+    /**
+     * Creates a long matrix from a row-major array. The array is not copied.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param data the row-major elements
+     * @return the matrix
+     */
+    public static DenseMatrix ofLongs(final int rows, final int cols, final long[] data) {
+        validateShape(rows, cols, data.length);
+        return new DenseMatrix(data, null, rows, cols, 0, cols, 1);
+    }
+
+    /**
+     * Creates a double matrix from a row-major array. The array is not copied.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param data the row-major elements
+     * @return the matrix
+     */
+    public static DenseMatrix ofDoubles(final int rows, final int cols, final double[] data) {
+        validateShape(rows, cols, data.length);
+        return new DenseMatrix(null, data, rows, cols, 0, cols, 1);
+    }
+
+    public static DenseMatrix zeros(final int rows, final int cols, final boolean longElements) {
+        validateShape(rows, cols, -1);
+        return longElements
+                ? ofLongs(rows, cols, new long[rows * cols])
+                : ofDoubles(rows, cols, new double[rows * cols]);
+    }
+
+
+    public boolean isLong() {
+        return longs != null;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int size() {
+        return rows * cols;
+    }
+
+    public boolean isEmpty() {
+        return rows == 0 || cols == 0;
+    }
+
+    /**
+     * @return true if the matrix is not a view and addresses its elements
+     *         in row-major order without gaps
+     */
+    public boolean isCompact() {
+        return offset == 0 && rowStride == cols && colStride == 1 && arrayLength() == rows * cols;
+    }
+
+    public long getLong(final int row, final int col) {
+        checkIndex(row, col);
+        final int idx = index(row, col);
+        return longs != null ? longs[idx] : (long)doubles[idx];
+    }
+
+    public double getDouble(final int row, final int col) {
+        checkIndex(row, col);
+        final int idx = index(row, col);
+        return longs != null ? (double)longs[idx] : doubles[idx];
+    }
+
+    /**
+     * Returns a copy of the matrix with a single element replaced.
+     *
+     * @param row the row
+     * @param col the column
+     * @param value the new value
+     * @return the new matrix
+     */
+    public DenseMatrix assocLong(final int row, final int col, final long value) {
+        checkIndex(row, col);
+        if (isLong()) {
+            final long[] data = toLongArray();
+            data[row * cols + col] = value;
+            return ofLongs(rows, cols, data);
+        }
+        else {
+            return assocDouble(row, col, value);
+        }
+    }
+
+    /**
+     * Returns a copy of the matrix with a single element replaced. A long
+     * matrix is converted to a double matrix.
+     *
+     * @param row the row
+     * @param col the column
+     * @param value the new value
+     * @return the new matrix
+     */
+    public DenseMatrix assocDouble(final int row, final int col, final double value) {
+        checkIndex(row, col);
+        final double[] data = toDoubleArray();
+        data[row * cols + col] = value;
+        return ofDoubles(rows, cols, data);
+    }
+
+    /**
+     * Returns the transposed matrix as a view. The elements are not copied.
+     *
+     * @return the transposed matrix
+     */
+    public DenseMatrix transpose() {
+        return new DenseMatrix(longs, doubles, cols, rows, offset, colStride, rowStride);
+    }
+
+    /**
+     * Returns a view on a rectangular region of the matrix. The elements
+     * are not copied.
+     *
+     * @param rowStart the first row (inclusive)
+     * @param rowEnd the last row (exclusive)
+     * @param colStart the first column (inclusive)
+     * @param colEnd the last column (exclusive)
+     * @return the view
+     */
+    public DenseMatrix slice(
+            final int rowStart,
+            final int rowEnd,
+            final int colStart,
+            final int colEnd
+    ) {
+        if (rowStart < 0 || rowEnd > rows || rowStart > rowEnd) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Invalid row range [%d, %d) for a matrix with %d rows",
+                    rowStart, rowEnd, rows));
+        }
+        if (colStart < 0 || colEnd > cols || colStart > colEnd) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Invalid column range [%d, %d) for a matrix with %d columns",
+                    colStart, colEnd, cols));
+        }
+
+        return new DenseMatrix(
+                    longs,
+                    doubles,
+                    rowEnd - rowStart,
+                    colEnd - colStart,
+                    offset + rowStart * rowStride + colStart * colStride,
+                    rowStride,
+                    colStride);
+    }
+
+    public DenseMatrix row(final int row) {
+        return slice(row, row + 1, 0, cols);
+    }
+
+    public DenseMatrix column(final int col) {
+        return slice(0, rows, col, col + 1);
+    }
+
+    /**
+     * @return a compact copy if the matrix is a view, else the matrix itself
+     */
+    public DenseMatrix compact() {
+        if (isCompact()) {
+            return this;
+        }
+        else {
+            return isLong()
+                    ? ofLongs(rows, cols, toLongArray())
+                    : ofDoubles(rows, cols, toDoubleArray());
+        }
+    }
+
+    public DenseMatrix toDoubleMatrix() {
+        return isLong() ? ofDoubles(rows, cols, toDoubleArray()) : this;
+    }
+
+    /**
+     * @return a new row-major array with the elements
+     */
+    public long[] toLongArray() {
+        if (longs != null && isCompact()) {
+            return longs.clone();
+        }
+
+        final long[] data = new long[rows * cols];
+        int ii = 0;
+        for(int r=0; r<rows; r++) {
+            int idx = offset + r * rowStride;
+            for(int c=0; c<cols; c++, idx+=colStride) {
+                data[ii++] = longs != null ? longs[idx] : (long)doubles[idx];
+            }
+        }
+        return data;
+    }
+
+    /**
+     * @return a new row-major array with the elements
+     */
+    public double[] toDoubleArray() {
+        if (doubles != null && isCompact()) {
+            return doubles.clone();
+        }
+
+        final double[] data = new double[rows * cols];
+        int ii = 0;
+        for(int r=0; r<rows; r++) {
+            int idx = offset + r * rowStride;
+            for(int c=0; c<cols; c++, idx+=colStride) {
+                data[ii++] = longs != null ? (double)longs[idx] : doubles[idx];
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Applies an element-wise operation with another matrix of the same
+     * shape. The result is a long matrix if both matrices are long matrices.
+     *
+     * @param op the operation
+     * @param other the other matrix
+     * @return the new matrix
+     */
+    public DenseMatrix elementwise(final ElementOp op, final DenseMatrix other) {
+        if (rows != other.rows || cols != other.cols) {
+            throw new IllegalArgumentException(String.format(
+                    "Matrix shapes %dx%d and %dx%d do not match",
+                    rows, cols, other.rows, other.cols));
+        }
+
+        if (isLong() && other.isLong()) {
+            final long[] a = toLongArray();
+            final long[] b = other.toLongArray();
+            for(int ii=0; ii<a.length; ii++) {
+                a[ii] = op.apply(a[ii], b[ii]);
+            }
+            return ofLongs(rows, cols, a);
+        }
+        else {
+            final double[] a = toDoubleArray();
+            final double[] b = other.toDoubleArray();
+            for(int ii=0; ii<a.length; ii++) {
+                a[ii] = op.apply(a[ii], b[ii]);
+            }
+            return ofDoubles(rows, cols, a);
+        }
+    }
+
+    /**
+     * Applies an element-wise operation with a long scalar.
+     *
+     * @param op the operation
+     * @param scalar the scalar
+     * @return the new matrix
+     */
+    public DenseMatrix elementwise(final ElementOp op, final long scalar) {
+        if (isLong()) {
+            final long[] a = toLongArray();
+            for(int ii=0; ii<a.length; ii++) {
+                a[ii] = op.apply(a[ii], scalar);
+            }
+            return ofLongs(rows, cols, a);
+        }
+        else {
+            return elementwise(op, (double)scalar);
+        }
+    }
+
+    /**
+     * Applies an element-wise operation with a double scalar. The result is
+     * a double matrix.
+     *
+     * @param op the operation
+     * @param scalar the scalar
+     * @return the new matrix
+     */
+    public DenseMatrix elementwise(final ElementOp op, final double scalar) {
+        final double[] a = toDoubleArray();
+        for(int ii=0; ii<a.length; ii++) {
+            a[ii] = op.apply(a[ii], scalar);
+        }
+        return ofDoubles(rows, cols, a);
+    }
+
+    /**
+     * Multiplies this matrix with another matrix.
+     *
+     * <p>The multiplication works on cache sized blocks of the row-major
+     * operands. If parallel is true the row blocks are computed in parallel
+     * on the common ForkJoin pool.
+     *
+     * @param other the right hand side matrix
+     * @param parallel compute the row blocks in parallel
+     * @return the product, a long matrix if both matrices are long matrices
+     */
+    public DenseMatrix multiply(final DenseMatrix other, final boolean parallel) {
+        if (cols != other.rows) {
+            throw new IllegalArgumentException(String.format(
+                    "Cannot multiply a %dx%d matrix with a %dx%d matrix",
+                    rows, cols, other.rows, other.cols));
+        }
+
+        final int n = rows;
+        final int m = cols;
+        final int p = other.cols;
+        final int rowBlocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+        IntStream blocks = IntStream.range(0, rowBlocks);
+        if (parallel && rowBlocks > 1) {
+            blocks = blocks.parallel();
+        }
+
+        if (isLong() && other.isLong()) {
+            final long[] a = longData();
+            final long[] b = other.longData();
+            final long[] c = new long[n * p];
+            blocks.forEach(ib -> multiplyBlock(a, b, c, ib * BLOCK_SIZE, n, m, p));
+            return ofLongs(n, p, c);
+        }
+        else {
+            final double[] a = doubleData();
+            final double[] b = other.doubleData();
+            final double[] c = new double[n * p];
+            blocks.forEach(ib -> multiplyBlock(a, b, c, ib * BLOCK_SIZE, n, m, p));
+            return ofDoubles(n, p, c);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 31 * rows + cols;
+        for(int r=0; r<rows; r++) {
+            for(int c=0; c<cols; c++) {
+                final int idx = index(r, c);
+                hash = 31 * hash + (longs != null
+                                        ? Long.hashCode(longs[idx])
+                                        : Double.hashCode(doubles[idx]));
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        final DenseMatrix other = (DenseMatrix)obj;
+        if (rows != other.rows || cols != other.cols || isLong() != other.isLong()) {
+            return false;
+        }
+
+        for(int r=0; r<rows; r++) {
+            for(int c=0; c<cols; c++) {
+                final int i1 = index(r, c);
+                final int i2 = other.index(r, c);
+                if (longs != null) {
+                    if (longs[i1] != other.longs[i2]) return false;
+                }
+                else {
+                    if (Double.doubleToLongBits(doubles[i1])
+                            != Double.doubleToLongBits(other.doubles[i2])) return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    private static void multiplyBlock(
+            final long[] a, final long[] b, final long[] c,
+            final int rowStart, final int n, final int m, final int p
+    ) {
+        final int rowEnd = Math.min(rowStart + BLOCK_SIZE, n);
+        for(int kk=0; kk<m; kk+=BLOCK_SIZE) {
+            final int kEnd = Math.min(kk + BLOCK_SIZE, m);
+            for(int jj=0; jj<p; jj+=BLOCK_SIZE) {
+                final int jEnd = Math.min(jj + BLOCK_SIZE, p);
+                for(int i=rowStart; i<rowEnd; i++) {
+                    final int ci = i * p;
+                    final int ai = i * m;
+                    for(int k=kk; k<kEnd; k++) {
+                        final long aik = a[ai + k];
+                        final int bk = k * p;
+                        for(int j=jj; j<jEnd; j++) {
+                            c[ci + j] += aik * b[bk + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void multiplyBlock(
+            final double[] a, final double[] b, final double[] c,
+            final int rowStart, final int n, final int m, final int p
+    ) {
+        final int rowEnd = Math.min(rowStart + BLOCK_SIZE, n);
+        for(int kk=0; kk<m; kk+=BLOCK_SIZE) {
+            final int kEnd = Math.min(kk + BLOCK_SIZE, m);
+            for(int jj=0; jj<p; jj+=BLOCK_SIZE) {
+                final int jEnd = Math.min(jj + BLOCK_SIZE, p);
+                for(int i=rowStart; i<rowEnd; i++) {
+                    final int ci = i * p;
+                    final int ai = i * m;
+                    for(int k=kk; k<kEnd; k++) {
+                        final double aik = a[ai + k];
+                        final int bk = k * p;
+                        for(int j=jj; j<jEnd; j++) {
+                            c[ci + j] += aik * b[bk + j];
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // row-major elements, not copied for compact matrices (read only!)
+    private long[] longData() {
+        return longs != null && isCompact() ? longs : toLongArray();
+    }
+
+    // row-major elements, not copied for compact matrices (read only!)
+    private double[] doubleData() {
+        return doubles != null && isCompact() ? doubles : toDoubleArray();
+    }
+
+    private int index(final int row, final int col) {
+        return offset + row * rowStride + col * colStride;
+    }
+
+    private void checkIndex(final int row, final int col) {
+        if (row < 0 || row >= rows) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Invalid row index %d for a matrix with %d rows", row, rows));
+        }
+        if (col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Invalid column index %d for a matrix with %d columns", col, cols));
+        }
+    }
+
+    private int arrayLength() {
+        return longs != null ? longs.length : doubles.length;
+    }
+
+    private static void validateShape(final int rows, final int cols, final int length) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid matrix shape %dx%d", rows, cols));
+        }
+        if ((long)rows * (long)cols > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(String.format(
+                    "The matrix shape %dx%d is too large", rows, cols));
+        }
+        if (length >= 0 && length != rows * cols) {
+            throw new IllegalArgumentException(String.format(
+                    "A %dx%d matrix requires %d elements, got %d",
+                    rows, cols, rows * cols, length));
+        }
+    }
+
+
+    /**
+     * Element-wise operations
+     */
+    public static enum ElementOp {
+
+        ADD {
+            public long apply(final long x, final long y) { return x + y; }
+            public double apply(final double x, final double y) { return x + y; }
+        },
+
+        SUB {
+            public long apply(final long x, final long y) { return x - y; }
+            public double apply(final double x, final double y) { return x - y; }
+        },
+
+        MUL {
+            public long apply(final long x, final long y) { return x * y; }
+            public double apply(final double x, final double y) { return x * y; }
+        },
+
+        DIV {
+            public long apply(final long x, final long y) { return x / y; }
+            public double apply(final double x, final double y) { return x / y; }
+        };
+
+        public abstract long apply(final long x, final long y);
+
+        public abstract double apply(final double x, final double y);
+    }
+
+
+    private static final long serialVersionUID = 2693217264513307563L;
+
+    // 64x64 blocks of doubles (32KB) fit into the L1/L2 cache
+    private static final int BLOCK_SIZE = 64;
+
+    private final long[] longs;
+    private final double[] doubles;
+    private final int rows;
+    private final int cols;
+    private final int offset;
+    private final int rowStride;
+    private final int colStride;
+}
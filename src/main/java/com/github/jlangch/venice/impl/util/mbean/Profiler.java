@@ -0,0 +1,74 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.mbean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.jlangch.venice.impl.util.MeterRegistry;
+import com.github.jlangch.venice.util.ElapsedTime;
+
+
+public class Profiler implements ProfilerMXBean {
+
+    public Profiler(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return meterRegistry.isEnabled();
+    }
+
+    @Override
+    public void setEnabled(final boolean enabled) {
+        if (enabled) {
+            meterRegistry.enable();
+        }
+        else {
+            meterRegistry.disable();
+        }
+    }
+
+    @Override
+    public int getFunctionCount() {
+        return meterRegistry.getTimerData().size();
+    }
+
+    @Override
+    public List<ElapsedTime> getFunctions() {
+        return new ArrayList<>(meterRegistry.getTimerData());
+    }
+
+    @Override
+    public String getReport() {
+        return meterRegistry.getTimerDataFormatted("Metrics", false);
+    }
+
+    @Override
+    public void reset() {
+        meterRegistry.reset();
+    }
+
+
+    private final MeterRegistry meterRegistry;
+}
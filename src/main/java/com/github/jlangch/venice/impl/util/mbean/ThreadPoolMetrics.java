@@ -0,0 +1,125 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.mbean;
+
+import com.github.jlangch.venice.impl.threadpool.ExecutorMetrics;
+
+
+public class ThreadPoolMetrics implements ThreadPoolMetricsMXBean {
+
+    public ThreadPoolMetrics(final ExecutorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getPoolName() {
+        return metrics.getPoolName();
+    }
+
+    @Override
+    public long getSubmittedTaskCount() {
+        return metrics.getSubmittedTaskCount();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        return metrics.getCompletedTaskCount();
+    }
+
+    @Override
+    public long getFailedTaskCount() {
+        return metrics.getFailedTaskCount();
+    }
+
+    @Override
+    public long getRejectedTaskCount() {
+        return metrics.getRejectedTaskCount();
+    }
+
+    @Override
+    public int getQueuedTaskCount() {
+        return metrics.getQueuedTaskCount();
+    }
+
+    @Override
+    public int getRunningTaskCount() {
+        return metrics.getRunningTaskCount();
+    }
+
+    @Override
+    public int getMaxQueuedTaskCount() {
+        return metrics.getMaxQueuedTaskCount();
+    }
+
+    @Override
+    public int getMaxRunningTaskCount() {
+        return metrics.getMaxRunningTaskCount();
+    }
+
+    @Override
+    public long getQueueWaitP50Micros() {
+        return metrics.getQueueWaitMicros(50.0D);
+    }
+
+    @Override
+    public long getQueueWaitP99Micros() {
+        return metrics.getQueueWaitMicros(99.0D);
+    }
+
+    @Override
+    public long getQueueWaitP999Micros() {
+        return metrics.getQueueWaitMicros(99.9D);
+    }
+
+    @Override
+    public long getQueueWaitMaxMicros() {
+        return metrics.getQueueWaitMaxMicros();
+    }
+
+    @Override
+    public long getExecutionP50Micros() {
+        return metrics.getExecutionMicros(50.0D);
+    }
+
+    @Override
+    public long getExecutionP99Micros() {
+        return metrics.getExecutionMicros(99.0D);
+    }
+
+    @Override
+    public long getExecutionP999Micros() {
+        return metrics.getExecutionMicros(99.9D);
+    }
+
+    @Override
+    public long getExecutionMaxMicros() {
+        return metrics.getExecutionMaxMicros();
+    }
+
+    @Override
+    public void reset() {
+        metrics.reset();
+    }
+
+
+    private final ExecutorMetrics metrics;
+}
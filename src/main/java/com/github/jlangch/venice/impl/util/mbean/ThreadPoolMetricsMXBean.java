@@ -0,0 +1,68 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.mbean;
+
+
+/**
+ * A JMX MXBean publishing the task metrics of a Venice thread pool.
+ *
+ * <p>The latencies are in microseconds.
+ */
+public interface ThreadPoolMetricsMXBean {
+
+    String getPoolName();
+
+    long getSubmittedTaskCount();
+
+    long getCompletedTaskCount();
+
+    long getFailedTaskCount();
+
+    long getRejectedTaskCount();
+
+    int getQueuedTaskCount();
+
+    int getRunningTaskCount();
+
+    int getMaxQueuedTaskCount();
+
+    int getMaxRunningTaskCount();
+
+    long getQueueWaitP50Micros();
+
+    long getQueueWaitP99Micros();
+
+    long getQueueWaitP999Micros();
+
+    long getQueueWaitMaxMicros();
+
+    long getExecutionP50Micros();
+
+    long getExecutionP99Micros();
+
+    long getExecutionP999Micros();
+
+    long getExecutionMaxMicros();
+
+    void reset();
+
+}
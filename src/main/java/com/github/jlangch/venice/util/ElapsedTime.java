@@ -31,15 +31,31 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 public class ElapsedTime implements Serializable {
     public ElapsedTime(final String name, final long elapsedNanos) {
-        this.name = name;
-        this.count.set(1);
-        this.elapsedNanos.set(elapsedNanos);
+        this(name, 1, elapsedNanos);
     }
 
     public ElapsedTime(final String name, final int count, final long elapsedNanos) {
+        this(name, count, elapsedNanos, elapsedNanos, 0L, 0L, 0L, 0L);
+    }
+
+    public ElapsedTime(
+            final String name,
+            final int count,
+            final long elapsedNanos,
+            final long selfNanos,
+            final long maxNanos,
+            final long p50Nanos,
+            final long p99Nanos,
+            final long p999Nanos
+    ) {
         this.name = name;
         this.count.set(count);
         this.elapsedNanos.set(elapsedNanos);
+        this.selfNanos = selfNanos;
+        this.maxNanos = maxNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
     }
 
     public String getName() {
@@ -54,6 +70,29 @@ public class ElapsedTime implements Serializable {
         return elapsedNanos.get();
     }
 
+    /**
+     * @return the elapsed time without the time spent in called functions
+     */
+    public long getSelfNanos() {
+        return selfNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
     public ElapsedTime add(final long elapsedNanos) {
         this.count.incrementAndGet();
         this.elapsedNanos.addAndGet(elapsedNanos);
@@ -88,6 +127,11 @@ public class ElapsedTime implements Serializable {
     private final String name;
     private final AtomicInteger count = new AtomicInteger(0);
     private final AtomicLong elapsedNanos = new AtomicLong(0L);
+    private final long selfNanos;
+    private final long maxNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
 
     private static final long serialVersionUID = -1;
 }
@@ -26,8 +26,20 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
 
+import com.github.jlangch.venice.impl.javainterop.JavaInteropUtil;
+import com.github.jlangch.venice.impl.types.Constants;
+import com.github.jlangch.venice.impl.types.VncIteratorReducible;
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncString;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncHashMap;
+import com.github.jlangch.venice.impl.types.collections.VncLazySeq;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
 import com.github.jlangch.venice.impl.util.excel.Excel;
+import com.github.jlangch.venice.impl.util.excel.ExcelStreamReader;
 
 
 /**
@@ -148,6 +160,78 @@ public class ExcelFacade {
     }
 
 
+    /**
+     * Streams the rows of a XLSX sheet without loading the workbook.
+     *
+     * @param file the XLSX file
+     * @param sheet a sheet name or a 1-based sheet index
+     * @param skipRows the number of leading rows to skip
+     * @param maps if <code>true</code> the first row (after the skipped rows)
+     *             is the header row and the rows are returned as maps keyed
+     *             by the header values, else the rows are returned as vectors
+     * @param keywordKeys if <code>true</code> the map keys are keywords else
+     *                    strings
+     * @param lazy if <code>true</code> returns a lazy sequence of the rows
+     *             else a reducible that can be reduced any number of times
+     * @return a reducible or a lazy sequence of rows
+     */
+    public static VncVal streamRows(
+            final File file,
+            final Object sheet,
+            final int skipRows,
+            final boolean maps,
+            final boolean keywordKeys,
+            final boolean lazy
+    ) {
+        if (lazy) {
+            final RowValues rows = new RowValues(
+                                        ExcelStreamReader.open(file),
+                                        sheet, skipRows, maps, keywordKeys);
+            return VncLazySeq.ofAll(() -> rows, Constants.Nil);
+        }
+        else {
+            return new VncIteratorReducible(
+                        file.getName(),
+                        () -> new RowValues(
+                                    ExcelStreamReader.open(file),
+                                    sheet, skipRows, maps, keywordKeys),
+                        true);
+        }
+    }
+
+    /**
+     * Streams the rows of a XLSX sheet without loading the workbook.
+     *
+     * @param is the XLSX input stream
+     * @param sheet a sheet name or a 1-based sheet index
+     * @param skipRows the number of leading rows to skip
+     * @param maps if <code>true</code> the first row (after the skipped rows)
+     *             is the header row and the rows are returned as maps keyed
+     *             by the header values, else the rows are returned as vectors
+     * @param keywordKeys if <code>true</code> the map keys are keywords else
+     *                    strings
+     * @param lazy if <code>true</code> returns a lazy sequence of the rows
+     *             else a reducible that can be reduced once
+     * @return a reducible or a lazy sequence of rows
+     */
+    public static VncVal streamRows(
+            final InputStream is,
+            final Object sheet,
+            final int skipRows,
+            final boolean maps,
+            final boolean keywordKeys,
+            final boolean lazy
+    ) {
+        final RowValues rows = new RowValues(
+                                    ExcelStreamReader.open(is),
+                                    sheet, skipRows, maps, keywordKeys);
+
+        return lazy
+                ? VncLazySeq.ofAll(() -> rows, Constants.Nil)
+                : new VncIteratorReducible("input-stream", () -> rows, false);
+    }
+
+
     public static ExcelFacade createXls() {
         return new ExcelFacade(Excel.createXls());
     }
@@ -156,6 +240,27 @@ public class ExcelFacade {
         return new ExcelFacade(Excel.createXlsx());
     }
 
+    /**
+     * Creates a streaming XLSX Excel that keeps only the last
+     * <code>rowWindow</code> rows of a sheet in memory. Older rows are
+     * flushed to a temporary file and can not be accessed anymore.
+     *
+     * @param rowWindow the number of rows kept in memory
+     * @param compressTempFiles if <code>true</code> the temporary files are
+     *                          gzip compressed
+     * @return the Excel
+     */
+    public static ExcelFacade createXlsxStreaming(
+            final int rowWindow,
+            final boolean compressTempFiles
+    ) {
+        return new ExcelFacade(Excel.createXlsxStreaming(rowWindow, compressTempFiles));
+    }
+
+    public boolean isStreaming() {
+        return excel.isStreaming();
+    }
+
 
     public int getNumberOfSheets() {
         return excel.getNumberOfSheets();
@@ -210,5 +315,91 @@ public class ExcelFacade {
         return excel;
     }
 
+
+    // Maps the rows of a sheet to vectors or maps
+    private static class RowValues implements Iterator<VncVal>, AutoCloseable {
+
+        public RowValues(
+                final ExcelStreamReader reader,
+                final Object sheet,
+                final int skipRows,
+                final boolean maps,
+                final boolean keywordKeys
+        ) {
+            this.reader = reader;
+            this.rows = reader.rows(sheet, skipRows);
+            this.header = maps
+                            ? toHeader(rows.hasNext() ? rows.next() : new Object[0], keywordKeys)
+                            : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public VncVal next() {
+            return header == null
+                    ? toVector(rows.next())
+                    : toMap(header, rows.next());
+        }
+
+        @Override
+        public void close() {
+            reader.close();
+        }
+
+        private static VncVector toVector(final Object[] row) {
+            final VncVal[] cells = new VncVal[row.length];
+            for(int ii=0; ii<row.length; ii++) {
+                cells[ii] = JavaInteropUtil.convertToVncVal(row[ii]);
+            }
+            return VncVector.of(cells);
+        }
+
+        private static VncVal[] toHeader(final Object[] row, final boolean keywordKeys) {
+            final VncVal[] header = new VncVal[row.length];
+            for(int ii=0; ii<row.length; ii++) {
+                // columns without a header value are dropped
+                final String name = toHeaderName(row[ii]);
+                header[ii] = name == null || name.isEmpty()
+                                ? null
+                                : keywordKeys ? new VncKeyword(name) : new VncString(name);
+            }
+            return header;
+        }
+
+        private static String toHeaderName(final Object value) {
+            if (value instanceof Double) {
+                final double d = (Double)value;
+                return d == Math.rint(d) && !Double.isInfinite(d)
+                        ? String.valueOf((long)d)
+                        : String.valueOf(d);
+            }
+            else {
+                return value == null ? null : value.toString();
+            }
+        }
+
+        private static VncHashMap toMap(final VncVal[] header, final Object[] row) {
+            final VncVal[] kvs = new VncVal[header.length * 2];
+            int n = 0;
+            for(int ii=0; ii<header.length; ii++) {
+                if (header[ii] != null) {
+                    kvs[n++] = header[ii];
+                    kvs[n++] = ii < row.length ? JavaInteropUtil.convertToVncVal(row[ii]) : Constants.Nil;
+                }
+            }
+            return VncHashMap.of(n == kvs.length ? kvs : Arrays.copyOf(kvs, n));
+        }
+
+
+        private final ExcelStreamReader reader;
+        private final Iterator<Object[]> rows;
+        private final VncVal[] header;
+    }
+
+
     private final Excel excel;
 }
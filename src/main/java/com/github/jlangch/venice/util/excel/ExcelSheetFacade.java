@@ -375,14 +375,35 @@ public class ExcelSheetFacade<T> {
     }
 
     public ExcelSheetFacade<T> renderItems(final List<T> items) {
-        renderHeader();
-
-        final int bodyRowStart = currRow0;
+        beginItems();
         items.forEach(v -> renderBodyItem(v));
+        return endItems();
+    }
+
+    /**
+     * Starts rendering items one by one with {@link #renderItem(Object)}.
+     * Renders the header row. Call {@link #endItems()} after the last item
+     * to render the footer row.
+     *
+     * <p>Use it to render items in bounded memory to a streaming Excel
+     * without collecting the items into a list first.
+     *
+     * @return this sheet
+     */
+    public ExcelSheetFacade<T> beginItems() {
+        renderHeader();
+        bodyRowStart0 = currRow0;
+        return this;
+    }
 
-        final int bodyRowEnd = currRow0 - 1;
-        renderFooter(bodyRowStart, bodyRowEnd);
-
+    /**
+     * Ends rendering items started with {@link #beginItems()} and renders
+     * the footer row.
+     *
+     * @return this sheet
+     */
+    public ExcelSheetFacade<T> endItems() {
+        renderFooter(bodyRowStart0, currRow0 - 1);
         return this;
     }
 
@@ -907,6 +928,7 @@ public class ExcelSheetFacade<T> {
     private boolean noHeader = false;
     private boolean headerRendered = false;
     private int currRow0 = 0;  // zero based
+    private int bodyRowStart0 = 0;  // zero based
     private int skipRows = 0;
     private Integer columnWidth;
     private String defaultHeaderStyle;
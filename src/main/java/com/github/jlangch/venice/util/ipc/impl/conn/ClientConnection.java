@@ -46,6 +46,7 @@ import com.github.jlangch.venice.impl.types.VncKeyword;
 import com.github.jlangch.venice.impl.types.VncLong;
 import com.github.jlangch.venice.impl.types.collections.VncMap;
 import com.github.jlangch.venice.impl.types.util.Coerce;
+import com.github.jlangch.venice.impl.util.jfr.JfrEvents;
 import com.github.jlangch.venice.util.dh.DiffieHellmanKeys;
 import com.github.jlangch.venice.util.ipc.AcknowledgeMode;
 import com.github.jlangch.venice.util.ipc.ClientConfig;
@@ -272,6 +273,7 @@ public class ClientConnection implements AutoCloseable {
 
         final long start = System.currentTimeMillis();
         final long limit = start + timeoutMillis;
+        final long startNanos = JfrEvents.ENABLED ? System.nanoTime() : 0L;
 
         try {
             // sending the request message atomically preventing any other thread to
@@ -287,10 +289,16 @@ public class ClientConnection implements AutoCloseable {
 
                     final long remainingTimeout = limit - System.currentTimeMillis();
 
-                    return listener.readResponse(
-                            (Message)msg,
-                            Math.max(0, remainingTimeout),
-                            opened);
+                    final IMessage response = listener.readResponse(
+                                                (Message)msg,
+                                                Math.max(0, remainingTimeout),
+                                                opened);
+
+                    if (JfrEvents.ENABLED) {
+                        JfrEvents.ipcRequest("client", msg.getType(), msg.getDestinationName(), startNanos);
+                    }
+
+                    return response;
                 }
                 finally {
                     sendSemaphore.release();
@@ -77,6 +77,7 @@ import com.github.jlangch.venice.impl.types.VncString;
 import com.github.jlangch.venice.impl.types.collections.VncMap;
 import com.github.jlangch.venice.impl.types.util.Coerce;
 import com.github.jlangch.venice.impl.util.StringUtil;
+import com.github.jlangch.venice.impl.util.jfr.JfrEvents;
 import com.github.jlangch.venice.util.dh.DiffieHellmanKeys;
 import com.github.jlangch.venice.util.ipc.AcknowledgeMode;
 import com.github.jlangch.venice.util.ipc.Authenticator;
@@ -335,6 +336,8 @@ public class ServerConnection implements IPublisher, Runnable {
             return;
         }
 
+        final long startNanos = JfrEvents.ENABLED ? System.nanoTime() : 0L;
+
         final MessageType type = request.getType();
 
         if (type != DIFFIE_HELLMAN_KEY_REQUEST && type != CLIENT_CONFIG) {
@@ -379,6 +382,10 @@ public class ServerConnection implements IPublisher, Runnable {
                 sendResponse(response);
             }
         }
+
+        if (JfrEvents.ENABLED) {
+            JfrEvents.ipcRequest("server", type, request.getDestinationName(), startNanos);
+        }
     }
 
     private Message handleRequestMessage(final Message request) {
@@ -35,6 +35,7 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.zip.CRC32;
 
+import com.github.jlangch.venice.impl.util.jfr.JfrEvents;
 import com.github.jlangch.venice.util.ipc.WriteAheadLogException;
 import com.github.jlangch.venice.util.ipc.impl.util.Compressor;
 import com.github.jlangch.venice.util.ipc.impl.wal.entry.AckWalEntry;
@@ -205,7 +206,11 @@ public final class WriteAheadLog implements AutoCloseable {
             }
 
             // Force write to disk (data only, not metadata)
+            final long fsyncNanos = JfrEvents.ENABLED ? System.nanoTime() : 0L;
             channel.force(false);
+            if (JfrEvents.ENABLED) {
+                JfrEvents.walFsync(file.getPath(), HEADER_SIZE + payloadLength, fsyncNanos);
+            }
 
             // Update valid end position
             validEndPosition = channel.position();
@@ -48,14 +48,30 @@ import com.github.jlangch.venice.impl.util.io.ClassPathResource;
  *   renderer.getSharedContext().setUserAgentCallback(userAgent);
  *   renderer.setDocument(doc, "classpath:");
  * </pre>
+ *
+ * <p>The resources loaded from the classpath are cached. The cache can be
+ * shared by the user agents of pooled renderers. The resources loaded from
+ * files and the in-memory resources added with
+ * {@link #addResource(String, ByteBuffer)} belong to the document being
+ * rendered and are removed with {@link #clearResources()} before rendering
+ * the next document, so a file changed between two documents is read again.
  */
 public class ClasspathUserAgent extends ITextUserAgent {
 
     public ClasspathUserAgent(
         final ITextOutputDevice outputDevice,
         final int dotsPerPixel
+    ) {
+        this(outputDevice, dotsPerPixel, new ConcurrentHashMap<>());
+    }
+
+    public ClasspathUserAgent(
+        final ITextOutputDevice outputDevice,
+        final int dotsPerPixel,
+        final Map<String, ByteBuffer> classpathResourceCache
     ) {
         super(outputDevice, dotsPerPixel);
+        this.cachedResources = classpathResourceCache;
     }
 
     public ClasspathUserAgent addResource(final String path, final ByteBuffer data) {
@@ -73,11 +89,23 @@ public class ClasspathUserAgent extends ITextUserAgent {
                 + "Path was: " + path);
         }
 
-        cachedResources.put(path, data);
+        memoryResources.put(path, data);
 
         return this;
     }
 
+    /**
+     * Removes the in-memory resources, the resources loaded from files, and
+     * the images that have been loaded from them.
+     */
+    public void clearResources() {
+        if (!memoryResources.isEmpty() || !fileResources.isEmpty()) {
+            memoryResources.clear();
+            fileResources.clear();
+            clearImageCache();
+        }
+    }
+
     @Override
     protected InputStream resolveAndOpenStream(final String uri) {
         if (uri == null) return null;
@@ -115,8 +143,8 @@ public class ClasspathUserAgent extends ITextUserAgent {
 
             final String path = stripScheme(uri);
 
-            // try to get the resource from the cached resources
-            final ByteBuffer data = cachedResources.get(path);
+            // try to get the resource from the in-memory resources
+            final ByteBuffer data = memoryResources.get(path);
             if (data != null) {
                 final byte[] bytes = data.array();
                 log(debug, String.format("FlyingSaucer: Resolved '%s' (%d bytes) from memory.", path, bytes.length));
@@ -131,7 +159,7 @@ public class ClasspathUserAgent extends ITextUserAgent {
             log(debug, "FlyingSaucer: File URI=" + uri);
 
             // [1] try to get the resource from the cached resources
-            ByteBuffer data = cachedResources.get(uri);
+            ByteBuffer data = fileResources.get(uri);
             if (data != null) {
                 log(debug, String.format("FlyingSaucer: Resolved '%s' from cache.", uri));
 
@@ -146,7 +174,7 @@ public class ClasspathUserAgent extends ITextUserAgent {
                     final byte[] bytes = data.array();
                     log(debug, String.format("FlyingSaucer: Resolved reource '%s' (%d bytes) from file.", path, bytes.length));
 
-                    cachedResources.put(uri, data);
+                    fileResources.put(uri, data);
                     return new ByteArrayInputStream(bytes);
                 }
             }
@@ -211,5 +239,7 @@ public class ClasspathUserAgent extends ITextUserAgent {
     }
 
 
-    private final Map<String, ByteBuffer> cachedResources = new ConcurrentHashMap<>();
+    private final Map<String, ByteBuffer> cachedResources;
+    private final Map<String, ByteBuffer> fileResources = new ConcurrentHashMap<>();
+    private final Map<String, ByteBuffer> memoryResources = new ConcurrentHashMap<>();
 }
@@ -0,0 +1,158 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.util.pdf;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+import com.github.jlangch.venice.impl.threadpool.ThreadPoolUtil;
+
+
+/**
+ * Renders many PDFs concurrently with a {@link PdfRendererPool}.
+ *
+ * <p>The documents are rendered on a fixed number of worker threads. At most
+ * twice as many documents as there are workers are in flight, a caller
+ * submitting more documents blocks until the oldest document has been
+ * rendered. The rendered PDFs are passed to the consumer in submission
+ * order on the caller's thread. So memory is bounded by the number of
+ * documents in flight regardless of the batch size.
+ *
+ * <pre>
+ *   try (PdfBatchRenderer batch = new PdfBatchRenderer(
+ *                                        pool, "classpath:/", null, 4,
+ *                                        (idx, pdf) -&gt; save(idx, pdf))) {
+ *       invoices.forEach(i -&gt; batch.render(toXhtml(i)));
+ *       batch.finish();
+ *   }
+ * </pre>
+ */
+public class PdfBatchRenderer implements AutoCloseable {
+
+    /**
+     * Creates a batch renderer
+     *
+     * @param pool the renderer pool
+     * @param baseUrl the base URL for resources like "classpath:/". May be
+     *                <code>null</code>.
+     * @param resources the in-memory resources shared by all documents. May
+     *                  be <code>null</code>.
+     * @param parallelism the number of worker threads
+     * @param consumer receives the 0-based index of a document and its PDF
+     */
+    public PdfBatchRenderer(
+            final PdfRendererPool pool,
+            final String baseUrl,
+            final Map<String,ByteBuffer> resources,
+            final int parallelism,
+            final BiConsumer<Integer,ByteBuffer> consumer
+    ) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The 'parallelism' must be positive");
+        }
+
+        this.pool = pool;
+        this.baseUrl = baseUrl;
+        this.resources = resources;
+        this.maxInFlight = 2 * parallelism;
+        this.consumer = consumer;
+        this.executor = Executors.newFixedThreadPool(
+                                parallelism,
+                                ThreadPoolUtil.createCountedThreadFactory(
+                                        "venice-pdf-render-batch", true));
+    }
+
+    /**
+     * Submits a document for rendering. Blocks while the max number of
+     * documents is in flight and passes the PDFs rendered in the meantime
+     * to the consumer.
+     *
+     * @param xhtml the XHTML document
+     */
+    public void render(final String xhtml) {
+        while (inFlight.size() >= maxInFlight) {
+            deliverNext();
+        }
+
+        inFlight.addLast(executor.submit(() -> pool.render(xhtml, baseUrl, resources)));
+    }
+
+    /**
+     * Waits for the documents in flight and passes their PDFs to the
+     * consumer.
+     *
+     * @return the number of documents rendered
+     */
+    public int finish() {
+        while (!inFlight.isEmpty()) {
+            deliverNext();
+        }
+
+        return delivered;
+    }
+
+    @Override
+    public void close() {
+        inFlight.forEach(f -> f.cancel(true));
+        inFlight.clear();
+        executor.shutdownNow();
+    }
+
+
+    private void deliverNext() {
+        final Future<ByteBuffer> future = inFlight.removeFirst();
+        try {
+            final ByteBuffer pdf = future.get();
+            consumer.accept(delivered++, pdf);
+        }
+        catch(ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            throw new RuntimeException(
+                    String.format(
+                        "Failed to render the PDF document with the index %d. %s",
+                        delivered,
+                        cause.getMessage()),
+                    cause);
+        }
+        catch(InterruptedException ex) {
+            throw new com.github.jlangch.venice.InterruptedException(
+                    "Interrupted while rendering PDFs.");
+        }
+    }
+
+
+    private final PdfRendererPool pool;
+    private final String baseUrl;
+    private final Map<String,ByteBuffer> resources;
+    private final int maxInFlight;
+    private final BiConsumer<Integer,ByteBuffer> consumer;
+    private final ExecutorService executor;
+    private final Deque<Future<ByteBuffer>> inFlight = new ArrayDeque<>();
+    private int delivered = 0;
+}
@@ -0,0 +1,357 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.util.pdf;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.io.RandomAccessRead;
+import org.apache.pdfbox.io.RandomAccessReadBuffer;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.io.RandomAccessReadMemoryMappedFile;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+
+import com.github.jlangch.venice.impl.threadpool.ThreadPoolUtil;
+
+
+/**
+ * Rasterizes a range of PDF pages to images on multiple worker threads.
+ *
+ * <p>PDFBox documents are not thread safe, each worker loads its own
+ * instance of the document from the source. A file source is read with
+ * random access, optionally memory mapped, so the PDF is never loaded
+ * as a whole to the heap. With a scratch file PDFBox buffers the
+ * document's streams in temporary files instead of the heap.
+ *
+ * <p>The workers render the pages in ascending order. At most twice as
+ * many pages as there are workers are rendered but not yet consumed, so
+ * memory is bounded by the number of workers regardless of the number of
+ * pages.
+ *
+ * <pre>
+ *   try (PdfRasterizer r = new PdfRasterizer(
+ *                                 PdfRasterizer.fileSource(new File("doc.pdf"), true),
+ *                                 150f, ImageType.RGB, 4, true)) {
+ *       r.render(0, r.getPageCount(), (page, img) -&gt; save(page, img));
+ *   }
+ * </pre>
+ *
+ * <p>A rasterizer must not be used by multiple threads concurrently.
+ */
+public class PdfRasterizer implements AutoCloseable {
+
+    /**
+     * Creates a rasterizer
+     *
+     * @param source the PDF source
+     * @param dpi the resolution of the images in dots per inch
+     * @param imageType the image type
+     * @param parallelism the number of worker threads
+     * @param scratchFile if <code>true</code> PDFBox buffers the document's
+     *                    streams in temporary files instead of the heap
+     */
+    public PdfRasterizer(
+            final Source source,
+            final float dpi,
+            final ImageType imageType,
+            final int parallelism,
+            final boolean scratchFile
+    ) {
+        if (source == null) {
+            throw new IllegalArgumentException("A 'source' must not be null");
+        }
+        if (dpi <= 0.0f) {
+            throw new IllegalArgumentException("The 'dpi' must be positive");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The 'parallelism' must be positive");
+        }
+
+        this.source = source;
+        this.dpi = dpi;
+        this.imageType = imageType == null ? ImageType.RGB : imageType;
+        this.parallelism = parallelism;
+        this.scratchFile = scratchFile;
+
+        // fail fast on invalid PDFs
+        try (PDDocument doc = load()) {
+            this.pageCount = doc.getNumberOfPages();
+        }
+        catch(IOException ex) {
+            throw new RuntimeException("Failed to load the PDF. " + ex.getMessage(), ex);
+        }
+
+        this.executor = Executors.newFixedThreadPool(
+                                parallelism,
+                                ThreadPoolUtil.createCountedThreadFactory(
+                                        "venice-pdf-rasterizer", true));
+    }
+
+    /**
+     * Returns a source that reads a PDF file with random access.
+     *
+     * @param file the PDF file
+     * @param memoryMapped if <code>true</code> the file is memory mapped
+     *                     otherwise read through a buffer
+     * @return the source
+     */
+    public static Source fileSource(final File file, final boolean memoryMapped) {
+        return memoryMapped
+                ? () -> new RandomAccessReadMemoryMappedFile(file)
+                : () -> new RandomAccessReadBufferedFile(file);
+    }
+
+    /**
+     * Returns a source that reads a PDF from a buffer. The workers share
+     * the buffer's content.
+     *
+     * @param pdf the PDF
+     * @return the source
+     */
+    public static Source bufferSource(final ByteBuffer pdf) {
+        return () -> new RandomAccessReadBuffer(pdf.duplicate());
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Renders the pages in the range [start, end). The images are passed
+     * to the consumer in page order on the caller's thread.
+     *
+     * @param start the first page (0-based, inclusive)
+     * @param end the last page (0-based, exclusive)
+     * @param consumer receives the 0-based page number and its image
+     * @return the number of pages rendered
+     */
+    public int render(
+            final int start,
+            final int end,
+            final BiConsumer<Integer,BufferedImage> consumer
+    ) {
+        return rasterize(start, end, null, consumer);
+    }
+
+    /**
+     * Renders the pages in the range [start, end). The images are passed
+     * to the consumer on the worker threads as soon as they have been
+     * rendered, e.g. to write them to files in parallel. The consumer must
+     * be thread safe.
+     *
+     * @param start the first page (0-based, inclusive)
+     * @param end the last page (0-based, exclusive)
+     * @param consumer receives the 0-based page number and its image
+     * @return the number of pages rendered
+     */
+    public int renderConcurrently(
+            final int start,
+            final int end,
+            final BiConsumer<Integer,BufferedImage> consumer
+    ) {
+        return rasterize(start, end, consumer, null);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+
+    private int rasterize(
+            final int start,
+            final int end,
+            final BiConsumer<Integer,BufferedImage> workerConsumer,
+            final BiConsumer<Integer,BufferedImage> callerConsumer
+    ) {
+        if (start < 0 || end > pageCount || start > end) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid page range [%d, %d) for a PDF with %d pages",
+                    start, end, pageCount));
+        }
+
+        final int pages = end - start;
+        if (pages == 0) {
+            return 0;
+        }
+
+        final int workers = Math.min(parallelism, pages);
+
+        final AtomicReferenceArray<CompletableFuture<BufferedImage>> results =
+                new AtomicReferenceArray<>(pages);
+        for(int ii=0; ii<pages; ii++) {
+            results.set(ii, new CompletableFuture<>());
+        }
+
+        final AtomicInteger nextPage = new AtomicInteger(start);
+        final Semaphore window = new Semaphore(2 * workers);
+
+        final List<Future<?>> tasks = new ArrayList<>();
+        for(int ii=0; ii<workers; ii++) {
+            tasks.add(executor.submit(
+                        () -> work(start, end, nextPage, window, results, workerConsumer)));
+        }
+
+        try {
+            for(int ii=0; ii<pages; ii++) {
+                final BufferedImage img = results.get(ii).get();
+                results.set(ii, null);
+                if (callerConsumer != null) {
+                    callerConsumer.accept(start + ii, img);
+                }
+                window.release();
+            }
+
+            return pages;
+        }
+        catch(ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            throw cause instanceof RuntimeException
+                    ? (RuntimeException)cause
+                    : new RuntimeException(cause.getMessage(), cause);
+        }
+        catch(InterruptedException ex) {
+            throw new com.github.jlangch.venice.InterruptedException(
+                    "Interrupted while rasterizing PDF pages.");
+        }
+        finally {
+            // stop the workers if the caller failed
+            tasks.forEach(t -> t.cancel(true));
+        }
+    }
+
+    private void work(
+            final int start,
+            final int end,
+            final AtomicInteger nextPage,
+            final Semaphore window,
+            final AtomicReferenceArray<CompletableFuture<BufferedImage>> results,
+            final BiConsumer<Integer,BufferedImage> consumer
+    ) {
+        try (PDDocument doc = load()) {
+            final PDFRenderer renderer = new PDFRenderer(doc);
+
+            while(true) {
+                // acquire before claiming a page, the lowest claimed page
+                // must always be able to complete
+                window.acquire();
+
+                final int page = nextPage.getAndIncrement();
+                if (page >= end) {
+                    window.release();
+                    return;
+                }
+
+                BufferedImage img;
+                try {
+                    img = renderer.renderImageWithDPI(page, dpi, imageType);
+                    if (consumer != null) {
+                        consumer.accept(page, img);
+                        img = null;
+                    }
+                }
+                catch(Exception ex) {
+                    throw new RuntimeException(
+                            String.format(
+                                "Failed to rasterize the PDF page %d. %s",
+                                page,
+                                ex.getMessage()),
+                            ex);
+                }
+
+                final CompletableFuture<BufferedImage> result = results.get(page - start);
+                if (result != null) {
+                    result.complete(img);
+                }
+            }
+        }
+        catch(InterruptedException ex) {
+            // stopped by the caller
+        }
+        catch(Exception ex) {
+            // fail all pending pages, the caller must not wait for pages
+            // that will never be rendered
+            final RuntimeException failure =
+                    ex instanceof RuntimeException
+                        ? (RuntimeException)ex
+                        : new RuntimeException("Failed to load the PDF. " + ex.getMessage(), ex);
+
+            for(int ii=0; ii<results.length(); ii++) {
+                final CompletableFuture<BufferedImage> result = results.get(ii);
+                if (result != null) {
+                    result.completeExceptionally(failure);
+                }
+            }
+        }
+    }
+
+    private PDDocument load() throws IOException {
+        final RandomAccessRead rar = source.open();
+        try {
+            return Loader.loadPDF(
+                    rar,
+                    scratchFile
+                        ? IOUtils.createTempFileOnlyStreamCache()
+                        : IOUtils.createMemoryOnlyStreamCache());
+        }
+        catch(IOException ex) {
+            rar.close();
+            throw ex;
+        }
+    }
+
+
+    /**
+     * A PDF source. Opens a new random access reader for each document
+     * instance.
+     */
+    @FunctionalInterface
+    public static interface Source {
+        RandomAccessRead open() throws IOException;
+    }
+
+
+    private final Source source;
+    private final float dpi;
+    private final ImageType imageType;
+    private final int parallelism;
+    private final boolean scratchFile;
+    private final int pageCount;
+    private final ExecutorService executor;
+}
@@ -22,7 +22,6 @@
 package com.github.jlangch.venice.util.pdf;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
 import java.util.Map;
@@ -42,6 +41,9 @@ import com.github.jlangch.venice.impl.util.Tuple2;
 
 /**
  * Helper for rendering PDFs with the {@link ITextRenderer}
+ *
+ * <p>The renderers are taken from a {@link PdfRendererPool} shared by all
+ * callers with the same resolution.
  */
 public class PdfRenderer {
 
@@ -70,7 +72,7 @@ public class PdfRenderer {
             final String baseUrl,
             final Map<String,ByteBuffer> resources
     ) {
-        return render(xhtml, baseUrl, null, DOTS_PER_PIXEL, DOTS_PER_POINT);
+        return render(xhtml, baseUrl, resources, DOTS_PER_PIXEL, DOTS_PER_POINT);
     }
 
     public static ByteBuffer render(
@@ -80,39 +82,12 @@ public class PdfRenderer {
             final int dotsPerPixel,
             final float dotsPerPoint
     ) {
-        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
-            final ITextRenderer renderer = new ITextRenderer(dotsPerPoint, dotsPerPixel);
-
-            final ClasspathUserAgent userAgent = new ClasspathUserAgent(
-                                                        renderer.getOutputDevice(),
-                                                        dotsPerPixel);
-            if (resources != null) {
-                for(Map.Entry<String,ByteBuffer> entry : resources.entrySet()) {
-                    userAgent.addResource(entry.getKey(), entry.getValue());
-                }
-            }
-
-            renderer.getSharedContext().setUserAgentCallback(userAgent);
-
-            // PDF meta data creation listener
-            final PdfMetaDataCreationListener mcl = new PdfMetaDataCreationListener()
-                                                            .parseMetaTags(parseXHTML(xhtml));
-            renderer.setListener(mcl);
-
-            renderer.setDocumentFromString(xhtml, baseUrl);
-            renderer.layout();
-            renderer.createPDF(os);
-            renderer.finishPDF();
-            os.flush();
-
-            return ByteBuffer.wrap(os.toByteArray());
-        }
-        catch(Exception ex) {
-            throw new RuntimeException("Failed to render PDF.", ex);
-        }
+        return PdfRendererPool
+                    .shared(dotsPerPixel, dotsPerPoint)
+                    .render(xhtml, baseUrl, resources);
     }
 
-    private static Document parseXHTML(final String xhtml) throws Exception {
+    static Document parseXHTML(final String xhtml) throws Exception {
         try {
             final DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
 
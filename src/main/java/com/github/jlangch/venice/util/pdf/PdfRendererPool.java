@@ -0,0 +1,286 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.util.pdf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.xhtmlrenderer.pdf.ITextFontResolver;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+
+import com.github.jlangch.venice.impl.util.StringUtil;
+import com.lowagie.text.pdf.BaseFont;
+
+
+/**
+ * A pool of reusable {@link ITextRenderer} instances.
+ *
+ * <p>Setting up a renderer and parsing the fonts of a document dominates
+ * the rendering time of small documents. A pool hands out renderers that
+ * are set up once and reused for any number of documents. A renderer is
+ * used by one thread at a time, the pool is thread-safe.
+ *
+ * <p>The fonts passed to the pool are registered with each renderer's font
+ * resolver. OpenPDF caches the parsed font programs JVM wide, so the fonts
+ * are parsed only once. The documents refer to the fonts by their family
+ * name and do not need <code>@font-face</code> rules. Fonts declared with
+ * <code>@font-face</code> rules still work but are parsed for every
+ * document.
+ *
+ * <p>The resources loaded from the classpath are cached and shared by the
+ * pool's renderers. The cache keeps the most recently used resources only.
+ * Resources loaded from files are cached for a single document.
+ *
+ * <pre>
+ *   final PdfRendererPool pool = new PdfRendererPool(
+ *                                      Arrays.asList("classpath:/fonts/OpenSans-Regular.ttf"),
+ *                                      PdfRenderer.DOTS_PER_PIXEL,
+ *                                      PdfRenderer.DOTS_PER_POINT,
+ *                                      4);
+ *
+ *   final ByteBuffer pdf = pool.render(xhtml, "classpath:/", null);
+ * </pre>
+ */
+public class PdfRendererPool {
+
+    /**
+     * Creates a pool
+     *
+     * @param fonts the TTF or OTF fonts to register with the renderers. A
+     *              font is either a classpath resource like
+     *              "classpath:/fonts/OpenSans-Regular.ttf" or a file path.
+     *              May be <code>null</code>.
+     * @param dotsPerPixel the dots per pixel
+     * @param dotsPerPoint the dots per point
+     * @param maxIdle the max number of idle renderers kept by the pool
+     */
+    public PdfRendererPool(
+            final List<String> fonts,
+            final int dotsPerPixel,
+            final float dotsPerPoint,
+            final int maxIdle
+    ) {
+        if (maxIdle < 1) {
+            throw new IllegalArgumentException("A pool's 'maxIdle' must be positive");
+        }
+
+        this.fonts = fonts == null
+                        ? Collections.emptyList()
+                        : Collections.unmodifiableList(new ArrayList<>(fonts));
+        this.dotsPerPixel = dotsPerPixel;
+        this.dotsPerPoint = dotsPerPoint;
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+
+        // fail fast on invalid fonts and keep the renderer for the first render
+        idle.offer(createRenderer());
+    }
+
+    /**
+     * Returns the shared pool without preloaded fonts for the passed
+     * resolution. Keeps up to one idle renderer per available processor.
+     *
+     * @param dotsPerPixel the dots per pixel
+     * @param dotsPerPoint the dots per point
+     * @return the pool
+     */
+    public static PdfRendererPool shared(
+            final int dotsPerPixel,
+            final float dotsPerPoint
+    ) {
+        return sharedPools.computeIfAbsent(
+                dotsPerPixel + "/" + dotsPerPoint,
+                k -> new PdfRendererPool(
+                            null,
+                            dotsPerPixel,
+                            dotsPerPoint,
+                            Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Renders a PDF
+     *
+     * @param xhtml the XHTML document
+     * @param baseUrl the base URL for resources like "classpath:/". May be
+     *                <code>null</code>.
+     * @param resources the in-memory resources. May be <code>null</code>.
+     * @return the PDF
+     */
+    public ByteBuffer render(
+            final String xhtml,
+            final String baseUrl,
+            final Map<String,ByteBuffer> resources
+    ) {
+        final PooledRenderer pooled = borrow();
+
+        final ByteBuffer pdf = render(pooled, xhtml, baseUrl, resources);
+
+        // a renderer that failed is not returned to the pool, its state is
+        // undefined
+        release(pooled);
+
+        return pdf;
+    }
+
+    public List<String> getFonts() {
+        return fonts;
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+
+    private static ByteBuffer render(
+            final PooledRenderer pooled,
+            final String xhtml,
+            final String baseUrl,
+            final Map<String,ByteBuffer> resources
+    ) {
+        try (ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            if (resources != null) {
+                for(Map.Entry<String,ByteBuffer> entry : resources.entrySet()) {
+                    pooled.userAgent.addResource(entry.getKey(), entry.getValue());
+                }
+            }
+
+            final ITextRenderer renderer = pooled.renderer;
+
+            // PDF meta data creation listener
+            renderer.setListener(new PdfMetaDataCreationListener()
+                                        .parseMetaTags(PdfRenderer.parseXHTML(xhtml)));
+
+            renderer.setDocumentFromString(xhtml, baseUrl);
+            renderer.layout();
+            renderer.createPDF(os);
+            renderer.finishPDF();
+            os.flush();
+
+            return ByteBuffer.wrap(os.toByteArray());
+        }
+        catch(Exception ex) {
+            throw new RuntimeException("Failed to render PDF.", ex);
+        }
+    }
+
+    private PooledRenderer borrow() {
+        final PooledRenderer pooled = idle.poll();
+        return pooled == null ? createRenderer() : pooled;
+    }
+
+    private void release(final PooledRenderer pooled) {
+        pooled.userAgent.clearResources();
+        pooled.renderer.setListener(null);
+        idle.offer(pooled); // dropped if the pool is full
+    }
+
+    private PooledRenderer createRenderer() {
+        final ITextRenderer renderer = new ITextRenderer(dotsPerPoint, dotsPerPixel);
+
+        final ClasspathUserAgent userAgent = new ClasspathUserAgent(
+                                                    renderer.getOutputDevice(),
+                                                    dotsPerPixel,
+                                                    resourceCache);
+
+        renderer.getSharedContext().setUserAgentCallback(userAgent);
+
+        final ITextFontResolver fontResolver = renderer.getFontResolver();
+        for(String font : fonts) {
+            try {
+                // BaseFont caches the parsed font by its path
+                fontResolver.addFont(toFontPath(font), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+            }
+            catch(Exception ex) {
+                throw new RuntimeException(String.format(
+                        "Failed to load the PDF font '%s'.", font),
+                        ex);
+            }
+        }
+
+        return new PooledRenderer(renderer, userAgent);
+    }
+
+    private static Map<String,ByteBuffer> lruCache(final int maxSize) {
+        return Collections.synchronizedMap(
+                new LinkedHashMap<String,ByteBuffer>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(final Map.Entry<String,ByteBuffer> eldest) {
+                        return size() > maxSize;
+                    }
+
+                    private static final long serialVersionUID = 1L;
+                });
+    }
+
+    private static String toFontPath(final String font) {
+        if (StringUtil.isBlank(font)) {
+            throw new IllegalArgumentException("A font path must not be blank");
+        }
+        else if (font.startsWith("classpath:")) {
+            // OpenPDF loads fonts that do not exist as a file from the classpath
+            String path = font.substring("classpath:".length());
+            while(path.startsWith("/")) {
+                path = path.substring(1);
+            }
+            return path;
+        }
+        else if (font.startsWith("file:")) {
+            return new File(font.substring("file:".length())).getAbsolutePath();
+        }
+        else {
+            return new File(font).getAbsolutePath();
+        }
+    }
+
+
+    private static class PooledRenderer {
+        public PooledRenderer(
+                final ITextRenderer renderer,
+                final ClasspathUserAgent userAgent
+        ) {
+            this.renderer = renderer;
+            this.userAgent = userAgent;
+        }
+
+        public final ITextRenderer renderer;
+        public final ClasspathUserAgent userAgent;
+    }
+
+
+    private static final Map<String,PdfRendererPool> sharedPools = new ConcurrentHashMap<>();
+
+    private final List<String> fonts;
+    private final int dotsPerPixel;
+    private final float dotsPerPoint;
+    private final BlockingQueue<PooledRenderer> idle;
+    private final Map<String,ByteBuffer> resourceCache = lruCache(MAX_CACHED_RESOURCES);
+
+    private static final int MAX_CACHED_RESOURCES = 100;
+}
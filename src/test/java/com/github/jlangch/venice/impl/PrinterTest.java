@@ -0,0 +1,97 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncString;
+import com.github.jlangch.venice.impl.types.VncVal;
+import com.github.jlangch.venice.impl.types.collections.VncHashMap;
+import com.github.jlangch.venice.impl.types.collections.VncList;
+import com.github.jlangch.venice.impl.types.collections.VncMapEntry;
+import com.github.jlangch.venice.impl.types.collections.VncMutableList;
+import com.github.jlangch.venice.impl.types.collections.VncOrderedMap;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
+
+
+public class PrinterTest {
+
+    @Test
+    public void test_pr_str() {
+        final VncVal val = VncOrderedMap.of(
+                                new VncKeyword("a"), VncVector.of(VncLong.of(1), new VncString("x")),
+                                new VncKeyword("b"), VncList.of(new VncMapEntry(VncLong.of(1), VncLong.of(2))));
+
+        assertEquals("{:a [1 \"x\"] :b ([1 2])}", Printer.pr_str(val, true));
+        assertEquals("{:a [1 x] :b ([1 2])}", Printer.pr_str(val, false));
+        assertEquals(val.toString(true), Printer.pr_str(val, true));
+        assertEquals("x", Printer.pr_str(new VncString("x"), false));
+        assertEquals("\"x\"", Printer.pr_str(new VncString("x"), true));
+    }
+
+    @Test
+    public void test_print_writer() {
+        final VncMutableList list = VncMutableList.of();
+        for(int ii=0; ii<10_000; ii++) {
+            list.addAtEnd(VncHashMap.of(new VncKeyword("n"), VncLong.of(ii)));
+        }
+
+        final StringWriter sw = new StringWriter();
+        Printer.print(list, true, sw);
+
+        assertEquals(list.toString(true), sw.toString());
+    }
+
+    @Test
+    public void test_print_limit() {
+        final VncVal val = VncVector.of(VncLong.of(100), VncLong.of(200), VncLong.of(300));
+
+        final StringWriter sw1 = new StringWriter();
+        assertTrue(Printer.print(val, true, sw1, 6));
+        assertEquals("[100 2...", sw1.toString());
+
+        final StringWriter sw2 = new StringWriter();
+        assertFalse(Printer.print(val, true, sw2, 13));
+        assertEquals("[100 200 300]", sw2.toString());
+
+        assertEquals("...", Printer.pr_str(val, true, 0));
+    }
+
+    @Test
+    public void test_print_limit_utf8() {
+        // the umlaut is encoded with 2 bytes, the euro sign with 3 bytes
+        final VncVal val = new VncString("a\u00e4\u20acb");
+
+        assertEquals("a\u00e4...", Printer.pr_str(val, false, 3));
+        assertEquals("a\u00e4...", Printer.pr_str(val, false, 5));
+        assertEquals("a\u00e4\u20ac...", Printer.pr_str(val, false, 6));
+        assertEquals("a\u00e4\u20acb", Printer.pr_str(val, false, 7));
+    }
+}
@@ -21,13 +21,17 @@
  */
 package com.github.jlangch.venice.impl.functions;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import com.github.jlangch.venice.Venice;
+import com.github.jlangch.venice.VncException;
 
 
 public class ArrayFunctionsTest {
@@ -397,4 +401,102 @@ public class ArrayFunctionsTest {
 
         assertEquals("[nil, nil, nil, nil, nil]", venice.eval("(str (make-array :java.lang.Integer 5))"));
     }
+
+    @Test
+    public void test_asum() {
+        final Venice venice = new Venice();
+
+        assertEquals(15L, venice.eval("(asum (int-array '(1I 2I 3I 4I 5I)))"));
+        assertEquals(15L, venice.eval("(asum (long-array '(1 2 3 4 5)))"));
+        assertEquals(7.5D, venice.eval("(asum (float-array '(1.5 2.5 3.5)))"));
+        assertEquals(7.5D, venice.eval("(asum (double-array '(1.5 2.5 3.5)))"));
+        assertEquals(0L, venice.eval("(asum (long-array '()))"));
+
+        assertEquals(100000L, venice.eval("(asum (long-array 100000 1) :parallel true)"));
+
+        assertThrows(VncException.class, () -> venice.eval("(asum [1 2 3])"));
+        assertThrows(VncException.class, () -> venice.eval("(asum (string-array '(\"1\")))"));
+    }
+
+    @Test
+    public void test_amin_amax() {
+        final Venice venice = new Venice();
+
+        assertEquals(1L, venice.eval("(amin (long-array '(3 1 2)))"));
+        assertEquals(3L, venice.eval("(amax (long-array '(3 1 2)))"));
+        assertEquals(1, venice.eval("(amin (int-array '(3I 1I 2I)))"));
+        assertEquals(-1.5D, venice.eval("(amin (double-array '(3.5 -1.5 2.5)) :parallel true)"));
+        assertEquals(3.5D, venice.eval("(amax (double-array '(3.5 -1.5 2.5)) :parallel true)"));
+
+        assertNull(venice.eval("(amin (long-array '()))"));
+        assertNull(venice.eval("(amax (double-array '()))"));
+    }
+
+    @Test
+    public void test_amean_avariance() {
+        final Venice venice = new Venice();
+
+        assertEquals(2.5D, venice.eval("(amean (long-array '(1 2 3 4)))"));
+        assertEquals(2.5D, venice.eval("(amean (double-array '(1 2 3 4)) :parallel true)"));
+        assertNull(venice.eval("(amean (long-array '()))"));
+
+        assertEquals(65.6D, (Double)venice.eval("(avariance :population (long-array '(10 8 30 22 15)))"), 0.000001D);
+        assertEquals(82.0D, (Double)venice.eval("(avariance :sample (long-array '(10 8 30 22 15)))"), 0.000001D);
+        assertEquals(82.0D, (Double)venice.eval("(avariance :sample (double-array '(10 8 30 22 15)) :parallel true)"), 0.000001D);
+        assertEquals(0.0D, venice.eval("(avariance :sample (long-array '(1)))"));
+
+        assertThrows(VncException.class, () -> venice.eval("(avariance :foo (long-array '(1 2)))"));
+    }
+
+    @Test
+    public void test_asort_abinary_search() {
+        final Venice venice = new Venice();
+
+        assertArrayEquals(new long[] {1L, 2L, 3L}, (long[])venice.eval("(asort (long-array '(3 1 2)))"));
+        assertArrayEquals(new int[] {1, 2, 3}, (int[])venice.eval("(asort (int-array '(3I 1I 2I)) :parallel true)"));
+        assertArrayEquals(new double[] {1.0D, 2.0D, 3.0D}, (double[])venice.eval("(asort (double-array '(3 1 2)))"), 0.0D);
+
+        assertEquals(2L, venice.eval("(abinary-search (long-array '(1 3 5 7)) 5)"));
+        assertEquals(-3L, venice.eval("(abinary-search (long-array '(1 3 5 7)) 4)"));
+        assertEquals(1L, venice.eval("(abinary-search (double-array '(1.0 3.0 5.0)) 3)"));
+
+        // fractional keys on integral arrays are never found
+        assertEquals(-3L, venice.eval("(abinary-search (int-array '(1I 3I 5I)) 3.5)"));
+        assertEquals(-2L, venice.eval("(abinary-search (long-array '(1 3 3 5)) 2.5)"));
+        assertEquals(-4L, venice.eval("(abinary-search (long-array '(1 3 3 5)) 3.5)"));
+        assertEquals(1L, venice.eval("(abinary-search (int-array '(1I 3I 5I)) 3.0)"));
+        assertEquals(-1L, venice.eval("(abinary-search (int-array '(1I 3I 5I)) -0.5)"));
+
+        // keys outside the element range do not wrap around
+        assertEquals(-4L, venice.eval("(abinary-search (int-array '(1I 3I 5I)) 9999999999)"));
+        assertEquals(-1L, venice.eval("(abinary-search (int-array '(1I 3I 5I)) -9999999999)"));
+        assertEquals(-5L, venice.eval("(abinary-search (int-array '(1I 3I 5I 1410065407I)) 9999999999)"));
+        assertEquals(-4L, venice.eval("(abinary-search (long-array '(1 3 5)) 99999999999999999999N)"));
+    }
+
+    @Test
+    public void test_aprefix_sum() {
+        final Venice venice = new Venice();
+
+        assertArrayEquals(new long[] {1L, 3L, 6L, 10L}, (long[])venice.eval("(aprefix-sum (long-array '(1 2 3 4)))"));
+        assertArrayEquals(new long[] {1L, 3L, 6L, 10L}, (long[])venice.eval("(aprefix-sum (long-array '(1 2 3 4)) :parallel true)"));
+        assertArrayEquals(new double[] {1.5D, 4.0D}, (double[])venice.eval("(aprefix-sum (double-array '(1.5 2.5)))"), 0.0D);
+    }
+
+    @Test
+    public void test_elementwise() {
+        final Venice venice = new Venice();
+
+        assertArrayEquals(new long[] {11L, 22L, 33L}, (long[])venice.eval("(aadd (long-array '(1 2 3)) (long-array '(10 20 30)))"));
+        assertArrayEquals(new long[] {9L, 18L, 27L}, (long[])venice.eval("(asubtract (long-array '(10 20 30)) (long-array '(1 2 3)) :parallel true)"));
+        assertArrayEquals(new int[] {2, 4}, (int[])venice.eval("(amultiply (int-array '(1I 2I)) 2)"));
+        assertArrayEquals(new long[] {3L, 5L}, (long[])venice.eval("(adivide (long-array '(10 20)) (long-array '(3 4)))"));
+
+        assertArrayEquals(new double[] {1.5D, 2.5D}, (double[])venice.eval("(aadd (long-array '(1 2)) 0.5)"), 0.0D);
+        assertArrayEquals(new double[] {2.5D, 5.0D}, (double[])venice.eval("(adivide (double-array '(10 20)) 4)"), 0.0D);
+
+        assertThrows(VncException.class, () -> venice.eval("(aadd (long-array '(1 2)) (long-array '(1)))"));
+        assertThrows(VncException.class, () -> venice.eval("(aadd (long-array '(1 2)) (int-array '(1I 2I)))"));
+        assertThrows(VncException.class, () -> venice.eval("(adivide (long-array '(1 2)) 0)"));
+    }
 }
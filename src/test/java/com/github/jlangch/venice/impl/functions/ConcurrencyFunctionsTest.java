@@ -25,6 +25,7 @@ import static com.github.jlangch.venice.impl.util.StringUtil.to_lf;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -1379,6 +1380,42 @@ public class ConcurrencyFunctionsTest {
         assertEquals(null, venice.eval(script));
     }
 
+    @Test
+    public void test_executor_metrics() {
+        final Venice venice = new Venice();
+
+        // the metrics of a task are recorded after its future has been
+        // completed and are shared with the futures of the other tests
+        final String script =
+                "(do                                                            \n" +
+                "  @(future #(+ 1 2))                                           \n" +
+                "  (let [m1 (executor-metrics \"venice-future-pool\")]          \n" +
+                "    @(future #(sleep 10))                                      \n" +
+                "    (try @(future #(throw (ex :VncException \"test\")))        \n" +
+                "         (catch :VncException e nil))                          \n" +
+                "    (sleep 100)                                                \n" +
+                "    (let [m2 (executor-metrics \"venice-future-pool\")]        \n" +
+                "      [(- (:submitted m2) (:submitted m1))                     \n" +
+                "       (>= (- (:completed m2) (:completed m1)) 1)              \n" +
+                "       (>= (- (:failed m2) (:failed m1)) 1)                    \n" +
+                "       (>= (:count (:queue-wait m2)) 2)                        \n" +
+                "       (>= (:max (:execution m2)) 10000)                       \n" +
+                "       (pos? (count (:saturation m2)))])))                     ";
+
+        assertEquals("[2 true true true true true]", venice.eval("(str " + script + ")"));
+    }
+
+    @Test
+    public void test_executor_metrics_all() {
+        final Venice venice = new Venice();
+
+        assertTrue((boolean)venice.eval(
+                        "(do @(future #(+ 1 2))                                 \n" +
+                        "    (contains? (executor-metrics) \"venice-future-pool\"))"));
+
+        assertNull(venice.eval("(executor-metrics \"unknown-pool\")"));
+    }
+
     @Test
     public void test_future_deref_1() {
         final Venice venice = new Venice();
@@ -1817,6 +1854,142 @@ public class ConcurrencyFunctionsTest {
         venice.eval(script);
     }
 
+    @Test
+    public void test_chan() {
+        final Venice venice = new Venice();
+
+        assertTrue((boolean)venice.eval("(chan? (chan))"));
+        assertFalse((boolean)venice.eval("(chan? (queue))"));
+
+        assertEquals("[1 2 nil false]", venice.eval(
+                "(str (let [ch (chan 10)]                      \n" +
+                "       (put! ch 1)                            \n" +
+                "       (put! ch 2)                            \n" +
+                "       (close! ch)                            \n" +
+                "       [(take! ch) (take! ch) (take! ch) (put! ch 3)]))"));
+
+        assertEquals("[2 3 nil]", venice.eval(
+                "(str (let [ch (chan 2 :sliding)]                 \n" +
+                "       (put! ch 1) (put! ch 2) (put! ch 3)       \n" +
+                "       [(poll! ch) (poll! ch) (poll! ch)]))"));
+
+        assertEquals("[1 2 nil]", venice.eval(
+                "(str (let [ch (chan 2 :dropping)]                \n" +
+                "       (put! ch 1) (put! ch 2) (put! ch 3)       \n" +
+                "       [(poll! ch) (poll! ch) (poll! ch)]))"));
+
+        assertEquals("[true false]", venice.eval(
+                "(str (let [ch (chan 1)]                          \n" +
+                "       [(offer! ch 1) (offer! ch 50 2)]))"));
+
+        assertThrows(VncException.class, () -> venice.eval("(put! (chan 1) nil)"));
+        assertThrows(VncException.class, () -> venice.eval("(chan 1 :foo)"));
+        assertThrows(VncException.class, () -> venice.eval("(chan 0 :sliding)"));
+    }
+
+    @Test
+    public void test_chan_unbuffered() {
+        final Venice venice = new Venice();
+
+        assertFalse((boolean)venice.eval("(offer! (chan) 1)"));
+        assertEquals(null, venice.eval("(poll! (chan) 50)"));
+
+        assertEquals(42L, venice.eval(
+                "(let [ch (chan)]             \n" +
+                "  (go (put! ch 42))          \n" +
+                "  (take! ch))"));
+
+        // the put waits until the value is taken
+        assertEquals("[:taken :put]", venice.eval(
+                "(str (let [ch (chan) log (atom [])]                           \n" +
+                "       (let [p (go (put! ch 1) (swap! log conj :put))]        \n" +
+                "         (sleep 100)                                         \n" +
+                "         (swap! log conj :taken)                              \n" +
+                "         (take! ch)                                          \n" +
+                "         (take! p)                                           \n" +
+                "         @log)))"));
+    }
+
+    @Test
+    public void test_go() {
+        final Venice venice = new Venice();
+
+        assertEquals(3L, venice.eval("(take! (go (+ 1 2)))"));
+        assertEquals(null, venice.eval("(take! (go nil))"));
+
+        assertEquals(10L, venice.eval(
+                "(let [ch (chan 4)]                         \n" +
+                "  (go (doseq [x (range 5)] (put! ch x))    \n" +
+                "      (close! ch))                         \n" +
+                "  (take! (go (loop [sum 0]                 \n" +
+                "               (if-let [x (take! ch)]      \n" +
+                "                 (recur (+ sum x))         \n" +
+                "                 sum)))))"));
+
+        // thread locals are inherited
+        assertEquals(10L, venice.eval("(binding [a 10] (take! (go a)))"));
+
+        // exceptions are rethrown on the taker
+        assertThrows(ValueException.class, () -> venice.eval("(take! (go (throw 100)))"));
+
+        // errors fail the channel too
+        assertThrows(VncException.class, () -> venice.eval(
+                "(do (defn f [x] (inc (f x))) (take! (go (f 1))))"));
+    }
+
+    @Test
+    public void test_go_pipeline() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(let [first-ch (chan)                                          \n" +
+                "      last-ch  (reduce (fn [in _]                              \n" +
+                "                         (let [out (chan)]                     \n" +
+                "                           (go (loop []                        \n" +
+                "                                 (when-let [x (take! in)]      \n" +
+                "                                   (put! out (inc x))          \n" +
+                "                                   (recur)))                   \n" +
+                "                               (close! out))                   \n" +
+                "                           out))                               \n" +
+                "                       first-ch                                \n" +
+                "                       (range 200))]                           \n" +
+                "  (put! first-ch 0)                                            \n" +
+                "  (put! first-ch 100)                                          \n" +
+                "  (close! first-ch)                                            \n" +
+                "  [(take! last-ch) (take! last-ch) (take! last-ch)])             ";
+
+        assertEquals("[200 300 nil]", venice.eval("(str " + script + ")"));
+    }
+
+    @Test
+    public void test_alts() {
+        final Venice venice = new Venice();
+
+        assertEquals(2L, venice.eval(
+                "(let [a (chan 1) b (chan 1)]  \n" +
+                "  (put! b 2)                  \n" +
+                "  (first (alts! [a b])))"));
+
+        assertEquals(5L, venice.eval(
+                "(let [a (chan 1) b (chan 1)]          \n" +
+                "  (go (sleep 50) (put! a 5))          \n" +
+                "  (first (alts! [a b])))"));
+
+        assertEquals("[true b]", venice.eval(
+                "(let [a (chan 1) b (chan 1)]                 \n" +
+                "  (put! a 1)                                 \n" +
+                "  (let [[v ch] (alts! [[a 10] [b 20]])]      \n" +
+                "    (str [v (if (= ch a) 'a 'b)])))"));
+
+        assertEquals("[nil :timeout]", venice.eval("(str (alts! [(chan)] 50))"));
+
+        assertEquals(true, venice.eval(
+                "(let [t (timeout-chan 50)]                   \n" +
+                "  (= t (second (alts! [(chan) t]))))"));
+
+        assertEquals(true, venice.eval("(let [ch (chan)] (close! ch) (closed? ch))"));
+    }
+
     @Test
     public void test_lock_lockQ() {
         final Venice venice = new Venice();
@@ -614,6 +614,9 @@ public class CoreFunctionsTest {
         assertEquals("(1 2 3)", venice.eval("(str (conj! (mutable-list 1 2) 3))"));
         assertEquals("(1 2 3 4)", venice.eval("(str (conj! (mutable-list 1 2) 3 4))"));
 
+        // Vector
+        assertEquals("[1 2 3 4]", venice.eval("(str (conj! (mutable-vector 1 2) 3 4))"));
+
         // Map
         assertEquals("{:a 3}", venice.eval("(str (conj! (mutable-map) {:a 3}))"));
         assertEquals("{:a 3}", venice.eval("(str (conj! (mutable-map :a 1) {:a 3}))"));
@@ -1926,6 +1929,9 @@ public class CoreFunctionsTest {
 
         assertEquals(3L, venice.eval("(:a (frequencies [:a :a :b :a]))"));
         assertEquals(1L, venice.eval("(:b (frequencies [:a :a :b :a]))"));
+        assertEquals("{:a 3 :b 1}", venice.eval("(str (frequencies [:a :a :b :a]))"));
+        assertEquals(100L, venice.eval("(count (frequencies (range 100)))"));
+        assertEquals("{}", venice.eval("(str (frequencies []))"));
     }
 
     @Test
@@ -3336,6 +3342,35 @@ public class CoreFunctionsTest {
         assertEquals("(1 2 3 4 5)",venice.eval(script));
     }
 
+    @Test
+    public void test_lazy_seq_array_finite() {
+        final Venice venice = new Venice();
+
+        final String script = "(pr-str (doall (lazy-seq (long-array [1 2 3 4 5]))))";
+
+        assertEquals("(1 2 3 4 5)",venice.eval(script));
+    }
+
+    @Test
+    public void test_lazy_seq_vector_chunked() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                  \n" +
+                "  (def counter (atom 0))                             \n" +
+                "  (def s (->> (lazy-seq (into [] (range 100)))       \n" +
+                "              (map #(do (swap! counter inc) %))      \n" +
+                "              (filter even?)                         \n" +
+                "              (keep #(when (pos? %) (* 10 %)))       \n" +
+                "              (take-while #(< % 900))))              \n" +
+                "  (def realized-0 @counter)                          \n" +
+                "  (def items (doall (take 3 s)))                     \n" +
+                "  (pr-str [realized-0 @counter items (count (doall s))]))";
+
+        // the items are realized in chunks of 32
+        assertEquals("[0 32 (20 40 60) 44]", venice.eval(script));
+    }
+
     @Test
     public void test_lazy_seq_recursion_1() {
         final Venice venice = new Venice();
@@ -5766,6 +5801,67 @@ public class CoreFunctionsTest {
         venice.eval(script);
     }
 
+    @Test
+    public void test_transient() {
+        final Venice venice = new Venice();
+
+        // vector
+        assertEquals("[1 2 3 4]", venice.eval("(str (persistent! (conj! (transient [1 2]) 3 4)))"));
+        assertEquals("[1 9]", venice.eval("(str (persistent! (assoc! (transient [1 2]) 1 9)))"));
+        assertEquals("true", venice.eval("(str (vector? (persistent! (transient []))))"));
+        assertEquals(
+            "[0 1 2 3 4 5 6 7 8 9]",
+            venice.eval(
+                "(str (loop [v (transient []), i 0]     \n" +
+                "       (if (< i 10)                    \n" +
+                "         (recur (conj! v i) (inc i))   \n" +
+                "         (persistent! v))))              "));
+
+        // hash map
+        assertEquals("{:a 1 :b 2 :c 3}", venice.eval("(str (persistent! (assoc! (transient {:a 1}) :b 2 :c 3)))"));
+        assertEquals("{:b 2}", venice.eval("(str (persistent! (dissoc! (transient {:a 1 :b 2}) :a)))"));
+        assertEquals("true", venice.eval("(str (hash-map? (persistent! (transient {}))))"));
+        assertEquals(
+            "20",
+            venice.eval("(str (count (persistent! (reduce #(assoc! %1 %2 %2) (transient {}) (range 20)))))"));
+
+        // ordered map
+        assertEquals(
+            "{:a 1 :b 2}",
+            venice.eval("(str (persistent! (assoc! (transient (ordered-map :a 1)) :b 2)))"));
+        assertEquals(
+            "true",
+            venice.eval("(str (ordered-map? (persistent! (transient (ordered-map)))))"));
+
+        // set
+        assertEquals("#{1 2 3}", venice.eval("(str (persistent! (conj! (transient #{1 2}) 3)))"));
+        assertEquals("true", venice.eval("(str (set? (persistent! (transient #{}))))"));
+
+        // meta data
+        assertEquals(
+            "[1 2 3]",
+            venice.eval(
+                "(do                          \n" +
+                "  (def t (transient [1 2]))  \n" +
+                "  (conj! t 3)                \n" +
+                "  (str (persistent! t)))       "));
+
+        // unsupported collections
+        assertThrows(VncException.class, () -> venice.eval("(transient '(1 2))"));
+        assertThrows(VncException.class, () -> venice.eval("(transient (sorted-map))"));
+        assertThrows(VncException.class, () -> venice.eval("(persistent! [1 2])"));
+
+        // no modifications after persistent!
+        assertThrows(VncException.class, () -> venice.eval(
+                "(let [t (transient [])] (persistent! t) (conj! t 1))"));
+        assertThrows(VncException.class, () -> venice.eval(
+                "(let [t (transient {})] (persistent! t) (assoc! t :a 1))"));
+        assertThrows(VncException.class, () -> venice.eval(
+                "(let [t (transient #{})] (persistent! t) (conj! t 1))"));
+        assertThrows(VncException.class, () -> venice.eval(
+                "(let [t (transient [])] (persistent! t) (persistent! t))"));
+    }
+
     @Test
     public void test_true_Q() {
         final Venice venice = new Venice();
@@ -22,6 +22,7 @@
 package com.github.jlangch.venice.impl.functions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.File;
 import java.nio.file.Files;
@@ -31,6 +32,7 @@ import org.junit.jupiter.api.Test;
 
 import com.github.jlangch.venice.Parameters;
 import com.github.jlangch.venice.Venice;
+import com.github.jlangch.venice.VncException;
 
 
 public class IOFunctionsSpitSlurpTest {
@@ -195,6 +197,63 @@ public class IOFunctionsSpitSlurpTest {
         assertEquals("(\"123\" \"456\" \"789\")", venice.eval(script));
     }
 
+    @Test
+    public void test_io_reducible_lines() {
+        final Venice venice = new Venice();
+
+        final String script1 =
+                "(let [file (io/temp-file \"test-\", \".txt\")]              " +
+                "   (io/spit file \"1\n2\n3\n4\" :append true)               " +
+                "   (io/delete-file-on-exit file)                            " +
+                "   (let [lines (io/reducible-lines file)]                   " +
+                "      [(reduce (fn [acc x] (+ acc (long x))) 0 lines)       " +
+                "       (transduce (map long) + lines)                       " +
+                "       (reduce str lines)]))                                ";
+
+        assertEquals("[10 10 \"1234\"]", venice.eval("(pr-str " + script1 + ")"));
+
+        // early termination
+        final String script2 =
+                "(let [lines (io/reducible-lines (io/string-in-stream \"a\nb\nc\nd\"))] " +
+                "   (transduce (take 2) conj lines))                                   ";
+
+        assertEquals("[\"a\" \"b\"]", venice.eval("(pr-str " + script2 + ")"));
+
+        // empty source
+        assertEquals(0L, venice.eval("(reduce + (io/reducible-lines (io/string-in-stream \"\")))"));
+
+        // run!
+        final String script3 =
+                "(with-out-str                                                   " +
+                "  (run! print (io/reducible-lines (io/string-in-stream \"a\nb\"))))";
+
+        assertEquals("ab", venice.eval(script3));
+    }
+
+    @Test
+    public void test_io_reducible_lines_consumed() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(let [lines (io/reducible-lines (io/string-in-stream \"a\nb\"))] " +
+                "   (reduce str lines)                                           " +
+                "   (reduce str lines))                                          ";
+
+        assertThrows(VncException.class, () -> venice.eval(script));
+    }
+
+    @Test
+    public void test_io_reducible_lines_consumed_with_meta() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(let [lines (io/reducible-lines (io/string-in-stream \"a\nb\"))] " +
+                "   (reduce str lines)                                           " +
+                "   (reduce str (with-meta lines {:a 1})))                       ";
+
+        assertThrows(VncException.class, () -> venice.eval(script));
+    }
+
     @Test
     public void test_io_spit_stream() {
         final Venice venice = new Venice();
@@ -349,4 +349,14 @@ public class IOFunctionsStreamTest {
         assertEquals("100\n\n200\n", to_lf(venice.eval(script)));
     }
 
+    @Test
+    public void test_io_print() {
+        final Venice venice = new Venice();
+
+        assertEquals("{:a [1 2 x]}", venice.eval("(let [w (io/string-writer)] (io/print w {:a [1 2 \"x\"]}) (str w))"));
+        assertEquals("{:a [1 2 \"x\"]}", venice.eval("(let [w (io/string-writer)] (io/print w {:a [1 2 \"x\"]} :readably true) (str w))"));
+        assertEquals("(0 1 2 3...", venice.eval("(let [w (io/string-writer)] (io/print w (range 1000) :limit 8) (str w))"));
+        assertEquals("1 \"a\" nil", venice.eval("(let [w (io/string-writer)] (pr w 1 \"a\" nil) (str w))"));
+        assertEquals("1 a nil", venice.eval("(let [w (io/string-writer)] (print w 1 \"a\" nil) (str w))"));
+    }
 }
@@ -22,6 +22,7 @@
 package com.github.jlangch.venice.impl.functions;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.File;
 import java.nio.file.Files;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 
 import com.github.jlangch.venice.Parameters;
 import com.github.jlangch.venice.Venice;
+import com.github.jlangch.venice.VncException;
 
 
 public class JsonFunctionsTest {
@@ -308,6 +310,103 @@ public class JsonFunctionsTest {
         assertEquals("{a 100 b 100}", venice.eval(script));
     }
 
+    @Test
+    public void test_reducible_lines() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(let [json (str/join \"\\n\" (map #(json/write-str {:a %}) (range 1000))) \n" +
+                "      data (bytebuf-from-string json :utf-8)                            \n" +
+                "      lines (json/reducible-lines data :key-fn keyword)]                \n" +
+                "  [(transduce (map :a) + lines)                                         \n" +
+                "   (transduce (comp (map :a) (take 3)) conj lines)])                      ";
+
+        assertEquals("[499500 [0 1 2]]", venice.eval("(pr-str " + script + ")"));
+    }
+
+    @Test
+    public void test_reducible_lines_parallel() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(let [json (str/join \"\\n\" (map #(json/write-str {:a %}) (range 10000))) \n" +
+                "      data (bytebuf-from-string json :utf-8)                             \n" +
+                "      lines (json/reducible-lines data :key-fn keyword                   \n" +
+                "                                       :filter-fn #(even? (:a %))        \n" +
+                "                                       :parallelism 4)]                  \n" +
+                "  [(= (range 0 10000 2) (map :a (reduce conj [] lines)))                 \n" +
+                "   (transduce (comp (map :a) (take 3)) conj lines)])                       ";
+
+        assertEquals("[true [0 2 4]]", venice.eval("(pr-str " + script + ")"));
+    }
+
+    @Test
+    public void test_lazy_seq() {
+        final Venice venice = new Venice();
+
+        assertEquals(
+            "(1 2 3)",
+            venice.eval("(pr-str (doall (json/lazy-seq (io/string-reader \"[1,2,3]\"))))"));
+
+        assertEquals(
+            "()",
+            venice.eval("(pr-str (doall (json/lazy-seq (io/string-reader \"[]\"))))"));
+
+        assertEquals(
+            "({:a 1} {:a 2})",
+            venice.eval(
+                "(let [json \"[{\\\"a\\\":1},{\\\"a\\\":2}]\"]                  \n" +
+                "  (pr-str (doall (json/lazy-seq (io/string-reader json)      \n" +
+                "                                :key-fn keyword))))          "));
+
+        assertEquals(
+            "(3 4)",
+            venice.eval(
+                "(let [json (json/write-str {:x [1 2] :y {:z [0 [3 4]]} :w 1})]    \n" +
+                "  (pr-str (doall (json/lazy-seq (io/string-reader json)          \n" +
+                "                                :path [:y \"z\" 1]))))           "));
+
+        assertEquals(
+            "[0 2 4]",
+            venice.eval(
+                "(let [json (json/write-str (range 100000))]                      \n" +
+                "  (pr-str (->> (json/lazy-seq (io/string-reader json))           \n" +
+                "               (filter even?)                                    \n" +
+                "               (take 3)                                          \n" +
+                "               (into []))))                                      "));
+    }
+
+    @Test
+    public void test_lazy_seq_invalid_path() {
+        final Venice venice = new Venice();
+
+        assertThrows(
+            VncException.class,
+            () -> venice.eval(
+                    "(doall (json/lazy-seq (io/string-reader \"{\\\"a\\\":[1]}\") :path [:b]))"));
+
+        assertThrows(
+            VncException.class,
+            () -> venice.eval(
+                    "(doall (json/lazy-seq (io/string-reader \"{\\\"a\\\":1}\") :path [:a]))"));
+    }
+
+    @Test
+    public void test_event_seq() {
+        final Venice venice = new Venice();
+
+        assertEquals(
+            "([:start-object] [:key \"a\"] [:start-array] [:value 1] [:value nil] " +
+            "[:end-array] [:key \"b\"] [:value true] [:end-object])",
+            venice.eval(
+                "(pr-str (doall (json/event-seq                                   \n" +
+                "                 (io/string-reader \"{\\\"a\\\":[1,null],\\\"b\\\":true}\"))))"));
+
+        assertEquals(
+            "([:value \"x\"])",
+            venice.eval("(pr-str (doall (json/event-seq (io/string-reader \"\\\"x\\\"\"))))"));
+    }
+
     @Test
     public void test_json_read_write_file() {
         final Venice venice = new Venice();
@@ -204,6 +204,57 @@ public class MBeanFunctionsTest {
         assertEquals(20L, venice.eval(script));
     }
 
+    @Test
+    public void test_profiler_mxbean() {
+        ensureUnregisteredMBean("venice:type=Profiler");
+
+        final Venice venice = new Venice();
+
+        final String script = "(do                                                         \n" +
+                              "  (defn foo [x] (+ x 1))                                    \n" +
+                              "  (let [name (mbean/object-name \"venice:type=Profiler\")]  \n" +
+                              "    (mbean/register (mbean/profiler-mxbean) name)           \n" +
+                              "    (prof :on)                                              \n" +
+                              "    (prof :clear)                                           \n" +
+                              "    (dorun 10 (foo 1))                                      \n" +
+                              "    (prof :off)                                             \n" +
+                              "    (let [fns (mbean/attribute name :Functions)             \n" +
+                              "          foo (first (filter #(= \"user/foo\" (. % :get \"name\")) fns))] \n" +
+                              "      (mbean/unregister name)                               \n" +
+                              "      (. foo :get \"count\"))))                             ";
+
+        assertEquals(10, venice.eval(script));
+    }
+
+
+    @Test
+    public void test_executor_mxbean() {
+        ensureUnregisteredMBean("venice:type=ThreadPool,name=futures");
+
+        final Venice venice = new Venice();
+
+        // a task is counted as completed after its future has been delivered,
+        // so wait for the count instead of relying on the future's value
+        final String script = "(do                                                                     \n" +
+                              "  (defn await-completed [name]                                          \n" +
+                              "    (loop [n 0]                                                         \n" +
+                              "      (let [completed (mbean/attribute name :CompletedTaskCount)]       \n" +
+                              "        (if (or (>= completed 1) (>= n 500))                            \n" +
+                              "          completed                                                     \n" +
+                              "          (do (sleep 10) (recur (inc n)))))))                           \n" +
+                              "  (let [name (mbean/object-name \"venice:type=ThreadPool,name=futures\")] \n" +
+                              "    (mbean/register (mbean/executor-mxbean \"venice-future-pool\") name)  \n" +
+                              "    @(future #(+ 1 2))                                                  \n" +
+                              "    (await-completed name)                                              \n" +
+                              "    (mbean/invoke name :reset [])                                       \n" +
+                              "    @(future #(+ 1 2))                                                  \n" +
+                              "    (let [completed (await-completed name)                              \n" +
+                              "          pool (mbean/attribute name :PoolName)]                        \n" +
+                              "      (mbean/unregister name)                                           \n" +
+                              "      [pool completed])))                                               ";
+
+        assertEquals("[\"venice-future-pool\" 1]", venice.eval("(pr-str " + script + ")"));
+    }
 
     private static void ensureUnregisteredMBean(final String name) {
         try {
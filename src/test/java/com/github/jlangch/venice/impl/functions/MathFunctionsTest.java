@@ -1285,6 +1285,35 @@ public class MathFunctionsTest {
         assertEquals("(1.0 1.5 2.0 2.5 3.0 3.5)", venice.eval("(str (range 1.0 4 0.5))"));
     }
 
+    @Test
+    public void test_range_large() {
+        final Venice venice = new Venice();
+
+        assertEquals(100_000_000L, venice.eval("(count (range 100000000))"));
+        assertEquals(99_999_999L, venice.eval("(nth (range 100000000) 99999999)"));
+        assertEquals(99_999_998L, venice.eval("(last (range 0 100000000 7))"));
+        assertEquals(-99_999_999L, venice.eval("(last (range 0 -100000000 -1))"));
+        assertEquals("(99999997 99999998 99999999)", venice.eval("(str (take-last 3 (range 100000000)))"));
+        assertEquals("(5 4 3 2 1 0)", venice.eval("(str (reverse (range 6)))"));
+        assertEquals("(2.0 2.25 2.5 2.75 3.0 3.25)", venice.eval("(str (range 2.0 3.5 0.25))"));
+        assertEquals(10L, venice.eval("(count (range 0.0 1.0 0.1))"));
+    }
+
+    @Test
+    public void test_range_reduce() {
+        final Venice venice = new Venice();
+
+        assertEquals(4_999_999_950_000_000L, venice.eval("(reduce + (range 100000000))"));
+        assertEquals(4_950L, venice.eval("(reduce + (range 100))"));
+        assertEquals(4_960L, venice.eval("(reduce + 10 (range 100))"));
+        assertEquals(4_950L, venice.eval("(reduce (fn [x y] (+ x y)) (range 100))"));
+        assertEquals(0L, venice.eval("(reduce + (range 0))"));
+        assertEquals(3.0D, venice.eval("(reduce + (range 0.0 2.0 0.5))"));
+        assertEquals(3.5D, venice.eval("(reduce + 0.5 (range 0 3))"));
+        assertEquals(6L, venice.eval("(reduce (fn [x y] (if (> x 5) (reduced x) (+ x y))) (range 100))"));
+        assertEquals(5050L, venice.eval("(transduce (map inc) + (range 100))"));
+    }
+
     @Test
     public void test_range_lazy_seq() {
         final Venice venice = new Venice();
@@ -0,0 +1,123 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.functions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.Venice;
+import com.github.jlangch.venice.VncException;
+
+
+public class SamplerFunctionsTest {
+
+    @AfterEach
+    public void stopSampler() {
+        SamplerFunctions.getSampler().stop();
+        SamplerFunctions.getSampler().clear();
+    }
+
+    @Test
+    public void test_start_stop() {
+        final Venice venice = new Venice();
+
+        assertEquals(false, venice.eval("(sampler/running?)"));
+        assertEquals("running", venice.eval("(sampler/start :interval 5)"));
+        assertEquals(true, venice.eval("(sampler/running?)"));
+        assertEquals("stopped", venice.eval("(sampler/stop)"));
+        assertEquals(false, venice.eval("(sampler/running?)"));
+    }
+
+    @Test
+    public void test_start_twice() {
+        final Venice venice = new Venice();
+
+        venice.eval("(sampler/start)");
+        assertThrows(VncException.class, () -> venice.eval("(sampler/start)"));
+    }
+
+    @Test
+    public void test_invalid_interval() {
+        final Venice venice = new Venice();
+
+        assertThrows(VncException.class, () -> venice.eval("(sampler/start :interval 0)"));
+        assertFalse(SamplerFunctions.getSampler().isRunning());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void test_samples() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                          \n" +
+                "  (defn fib [n] (if (< n 2) n (+ (fib (- n 1)) (fib (- n 2))))) \n" +
+                "  (sampler/start :interval 1 :mode :wall)                   \n" +
+                "  (loop [] (fib 15) (when (< (sampler/sample-count) 20) (recur))) \n" +
+                "  (sampler/stop)                                            \n" +
+                "  {:count     (sampler/sample-count)                        \n" +
+                "   :collapsed (sampler/collapsed-stacks)                    \n" +
+                "   :svg       (sampler/flamegraph \"fib\")                  \n" +
+                "   :top       (sampler/top 5)})                               ";
+
+        final Map<String,Object> result = (Map<String,Object>)venice.eval(script);
+
+        assertTrue((Long)result.get("count") >= 20L);
+
+        final String collapsed = (String)result.get("collapsed");
+        assertTrue(collapsed.contains("fib"));
+        assertTrue(collapsed.matches("(?s)(.+ \\d+\\n)+"));
+
+        final String svg = (String)result.get("svg");
+        assertTrue(svg.startsWith("<?xml"));
+        assertTrue(svg.contains("<svg"));
+        assertTrue(svg.contains("fib"));
+
+        final List<Map<String,Object>> top = (List<Map<String,Object>>)result.get("top");
+        assertFalse(top.isEmpty());
+        assertTrue(top.size() <= 5);
+        assertTrue(top.stream().anyMatch(m -> ((String)m.get("name")).endsWith("fib")));
+    }
+
+    @Test
+    public void test_clear() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                  \n" +
+                "  (sampler/start :interval 1 :mode :wall)           \n" +
+                "  (loop [] (when (< (sampler/sample-count) 5) (sleep 2) (recur))) \n" +
+                "  (sampler/stop)                                    \n" +
+                "  (sampler/clear)                                   \n" +
+                "  (sampler/sample-count))                             ";
+
+        assertEquals(0L, venice.eval(script));
+    }
+}
@@ -26,6 +26,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.ByteBuffer;
@@ -37,6 +39,7 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import com.github.jlangch.venice.Venice;
+import com.github.jlangch.venice.VncException;
 import com.github.jlangch.venice.impl.util.CollectionUtil;
 
 
@@ -1431,6 +1434,23 @@ public class StringFunctionsTest {
 
     }
 
+    @Test
+    public void test_str_digest() {
+        final Venice venice = new Venice();
+
+        assertEquals(
+            "b94d27b9934d3e08a52e52d7da7dabfac484efe37a5380ee9088f7ace2efcde9",
+            venice.eval("(str/digest \"hello world\")"));
+
+        assertEquals(
+            "5eb63bbbe01eeed093cb22bb8f5acdc3",
+            venice.eval("(str/digest \"hello world\" :MD5)"));
+
+        assertNull(venice.eval("(str/digest nil)"));
+
+        assertThrows(VncException.class, () -> venice.eval("(str/digest \"a\" :SHA-3)"));
+    }
+
 
     private static List<Character> toCharList(final String s) {
         return s.chars().mapToObj(e->(char)e).collect(Collectors.toList());
@@ -0,0 +1,93 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.modules;
+
+import static com.github.jlangch.venice.impl.types.Constants.Nil;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.Venice;
+import com.github.jlangch.venice.Version;
+import com.github.jlangch.venice.impl.functions.CoreFunctions;
+import com.github.jlangch.venice.impl.types.VncAtom;
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncString;
+import com.github.jlangch.venice.impl.types.collections.VncList;
+
+
+public class ModuleFormCacheTest {
+
+    @Test
+    public void test_cacheable() {
+        assertTrue(ModuleFormCache.isCacheable(Nil));
+        assertTrue(ModuleFormCache.isCacheable(new VncLong(1)));
+        assertTrue(ModuleFormCache.isCacheable(
+                        VncList.of(new VncKeyword("a"), new VncString("b"))));
+        assertTrue(ModuleFormCache.isCacheable(CoreFunctions.str));
+
+        assertFalse(ModuleFormCache.isCacheable(new VncAtom(Nil)));
+        assertFalse(ModuleFormCache.isCacheable(VncList.of(new VncAtom(Nil))));
+    }
+
+    @Test
+    public void test_disk_cache() throws Exception {
+        final Path dir = Files.createTempDirectory("venice-module-cache");
+        final String script =
+                "(do                                  \n" +
+                "  (load-module :test-support)        \n" +
+                "  (str (test-support/test-fn \"x\")  \n" +
+                "       \"-\" (+ 1 2)))                 ";
+
+        System.setProperty("venice.module.cache.dir", dir.toString());
+        try {
+            ModuleFormCache.clear();
+            assertEquals("test: x-3", new Venice().eval(script));
+            // keyed by the module's name, Venice version, and code hash
+            final String[] coreFiles = dir.toFile().list(
+                    (d, name) -> name.matches(
+                                    "core@" + Pattern.quote(Version.VERSION)
+                                        + "-[0-9A-F]{64}[.]forms"));
+            assertEquals(1, coreFiles.length);
+
+            // load the modules from the disk cache
+            ModuleFormCache.clear();
+            assertEquals("test: x-3", new Venice().eval(script));
+        }
+        finally {
+            System.clearProperty("venice.module.cache.dir");
+            ModuleFormCache.clear();
+            for(File f : dir.toFile().listFiles()) {
+                f.delete();
+            }
+            dir.toFile().delete();
+        }
+    }
+}
@@ -35,8 +35,11 @@ import com.github.jlangch.venice.ParseError;
 import com.github.jlangch.venice.Venice;
 import com.github.jlangch.venice.impl.VeniceInterpreter;
 import com.github.jlangch.venice.impl.modules.ModuleLoader;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncString;
 import com.github.jlangch.venice.impl.types.VncVal;
 import com.github.jlangch.venice.impl.types.collections.VncList;
+import com.github.jlangch.venice.impl.util.MetaUtil;
 import com.github.jlangch.venice.impl.util.NanoStopWatch;
 import com.github.jlangch.venice.impl.util.StringUtil;
 import com.github.jlangch.venice.javainterop.AcceptAllInterceptor;
@@ -54,6 +57,26 @@ public class ReaderTest {
         assertEquals(3, ((VncList)ast).size());
     }
 
+    @Test
+    public void testSourcePositions() {
+        final VncVal ast = Reader.read_str(
+                                "(do ; comment\n" +
+                                "  (foo 1)\n" +
+                                "\n" +
+                                "  ,, [:a \"b\"])",
+                                "test");
+
+        final VncList form = (VncList)ast;
+        final VncVal foo = ((VncList)form.second()).first();
+        final VncVal vec = form.third();
+
+        assertEquals("test", ((VncString)foo.getMetaVal(MetaUtil.FILE)).getValue());
+        assertEquals(2L, ((VncLong)foo.getMetaVal(MetaUtil.LINE)).getValue());
+        assertEquals(4L, ((VncLong)foo.getMetaVal(MetaUtil.COLUMN)).getValue());
+        assertEquals(4L, ((VncLong)vec.getMetaVal(MetaUtil.LINE)).getValue());
+        assertEquals(6L, ((VncLong)vec.getMetaVal(MetaUtil.COLUMN)).getValue());
+    }
+
     @Test
     public void testMeta() {
         assertEquals(100L, new Venice().eval("(do (def ^{:a 200} x 100) x)"));
@@ -99,6 +122,16 @@ public class ReaderTest {
                 () -> new Venice().eval("[0 1 2false]"));
     }
 
+    @Test
+    public void testReadString_malformedRest() {
+        // the text after the first form is still tokenized
+        assertEquals(1L, new Venice().eval("(read-string \"1 2\")"));
+
+        assertThrows(
+                ParseError.class,
+                () -> new Venice().eval("(read-string \"1 \\\"abc\")"));
+    }
+
     @Test
     public void testAtomNil() {
         assertEquals(null, new Venice().eval("(do nil)"));
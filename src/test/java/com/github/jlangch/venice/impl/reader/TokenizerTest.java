@@ -22,6 +22,7 @@
 package com.github.jlangch.venice.impl.reader;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -698,6 +699,40 @@ public class TokenizerTest {
         assertEquals("}",                   tokens.get(14).getToken());
     }
 
+    @Test
+    public void test_streaming() {
+        final Tokenizer tokenizer = Tokenizer.streaming(
+                                        "(a ; comment\n  \"b\"), c", "test", true, true);
+
+        final Token t1 = tokenizer.nextToken();
+        assertEquals("(", t1.getToken());
+        assertEquals(1, t1.getLine());
+        assertEquals(1, t1.getColumn());
+
+        assertEquals("a", tokenizer.nextToken().getToken());
+
+        final Token t3 = tokenizer.nextToken();
+        assertEquals("\"b\"", t3.getToken());
+        assertEquals(2, t3.getLine());
+        assertEquals(3, t3.getColumn());
+        assertEquals(15, t3.getFileStartPos());
+
+        assertEquals(")", tokenizer.nextToken().getToken());
+        assertEquals("c", tokenizer.nextToken().getToken());
+        assertNull(tokenizer.nextToken());
+        assertNull(tokenizer.nextToken());
+    }
+
+    @Test
+    public void test_reader_pos_pack() {
+        final long pos = ReaderPos.pack(123_456, Integer.MAX_VALUE);
+        assertEquals(123_456, ReaderPos.lineNr(pos));
+        assertEquals(Integer.MAX_VALUE, ReaderPos.columnNr(pos));
+
+        assertEquals(1, ReaderPos.lineNr(ReaderPos.pack(1, 1)));
+        assertEquals(1, ReaderPos.columnNr(ReaderPos.pack(1, 1)));
+    }
+
     @Test
     public void test_tokenize_core() {
         final String core = ModuleLoader.loadModule("core");
@@ -628,6 +628,44 @@ public class SpecialFormsTest_deftype {
         assertThrows(VncException.class, () -> new Venice().eval(script));
     }
 
+    @Test
+    public void test_deftype_field_access() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                           \n" +
+                "  (deftype :point [x :long, y :long])                         \n" +
+                "  (deftype :point3 [z :long, y :long, x :long])               \n" +
+                "  (def p (point. 1 2))                                        \n" +
+                "  (def q (point3. 3 4 5))                                     \n" +
+                "  (assert (= 1 (:x p)))                                       \n" +
+                "  (assert (= 5 (:x q)))                                       \n" +
+                "  (assert (= [1 5 2 4]                                        \n" +
+                "             (into [] (concat (map :x [p q]) (map :y [p q]))))) \n" +
+                "  (assert (= nil (:z p)))                                     \n" +
+                "  (assert (= 9 (:z p 9)))                                     \n" +
+                "  (assert (= 2 (get p :y)))                                   \n" +
+                "  (assert (contains? p :y))                                   \n" +
+                "  (assert (not (contains? p :z)))                             \n" +
+                "  (assert (= '(:x :y) (keys p)))                              \n" +
+                "  (assert (= 2 (count p)))                                    \n" +
+                "  (pr-str (assoc q :x 6 :z 7)))                                 ";
+
+        assertEquals("{:custom-type* :user/point3 :z 7 :y 4 :x 6}", venice.eval(script));
+    }
+
+    @Test
+    public void test_deftype_assoc_invalid_field() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                      \n" +
+                "  (deftype :point [x :long, y :long])    \n" +
+                "  (assoc (point. 1 2) :z 3))               ";
+
+        assertThrows(VncException.class, () -> venice.eval(script));
+    }
+
     @Test
     public void test_deftype_equality() {
         final Venice venice = new Venice();
@@ -0,0 +1,241 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.threadpool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncString;
+import com.github.jlangch.venice.impl.types.collections.VncMap;
+import com.github.jlangch.venice.impl.types.collections.VncVector;
+
+
+public class ExecutorMetricsTest {
+
+    @Test
+    public void test_registry() {
+        final ExecutorMetrics m = ExecutorMetrics.of("test-registry-pool");
+
+        assertSame(m, ExecutorMetrics.of("test-registry-pool"));
+        assertSame(m, ExecutorMetrics.find("test-registry-pool"));
+        assertTrue(ExecutorMetrics.all().contains(m));
+    }
+
+    @Test
+    public void test_fixed_pool() throws Exception {
+        final ManagedFixedThreadPoolExecutor pool =
+                new ManagedFixedThreadPoolExecutor("test-fixed-pool", 1);
+        try {
+            final ExecutorMetrics m = pool.getMetrics();
+            m.reset();
+
+            // block the single thread, the next tasks queue up
+            final ExecutorService es = pool.getExecutor();
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch latch = new CountDownLatch(1);
+            final Future<?> blocker = es.submit(() -> { started.countDown(); await(latch); });
+            assertTrue(started.await(2, TimeUnit.SECONDS));
+            final Future<?> ok = es.submit(() -> sleep(5));
+            final Future<?> err = es.submit(() -> { throw new RuntimeException("test"); });
+
+            Thread.sleep(20);
+            assertEquals(2, m.getQueuedTaskCount());
+            assertEquals(1, m.getRunningTaskCount());
+
+            latch.countDown();
+            blocker.get();
+            ok.get();
+            assertThrows(ExecutionException.class, () -> err.get());
+
+            // wait for the metrics of the tasks
+            es.shutdown();
+            assertTrue(es.awaitTermination(2, TimeUnit.SECONDS));
+
+            assertEquals(3, m.getSubmittedTaskCount());
+            assertEquals(2, m.getCompletedTaskCount());
+            assertEquals(1, m.getFailedTaskCount());
+            assertEquals(0, m.getQueuedTaskCount());
+            assertEquals(0, m.getRunningTaskCount());
+            assertTrue(m.getMaxQueuedTaskCount() >= 2);
+            assertTrue(m.getQueueWaitMaxMicros() >= 20_000);
+            assertTrue(m.getExecutionMaxMicros() >= 20_000);
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_rejected_and_drained() throws Exception {
+        final ExecutorMetrics m = ExecutorMetrics.of("test-bounded-pool");
+        m.reset();
+
+        final InstrumentedThreadPoolExecutor es = new InstrumentedThreadPoolExecutor(
+                                                        1, 1, 0L, TimeUnit.MILLISECONDS,
+                                                        new LinkedBlockingQueue<>(1),
+                                                        ThreadPoolUtil.createCountedThreadFactory(
+                                                                "test-bounded-pool", true),
+                                                        m);
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        es.execute(() -> { started.countDown(); await(latch); });
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        es.execute(() -> {});
+        assertThrows(RejectedExecutionException.class, () -> es.execute(() -> {}));
+
+        assertEquals(1, m.getRejectedTaskCount());
+        assertEquals(1, m.getQueuedTaskCount());
+
+        assertEquals(1, es.shutdownNow().size());
+        assertEquals(0, m.getQueuedTaskCount());
+        latch.countDown();
+    }
+
+    @Test
+    public void test_queue_holds_submitted_tasks() throws Exception {
+        final ExecutorMetrics m = ExecutorMetrics.of("test-unwrapped-pool");
+        m.reset();
+
+        final InstrumentedThreadPoolExecutor es = new InstrumentedThreadPoolExecutor(
+                                                        1, 1, 0L, TimeUnit.MILLISECONDS,
+                                                        new LinkedBlockingQueue<>(),
+                                                        ThreadPoolUtil.createCountedThreadFactory(
+                                                                "test-unwrapped-pool", true),
+                                                        m);
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch latch = new CountDownLatch(1);
+        es.submit(() -> { started.countDown(); await(latch); });
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        final Runnable task = () -> {};
+        es.execute(task);
+        final Future<?> f1 = es.submit(() -> {});
+        final Future<?> f2 = es.submit(() -> {});
+
+        assertTrue(es.getQueue().contains(task));
+        assertTrue(es.remove(task));
+        assertEquals(2, m.getQueuedTaskCount());
+
+        final List<Runnable> drained = es.shutdownNow();
+        assertEquals(2, drained.size());
+        assertSame(f1, drained.get(0));
+        assertSame(f2, drained.get(1));
+        ((Future<?>)drained.get(0)).cancel(false);
+        assertTrue(f1.isCancelled());
+        assertEquals(0, m.getQueuedTaskCount());
+        latch.countDown();
+    }
+
+    @Test
+    public void test_scheduled_pool() throws Exception {
+        final ManagedScheduledThreadPoolExecutor pool =
+                new ManagedScheduledThreadPoolExecutor("test-scheduled-pool", 1);
+        try {
+            final ExecutorMetrics m = pool.getMetrics();
+            m.reset();
+
+            final ScheduledExecutorService es = pool.getExecutor();
+
+            final CountDownLatch ticks = new CountDownLatch(3);
+            final ScheduledFuture<?> periodic = es.scheduleAtFixedRate(
+                                                    ticks::countDown, 0, 5, TimeUnit.MILLISECONDS);
+            assertTrue(ticks.await(2, TimeUnit.SECONDS));
+            periodic.cancel(false);
+
+            es.schedule(() -> "done", 300, TimeUnit.MILLISECONDS);
+
+            // wait for the metrics of the tasks
+            es.shutdown();
+            assertTrue(es.awaitTermination(2, TimeUnit.SECONDS));
+
+            assertEquals(2, m.getSubmittedTaskCount());
+            assertTrue(m.getCompletedTaskCount() >= 4);
+            assertEquals(0, m.getFailedTaskCount());
+            assertEquals(0, m.getQueuedTaskCount());
+            assertEquals(0, m.getRunningTaskCount());
+            // the queue wait of a scheduled task is its lateness, not its delay
+            assertTrue(m.getQueueWaitMaxMicros() < 250_000);
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_toVncMap() {
+        final ExecutorMetrics m = ExecutorMetrics.of("test-map-pool");
+        m.reset();
+
+        m.wrap(() -> {}).run();
+
+        final VncMap map = m.toVncMap();
+        assertEquals(new VncString("test-map-pool"), map.get(new VncKeyword("name")));
+        assertEquals(new VncLong(1), map.get(new VncKeyword("submitted")));
+        assertEquals(new VncLong(1), map.get(new VncKeyword("completed")));
+        assertEquals(new VncLong(0), map.get(new VncKeyword("queued")));
+        assertEquals(new VncLong(1), map.get(new VncKeyword("max-running")));
+
+        final VncMap wait = (VncMap)map.get(new VncKeyword("queue-wait"));
+        assertEquals(new VncLong(1), wait.get(new VncKeyword("count")));
+
+        final VncVector saturation = (VncVector)map.get(new VncKeyword("saturation"));
+        assertEquals(1, saturation.size());
+    }
+
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch(InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch(InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
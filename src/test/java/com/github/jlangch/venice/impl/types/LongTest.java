@@ -0,0 +1,95 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.Venice;
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.functions.MathFunctions;
+
+
+public class LongTest {
+
+    @Test
+    public void test_cache() {
+        assertSame(VncLong.of(0L), VncLong.of(0L));
+        assertSame(VncLong.of(-1024L), VncLong.of(-1024L));
+        assertSame(VncLong.of(1024L), VncLong.of(1024L));
+        assertNotSame(VncLong.of(1025L), VncLong.of(1025L));
+        assertNotSame(VncLong.of(-1025L), VncLong.of(-1025L));
+
+        assertEquals(1025L, VncLong.of(1025L).toJavaLong());
+        assertEquals(Long.MIN_VALUE, VncLong.of(Long.MIN_VALUE).toJavaLong());
+
+        assertSame(VncLong.of(5L), new VncLong(4L).inc());
+        assertSame(VncLong.of(3L), new VncLong(4L).dec());
+
+        // cached longs have no meta data
+        assertEquals(Constants.Nil, VncLong.of(1L).withMeta(new VncString("x")).inc().getMeta());
+    }
+
+    @Test
+    public void test_primitive_fast_path() {
+        final VncNumericFunction add = (VncNumericFunction)MathFunctions.add;
+
+        assertEquals(3L, ((VncLong)add.applyPrimitive(VncLong.of(1L), VncLong.of(2L))).toJavaLong());
+        assertEquals(3.5D, ((VncDouble)add.applyPrimitive(new VncDouble(1.5D), new VncDouble(2.0D))).toJavaDouble());
+
+        // mixed types are not handled by the fast path
+        assertEquals(null, add.applyPrimitive(VncLong.of(1L), new VncDouble(2.0D)));
+        assertEquals(null, add.applyPrimitive(VncLong.of(1L), new VncInteger(2)));
+    }
+
+    @Test
+    public void test_primitive_eval() {
+        final Venice venice = new Venice();
+
+        assertEquals(3L,  venice.eval("(let [x 1 y 2] (+ x y))"));
+        assertEquals(-1L, venice.eval("(let [x 1 y 2] (- x y))"));
+        assertEquals(6L,  venice.eval("(let [x 2 y 3] (* x y))"));
+        assertEquals(Long.MIN_VALUE, venice.eval("(+ 9223372036854775807 1)"));
+
+        assertEquals(3.5D, venice.eval("(let [x 1.5 y 2.0] (+ x y))"));
+        assertEquals(3.5D, venice.eval("(let [x 1.5 y 2] (+ x y))"));
+
+        assertTrue((Boolean)venice.eval("(let [x 1 y 2] (< x y))"));
+        assertTrue((Boolean)venice.eval("(let [x 2 y 2] (<= x y))"));
+        assertFalse((Boolean)venice.eval("(let [x 1 y 2] (> x y))"));
+        assertFalse((Boolean)venice.eval("(let [x 1.0 y 2.0] (>= x y))"));
+
+        // NaN compares like the generic path
+        assertFalse((Boolean)venice.eval("(< (/ 0.0 0.0) 1.0)"));
+        assertTrue((Boolean)venice.eval("(> (/ 0.0 0.0) 1.0)"));
+
+        assertEquals(499500L, venice.eval("(loop [i 0 sum 0] (if (< i 1000) (recur (+ i 1) (+ sum i)) sum))"));
+
+        assertThrows(VncException.class, () -> venice.eval("(< 1 \"a\")"));
+    }
+}
@@ -0,0 +1,128 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.Venice;
+import com.github.jlangch.venice.impl.types.Constants;
+import com.github.jlangch.venice.impl.types.VncKeyword;
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncVal;
+
+
+public class ArrayMapTest {
+
+    @Test
+    public void test_small_maps() {
+        final VncHashMap m = VncHashMap.of(kw("a"), num(1), kw("b"), num(2));
+
+        assertTrue(m instanceof VncArrayMap);
+        assertEquals(2, m.size());
+        assertEquals(num(1), m.get(kw("a")));
+        assertEquals(Constants.Nil, m.get(kw("c")));
+        assertEquals("{:a 1 :b 2}", m.toString());
+
+        // replace keeps the position
+        assertEquals("{:a 3 :b 2}", m.assoc(kw("a"), num(3)).toString());
+        assertEquals("{:b 2}", m.dissoc(kw("a")).toString());
+        assertEquals("{:a 1 :b 2}", m.dissoc(kw("x")).toString());
+    }
+
+    @Test
+    public void test_promotion() {
+        VncHashMap m = VncHashMap.EMPTY;
+        for(int ii=0; ii<VncArrayMap.MAX_ENTRIES; ii++) {
+            m = m.assoc(num(ii), num(ii * 10));
+        }
+        assertTrue(m instanceof VncArrayMap);
+
+        m = m.assoc(num(100), num(1000));
+        assertFalse(m instanceof VncArrayMap);
+        assertEquals(VncArrayMap.MAX_ENTRIES + 1, m.size());
+        assertEquals(num(70), m.get(num(7)));
+        assertEquals(num(1000), m.get(num(100)));
+
+        // bulk creation
+        final VncVal[] kvs = new VncVal[40];
+        for(int ii=0; ii<20; ii++) {
+            kvs[2*ii] = num(ii);
+            kvs[2*ii+1] = num(ii);
+        }
+        final VncHashMap big = VncHashMap.of(kvs);
+        assertFalse(big instanceof VncArrayMap);
+        assertEquals(20, big.size());
+        assertEquals(num(19), big.get(num(19)));
+    }
+
+    @Test
+    public void test_equality_across_representations() {
+        final VncHashMap small = VncHashMap.of(num(1), num(1), num(2), num(2));
+        final VncHashMap hamt = new VncHashMap(
+                                    io.vavr.collection.HashMap.of(
+                                            num(2), num(2), num(1), num(1)));
+
+        assertTrue(small instanceof VncArrayMap);
+        assertFalse(hamt instanceof VncArrayMap);
+        assertEquals(small, hamt);
+        assertEquals(hamt, small);
+        assertEquals(small.hashCode(), hamt.hashCode());
+        assertEquals(0, small.compareTo(hamt));
+        assertNotEquals(small, hamt.assoc(num(3), num(3)));
+        assertNotEquals(small, VncHashMap.of(num(1), num(1), num(2), num(3)));
+
+        assertEquals(
+            VncHashMap.of(num(1), num(1), num(2), num(2), num(3), num(3)),
+            hamt.putAll(VncHashMap.of(num(3), num(3))));
+        assertEquals(
+            VncHashMap.of(num(1), num(1), num(2), num(2), num(3), num(3)),
+            VncHashMap.of(num(3), num(3)).putAll(hamt));
+    }
+
+    @Test
+    public void test_venice() {
+        final Venice venice = new Venice();
+
+        assertEquals("{:a 1 :b 2 :c 3}", venice.eval("(pr-str (assoc {:a 1 :b 2} :c 3))"));
+        assertEquals("true", venice.eval("(pr-str (= {:a 1 :b 2} {:b 2 :a 1}))"));
+        assertEquals("20", venice.eval("(pr-str (count (zipmap (range 20) (range 20))))"));
+        assertEquals("true", venice.eval(
+                        "(pr-str (= (into {} (map vector (range 8) (range 8)))     \n" +
+                        "           (dissoc (zipmap (range 10) (range 10)) 8 9)))   "));
+        assertEquals("1", venice.eval(
+                        "(pr-str (count (set [{0 0} (apply dissoc (zipmap (range 10) (range 10)) (range 1 10))])))"));
+    }
+
+
+    private static VncKeyword kw(final String name) {
+        return new VncKeyword(name);
+    }
+
+    private static VncLong num(final long n) {
+        return new VncLong(n);
+    }
+}
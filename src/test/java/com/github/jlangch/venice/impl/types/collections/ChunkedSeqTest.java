@@ -0,0 +1,133 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types.collections;
+
+import static com.github.jlangch.venice.impl.types.Constants.Nil;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.impl.types.VncLong;
+import com.github.jlangch.venice.impl.types.VncVal;
+
+
+public class ChunkedSeqTest {
+
+    @Test
+    public void testFirstRest() {
+        VncLazySeq s = VncChunkedSeq.of(range(100), Nil);
+
+        long sum = 0;
+        while(!s.isEmpty()) {
+            sum += ((VncLong)s.first()).getValue();
+            s = s.rest();
+        }
+
+        assertEquals(4950L, sum);
+        assertEquals(Nil, s.first());
+        assertTrue(s.rest().isEmpty());
+    }
+
+    @Test
+    public void testNth() {
+        final VncLazySeq s = VncChunkedSeq.of(range(100), Nil);
+
+        assertEquals(new VncLong(0), s.first());
+        assertEquals(new VncLong(1), s.second());
+        assertEquals(new VncLong(40), s.nth(40));
+        assertEquals(new VncLong(73), s.drop(33).nth(40));
+        assertEquals(Nil, s.nthOrDefault(100, Nil));
+    }
+
+    @Test
+    public void testMapIsChunked() {
+        final AtomicInteger count = new AtomicInteger();
+
+        final VncLazySeq s = VncChunkedSeq
+                                .of(range(100), Nil)
+                                .map(v -> { count.incrementAndGet(); return v; });
+
+        assertEquals(0, count.get());
+
+        s.first();
+        assertEquals(32, count.get());
+
+        s.nth(31);
+        assertEquals(32, count.get());
+
+        s.nth(32);
+        assertEquals(64, count.get());
+
+        assertEquals(100, s.realize().size());
+        assertEquals(100, count.get());
+    }
+
+    @Test
+    public void testFilterTakeTakeWhile() {
+        final VncLazySeq s = VncChunkedSeq.of(range(1000), Nil);
+
+        assertEquals(
+            "(0 100 200 300)",
+            s.filter(v -> ((VncLong)v).getValue() % 100 == 0).take(4).realize().toString());
+
+        assertEquals(
+            "(998 999)",
+            s.drop(998).takeWhile(v -> ((VncLong)v).getValue() < 2000).realize().toString());
+
+        assertEquals(
+            "(10 11 12)",
+            s.drop(10).take(3).realize().toString());
+
+        assertTrue(s.filter(v -> false).isEmpty());
+    }
+
+    @Test
+    public void testKeep() {
+        final VncLazySeq s = VncChunkedSeq
+                                .of(range(100), Nil)
+                                .keep(v -> ((VncLong)v).getValue() % 40 == 1 ? v : Nil);
+
+        assertEquals("(1 41 81)", s.realize().toString());
+    }
+
+    @Test
+    public void testArray() {
+        final VncLazySeq s = VncChunkedSeq.ofArray(new long[] {1L, 2L, 3L}, Nil);
+
+        assertEquals("(1 2 3)", s.realize().toString());
+        assertEquals("(2 3)", s.rest().lazyStream().toList().mkString("(", " ", ")"));
+    }
+
+
+    private static VncList range(final int n) {
+        final List<VncVal> items = new ArrayList<>();
+        for(int ii=0; ii<n; ii++) {
+            items.add(new VncLong(ii));
+        }
+        return VncList.ofList(items);
+    }
+}
@@ -0,0 +1,90 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.types.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.VncException;
+import com.github.jlangch.venice.impl.types.VncDouble;
+import com.github.jlangch.venice.impl.types.VncLong;
+
+
+public class RangeTest {
+
+    @Test
+    public void testLongRange() {
+        final VncRange r = VncRange.of(0L, 100L, 3L);
+
+        assertEquals(34, r.size());
+        assertEquals(new VncLong(0L), r.first());
+        assertEquals(new VncLong(99L), r.last());
+        assertEquals(new VncLong(30L), r.nth(10));
+        assertEquals(new VncLong(3L), r.rest().first());
+        assertEquals(new VncLong(96L), r.butlast().last());
+        assertEquals(new VncLong(99L), r.reverse().first());
+        assertEquals(new VncLong(0L), r.reverse().last());
+        assertEquals(10, r.drop(24).size());
+        assertEquals(0, r.drop(100).size());
+        assertEquals(5, r.take(5).size());
+        assertEquals(new VncLong(60L), r.slice(20, 30).first());
+    }
+
+    @Test
+    public void testLongRangeBounds() {
+        assertEquals(0, VncRange.of(10L, 10L, 1L).size());
+        assertEquals(0, VncRange.of(10L, 0L, 1L).size());
+        assertEquals(10, VncRange.of(10L, 0L, -1L).size());
+        assertEquals(3, VncRange.of(Long.MIN_VALUE, Long.MAX_VALUE, Long.MAX_VALUE).size());
+
+        assertThrows(VncException.class, () -> VncRange.of(0L, 10L, 0L));
+        assertThrows(VncException.class, () -> VncRange.of(0L, Long.MAX_VALUE, 1L));
+    }
+
+    @Test
+    public void testDoubleRange() {
+        final VncRange r = VncRange.of(0.0D, 1.0D, 0.1D);
+
+        assertEquals(10, r.size());
+        assertEquals(new VncDouble(0.0D), r.first());
+        assertTrue(((VncDouble)r.last()).getValue() < 1.0D);
+
+        assertEquals(5, VncRange.of(1.0D, 3.1D, 0.5D).size());
+        assertEquals(4, VncRange.of(2.0D, 1.0D, -0.25D).size());
+    }
+
+    @Test
+    public void testEquality() {
+        final VncRange r = VncRange.of(0L, 10L, 1L);
+        final VncList l = VncList.ofList(r.getJavaList());
+
+        assertEquals(l, r);
+        assertEquals(r, l);
+        assertEquals(l.hashCode(), r.hashCode());
+        assertEquals(r, VncRange.of(0L, 10L, 1L));
+        assertNotEquals(r, VncRange.of(0L, 11L, 1L));
+    }
+}
@@ -0,0 +1,179 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.impl.functions.CoreFunctions;
+import com.github.jlangch.venice.impl.types.Constants;
+import com.github.jlangch.venice.impl.types.VncFunction;
+import com.github.jlangch.venice.impl.types.VncString;
+import com.github.jlangch.venice.impl.types.collections.VncList;
+import com.github.jlangch.venice.util.ElapsedTime;
+
+
+public class MeterRegistryTest {
+
+    @Test
+    public void test_self_time() {
+        final MeterRegistry registry = new MeterRegistry(true);
+
+        // first -> second -> second
+        final int f1 = registry.enter();
+        final int f2 = registry.enter();
+        final int f3 = registry.enter();
+        registry.record(CoreFunctions.second, f3, 100L);
+        registry.record(CoreFunctions.second, f2, 300L);
+        registry.record(CoreFunctions.first, f1, 1000L);
+
+        final Map<String,ElapsedTime> data = data(registry);
+
+        assertEquals(2, data.size());
+
+        assertEquals(1, data.get("first").getCount());
+        assertEquals(1000L, data.get("first").getElapsedNanos());
+        assertEquals(700L, data.get("first").getSelfNanos());
+
+        assertEquals(2, data.get("second").getCount());
+        assertEquals(400L, data.get("second").getElapsedNanos());
+        assertEquals(300L, data.get("second").getSelfNanos());
+        assertEquals(300L, data.get("second").getMaxNanos());
+    }
+
+    @Test
+    public void test_merge_threads() throws Exception {
+        final MeterRegistry registry = new MeterRegistry(true);
+
+        final Runnable r = () -> {
+            for(int ii=0; ii<1000; ii++) {
+                registry.record(CoreFunctions.first, registry.enter(), 10L);
+            }
+        };
+
+        final Thread t1 = new Thread(r);
+        final Thread t2 = new Thread(r);
+        t1.start();
+        t2.start();
+        r.run();
+        t1.join();
+        t2.join();
+
+        final ElapsedTime t = data(registry).get("first");
+        assertEquals(3000, t.getCount());
+        assertEquals(30000L, t.getElapsedNanos());
+        assertEquals(30000L, t.getSelfNanos());
+    }
+
+    @Test
+    public void test_anonymous_functions() {
+        final MeterRegistry registry = new MeterRegistry(true);
+
+        // all instances of an anonymous function share one meter
+        for(int ii=0; ii<1000; ii++) {
+            final VncFunction fn = VncFunction.of(args -> Constants.Nil);
+            registry.record(fn, registry.enter(), 10L);
+        }
+
+        final Map<String,ElapsedTime> data = data(registry);
+        assertEquals(1, data.size());
+        assertEquals(1000, data.get("anonymous-fn").getCount());
+    }
+
+    @Test
+    public void test_reset() {
+        final MeterRegistry registry = new MeterRegistry(true);
+
+        registry.record(CoreFunctions.first, registry.enter(), 10L);
+        registry.record(CoreFunctions.second, registry.enter(), 20L);
+        registry.record("venice.eval", 30L);
+
+        registry.resetAllBut(VncList.of(new VncString("second"), new VncString("venice.eval")));
+        assertEquals(2, data(registry).size());
+        assertEquals(20L, data(registry).get("second").getElapsedNanos());
+
+        registry.record(CoreFunctions.second, registry.enter(), 20L);
+        assertEquals(2, data(registry).get("second").getCount());
+
+        registry.reset();
+        assertTrue(data(registry).isEmpty());
+
+        registry.record(CoreFunctions.first, registry.enter(), 10L);
+        assertEquals(1, data(registry).size());
+        assertEquals(1, data(registry).get("first").getCount());
+    }
+
+    @Test
+    public void test_histogram() {
+        final LatencyHistogram h = new LatencyHistogram();
+
+        assertEquals(0L, h.getValueAtPercentile(50.0D));
+
+        for(int ii=1; ii<=1000; ii++) {
+            h.record(ii * 1000L);  // 1us .. 1ms
+        }
+
+        assertEquals(1000L, h.getTotalCount());
+        assertWithin(500_000L, h.getValueAtPercentile(50.0D));
+        assertWithin(990_000L, h.getValueAtPercentile(99.0D));
+        assertWithin(999_000L, h.getValueAtPercentile(99.9D));
+        assertWithin(1_000_000L, h.getValueAtPercentile(100.0D));
+
+        final LatencyHistogram merged = new LatencyHistogram();
+        merged.add(h);
+        merged.add(h);
+        assertEquals(2000L, merged.getTotalCount());
+        assertWithin(500_000L, merged.getValueAtPercentile(50.0D));
+    }
+
+    @Test
+    public void test_histogram_buckets() {
+        for(long v : new long[] {0L, 1L, 7L, 8L, 9L, 15L, 16L, 1000L, 123_456_789L, 1L << 35}) {
+            final int idx = LatencyHistogram.bucketIndex(v);
+            assertTrue(LatencyHistogram.lowestEquivalentValue(idx) <= v);
+            assertTrue(LatencyHistogram.highestEquivalentValue(idx) >= v);
+        }
+
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.bucketIndex(-1L));
+    }
+
+
+    private static Map<String,ElapsedTime> data(final MeterRegistry registry) {
+        return registry.getTimerData()
+                       .stream()
+                       .collect(Collectors.toMap(ElapsedTime::getName, Function.identity()));
+    }
+
+    private static void assertWithin(final long expected, final long actual) {
+        // the histogram's relative error is 12.5%
+        assertTrue(
+            Math.abs(actual - expected) <= expected / 8,
+            String.format("expected %d, actual %d", expected, actual));
+    }
+}
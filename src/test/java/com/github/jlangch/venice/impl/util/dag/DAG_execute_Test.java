@@ -0,0 +1,182 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.dag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+public class DAG_execute_Test {
+
+    @BeforeAll
+    public static void setup() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterAll
+    public static void teardown() {
+        executor.shutdownNow();
+    }
+
+
+    @Test
+    public void test_execute_order() throws Exception {
+        final DAG<String> dag =
+                new DAG<String>()
+                        .addEdge("A", "B")      //     A  E
+                        .addEdge("B", "C")      //     |  |
+                        .addEdge("C", "D")      //     B  F
+                        .addEdge("E", "F")      //     | / \
+                        .addEdge("F", "C")      //     C    G
+                        .addEdge("F", "G")      //      \  /
+                        .addEdge("G", "D");     //       D
+
+        final List<String> executed = new CopyOnWriteArrayList<>();
+
+        final Map<String,DagExecutor.Result<String>> results =
+                new DagExecutor<String,String>(dag, executor, 4)
+                        .execute(n -> { executed.add(n); return n.toLowerCase(); });
+
+        assertEquals(dag.topologicalSort(), new ArrayList<>(results.keySet()));
+        assertEquals("d", results.get("D").getValue());
+
+        // every node is executed after its parents
+        for(Edge<Node<String>> e : dag.getEdges()) {
+            assertTrue(
+                executed.indexOf(e.getParent().getValue()) < executed.indexOf(e.getChild().getValue()));
+        }
+    }
+
+    @Test
+    public void test_execute_parallelism() throws Exception {
+        DAG<Integer> dag = new DAG<>();
+        for(int ii=1; ii<=20; ii++) {
+            dag = dag.addEdge(0, ii);
+        }
+
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+
+        final Map<Integer,DagExecutor.Result<Integer>> results =
+                new DagExecutor<Integer,Integer>(dag, executor, 3)
+                        .execute(n -> {
+                            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                            sleep(10);
+                            active.decrementAndGet();
+                            return n * 2;
+                        });
+
+        assertEquals(21, results.size());
+        assertEquals(40, results.get(20).getValue());
+        assertTrue(maxActive.get() <= 3);
+        assertTrue(results.get(1).getElapsedNanos() >= 10_000_000L);
+    }
+
+    @Test
+    public void test_execute_failure() {
+        final DAG<String> dag =
+                new DAG<String>()
+                        .addEdge("A", "B")
+                        .addEdge("B", "C");
+
+        final Map<String,Boolean> executed = new ConcurrentHashMap<>();
+
+        final DagExecutionException ex = assertThrows(
+                DagExecutionException.class,
+                () -> new DagExecutor<String,String>(dag, executor, 2)
+                            .execute(n -> {
+                                executed.put(n, true);
+                                if (n.equals("B")) throw new RuntimeException("failed");
+                                return n;
+                            }));
+
+        assertEquals("B", ex.getNode());
+        assertEquals(2, executed.size());  // C has not been started
+    }
+
+    @Test
+    public void test_execute_saturated_pool() throws Exception {
+        DAG<Integer> dag = new DAG<>();
+        for(int ii=1; ii<=10; ii++) {
+            dag = dag.addEdge(0, ii);
+        }
+
+        // the pool rejects tasks beyond its 2 threads
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                                            2, 2, 60L, TimeUnit.SECONDS,
+                                            new SynchronousQueue<Runnable>());
+        try {
+            final Map<Integer,DagExecutor.Result<Integer>> results =
+                    new DagExecutor<Integer,Integer>(dag, pool, 8)
+                            .execute(n -> { sleep(5); return n * 2; });
+
+            assertEquals(11, results.size());
+            assertEquals(20, results.get(10).getValue());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_execute_rejected() {
+        final DAG<String> dag = new DAG<String>().addEdge("A", "B");
+
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        pool.shutdown();
+
+        assertThrows(
+                RejectedExecutionException.class,
+                () -> new DagExecutor<String,String>(dag, pool, 2).execute(n -> n));
+    }
+
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch(InterruptedException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+
+    private static ExecutorService executor;
+}
@@ -0,0 +1,142 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.dag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+
+public class DAG_incremental_Test {
+
+    @Test
+    public void test_immutable() {
+        final DAG<String> dag1 = new DAG<String>().addEdge("A", "B");
+        final DAG<String> dag2 = dag1.addEdge("B", "C");
+
+        assertEquals("A B", String.join(" ", dag1.getValues()));
+        assertEquals("A B C", String.join(" ", dag2.getValues()));
+
+        assertEquals("B", String.join(" ", dag1.children("A")));
+        assertEquals("B C", String.join(" ", dag2.children("A")));
+    }
+
+    @Test
+    public void test_incremental_order() {
+        DAG<String> dag = new DAG<String>()
+                                .addEdge("A", "B")
+                                .addEdge("C", "D");
+
+        dag.topologicalSort(); // compute the order
+
+        // edges against the cached order
+        dag = dag.addEdge("D", "A")
+                 .addEdge("B", "E")
+                 .addEdge("E", "C2")
+                 .addEdge("C", "E");
+
+        assertValidOrder(dag);
+    }
+
+    @Test
+    public void test_incremental_cycle() {
+        final DAG<String> dag = new DAG<String>()
+                                    .addEdge("A", "B")
+                                    .addEdge("B", "C")
+                                    .addEdge("X", "A");
+
+        dag.topologicalSort(); // compute the order
+
+        assertThrows(DagCycleException.class, () -> dag.addEdge("C", "A"));
+        assertThrows(DagCycleException.class, () -> dag.addEdge("C", "X"));
+    }
+
+    @Test
+    public void test_reachability() {
+        final DAG<String> dag = new DAG<String>()
+                                    .addEdge("A", "B")      //       A
+                                    .addEdge("A", "C")      //      / \
+                                    .addEdge("B", "D")      //     B   C
+                                    .addEdge("C", "D")      //      \ /
+                                    .addEdge("D", "E")      //       D   X
+                                    .addNode("X");          //       |
+                                                            //       E
+
+        assertTrue(dag.isParentOf("A", "E"));
+        assertTrue(dag.isParentOf("C", "D"));
+        assertFalse(dag.isParentOf("E", "A"));
+        assertFalse(dag.isParentOf("B", "C"));
+        assertFalse(dag.isParentOf("X", "E"));
+        assertFalse(dag.isParentOf("A", "A"));
+
+        assertTrue(dag.isChildOf("E", "A"));
+        assertFalse(dag.isChildOf("A", "E"));
+    }
+
+    @Test
+    public void test_large() {
+        final int size = 50_000;
+
+        final List<Edge<Integer>> edges = new ArrayList<>();
+        for(int ii=1; ii<size; ii++) {
+            edges.add(new Edge<>(ii / 2, ii));  // binary tree
+            edges.add(new Edge<>(ii - 1, ii));  // chain
+        }
+
+        DAG<Integer> dag = new DAG<Integer>().addEdges(edges);
+
+        assertEquals(size, dag.topologicalSort().size());
+        assertTrue(dag.isParentOf(0, size - 1));
+        assertFalse(dag.isParentOf(size - 1, 0));
+        assertEquals(size - 1, dag.children(0).size());
+
+        dag = dag.addEdge(size, 0);
+        assertValidOrder(dag);
+        assertEquals(size, dag.children(size).size());
+    }
+
+
+    private static <T> void assertValidOrder(final DAG<T> dag) {
+        final List<T> sorted = dag.topologicalSort();
+
+        assertEquals(dag.size(), sorted.size());
+
+        final Map<T,Integer> index = new HashMap<>();
+        for(int ii=0; ii<sorted.size(); ii++) {
+            index.put(sorted.get(ii), ii);
+        }
+
+        for(Edge<Node<T>> e : dag.getEdges()) {
+            assertTrue(
+                index.get(e.getParent().getValue()) < index.get(e.getChild().getValue()),
+                "Edge " + e.getParent() + " -> " + e.getChild());
+        }
+    }
+}
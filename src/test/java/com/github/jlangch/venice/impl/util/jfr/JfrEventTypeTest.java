@@ -0,0 +1,129 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.jfr;
+
+import static com.github.jlangch.venice.impl.util.jfr.JfrEventType.bytesField;
+import static com.github.jlangch.venice.impl.util.jfr.JfrEventType.stringField;
+import static com.github.jlangch.venice.impl.util.jfr.JfrEventType.timespanField;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+
+// The JFR API is accessed by reflection, Venice is compiled for Java 8
+public class JfrEventTypeTest {
+
+    @Test
+    public void test_disabled_by_default() {
+        assertFalse(JfrEvents.ENABLED);
+
+        // no-ops if disabled
+        JfrEvents.functionCall("user/foo", System.nanoTime());
+    }
+
+    @Test
+    public void test_record_event() throws Exception {
+        if (!isJfrAvailable()) {
+            return;
+        }
+
+        final JfrEventType type = JfrEventType.define(
+                                    "venice.Test",
+                                    "Venice Test",
+                                    "Test event",
+                                    new String[] { "Venice", "Test" },
+                                    stringField("function", "Function"),
+                                    bytesField("bytes", "Bytes"),
+                                    timespanField("elapsed", "Elapsed"));
+
+        final File file = File.createTempFile("venice-jfr-", ".jfr");
+        try {
+            final Class<?> clazzRecording = Class.forName("jdk.jfr.Recording");
+            final Object recording = clazzRecording.getConstructor().newInstance();
+            clazzRecording.getMethod("enable", String.class).invoke(recording, "venice.Test");
+            clazzRecording.getMethod("start").invoke(recording);
+
+            type.emit("user/foo", 100L, 2_000_000L);
+
+            clazzRecording.getMethod("stop").invoke(recording);
+            clazzRecording.getMethod("dump", Path.class).invoke(recording, file.toPath());
+            clazzRecording.getMethod("close").invoke(recording);
+
+            final Class<?> clazzRecordingFile = Class.forName("jdk.jfr.consumer.RecordingFile");
+            final Class<?> clazzRecordedEvent = Class.forName("jdk.jfr.consumer.RecordedEvent");
+            final Class<?> clazzRecordedObject = Class.forName("jdk.jfr.consumer.RecordedObject");
+            final Class<?> clazzEventType = Class.forName("jdk.jfr.EventType");
+
+            final List<?> events = (List<?>)clazzRecordingFile
+                                                .getMethod("readAllEvents", Path.class)
+                                                .invoke(null, file.toPath());
+
+            final List<?> testEvents = events
+                                        .stream()
+                                        .filter(e -> "venice.Test".equals(eventName(e, clazzRecordedEvent, clazzEventType)))
+                                        .collect(Collectors.toList());
+
+            assertEquals(1, testEvents.size());
+
+            final Object event = testEvents.get(0);
+            assertEquals("user/foo", clazzRecordedObject.getMethod("getString", String.class).invoke(event, "function"));
+            assertEquals(100L, clazzRecordedObject.getMethod("getLong", String.class).invoke(event, "bytes"));
+            assertEquals(2_000_000L, clazzRecordedObject.getMethod("getLong", String.class).invoke(event, "elapsed"));
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.EventFactory");
+            return (Boolean)Class.forName("jdk.jfr.FlightRecorder")
+                                 .getMethod("isAvailable")
+                                 .invoke(null);
+        }
+        catch(Exception ex) {
+            return false;
+        }
+    }
+
+    private static String eventName(
+            final Object event,
+            final Class<?> clazzRecordedEvent,
+            final Class<?> clazzEventType
+    ) {
+        try {
+            final Object type = clazzRecordedEvent.getMethod("getEventType").invoke(event);
+            return (String)clazzEventType.getMethod("getName").invoke(type);
+        }
+        catch(Exception ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+}
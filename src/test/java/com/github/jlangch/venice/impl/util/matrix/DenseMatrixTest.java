@@ -0,0 +1,131 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.impl.util.matrix;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.impl.util.matrix.DenseMatrix.ElementOp;
+
+
+public class DenseMatrixTest {
+
+    @Test
+    public void test_views() {
+        final DenseMatrix m = DenseMatrix.ofLongs(3, 3, new long[] {1,2,3, 4,5,6, 7,8,9});
+
+        final DenseMatrix t = m.transpose();
+        assertFalse(t.isCompact());
+        assertArrayEquals(new long[] {1,4,7, 2,5,8, 3,6,9}, t.toLongArray());
+        assertEquals(m, t.transpose());
+
+        final DenseMatrix s = m.slice(1, 3, 1, 3);
+        assertEquals(2, s.rows());
+        assertEquals(2, s.cols());
+        assertArrayEquals(new long[] {5,6, 8,9}, s.toLongArray());
+        assertArrayEquals(new long[] {6, 9}, s.column(1).toLongArray());
+        assertArrayEquals(new long[] {8,9}, s.row(1).toLongArray());
+        assertArrayEquals(new long[] {6,9}, s.transpose().row(1).toLongArray());
+
+        assertTrue(s.compact().isCompact());
+        assertEquals(s, s.compact());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> m.slice(0, 4, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> s.getLong(2, 0));
+    }
+
+    @Test
+    public void test_elementwise() {
+        final DenseMatrix a = DenseMatrix.ofLongs(2, 2, new long[] {1,2, 3,4});
+        final DenseMatrix b = DenseMatrix.ofDoubles(2, 2, new double[] {0.5,0.5, 0.5,0.5});
+
+        assertArrayEquals(new long[] {2,4, 6,8}, a.elementwise(ElementOp.ADD, a).toLongArray());
+        assertArrayEquals(new double[] {1.5,2.5, 3.5,4.5}, a.elementwise(ElementOp.ADD, b).toDoubleArray());
+        assertArrayEquals(new long[] {0,1, 1,2}, a.elementwise(ElementOp.DIV, 2L).toLongArray());
+        assertArrayEquals(new double[] {0.5,1.0, 1.5,2.0}, a.elementwise(ElementOp.DIV, 2.0D).toDoubleArray());
+
+        // long arithmetic wraps
+        final DenseMatrix max = DenseMatrix.ofLongs(1, 1, new long[] {Long.MAX_VALUE});
+        assertEquals(Long.MIN_VALUE, max.elementwise(ElementOp.ADD, 1L).getLong(0, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> a.elementwise(ElementOp.ADD, a.row(0)));
+        assertThrows(ArithmeticException.class, () -> a.elementwise(ElementOp.DIV, 0L));
+    }
+
+    @Test
+    public void test_multiply() {
+        // sizes that are not a multiple of the block size
+        final Random rnd = new Random(42);
+        final int n = 70, m = 131, p = 65;
+
+        final double[] a = new double[n * m];
+        final double[] b = new double[m * p];
+        for(int ii=0; ii<a.length; ii++) a[ii] = rnd.nextInt(100) - 50;
+        for(int ii=0; ii<b.length; ii++) b[ii] = rnd.nextInt(100) - 50;
+
+        final double[] expected = new double[n * p];
+        for(int i=0; i<n; i++) {
+            for(int j=0; j<p; j++) {
+                double sum = 0.0;
+                for(int k=0; k<m; k++) sum += a[i*m + k] * b[k*p + j];
+                expected[i*p + j] = sum;
+            }
+        }
+
+        final DenseMatrix ma = DenseMatrix.ofDoubles(n, m, a);
+        final DenseMatrix mb = DenseMatrix.ofDoubles(m, p, b);
+
+        assertArrayEquals(expected, ma.multiply(mb, false).toDoubleArray());
+        assertArrayEquals(expected, ma.multiply(mb, true).toDoubleArray());
+
+        // transposed views are multiplied like their compact copies
+        final DenseMatrix mbt = DenseMatrix.ofDoubles(p, m, mb.transpose().toDoubleArray());
+        assertArrayEquals(expected, ma.multiply(mbt.transpose(), false).toDoubleArray());
+
+        // long matrices
+        final DenseMatrix la = DenseMatrix.ofLongs(2, 3, new long[] {1,2,3, 4,5,6});
+        final DenseMatrix lb = DenseMatrix.ofLongs(3, 2, new long[] {1,2, 3,4, 5,6});
+        final DenseMatrix lc = la.multiply(lb, false);
+        assertTrue(lc.isLong());
+        assertArrayEquals(new long[] {22,28, 49,64}, lc.toLongArray());
+
+        assertThrows(IllegalArgumentException.class, () -> la.multiply(la, false));
+    }
+
+    @Test
+    public void test_shape() {
+        assertThrows(IllegalArgumentException.class, () -> DenseMatrix.ofLongs(2, 2, new long[3]));
+        assertThrows(IllegalArgumentException.class, () -> DenseMatrix.zeros(-1, 2, true));
+        assertThrows(IllegalArgumentException.class, () -> DenseMatrix.zeros(100_000, 100_000, true));
+
+        final DenseMatrix empty = DenseMatrix.zeros(0, 0, false);
+        assertTrue(empty.isEmpty());
+        assertEquals(0, empty.multiply(empty, false).size());
+    }
+}
@@ -21,10 +21,18 @@
  */
 package com.github.jlangch.venice.modules;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+
 import org.junit.jupiter.api.Test;
 
+import com.github.jlangch.venice.ExcelException;
+import com.github.jlangch.venice.JavaMethodInvocationException;
+import com.github.jlangch.venice.Parameters;
 import com.github.jlangch.venice.Venice;
 
 
@@ -73,4 +81,182 @@ public class ExcelModuleTest {
         assertTrue(true);
     }
 
+    @Test
+    public void test_stream_rows_vectors() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do\n"
+                + "  (load-module :excel)\n"
+                + "  \n"
+                + "  (defn create-excel []\n"
+                + "    (let [wbook (excel/create :xlsx)\n"
+                + "          sheet (excel/add-sheet wbook \"Data\")]\n"
+                + "      (excel/write-data sheet [[\"foo\" false 100 nil (time/local-date 2021 1 1)]\n"
+                + "                               [\"bar\" true 200.5]])\n"
+                + "      (excel/write->bytebuf wbook)))\n"
+                + "\n"
+                + "  (pr-str (transduce (map identity)\n"
+                + "                     conj\n"
+                + "                     []\n"
+                + "                     (excel/stream-rows (create-excel)))))";
+
+        assertEquals(
+            "[[\"foo\" false 100.0 nil 2021-01-01T00:00] [\"bar\" true 200.5]]",
+            venice.eval(script));
+    }
+
+    @Test
+    public void test_stream_rows_maps() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do\n"
+                + "  (load-module :excel)\n"
+                + "  \n"
+                + "  (let [wbook (excel/create :xlsx)\n"
+                + "        sheet (excel/add-sheet wbook \"Data\")]\n"
+                + "    (excel/add-sheet wbook \"Other\")\n"
+                + "    (excel/write-data sheet [[\"Title\"]\n"
+                + "                             [\"name\" \"age\"]\n"
+                + "                             [\"John\" 28]\n"
+                + "                             [\"Sue\" 26]\n"
+                + "                             [\"Max\" 30]])\n"
+                + "    (excel/write->file wbook file))\n"
+                + "\n"
+                + "  (let [rows (excel/stream-rows file {:sheet \"Data\" :as :maps :skip 1})]\n"
+                + "    [(reduce (fn [acc r] (+ acc (:age r))) 0 rows)\n"
+                + "     (reduce (fn [acc r] (reduced (:name r))) nil rows)\n"
+                + "     (count (transduce (map identity) conj [] (excel/stream-rows file {:sheet 2})))]))";
+
+        final File file = createTempFile();
+        try {
+            assertEquals(
+                "[84.0 \"John\" 0]",
+                venice.eval(
+                    "(pr-str " + script + ")",
+                    Parameters.of("file", file)));
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void test_stream_rows_lazy() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do\n"
+                + "  (load-module :excel)\n"
+                + "  \n"
+                + "  (let [wbook (excel/create :xlsx)\n"
+                + "        sheet (excel/add-sheet wbook \"Data\")]\n"
+                + "    (excel/write-data sheet [[\"a\" \"b\"] [1 2] [3 4]])\n"
+                + "    (excel/write->file wbook file))\n"
+                + "\n"
+                + "  (pr-str (doall (excel/stream-rows file {:as :maps :keys :string :lazy true}))))";
+
+        final File file = createTempFile();
+        try {
+            assertEquals(
+                "({\"a\" 1.0 \"b\" 2.0} {\"a\" 3.0 \"b\" 4.0})",
+                venice.eval(script, Parameters.of("file", file)));
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void test_stream_rows_invalid_sheet() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do\n"
+                + "  (load-module :excel)\n"
+                + "  \n"
+                + "  (let [wbook (excel/create :xlsx)]\n"
+                + "    (excel/add-sheet wbook \"Data\")\n"
+                + "    (excel/stream-rows (excel/write->bytebuf wbook) {:sheet \"Foo\"})))";
+
+        final JavaMethodInvocationException ex = assertThrows(
+                                                    JavaMethodInvocationException.class,
+                                                    () -> venice.eval(script));
+        assertTrue(ex.getCause() instanceof ExcelException);
+    }
+
+
+    @Test
+    public void test_streaming_writer() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do\n"
+                + "  (load-module :excel)\n"
+                + "  \n"
+                + "  (let [wbook (excel/create :xlsx {:streaming true :row-window 10})\n"
+                + "        sheet (excel/add-sheet wbook \"Data\")]\n"
+                + "    (excel/add-font wbook :bold {:bold true})\n"
+                + "    (excel/add-style wbook :header {:font :bold :bg-color \"#CCCCCC\"})\n"
+                + "    (excel/add-column sheet \"id\" {:field :id :width 50 :header-style :header})\n"
+                + "    (excel/add-column sheet \"value\" {:field :value :width 80 :header-style :header})\n"
+                + "    (excel/write-items sheet (map (fn [n] {:id n :value (* n 2)}) (range 1 1001)))\n"
+                + "    (excel/write->file wbook file))\n"
+                + "\n"
+                + "  (let [rows (excel/stream-rows file {:as :maps})]\n"
+                + "    [(reduce (fn [acc r] (inc acc)) 0 rows)\n"
+                + "     (reduce (fn [acc r] (+ acc (:value r))) 0 rows)]))";
+
+        final File file = createTempFile();
+        try {
+            assertEquals(
+                "[1000 1001000.0]",
+                venice.eval(
+                    "(pr-str " + script + ")",
+                    Parameters.of("file", file)));
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void test_streaming_writer_rejects_random_access() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do\n"
+                + "  (load-module :excel)\n"
+                + "  \n"
+                + "  (defn failure [f]\n"
+                + "    (try (f) :ok (catch :VncException e :failed)))\n"
+                + "  \n"
+                + "  (let [wbook (excel/create :xlsx {:streaming true :row-window 5})\n"
+                + "        sheet (excel/add-sheet wbook \"Data\")]\n"
+                + "    (excel/write-data sheet (map (fn [n] [n]) (range 20)))\n"
+                + "    (let [result [(failure #(excel/read-val sheet 20 1))\n"
+                + "                  (failure #(excel/read-val sheet 1 1))\n"
+                + "                  (failure #(excel/write-value sheet 1 1 100))\n"
+                + "                  (failure #(excel/auto-size-columns sheet))\n"
+                + "                  (failure #(excel/delete-row sheet 18))\n"
+                + "                  (failure #(excel/evaluate-formulas wbook))\n"
+                + "                  (failure #(excel/create :xls {:streaming true}))]]\n"
+                + "      (excel/write->bytebuf wbook) ;; disposes the temp files\n"
+                + "      result)))";
+
+        assertEquals(
+            "[:ok :failed :failed :failed :failed :failed :failed]",
+            venice.eval("(pr-str " + script + ")"));
+    }
+
+    private static File createTempFile() {
+        try {
+            return File.createTempFile("venice-stream-rows-", ".xlsx");
+        }
+        catch(IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
 }
@@ -366,6 +366,22 @@ public class JsonlModuleTest {
                 venice.eval(script1));
     }
 
+    @Test
+    public void test_slurp_leaves_reader_open() {
+        final Venice venice = new Venice();
+
+        final String script1 =  "(do                                                      \n" +
+                                "  (load-module :jsonl)                                   \n" +
+                                "  (try-with [rd (io/buffered-reader \"{\\\"a\\\":1}\")]  \n" +
+                                "    (let [data (jsonl/slurp rd :key-fn keyword)]         \n" +
+                                "      ;; the reader is still open and at its end         \n" +
+                                "      (pr-str [data (read-line rd)]))))                  ";
+
+        assertEquals(
+                "[({:a 1}) nil]",
+                venice.eval(script1));
+    }
+
     @Test
     public void test_slurp_filter() {
         final Venice venice = new Venice();
@@ -443,5 +459,29 @@ public class JsonlModuleTest {
                 "[{:a 100 :b 205} {:a 100 :b 207}]",
                 venice.eval(script1));
     }
-}
 
+    @Test
+    public void test_reducible_slurper() {
+        final Venice venice = new Venice();
+
+        final String script1 =  "(do                                                                \n" +
+                                "  (load-module :jsonl)                                             \n" +
+                                "                                                                   \n" +
+                                "  (let [file (io/temp-file \"data-\" \".jsonl\")]                  \n" +
+                                "    (io/delete-file-on-exit file)                                  \n" +
+                                "    (try-with [wr (io/buffered-writer file)]                       \n" +
+                                "      (jsonl/spit wr [{:a 100 :b 200 :c 300}                       \n" +
+                                "                      {:a 101 :b 201 :c 301}                       \n" +
+                                "                      {:a 100 :b 202 :c 302}])                     \n" +
+                                "      (flush wr))                                                  \n" +
+                                "    (let [slurper (jsonl/reducible-slurper file :key-fn keyword)]  \n" +
+                                "      (pr-str (transduce (comp (filter #(= 100 (:a %)))            \n" +
+                                "                               (map #(dissoc % :c)))               \n" +
+                                "                         conj                                      \n" +
+                                "                         slurper)))))                              ";
+
+        assertEquals(
+                "[{:a 100 :b 200} {:a 100 :b 202}]",
+                venice.eval(script1));
+    }
+}
@@ -521,4 +521,72 @@ public class KiraModuleTest {
         assertEquals("foobar", venice.eval(script));
     }
 
+    @Test
+    public void test_compile_render() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                            \n" +
+                "   (load-module :kira)                                         \n" +
+                "                                                               \n" +
+                "   (let [render (kira/compile \"Hello <%= name %><%= x %>\")]    \n" +
+                "     (str (render {:name \"Alice\" :x 0})                        \n" +
+                "          \"|\"                                                    \n" +
+                "          (render {:name \"Bob\" :x 1})))                         \n" +
+                ")";
+
+        assertEquals("Hello Alice0|Hello Bob1", venice.eval(script));
+    }
+
+    @Test
+    public void test_compile_render_writer() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                                \n" +
+                "   (load-module :kira)                                             \n" +
+                "                                                                   \n" +
+                "   (let [render (kira/compile \"<% (doseq [x xs] %><%= x %>,<% ) %>\") \n" +
+                "         wr     (io/string-writer)]                                \n" +
+                "     (render {:xs [1 2]} wr)                                       \n" +
+                "     (render {:xs [3]} wr)                                         \n" +
+                "     @wr)                                                          \n" +
+                ")";
+
+        assertEquals("1,2,3,", venice.eval(script));
+    }
+
+    @Test
+    public void test_compile_cache_eviction() {
+        final Venice venice = new Venice();
+
+        // more templates than the cache holds, with a hot template in between
+        final String script =
+                "(do                                                            \n" +
+                "   (load-module :kira)                                         \n" +
+                "                                                               \n" +
+                "   (->> (range 300)                                            \n" +
+                "        (map (fn [i]                                           \n" +
+                "               (str (kira/eval (str \"t\" i \"-<%= x %>\") {:x i})  \n" +
+                "                    (kira/eval \"hot-<%= x %>\" {:x i}))))       \n" +
+                "        (drop 298)                                             \n" +
+                "        (str/join \",\")))                                       ";
+
+        assertEquals("t298-298hot-298,t299-299hot-299", venice.eval(script));
+    }
+
+    @Test
+    public void test_compile_unclosed_delim() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                     \n" +
+                "   (load-module :kira)                                  \n" +
+                "                                                        \n" +
+                "   (kira/eval \"a <%= x %> b <% c\" {:x 1})               \n" +
+                ")";
+
+        assertEquals("a 1 b <% c", venice.eval(script));
+    }
+
 }
@@ -1058,4 +1058,135 @@ public class MatrixModuleTest {
         assertEquals("[[1 2 3] [4 5 6]]", venice.eval(script));
     }
 
+
+    // ------------------------------------------------------------------------
+    // dense
+    // ------------------------------------------------------------------------
+
+    @Test
+    public void test_dense_module_functions() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                  \n" +
+                "   (load-module :matrix)                             \n" +
+                "   (let [m (matrix/dense [[1 2 3] [4 5 6]])]         \n" +
+                "     (pr-str [(matrix/rows m)                        \n" +
+                "              (matrix/columns m)                     \n" +
+                "              (matrix/element m 1 2)                 \n" +
+                "              (matrix/row m 1)                       \n" +
+                "              (matrix/column m 2)                    \n" +
+                "              (matrix/transpose m)                   \n" +
+                "              (matrix/vector2d m)                    \n" +
+                "              (matrix/empty? m)])))                  ";
+
+        assertEquals(
+            "[2 3 6 [4 5 6] [3 6] [[1 4] [2 5] [3 6]] [[1 2 3] [4 5 6]] false]",
+            venice.eval(script));
+    }
+
+    @Test
+    public void test_dense_module_modify() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                  \n" +
+                "   (load-module :matrix)                             \n" +
+                "   (let [m (matrix/dense [[1 2 3] [4 5 6]])]         \n" +
+                "     (pr-str [(matrix/add-row-at-end m [7 8 9])      \n" +
+                "              (matrix/add-column-at-start m [0 0])   \n" +
+                "              (matrix/remove-row m 0)                \n" +
+                "              (matrix/assoc-element m 0 0 9)         \n" +
+                "              (matrix/dense? (matrix/remove-row m 0))])))";
+
+        assertEquals(
+            "[[[1 2 3] [4 5 6] [7 8 9]] [[0 1 2 3] [0 4 5 6]] [[4 5 6]] [[9 2 3] [4 5 6]] true]",
+            venice.eval(script));
+    }
+
+    @Test
+    public void test_dense_format() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                              \n" +
+                "   (load-module :matrix)                         \n" +
+                "   (matrix/format (matrix/dense [[1 2] [3 14]])))";
+
+        assertEquals("|  1   2 |\n|  3  14 |", venice.eval(script));
+    }
+
+    @Test
+    public void test_dense_create() {
+        final Venice venice = new Venice();
+
+        assertEquals("[[1 2] [3 4]]", venice.eval("(str (matrix/dense [[1 2] [3 4]]))"));
+        assertEquals("[[1.0 2.0] [3.0 4.0]]", venice.eval("(str (matrix/dense [[1 2] [3 4]] :double))"));
+        assertEquals("[[1.5 2.0] [3.0 4.0]]", venice.eval("(str (matrix/dense [[1.5 2] [3 4]]))"));
+        assertEquals("[[0.0 0.0 0.0] [0.0 0.0 0.0]]", venice.eval("(str (matrix/dense 2 3))"));
+        assertEquals("[[0 0]]", venice.eval("(str (matrix/dense 1 2 :long))"));
+        assertEquals(":matrix/dense", venice.eval("(str (type (matrix/dense [[1]])))"));
+        assertTrue((Boolean)venice.eval("(matrix/dense? (matrix/dense [[1]]))"));
+        assertFalse((Boolean)venice.eval("(matrix/dense? [[1]])"));
+        assertTrue((Boolean)venice.eval("(= (matrix/dense [[1 2]]) (matrix/dense [[1 2]]))"));
+
+        assertThrows(VncException.class, () -> venice.eval("(matrix/dense [[1 2] [3]])"));
+        assertThrows(VncException.class, () -> venice.eval("(matrix/dense [[1 :a]])"));
+        assertThrows(VncException.class, () -> venice.eval("(matrix/dense [[1]] :int)"));
+    }
+
+    @Test
+    public void test_dense_elementwise() {
+        final Venice venice = new Venice();
+
+        assertEquals("[[11 22] [33 44]]", venice.eval("(str (matrix/add (matrix/dense [[1 2] [3 4]]) [[10 20] [30 40]]))"));
+        assertEquals("[[1.5 2.5] [3.5 4.5]]", venice.eval("(str (matrix/add [[1 2] [3 4]] 0.5))"));
+        assertEquals("[[0 1] [2 3]]", venice.eval("(str (matrix/sub [[1 2] [3 4]] 1))"));
+        assertEquals("[[1 4] [9 16]]", venice.eval("(str (matrix/mul [[1 2] [3 4]] [[1 2] [3 4]]))"));
+        assertEquals("[[5 5] [6 5]]", venice.eval("(str (matrix/div [[10 20] [30 40]] [[2 4] [5 8]]))"));
+        assertEquals("[[0.5 1.0] [1.5 2.0]]", venice.eval("(str (matrix/div [[1 2] [3 4]] 2.0))"));
+
+        assertThrows(VncException.class, () -> venice.eval("(matrix/add [[1 2]] [[1 2] [3 4]])"));
+        assertThrows(VncException.class, () -> venice.eval("(matrix/div [[1 2]] 0)"));
+    }
+
+    @Test
+    public void test_dense_multiply() {
+        final Venice venice = new Venice();
+
+        assertEquals("[[22 28] [49 64]]", venice.eval("(str (matrix/multiply [[1 2 3] [4 5 6]] [[1 2] [3 4] [5 6]]))"));
+        assertEquals("[[22.0 28.0] [49.0 64.0]]", venice.eval("(str (matrix/multiply [[1.0 2 3] [4 5 6]] [[1 2] [3 4] [5 6]]))"));
+
+        // transposed view
+        assertEquals("[[14 32] [32 77]]", venice.eval(
+                "(let [m (matrix/dense [[1 2 3] [4 5 6]])]            \n" +
+                "  (str (matrix/multiply m (matrix/dense-transpose m))))"));
+
+        // parallel and sequential give the same product
+        assertTrue((Boolean)venice.eval(
+                "(let [m (matrix/dense (partition 150 (range 0 (* 150 150))) :double)] \n" +
+                "  (= (matrix/multiply m m) (matrix/multiply m m :parallel true)))   "));
+
+        assertThrows(VncException.class, () -> venice.eval("(matrix/multiply [[1 2]] [[1 2]])"));
+    }
+
+    @Test
+    public void test_dense_slice() {
+        final Venice venice = new Venice();
+
+        assertEquals("[[4 5] [7 8]]", venice.eval("(str (matrix/slice [[1 2 3] [4 5 6] [7 8 9]] 1 3 0 2))"));
+        assertEquals("[[2 5 8]]", venice.eval(
+                "(-> (matrix/dense [[1 2 3] [4 5 6] [7 8 9]])  \n" +
+                "    (matrix/dense-transpose)                  \n" +
+                "    (matrix/slice 1 2 0 3)                    \n" +
+                "    (str))                                    "));
+        assertEquals("[[8 9]]", venice.eval(
+                "(-> (matrix/dense [[1 2 3] [4 5 6] [7 8 9]])  \n" +
+                "    (matrix/slice 1 3 1 3)                    \n" +
+                "    (matrix/slice 1 2 0 2)                    \n" +
+                "    (str))                                    "));
+
+        assertThrows(VncException.class, () -> venice.eval("(matrix/slice [[1 2] [3 4]] 0 3 0 1)"));
+    }
+
 }
@@ -242,7 +242,7 @@ public class SseModuleTest {
                 "      (sse/parse)                                                  \n" +
                 "      (pr-str)))";
 
-        assertEquals("{:data [\"100\"] :event \"scores\" :id \"100\"}", venice.eval(script));
+        assertEquals("{:id \"100\" :event \"scores\" :data [\"100\"]}", venice.eval(script));
     }
 
     @Test
@@ -257,7 +257,7 @@ public class SseModuleTest {
                 "      (sse/parse)                                                  \n" +
                 "      (pr-str)))";
 
-        assertEquals("{:data [\"100\" \"200\"] :event \"scores\" :id \"100\"}", venice.eval(script));
+        assertEquals("{:id \"100\" :event \"scores\" :data [\"100\" \"200\"]}", venice.eval(script));
     }
 
     @Test
@@ -272,7 +272,7 @@ public class SseModuleTest {
                 "      (sse/parse)                                                          \n" +
                 "      (pr-str)))";
 
-        assertEquals("{:data [\"100\" \"200\"] :event \"scores\" :id \"100\"}", venice.eval(script));
+        assertEquals("{:id \"100\" :event \"scores\" :data [\"100\" \"200\"]}", venice.eval(script));
     }
 
     @Test
@@ -287,7 +287,7 @@ public class SseModuleTest {
                 "      (sse/parse)                                                          \n" +
                 "      (pr-str)))";
 
-        assertEquals("{:data [\"100\" \"200\"] :event \"scores\" :id \"100\"}", venice.eval(script));
+        assertEquals("{:id \"100\" :event \"scores\" :data [\"100\" \"200\"]}", venice.eval(script));
     }
 
     @Test
@@ -302,7 +302,7 @@ public class SseModuleTest {
                 "      (sse/parse)                                                          \n" +
                 "      (pr-str)))";
 
-        assertEquals("{:data [\"100\" \"200\"] :event \"scores\" :id \"100\"}", venice.eval(script));
+        assertEquals("{:id \"100\" :event \"scores\" :data [\"100\" \"200\"]}", venice.eval(script));
     }
 
     @Test
@@ -318,7 +318,7 @@ public class SseModuleTest {
                 "      (sse/parse)                                                  \n" +
                 "      (pr-str)))";
 
-        assertEquals("{:data [\"100\"] :event \"scores\" :id \"100\"}", venice.eval(script));
+        assertEquals("{:id \"100\" :event \"scores\" :data [\"100\"]}", venice.eval(script));
     }
 
     @Test
@@ -334,7 +334,7 @@ public class SseModuleTest {
                 "      (sse/parse)                                                  \n" +
                 "      (pr-str)))";
 
-        assertEquals("{:data [\"100\" \"200\"] :event \"scores\" :id \"100\"}", venice.eval(script));
+        assertEquals("{:id \"100\" :event \"scores\" :data [\"100\" \"200\"]}", venice.eval(script));
     }
 
     @Test
@@ -349,7 +349,7 @@ public class SseModuleTest {
                 "      (sse/parse)                                                  \n" +
                 "      (pr-str)))";
 
-        assertEquals("{:data [\"100\"] :id \"100\"}", venice.eval(script));
+        assertEquals("{:id \"100\" :data [\"100\"]}", venice.eval(script));
     }
 
     @Test
@@ -399,7 +399,7 @@ public class SseModuleTest {
                 "             rd (io/wrap-is-with-buffered-reader is :utf-8)]                   \n" +
                 "    (pr-str (sse/read-event rd))))                                             ";
 
-        assertEquals("{:data [\"100\"] :event \"scores\" :id \"100\"}", venice.eval(script));
+        assertEquals("{:id \"100\" :event \"scores\" :data [\"100\"]}", venice.eval(script));
     }
 
     @Test
@@ -417,7 +417,7 @@ public class SseModuleTest {
                 "             rd (io/wrap-is-with-buffered-reader is :utf-8)]                   \n" +
                 "    (pr-str (sse/read-event rd))))                                             ";
 
-        assertEquals("{:data [\"100\"] :event \"scores\" :id \"100\"}", venice.eval(script));
+        assertEquals("{:id \"100\" :event \"scores\" :data [\"100\"]}", venice.eval(script));
     }
 
     @Test
@@ -456,7 +456,7 @@ public class SseModuleTest {
                 "             rd (io/wrap-is-with-buffered-reader is :utf-8)]                   \n" +
                 "    (pr-str (sse/read-events rd 1))))                                             ";
 
-        assertEquals("[{:data [\"100\"] :event \"scores\" :id \"100\"}]", venice.eval(script));
+        assertEquals("[{:id \"100\" :event \"scores\" :data [\"100\"]}]", venice.eval(script));
     }
 
     @Test
@@ -478,8 +478,8 @@ public class SseModuleTest {
                 "    (pr-str (sse/read-events rd 2))))                                             ";
 
         assertEquals("[" +
-                     "{:data [\"100\"] :event \"scores\" :id \"100\"} " +
-                     "{:data [\"101\"] :event \"scores\" :id \"101\"}" +
+                     "{:id \"100\" :event \"scores\" :data [\"100\"]} " +
+                     "{:id \"101\" :event \"scores\" :data [\"101\"]}" +
                      "]", venice.eval(script));
     }
 
@@ -502,9 +502,9 @@ public class SseModuleTest {
                 "    (pr-str (sse/read-events rd 3))))                                             ";
 
         assertEquals("[" +
-                     "{:data [\"100\"] :event \"scores\" :id \"100\"} " +
-                     "{:data [\"101\"] :event \"scores\" :id \"101\"} " +
-                     "{:data [\"102\"] :event \"scores\" :id \"102\"}" +
+                     "{:id \"100\" :event \"scores\" :data [\"100\"]} " +
+                     "{:id \"101\" :event \"scores\" :data [\"101\"]} " +
+                     "{:id \"102\" :event \"scores\" :data [\"102\"]}" +
                      "]", venice.eval(script));
     }
 
@@ -527,10 +527,10 @@ public class SseModuleTest {
                 "    (pr-str (sse/read-events rd 4))))                                             ";
 
         assertEquals("[" +
-                        "{:data [\"100\"] :event \"scores\" :id \"100\"} " +
-                        "{:data [\"101\"] :event \"scores\" :id \"101\"} " +
-                        "{:data [\"102\"] :event \"scores\" :id \"102\"} " +
-                        "{:data [\"103\"] :event \"scores\" :id \"103\"}" +
+                        "{:id \"100\" :event \"scores\" :data [\"100\"]} " +
+                        "{:id \"101\" :event \"scores\" :data [\"101\"]} " +
+                        "{:id \"102\" :event \"scores\" :data [\"102\"]} " +
+                        "{:id \"103\" :event \"scores\" :data [\"103\"]}" +
                      "]", venice.eval(script));
     }
 
@@ -553,10 +553,10 @@ public class SseModuleTest {
                 "    (pr-str (sse/read-events rd 5))))                                             ";
 
         assertEquals("[" +
-                        "{:data [\"100\"] :event \"scores\" :id \"100\"} " +
-                        "{:data [\"101\"] :event \"scores\" :id \"101\"} " +
-                        "{:data [\"102\"] :event \"scores\" :id \"102\"} " +
-                        "{:data [\"103\"] :event \"scores\" :id \"103\"}" +
+                        "{:id \"100\" :event \"scores\" :data [\"100\"]} " +
+                        "{:id \"101\" :event \"scores\" :data [\"101\"]} " +
+                        "{:id \"102\" :event \"scores\" :data [\"102\"]} " +
+                        "{:id \"103\" :event \"scores\" :data [\"103\"]}" +
                      "]", venice.eval(script));
     }
 
@@ -71,12 +71,12 @@ public class XmlModuleTest {
                 ") ";
 
         assertEquals(
-            "{:attrs {:type private} " +
-             ":content [{:content [Tove] :tag to} " +
-                       "{:content [Jani] :tag from} " +
-                       "{:content [Reminder] :tag heading} " +
-                       "{:content [Don't forget me this weekend!] :tag body}] " +
-             ":tag note}",
+            "{:tag note " +
+             ":attrs {:type private} " +
+             ":content [{:tag to :content [Tove]} " +
+                       "{:tag from :content [Jani]} " +
+                       "{:tag heading :content [Reminder]} " +
+                       "{:tag body :content [Don't forget me this weekend!]}]}",
             venice.eval(script, Parameters.of("xml", xml)));
     }
 
@@ -119,11 +119,11 @@ public class XmlModuleTest {
                 ") ";
 
         assertEquals(
-            "{:content [{:content [{:content [{:content [D] " +
-                                              ":tag d}] " +
-                                   ":tag c}] " +
-                        ":tag b}] " +
-             ":tag a}",
+            "{:tag a " +
+             ":content [{:tag b " +
+                        ":content [{:tag c " +
+                                   ":content [{:tag d " +
+                                              ":content [D]}]}]}]}",
             venice.eval(script, Parameters.of("xml", xml)));
     }
 }
@@ -0,0 +1,129 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.pdf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.Parameters;
+import com.github.jlangch.venice.Venice;
+import com.github.jlangch.venice.VncException;
+
+
+public class PdfRasterizerTest {
+
+    @Test
+    public void test_pages_to_images() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                                     \n" +
+                "   (def pdf (pdf/render (test/xhtml 10)))                               \n" +
+                "                                                                        \n" +
+                "   (->> (pdf/pages-to-images pdf :start 2 :end 5 :dpi 36)               \n" +
+                "        (map #(long (. % :getWidth)))                                   \n" +
+                "        (pr-str)))                                                      ";
+
+        assertEquals("(306 306 306)", venice.eval("(do " + XHTML + script + ")"));
+    }
+
+    @Test
+    public void test_pages_to_images_handler() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                                     \n" +
+                "   (def pdf (pdf/render (test/xhtml 10)))                               \n" +
+                "   (def pages (atom []))                                                \n" +
+                "                                                                        \n" +
+                "   (def count (pdf/pages-to-images pdf                                  \n" +
+                "                                   :dpi 36                              \n" +
+                "                                   :parallelism 3                       \n" +
+                "                                   :handler (fn [n img]                 \n" +
+                "                                              (swap! pages conj n))))   \n" +
+                "                                                                        \n" +
+                "   (pr-str [count @pages]))                                             ";
+
+        assertEquals("[11 [0 1 2 3 4 5 6 7 8 9 10]]", venice.eval("(do " + XHTML + script + ")"));
+    }
+
+    @Test
+    public void test_pages_to_images_dir() throws Exception {
+        final Venice venice = new Venice();
+
+        final File dir = Files.createTempDirectory("pdf-pages").toFile();
+        final File pdf = new File(dir, "doc.pdf");
+
+        try {
+            final String script =
+                    "(do                                                                 \n" +
+                    "   (io/spit file (pdf/render (test/xhtml 3)))                       \n" +
+                    "                                                                    \n" +
+                    "   (pdf/pages-to-images file                                        \n" +
+                    "                        :dpi 36                                     \n" +
+                    "                        :memory-mapped true                         \n" +
+                    "                        :scratch-file true                          \n" +
+                    "                        :dir dir))                                  ";
+
+            assertEquals(4L, venice.eval("(do " + XHTML + script + ")", Parameters.of("file", pdf, "dir", dir)));
+
+            for(int ii=0; ii<4; ii++) {
+                assertTrue(new File(dir, "page-" + ii + ".png").isFile());
+            }
+        }
+        finally {
+            for(File f : dir.listFiles()) {
+                f.delete();
+            }
+            dir.delete();
+        }
+    }
+
+    @Test
+    public void test_pages_to_images_invalid_range() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                                     \n" +
+                "   (def pdf (pdf/render (test/xhtml 2)))                                \n" +
+                "   (pdf/pages-to-images pdf :start 2 :end 5))                           ";
+
+        assertThrows(VncException.class, () -> venice.eval("(do " + XHTML + script + ")"));
+    }
+
+
+    // A document with n page breaks
+    private static final String XHTML =
+            "(ns test)                                                                   \n" +
+            "(defn xhtml [n]                                                             \n" +
+            "  (str \"<?xml version=\\\"1.0\\\" encoding=\\\"UTF-8\\\"?>\"               \n" +
+            "       \"<html lang=\\\"en\\\" xmlns=\\\"http://www.w3.org/1999/xhtml\\\"><body>\" \n" +
+            "       (apply str (map #(str \"<div style=\\\"page-break-after: always\\\">\" % \"</div>\") \n" +
+            "                       (range n)))                                          \n" +
+            "       \"</body></html>\"))                                                 \n";
+}
@@ -0,0 +1,181 @@
+/*   __    __         _
+ *   \ \  / /__ _ __ (_) ___ ___
+ *    \ \/ / _ \ '_ \| |/ __/ _ \
+ *     \  /  __/ | | | | (_|  __/
+ *      \/ \___|_| |_|_|\___\___|
+ *
+ *
+ * Copyright 2017-2026 Venice
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.jlangch.venice.pdf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.jlangch.venice.util.pdf.PdfRenderer;
+import com.github.jlangch.venice.util.pdf.PdfRendererPool;
+
+
+public class PdfRendererPoolTest {
+
+    @Test
+    public void test_reuse() {
+        final PdfRendererPool pool = newPool();
+
+        final ByteBuffer pdf1 = pool.render(xhtml("One"), "classpath:/", null);
+        final ByteBuffer pdf2 = pool.render(xhtml("Two"), "classpath:/", null);
+
+        assertTrue(pdf1.limit() > 0);
+        assertTrue(pdf2.limit() > 0);
+        assertEquals(1, pool.getIdleCount());
+    }
+
+    @Test
+    public void test_memory_resources_not_leaking() throws Exception {
+        final Map<String,ByteBuffer> resources = new HashMap<>();
+        resources.put("logo.png", png());
+
+        final PdfRendererPool pool = newPool();
+
+        final int sizeWithout = newPool().render(imageXhtml(), "classpath:/", null).limit();
+        final int sizeWith = pool.render(imageXhtml(), "classpath:/", resources).limit();
+
+        // same renderer, the logo of the previous document must be gone
+        final int sizeWithoutReused = pool.render(imageXhtml(), "classpath:/", null).limit();
+
+        assertTrue(sizeWith > sizeWithout);
+        assertEquals(sizeWithout, sizeWithoutReused);
+    }
+
+    @Test
+    public void test_file_resources_reloaded() throws Exception {
+        final File file = File.createTempFile("logo-", ".png");
+        file.deleteOnExit();
+
+        final String xhtml = fileImageXhtml(file);
+
+        try {
+            final PdfRendererPool pool = newPool();
+
+            // a file changed between two documents is read again
+            Files.write(file.toPath(), png(1).array());
+            final int sizeSmall = pool.render(xhtml, "classpath:/", null).limit();
+
+            Files.write(file.toPath(), png(40).array());
+            final int sizeLarge = pool.render(xhtml, "classpath:/", null).limit();
+
+            assertTrue(sizeLarge > sizeSmall);
+
+            // the same through the shared pool of the PdfRenderer
+            Files.write(file.toPath(), png(1).array());
+            final int sharedSmall = PdfRenderer.render(xhtml, "classpath:/").limit();
+
+            Files.write(file.toPath(), png(40).array());
+            final int sharedLarge = PdfRenderer.render(xhtml, "classpath:/").limit();
+
+            assertEquals(sizeSmall, sharedSmall);
+            assertEquals(sizeLarge, sharedLarge);
+        }
+        finally {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void test_fonts() {
+        final PdfRendererPool pool = new PdfRendererPool(
+                                            Arrays.asList("classpath:/com/github/jlangch/venice/fonts/OpenSans-Regular.ttf"),
+                                            PdfRenderer.DOTS_PER_PIXEL,
+                                            PdfRenderer.DOTS_PER_POINT,
+                                            1);
+
+        final ByteBuffer pdf = pool.render(xhtml("Open Sans"), "classpath:/", null);
+
+        assertTrue(pdf.limit() > 0);
+        assertEquals(1, pool.getFonts().size());
+    }
+
+    @Test
+    public void test_invalid_font() {
+        assertThrows(
+            RuntimeException.class,
+            () -> new PdfRendererPool(
+                        Arrays.asList("classpath:/com/github/jlangch/venice/fonts/Unknown.ttf"),
+                        PdfRenderer.DOTS_PER_PIXEL,
+                        PdfRenderer.DOTS_PER_POINT,
+                        1));
+    }
+
+
+    private static PdfRendererPool newPool() {
+        return new PdfRendererPool(
+                    null,
+                    PdfRenderer.DOTS_PER_PIXEL,
+                    PdfRenderer.DOTS_PER_POINT,
+                    1);
+    }
+
+    private static String xhtml(final String text) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+               "<html lang=\"en\" xmlns=\"http://www.w3.org/1999/xhtml\">" +
+               "<body style=\"font-family: 'Open Sans'\"><div>" + text + "</div></body>" +
+               "</html>";
+    }
+
+    private static String imageXhtml() {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+               "<html lang=\"en\" xmlns=\"http://www.w3.org/1999/xhtml\">" +
+               "<body><img src=\"memory:logo.png\" width=\"40\" height=\"40\"/></body>" +
+               "</html>";
+    }
+
+    private static String fileImageXhtml(final File file) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>" +
+               "<html lang=\"en\" xmlns=\"http://www.w3.org/1999/xhtml\">" +
+               "<body><img src=\"file:" + file.getAbsolutePath() + "\" width=\"40\" height=\"40\"/></body>" +
+               "</html>";
+    }
+
+    private static ByteBuffer png() throws Exception {
+        return png(40);
+    }
+
+    private static ByteBuffer png(final int size) throws Exception {
+        final BufferedImage img = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        for(int x=0; x<size; x++) {
+            for(int y=0; y<size; y++) {
+                img.setRGB(x, y, (x * 6) << 16 | (y * 6) << 8);
+            }
+        }
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(img, "png", out);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+}
@@ -67,6 +67,65 @@ public class PdfRendererTest {
         venice.eval(script);
     }
 
+    @Test
+    public void testRenderBatch() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                                       \n" +
+                "   (ns test)                                                              \n" +
+                "                                                                          \n" +
+                "   (defn xhtml [id]                                                       \n" +
+                "     (str \"<?xml version=\\\"1.0\\\" encoding=\\\"UTF-8\\\"?>\"               \n" +
+                "          \"<html lang=\\\"en\\\" xmlns=\\\"http://www.w3.org/1999/xhtml\\\">\"  \n" +
+                "          \"<body><div>Document-\" id \"</div></body></html>\"))             \n" +
+                "                                                                          \n" +
+                "   (->> (pdf/render-batch (map xhtml (range 10)) :parallelism 3)          \n" +
+                "        (map pdf/to-text)                                                 \n" +
+                "        (map str/trim)))                                                  ";
+
+        @SuppressWarnings("unchecked")
+        final List<String> texts = (List<String>)venice.eval(script);
+
+        assertEquals(10, texts.size());
+        for(int ii=0; ii<10; ii++) {
+            assertEquals("Document-" + ii, texts.get(ii));
+        }
+    }
+
+    @Test
+    public void testRenderBatchHandler() {
+        final Venice venice = new Venice();
+
+        final String script =
+                "(do                                                                       \n" +
+                "   (ns test)                                                              \n" +
+                "                                                                          \n" +
+                "   (defn xhtml [id]                                                       \n" +
+                "     (str \"<?xml version=\\\"1.0\\\" encoding=\\\"UTF-8\\\"?>\"               \n" +
+                "          \"<html lang=\\\"en\\\" xmlns=\\\"http://www.w3.org/1999/xhtml\\\">\"  \n" +
+                "          \"<body style=\\\"font-family: 'Open Sans'\\\">\"                \n" +
+                "          \"<div>Document-\" id \"</div></body></html>\"))                   \n" +
+                "                                                                          \n" +
+                "   (def seen (atom []))                                                   \n" +
+                "                                                                          \n" +
+                "   (def count (pdf/render-batch                                           \n" +
+                "                (map xhtml (range 5))                                     \n" +
+                "                :fonts [\"classpath:/com/github/jlangch/venice/fonts/OpenSans-Regular.ttf\"] \n" +
+                "                :parallelism 2                                            \n" +
+                "                :handler (fn [idx pdf]                                    \n" +
+                "                           (swap! seen conj                               \n" +
+                "                                  [idx (str/trim (pdf/to-text pdf))]))))  \n" +
+                "                                                                          \n" +
+                "   (pr-str [count @seen]))                                                ";
+
+        assertEquals(
+            "[5 [[0 \"Document-0\"] [1 \"Document-1\"] [2 \"Document-2\"] " +
+            "[3 \"Document-3\"] [4 \"Document-4\"]]]",
+            venice.eval(script));
+    }
+
+
     // This unit tests runs 15+ minutes on windows !?!
     @Test
     @EnableOnMacOrLinux
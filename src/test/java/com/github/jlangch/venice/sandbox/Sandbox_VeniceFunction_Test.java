@@ -68,6 +68,17 @@ public class Sandbox_VeniceFunction_Test {
         });
     }
 
+    @Test
+    public void test_rejectAllVeniceIoFunctions_reducible_lines() {
+        final Interceptor interceptor = new SandboxInterceptor(
+                                                new SandboxRules()
+                                                        .rejectAllIoFunctions());
+
+        assertThrows(com.github.jlangch.venice.SecurityException.class, () -> {
+            new Venice(interceptor).eval("(io/reducible-lines \"/tmp/test\")");
+        });
+    }
+
     @Test
     public void test_blacklistedIO_slurp() {
         // all Venice IO functions blacklisted
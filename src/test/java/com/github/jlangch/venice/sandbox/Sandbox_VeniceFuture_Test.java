@@ -113,4 +113,32 @@ public class Sandbox_VeniceFuture_Test {
         assertEquals("a.txt", file.getName());
     }
 
+    @Test
+    public void test_go_timeout_chan_unsafe() {
+        // go blocks and timeout channels start background work
+        final Interceptor interceptor =
+                new SandboxInterceptor(new SandboxRules().rejectAllUnsafeFunctions());
+
+        final Venice venice = new Venice(interceptor);
+
+        assertThrows(com.github.jlangch.venice.SecurityException.class, () -> venice.eval("(go* (fn [] 1))"));
+        assertThrows(com.github.jlangch.venice.SecurityException.class, () -> venice.eval("(take! (go 1))"));
+        assertThrows(com.github.jlangch.venice.SecurityException.class, () -> venice.eval("(timeout-chan 100)"));
+    }
+
+    @Test
+    public void test_dag_execute_concurrency() {
+        // dag/execute runs the nodes on a thread pool
+        final Interceptor interceptor =
+                new SandboxInterceptor(new SandboxRules().rejectAllConcurrencyFunctions());
+
+        final Venice venice = new Venice(interceptor);
+
+        assertEquals("[\"A\" \"B\"]", venice.eval("(pr-str (dag/topological-sort (dag/dag [\"A\" \"B\"])))"));
+
+        assertThrows(
+            com.github.jlangch.venice.SecurityException.class,
+            () -> venice.eval("(dag/execute (dag/dag [\"A\" \"B\"]) str/lower-case)"));
+    }
+
 }